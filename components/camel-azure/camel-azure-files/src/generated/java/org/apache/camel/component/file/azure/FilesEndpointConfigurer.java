@@ -103,6 +103,8 @@ public class FilesEndpointConfigurer extends PropertyConfigurerSupport implement
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "localworkdirectory":
         case "localWorkDirectory": target.setLocalWorkDirectory(property(camelContext, java.lang.String.class, value)); return true;
+        case "maxconcurrentfiles":
+        case "maxConcurrentFiles": target.setMaxConcurrentFiles(property(camelContext, int.class, value)); return true;
         case "maxdepth":
         case "maxDepth": target.setMaxDepth(property(camelContext, int.class, value)); return true;
         case "maxmessagesperpoll":
@@ -283,6 +285,8 @@ public class FilesEndpointConfigurer extends PropertyConfigurerSupport implement
         case "lazyStartProducer": return boolean.class;
         case "localworkdirectory":
         case "localWorkDirectory": return java.lang.String.class;
+        case "maxconcurrentfiles":
+        case "maxConcurrentFiles": return int.class;
         case "maxdepth":
         case "maxDepth": return int.class;
         case "maxmessagesperpoll":
@@ -464,6 +468,8 @@ public class FilesEndpointConfigurer extends PropertyConfigurerSupport implement
         case "lazyStartProducer": return target.isLazyStartProducer();
         case "localworkdirectory":
         case "localWorkDirectory": return target.getLocalWorkDirectory();
+        case "maxconcurrentfiles":
+        case "maxConcurrentFiles": return target.getMaxConcurrentFiles();
         case "maxdepth":
         case "maxDepth": return target.getMaxDepth();
         case "maxmessagesperpoll":
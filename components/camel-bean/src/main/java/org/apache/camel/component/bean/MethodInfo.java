@@ -49,6 +49,7 @@ import org.apache.camel.Processor;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.RuntimeExchangeException;
 import org.apache.camel.StreamCache;
+import org.apache.camel.TypeConverter;
 import org.apache.camel.spi.ErrorHandlerAware;
 import org.apache.camel.support.DefaultMessage;
 import org.apache.camel.support.ExchangeHelper;
@@ -558,9 +559,12 @@ public class MethodInfo {
      */
     private final class ParameterExpression implements Expression {
         private final Expression[] expressions;
+        // the type converter handles for the type of the last evaluated value of the parameters
+        private final TypeConverter.Handle<?>[] handles;
 
         ParameterExpression(Expression[] expressions) {
             this.expressions = expressions;
+            this.handles = new TypeConverter.Handle<?>[expressions != null ? expressions.length : 0];
         }
 
         @Override
@@ -787,6 +791,22 @@ public class MethodInfo {
             return answer;
         }
 
+        /**
+         * Gets the type converter handle for converting the value of the parameter, which is kept for the next
+         * invocation as the parameter value is often of the same type
+         */
+        private TypeConverter.Handle<?> parameterHandle(
+                Exchange exchange, int index, Class<?> valueType, Class<?> parameterType) {
+            TypeConverter.Handle<?> answer = index < handles.length ? handles[index] : null;
+            if (answer == null || answer.getFromType() != valueType) {
+                answer = exchange.getContext().getTypeConverter().lookupHandle(valueType, parameterType);
+                if (index < handles.length) {
+                    handles[index] = answer;
+                }
+            }
+            return answer;
+        }
+
         /**
          * Evaluate using classic parameter binding using the pre compute expression
          */
@@ -806,7 +826,8 @@ public class MethodInfo {
                             answer = result;
                         } else {
                             // we got a value now try to convert it to the expected type
-                            answer = exchange.getContext().getTypeConverter().mandatoryConvertTo(parameterType, result);
+                            answer = parameterHandle(exchange, index, result.getClass(), parameterType)
+                                    .mandatoryConvertTo(null, result);
                         }
                         if (LOG.isTraceEnabled()) {
                             LOG.trace("Parameter #{} evaluated as: {} type: {}", index, answer,
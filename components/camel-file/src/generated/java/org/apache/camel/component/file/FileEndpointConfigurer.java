@@ -107,6 +107,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "includeHiddenDirs": target.setIncludeHiddenDirs(property(camelContext, boolean.class, value)); return true;
         case "includehiddenfiles":
         case "includeHiddenFiles": target.setIncludeHiddenFiles(property(camelContext, boolean.class, value)); return true;
+        case "incrementalscan":
+        case "incrementalScan": target.setIncrementalScan(property(camelContext, boolean.class, value)); return true;
         case "initialdelay":
         case "initialDelay": target.setInitialDelay(property(camelContext, long.class, value)); return true;
         case "jailstartingdirectory":
@@ -117,6 +119,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "localworkdirectory":
         case "localWorkDirectory": target.setLocalWorkDirectory(property(camelContext, java.lang.String.class, value)); return true;
+        case "maxconcurrentfiles":
+        case "maxConcurrentFiles": target.setMaxConcurrentFiles(property(camelContext, int.class, value)); return true;
         case "maxdepth":
         case "maxDepth": target.setMaxDepth(property(camelContext, int.class, value)); return true;
         case "maxmessagesperpoll":
@@ -295,6 +299,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "includeHiddenDirs": return boolean.class;
         case "includehiddenfiles":
         case "includeHiddenFiles": return boolean.class;
+        case "incrementalscan":
+        case "incrementalScan": return boolean.class;
         case "initialdelay":
         case "initialDelay": return long.class;
         case "jailstartingdirectory":
@@ -305,6 +311,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lazyStartProducer": return boolean.class;
         case "localworkdirectory":
         case "localWorkDirectory": return java.lang.String.class;
+        case "maxconcurrentfiles":
+        case "maxConcurrentFiles": return int.class;
         case "maxdepth":
         case "maxDepth": return int.class;
         case "maxmessagesperpoll":
@@ -484,6 +492,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "includeHiddenDirs": return target.isIncludeHiddenDirs();
         case "includehiddenfiles":
         case "includeHiddenFiles": return target.isIncludeHiddenFiles();
+        case "incrementalscan":
+        case "incrementalScan": return target.isIncrementalScan();
         case "initialdelay":
         case "initialDelay": return target.getInitialDelay();
         case "jailstartingdirectory":
@@ -494,6 +504,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lazyStartProducer": return target.isLazyStartProducer();
         case "localworkdirectory":
         case "localWorkDirectory": return target.getLocalWorkDirectory();
+        case "maxconcurrentfiles":
+        case "maxConcurrentFiles": return target.getMaxConcurrentFiles();
         case "maxdepth":
         case "maxDepth": return target.getMaxDepth();
         case "maxmessagesperpoll":
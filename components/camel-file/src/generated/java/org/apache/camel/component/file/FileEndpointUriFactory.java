@@ -23,7 +23,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(100);
+        Set<String> props = new HashSet<>(102);
         props.add("allowNullBody");
         props.add("antExclude");
         props.add("antFilterCaseSensitive");
@@ -72,11 +72,13 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("includeExt");
         props.add("includeHiddenDirs");
         props.add("includeHiddenFiles");
+        props.add("incrementalScan");
         props.add("initialDelay");
         props.add("jailStartingDirectory");
         props.add("keepLastModified");
         props.add("lazyStartProducer");
         props.add("localWorkDirectory");
+        props.add("maxConcurrentFiles");
         props.add("maxDepth");
         props.add("maxMessagesPerPoll");
         props.add("minDepth");
@@ -77,6 +77,14 @@ public final class GenericFileConverterLoader implements TypeConverterLoader, Ca
                 }
                 return answer;
             });
+        addTypeConverter(registry, org.apache.camel.converter.stream.FileRegion.class, org.apache.camel.component.file.GenericFile.class, false,
+            (type, exchange, value) -> {
+                Object answer = org.apache.camel.component.file.GenericFileConverter.genericFileToFileRegion((org.apache.camel.component.file.GenericFile) value, exchange);
+                if (false && answer == null) {
+                    answer = Void.class;
+                }
+                return answer;
+            });
     }
 
     private static void addTypeConverter(TypeConverterRegistry registry, Class<?> toType, Class<?> fromType, boolean allowNull, SimpleTypeConverter.ConversionMethod method) {
@@ -19,6 +19,8 @@ package org.apache.camel.component.file;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
@@ -54,6 +56,8 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     private ResumeStrategy resumeStrategy;
     private final String endpointPath;
     private Set<String> extendedAttributes;
+    // the entry of each directory where the incremental scan stopped
+    private final Map<String, String> scanCursors = new HashMap<>();
 
     public FileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations,
                         GenericFileProcessStrategy<File> processStrategy) {
@@ -81,6 +85,9 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         if (LOG.isTraceEnabled()) {
             LOG.trace("Polling directory: {}, absolute path: {}", directory.getPath(), directory.getAbsolutePath());
         }
+        if (getEndpoint().isIncrementalScan()) {
+            return scanDirectory(dynamic, directory, fileList, depth);
+        }
         final File[] files = listFiles(directory);
         if (files == null || files.length == 0) {
             return true;
@@ -97,6 +104,68 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         return true;
     }
 
+    /**
+     * Scans the directory by streaming its entries, starting from the entry where the previous poll stopped, and then
+     * from the beginning of the directory up to that entry. This avoids listing the entire directory when only a few
+     * files can be polled, and ensures all the entries are scanned over multiple polls.
+     */
+    private boolean scanDirectory(Exchange dynamic, File directory, List<GenericFile<File>> fileList, int depth) {
+        if (!getEndpoint().isIncludeHiddenDirs() && directory.isHidden()) {
+            return true;
+        }
+
+        String key = directory.getPath();
+        String cursor = scanCursors.remove(key);
+        String stoppedAt = scanEntries(dynamic, directory, fileList, depth, cursor, null);
+        if (stoppedAt == null && cursor != null) {
+            stoppedAt = scanEntries(dynamic, directory, fileList, depth, null, cursor);
+        }
+        if (stoppedAt != null) {
+            LOG.trace("Stopped scanning directory: {} at entry: {}", directory.getPath(), stoppedAt);
+            scanCursors.put(key, stoppedAt);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Scans the entries of the directory
+     *
+     * @param  from  the entry to start from, or <tt>null</tt> to start from the beginning
+     * @param  until the entry to stop before, or <tt>null</tt> to scan until the end
+     * @return       the entry where the scan stopped because no more files can be polled, or <tt>null</tt> if the scan
+     *               completed
+     */
+    private String scanEntries(
+            Exchange dynamic, File directory, List<GenericFile<File>> fileList, int depth, String from, String until) {
+        boolean started = from == null;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory.toPath())) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                if (!started) {
+                    if (!name.equals(from)) {
+                        continue;
+                    }
+                    started = true;
+                }
+                if (name.equals(until)) {
+                    break;
+                }
+                // check if we can continue polling in files
+                if (!canPollMoreFiles(fileList)) {
+                    return name;
+                }
+                // the done files are looked up from the file system, as the directory is not listed
+                if (processPolledFile(dynamic, fileList, depth, path.toFile(), null)) {
+                    return name;
+                }
+            }
+        } catch (IOException | DirectoryIteratorException e) {
+            LOG.debug("Cannot scan directory: {} due to: {}", directory.getPath(), e.getMessage(), e);
+        }
+        return null;
+    }
+
     private boolean processPolledFiles(Exchange dynamic, List<GenericFile<File>> fileList, int depth, File[] files) {
         for (File file : files) {
             // check if we can continue polling in files
@@ -104,33 +173,38 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
                 return true;
             }
 
-            // trace log as Windows/Unix can have different views what the file is
-            if (LOG.isTraceEnabled()) {
-                LOG.trace("Found file: {} [isAbsolute: {}, isDirectory: {}, isFile: {}, isHidden: {}]", file, file.isAbsolute(),
-                        file.isDirectory(), file.isFile(),
-                        file.isHidden());
+            if (processPolledFile(dynamic, fileList, depth, file, files)) {
+                return true;
             }
+        }
+        return false;
+    }
 
-            // creates a generic file
-            Supplier<GenericFile<File>> gf = Suppliers.memorize(
-                    () -> asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType()));
+    private boolean processPolledFile(
+            Exchange dynamic, List<GenericFile<File>> fileList, int depth, File file, File[] files) {
+        // trace log as Windows/Unix can have different views what the file is
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Found file: {} [isAbsolute: {}, isDirectory: {}, isFile: {}, isHidden: {}]", file, file.isAbsolute(),
+                    file.isDirectory(), file.isFile(),
+                    file.isHidden());
+        }
 
-            if (resumeStrategy != null) {
-                final ResumeAdapter adapter = setupResumeStrategy(gf.get());
-                if (adapter instanceof DirectoryEntriesResumeAdapter directoryEntriesResumeAdapter) {
-                    LOG.trace("Running the resume process for file {}", file);
-                    if (directoryEntriesResumeAdapter.resume(file)) {
-                        LOG.trace("Skipping file {} because it has been marked previously consumed", file);
-                        continue;
-                    }
-                }
-            }
+        // creates a generic file
+        Supplier<GenericFile<File>> gf = Suppliers.memorize(
+                () -> asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType()));
 
-            if (processEntry(dynamic, fileList, depth, file, gf, files)) {
-                return true;
+        if (resumeStrategy != null) {
+            final ResumeAdapter adapter = setupResumeStrategy(gf.get());
+            if (adapter instanceof DirectoryEntriesResumeAdapter directoryEntriesResumeAdapter) {
+                LOG.trace("Running the resume process for file {}", file);
+                if (directoryEntriesResumeAdapter.resume(file)) {
+                    LOG.trace("Skipping file {} because it has been marked previously consumed", file);
+                    return false;
+                }
             }
         }
-        return false;
+
+        return processEntry(dynamic, fileList, depth, file, gf, files);
     }
 
     private boolean processEntry(
@@ -265,6 +339,14 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
 
     @Override
     protected boolean isMatched(Supplier<GenericFile<File>> file, String doneFileName, File[] files) {
+        if (files == null) {
+            // the directory was scanned incrementally
+            if (new File(doneFileName).exists()) {
+                return true;
+            }
+            LOG.trace("Done file: {} does not exist", doneFileName);
+            return false;
+        }
         String onlyName = FileUtil.stripPath(doneFileName);
         // the done file name must be among the files
         for (File f : files) {
@@ -379,6 +461,11 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         return (FileEndpoint) super.getEndpoint();
     }
 
+    @Override
+    protected boolean isOperationsThreadSafe() {
+        return true;
+    }
+
     @Override
     protected boolean isMatchedHiddenFile(Supplier<GenericFile<File>> file, String name, boolean isDirectory) {
         if (isDirectory) {
@@ -431,6 +518,12 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         super.doStart();
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        scanCursors.clear();
+    }
+
     private void tryCreateDirectory(File file) throws FileNotFoundException {
         if (getEndpoint().isAutoCreate()) {
             doCreateStartDirectory(file);
@@ -81,6 +81,8 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
+    @UriParam(label = "consumer,advanced")
+    private boolean incrementalScan;
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean forceWrites = true;
     @UriParam(label = "producer,advanced")
@@ -105,6 +107,9 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         if (isDelete() && getMove() != null) {
             throw new IllegalArgumentException("You cannot set both delete=true and move options");
         }
+        if (isIncrementalScan() && isPreSort()) {
+            throw new IllegalArgumentException("You cannot set both incrementalScan=true and preSort=true");
+        }
 
         // if noop= true, then idempotent should also be configured
         if (isNoop() && !isIdempotentSet()) {
@@ -395,6 +400,20 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.extendedAttributes = extendedAttributes;
     }
 
+    public boolean isIncrementalScan() {
+        return incrementalScan;
+    }
+
+    /**
+     * Whether to scan the directories incrementally, which is faster for directories with many files when using
+     * maxMessagesPerPoll. The directory entries are streamed, and the scan stops as soon as enough files are found. The
+     * next poll then continues the scan from where the previous poll stopped. As the files are not listed up front, this
+     * option cannot be used together with preSort.
+     */
+    public void setIncrementalScan(boolean incrementalScan) {
+        this.incrementalScan = incrementalScan;
+    }
+
     /**
      * Chmod value must be between 000 and 777; If there is a leading digit like in 0755 we will ignore it.
      */
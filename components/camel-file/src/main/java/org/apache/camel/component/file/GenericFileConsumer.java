@@ -23,6 +23,11 @@ import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
@@ -63,6 +68,11 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     private final String[] includeExt;
     private final String[] excludeExt;
     private boolean retrieveFile = true;
+    private final Lock operationsLock = new ReentrantLock();
+    // these are replaced when the consumer is restarted (but never cleared), so the exchanges still in flight keep
+    // releasing the slots of the semaphore they acquired
+    private volatile ExecutorService executorService;
+    private volatile Semaphore concurrentFiles;
 
     protected GenericFileConsumer(GenericFileEndpoint<T> endpoint, Processor processor, GenericFileOperations<T> operations,
                                   GenericFileProcessStrategy<T> processStrategy) {
@@ -229,6 +239,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         }
 
         Queue<Object> notStarted = new ArrayDeque<>();
+        final Semaphore slots = concurrentFiles;
 
         for (int index = 0; index < total && isBatchAllowed(); index++) {
             // only loop if we are started (allowed to run)
@@ -248,6 +259,9 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             if (customProcessor != null) {
                 // use a custom processor
                 started = customProcessExchange(exchange, customProcessor);
+            } else if (slots != null) {
+                // process the exchange concurrently with the other exchanges of the batch
+                started = processExchangeConcurrently(exchange, slots);
             } else {
                 // process the exchange regular
                 started = processExchange(exchange);
@@ -265,9 +279,109 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         removeExcessiveInProgressFiles(CastUtils.cast((Deque<?>) notStarted, Exchange.class), 0);
         removeExcessiveInProgressFiles(CastUtils.cast((Deque<?>) exchanges, Exchange.class), 0);
 
+        if (slots != null) {
+            awaitConcurrentFiles(slots);
+        }
+
         return answer;
     }
 
+    /**
+     * Processes the exchange, when the files of a batch are processed concurrently. The file is prepared (read lock
+     * and retrieval) by the consumer thread, and then processed by the thread pool.
+     *
+     * @param  exchange the exchange
+     * @param  slots    the slots for the files processed concurrently
+     * @return          <tt>true</tt> if the file was started to be processed, <tt>false</tt> if the file was not
+     *                  started to be processed, for some reason (not found, or aborted etc)
+     */
+    protected boolean processExchangeConcurrently(Exchange exchange, Semaphore slots) {
+        try {
+            // must wait for a free slot before locking the operations, as the slots are released by the exchanges
+            // being done, which may use the operations
+            slots.acquire();
+        } catch (InterruptedException e) {
+            LOG.debug("Interrupted while waiting to process file concurrently");
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        boolean started = false;
+        boolean locked = lockOperations();
+        try {
+            started = processExchange(exchange);
+        } finally {
+            if (locked) {
+                operationsLock.unlock();
+            }
+            if (!started) {
+                slots.release();
+            }
+        }
+        return started;
+    }
+
+    /**
+     * Waits for the exchanges of the batch which are processed concurrently to be done, so the next poll does not
+     * overlap with the current batch.
+     */
+    private void awaitConcurrentFiles(Semaphore slots) {
+        int max = endpoint.getMaxConcurrentFiles();
+        try {
+            slots.acquire(max);
+            slots.release(max);
+        } catch (InterruptedException e) {
+            // the exchanges still in flight release their slots when done, and the interrupt is left to the caller
+            LOG.debug("Interrupted while waiting for concurrently processed files to be done");
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean lockOperations() {
+        if (isOperationsThreadSafe()) {
+            return false;
+        }
+        operationsLock.lock();
+        return true;
+    }
+
+    /**
+     * Whether the operations can be used by several threads at the same time. When the files of a batch are processed
+     * concurrently, and the operations are not thread-safe, then the operations are guarded by a lock while preparing
+     * the files, and during the commit or rollback of the processed files.
+     */
+    protected boolean isOperationsThreadSafe() {
+        return false;
+    }
+
+    /**
+     * Whether the files are retrieved by the thread pool as well, when the files of a batch are processed
+     * concurrently. The files are then retrieved using the operations from {@link #acquireRetrieveOperations()}, and
+     * otherwise by the consumer thread using the operations of the consumer.
+     */
+    protected boolean isRetrieveFileConcurrently() {
+        return false;
+    }
+
+    /**
+     * Acquires the operations to retrieve a file by the thread pool, when the files are retrieved concurrently.
+     *
+     * @see #isRetrieveFileConcurrently()
+     */
+    protected GenericFileOperations<T> acquireRetrieveOperations() throws Exception {
+        return operations;
+    }
+
+    /**
+     * Releases the operations which have been used to retrieve a file by the thread pool.
+     *
+     * @param operations the operations
+     * @param failed     whether retrieving the file failed with an exception
+     */
+    protected void releaseRetrieveOperations(GenericFileOperations<T> operations, boolean failed) {
+        // noop
+    }
+
     /**
      * Drain any in progress files as we are done with this batch
      *
@@ -455,6 +569,12 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         // must use full name when downloading so we have the correct path
         final String name = target.getAbsoluteFilePath();
         try {
+            if (concurrentFiles != null && isRetrieveFile() && isRetrieveFileConcurrently()) {
+                // retrieve the file using the thread pool as well, so the files are downloaded concurrently
+                retrieveAndProcessConcurrently(exchange, name, target, absoluteFileName, file);
+                return true;
+            }
+
             if (isRetrieveFile()) {
                 if (!tryRetrievingFile(exchange, name, target, absoluteFileName, file)) {
                     return false;
@@ -467,12 +587,14 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             // register on completion callback that does the completion
             // strategies
             // (for instance to move the file after we have processed it)
-            exchange.getExchangeExtension().addOnCompletion(
-                    new GenericFileOnCompletion<>(endpoint, operations, processStrategy, target, absoluteFileName));
+            addOnCompletion(exchange, target, absoluteFileName);
 
             LOG.debug("About to process file: {} using exchange: {}", target, exchange);
 
-            if (endpoint.isSynchronous()) {
+            if (concurrentFiles != null) {
+                // process using the thread pool which releases the slot when the exchange is done
+                processConcurrently(exchange, file, absoluteFileName);
+            } else if (endpoint.isSynchronous()) {
                 // process synchronously
                 getProcessor().process(exchange);
             } else {
@@ -501,9 +623,98 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         return true;
     }
 
+    private void addOnCompletion(Exchange exchange, GenericFile<T> target, String absoluteFileName) {
+        GenericFileOnCompletion<T> onCompletion
+                = new GenericFileOnCompletion<>(endpoint, operations, processStrategy, target, absoluteFileName);
+        if (concurrentFiles != null && !isOperationsThreadSafe()) {
+            onCompletion.setOperationsLock(operationsLock);
+        }
+        exchange.getExchangeExtension().addOnCompletion(onCompletion);
+    }
+
+    private void retrieveAndProcessConcurrently(
+            Exchange exchange, String name, GenericFile<T> target, String absoluteFileName, GenericFile<T> file) {
+        final Semaphore slots = concurrentFiles;
+        try {
+            executorService.execute(() -> {
+                boolean async = false;
+                try {
+                    boolean retrieved;
+                    boolean failed = true;
+                    GenericFileOperations<T> retrieveOperations = acquireRetrieveOperations();
+                    try {
+                        retrieved = tryRetrievingFile(retrieveOperations, exchange, name, target, absoluteFileName, file);
+                        failed = false;
+                    } finally {
+                        releaseRetrieveOperations(retrieveOperations, failed);
+                    }
+                    if (!retrieved) {
+                        return;
+                    }
+
+                    addOnCompletion(exchange, target, absoluteFileName);
+
+                    LOG.debug("About to process file: {} using exchange: {}", target, exchange);
+                    if (endpoint.isSynchronous()) {
+                        getProcessor().process(exchange);
+                    } else {
+                        getAsyncProcessor().process(exchange, doneSync -> slots.release());
+                        async = true;
+                    }
+                } catch (Exception e) {
+                    endpoint.getInProgressRepository().remove(absoluteFileName);
+                    String msg = "Error processing file " + file + " due to " + e.getMessage();
+                    handleException(msg, exchange, e);
+                } finally {
+                    if (!async) {
+                        slots.release();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            slots.release();
+            throw e;
+        }
+    }
+
+    private void processConcurrently(Exchange exchange, GenericFile<T> file, String absoluteFileName) {
+        final Semaphore slots = concurrentFiles;
+        try {
+            executorService.execute(() -> {
+                boolean async = false;
+                try {
+                    if (endpoint.isSynchronous()) {
+                        getProcessor().process(exchange);
+                    } else {
+                        getAsyncProcessor().process(exchange, doneSync -> slots.release());
+                        async = true;
+                    }
+                } catch (Exception e) {
+                    endpoint.getInProgressRepository().remove(absoluteFileName);
+                    String msg = "Error processing file " + file + " due to " + e.getMessage();
+                    handleException(msg, exchange, e);
+                } finally {
+                    if (!async) {
+                        slots.release();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            slots.release();
+            throw e;
+        }
+    }
+
     boolean tryRetrievingFile(
             Exchange exchange, String name, GenericFile<T> target, String absoluteFileName, GenericFile<T> file)
             throws Exception {
+        return tryRetrievingFile(operations, exchange, name, target, absoluteFileName, file);
+    }
+
+    private boolean tryRetrievingFile(
+            GenericFileOperations<T> operations, Exchange exchange, String name, GenericFile<T> target,
+            String absoluteFileName, GenericFile<T> file)
+            throws Exception {
         // retrieve the file using the stream
         LOG.trace("Retrieving file: {} from: {}", name, endpoint);
 
@@ -892,6 +1103,11 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     @Override
     protected void doStart() throws Exception {
         ServiceHelper.startService(processStrategy);
+        if (endpoint.getMaxConcurrentFiles() > 1) {
+            executorService = endpoint.getCamelContext().getExecutorServiceManager().newFixedThreadPool(this,
+                    "GenericFileConsumer", endpoint.getMaxConcurrentFiles());
+            concurrentFiles = new Semaphore(endpoint.getMaxConcurrentFiles());
+        }
         super.doStart();
     }
 
@@ -899,6 +1115,10 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     protected void doStop() throws Exception {
         prepareOnStartup = false;
         super.doStop();
+        if (executorService != null) {
+            // wait for the files being processed, which are then done before the process strategy is stopped
+            endpoint.getCamelContext().getExecutorServiceManager().shutdownGraceful(executorService);
+        }
         ServiceHelper.stopService(processStrategy);
     }
 
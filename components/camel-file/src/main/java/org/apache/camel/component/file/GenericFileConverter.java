@@ -25,6 +25,7 @@ import java.io.Serializable;
 import org.apache.camel.Converter;
 import org.apache.camel.Exchange;
 import org.apache.camel.TypeConverter;
+import org.apache.camel.converter.stream.FileRegion;
 import org.apache.camel.spi.TypeConverterRegistry;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.util.IOHelper;
@@ -140,6 +141,15 @@ public final class GenericFileConverter {
         }
     }
 
+    @Converter
+    public static FileRegion genericFileToFileRegion(GenericFile<?> file, Exchange exchange) {
+        // only a local file without a charset can be transferred as-is
+        if (file.getFile() instanceof File f && file.getCharset() == null) {
+            return FileRegion.of(f, file.getLastOffsetValue());
+        }
+        return null;
+    }
+
     @Converter
     public static String genericFileToString(GenericFile<?> file, Exchange exchange)
             throws IOException {
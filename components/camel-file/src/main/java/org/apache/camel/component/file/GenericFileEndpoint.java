@@ -192,6 +192,14 @@ public abstract class GenericFileEndpoint<T> extends ScheduledPollEndpoint imple
                                                          + "store the remote file content directly in local files, to avoid loading the content into memory. This "
                                                          + "is beneficial, if you consume a very big remote file and thus can conserve memory.")
     protected String localWorkDirectory;
+    @UriParam(label = "consumer,advanced", defaultValue = "1",
+              description = "The maximum number of files of a poll which are processed concurrently. By default the files "
+                            + "are processed one at a time by the consumer thread. When set to more than 1, then the consumer "
+                            + "thread still picks up the files one at a time (acquires the read lock, and retrieves remote "
+                            + "files), and the files are then routed concurrently by a thread pool of this size. The poll is "
+                            + "complete when all its files are done, so the exchanges of a batch can complete in another order "
+                            + "than their batch index.")
+    protected int maxConcurrentFiles = 1;
     @UriParam(label = "consumer", description = "If true, the file is not moved or deleted in any way. This option "
                                                 + "is good for readonly data, or for ETL type requirements. If noop=true, Camel will set idempotent=true "
                                                 + "as well, to avoid consuming the same files over and over again.")
@@ -1457,6 +1465,21 @@ public abstract class GenericFileEndpoint<T> extends ScheduledPollEndpoint imple
         this.maxMessagesPerPoll = maxMessagesPerPoll;
     }
 
+    public int getMaxConcurrentFiles() {
+        return maxConcurrentFiles;
+    }
+
+    /**
+     * The maximum number of files of a poll which are processed concurrently. By default the files are processed one at
+     * a time by the consumer thread. When set to more than 1, then the consumer thread still picks up the files one at a
+     * time (acquires the read lock, and retrieves remote files), and the files are then routed concurrently by a thread
+     * pool of this size. The poll is complete when all its files are done, so the exchanges of a batch can complete in
+     * another order than their batch index.
+     */
+    public void setMaxConcurrentFiles(int maxConcurrentFiles) {
+        this.maxConcurrentFiles = maxConcurrentFiles;
+    }
+
     public boolean isEagerMaxMessagesPerPoll() {
         return eagerMaxMessagesPerPoll;
     }
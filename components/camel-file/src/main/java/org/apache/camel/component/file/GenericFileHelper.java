@@ -16,9 +16,16 @@
  */
 package org.apache.camel.component.file;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.function.Supplier;
 
 import org.apache.camel.Exchange;
+import org.apache.camel.InvalidPayloadException;
+import org.apache.camel.WrappedFile;
+import org.apache.camel.converter.stream.FileRegion;
 import org.apache.camel.support.MessageHelper;
 
 public final class GenericFileHelper {
@@ -55,4 +62,24 @@ public final class GenericFileHelper {
         return dummy;
     }
 
+    /**
+     * Gets the message body as an input stream, where a file on the local file system is read directly using a file
+     * channel.
+     *
+     * @param  exchange                the exchange
+     * @return                         the input stream
+     * @throws IOException             is thrown if error opening the file
+     * @throws InvalidPayloadException is thrown if the body cannot be converted to an input stream
+     */
+    public static InputStream getInputStreamBody(Exchange exchange) throws IOException, InvalidPayloadException {
+        Object body = exchange.getIn().getBody();
+        if (body instanceof WrappedFile || body instanceof File || body instanceof Path) {
+            FileRegion region = exchange.getContext().getTypeConverter().tryConvertTo(FileRegion.class, exchange, body);
+            if (region != null) {
+                return region.newInputStream();
+            }
+        }
+        return exchange.getIn().getMandatoryBody(InputStream.class);
+    }
+
 }
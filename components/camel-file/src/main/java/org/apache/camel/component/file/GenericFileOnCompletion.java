@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.file;
 
+import java.util.concurrent.locks.Lock;
+
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.spi.ExceptionHandler;
@@ -40,6 +42,7 @@ public class GenericFileOnCompletion<T> implements Synchronization {
     private ExceptionHandler exceptionHandler;
     private final GenericFile<T> file;
     private final String absoluteFileName;
+    private Lock operationsLock;
 
     public GenericFileOnCompletion(GenericFileEndpoint<T> endpoint, GenericFileOperations<T> operations,
                                    GenericFileProcessStrategy processStrategy, GenericFile<T> file,
@@ -73,7 +76,32 @@ public class GenericFileOnCompletion<T> implements Synchronization {
         this.exceptionHandler = exceptionHandler;
     }
 
+    public Lock getOperationsLock() {
+        return operationsLock;
+    }
+
+    /**
+     * A lock to hold while doing the commit or rollback, when the operations are shared by files which are processed
+     * concurrently, and the operations are not thread-safe.
+     */
+    public void setOperationsLock(Lock operationsLock) {
+        this.operationsLock = operationsLock;
+    }
+
     protected void onCompletion(Exchange exchange) {
+        if (operationsLock != null) {
+            operationsLock.lock();
+            try {
+                doOnCompletion(exchange);
+            } finally {
+                operationsLock.unlock();
+            }
+        } else {
+            doOnCompletion(exchange);
+        }
+    }
+
+    private void doOnCompletion(Exchange exchange) {
         LOG.debug("Done processing file: {} using exchange: {}", file, exchange);
 
         // commit or rollback
@@ -123,6 +123,8 @@ public class FtpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "localworkdirectory":
         case "localWorkDirectory": target.setLocalWorkDirectory(property(camelContext, java.lang.String.class, value)); return true;
+        case "maxconcurrentfiles":
+        case "maxConcurrentFiles": target.setMaxConcurrentFiles(property(camelContext, int.class, value)); return true;
         case "maxdepth":
         case "maxDepth": target.setMaxDepth(property(camelContext, int.class, value)); return true;
         case "maxmessagesperpoll":
@@ -191,6 +193,10 @@ public class FtpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "sendnoop":
         case "sendNoop": target.getConfiguration().setSendNoop(property(camelContext, boolean.class, value)); return true;
         case "separator": target.getConfiguration().setSeparator(property(camelContext, org.apache.camel.component.file.remote.RemoteFileConfiguration.PathSeparator.class, value)); return true;
+        case "sessionpoolidletimeout":
+        case "sessionPoolIdleTimeout": target.setSessionPoolIdleTimeout(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
+        case "sessionpoolsize":
+        case "sessionPoolSize": target.setSessionPoolSize(property(camelContext, int.class, value)); return true;
         case "shuffle": target.setShuffle(property(camelContext, boolean.class, value)); return true;
         case "sitecommand":
         case "siteCommand": target.getConfiguration().setSiteCommand(property(camelContext, java.lang.String.class, value)); return true;
@@ -331,6 +337,8 @@ public class FtpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lazyStartProducer": return boolean.class;
         case "localworkdirectory":
         case "localWorkDirectory": return java.lang.String.class;
+        case "maxconcurrentfiles":
+        case "maxConcurrentFiles": return int.class;
         case "maxdepth":
         case "maxDepth": return int.class;
         case "maxmessagesperpoll":
@@ -399,6 +407,10 @@ public class FtpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "sendnoop":
         case "sendNoop": return boolean.class;
         case "separator": return org.apache.camel.component.file.remote.RemoteFileConfiguration.PathSeparator.class;
+        case "sessionpoolidletimeout":
+        case "sessionPoolIdleTimeout": return long.class;
+        case "sessionpoolsize":
+        case "sessionPoolSize": return int.class;
         case "shuffle": return boolean.class;
         case "sitecommand":
         case "siteCommand": return java.lang.String.class;
@@ -540,6 +552,8 @@ public class FtpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lazyStartProducer": return target.isLazyStartProducer();
         case "localworkdirectory":
         case "localWorkDirectory": return target.getLocalWorkDirectory();
+        case "maxconcurrentfiles":
+        case "maxConcurrentFiles": return target.getMaxConcurrentFiles();
         case "maxdepth":
         case "maxDepth": return target.getMaxDepth();
         case "maxmessagesperpoll":
@@ -608,6 +622,10 @@ public class FtpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "sendnoop":
         case "sendNoop": return target.getConfiguration().isSendNoop();
         case "separator": return target.getConfiguration().getSeparator();
+        case "sessionpoolidletimeout":
+        case "sessionPoolIdleTimeout": return target.getSessionPoolIdleTimeout();
+        case "sessionpoolsize":
+        case "sessionPoolSize": return target.getSessionPoolSize();
         case "shuffle": return target.isShuffle();
         case "sitecommand":
         case "siteCommand": return target.getConfiguration().getSiteCommand();
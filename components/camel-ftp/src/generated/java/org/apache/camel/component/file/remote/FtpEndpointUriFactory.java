@@ -23,7 +23,7 @@ public class FtpEndpointUriFactory extends org.apache.camel.support.component.En
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(116);
+        Set<String> props = new HashSet<>(119);
         props.add("account");
         props.add("activePortRange");
         props.add("allowNullBody");
@@ -83,6 +83,7 @@ public class FtpEndpointUriFactory extends org.apache.camel.support.component.En
         props.add("keepLastModified");
         props.add("lazyStartProducer");
         props.add("localWorkDirectory");
+        props.add("maxConcurrentFiles");
         props.add("maxDepth");
         props.add("maxMessagesPerPoll");
         props.add("maximumReconnectAttempts");
@@ -121,6 +122,8 @@ public class FtpEndpointUriFactory extends org.apache.camel.support.component.En
         props.add("sendEmptyMessageWhenIdle");
         props.add("sendNoop");
         props.add("separator");
+        props.add("sessionPoolIdleTimeout");
+        props.add("sessionPoolSize");
         props.add("shuffle");
         props.add("siteCommand");
         props.add("soTimeout");
@@ -23,7 +23,7 @@ public class FtpsEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(124);
+        Set<String> props = new HashSet<>(127);
         props.add("account");
         props.add("activePortRange");
         props.add("allowNullBody");
@@ -89,6 +89,7 @@ public class FtpsEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("keepLastModified");
         props.add("lazyStartProducer");
         props.add("localWorkDirectory");
+        props.add("maxConcurrentFiles");
         props.add("maxDepth");
         props.add("maxMessagesPerPoll");
         props.add("maximumReconnectAttempts");
@@ -128,6 +129,8 @@ public class FtpsEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("sendEmptyMessageWhenIdle");
         props.add("sendNoop");
         props.add("separator");
+        props.add("sessionPoolIdleTimeout");
+        props.add("sessionPoolSize");
         props.add("shuffle");
         props.add("siteCommand");
         props.add("soTimeout");
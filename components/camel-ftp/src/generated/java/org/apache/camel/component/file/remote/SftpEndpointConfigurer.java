@@ -134,6 +134,8 @@ public class SftpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "localworkdirectory":
         case "localWorkDirectory": target.setLocalWorkDirectory(property(camelContext, java.lang.String.class, value)); return true;
+        case "maxconcurrentfiles":
+        case "maxConcurrentFiles": target.setMaxConcurrentFiles(property(camelContext, int.class, value)); return true;
         case "maxdepth":
         case "maxDepth": target.setMaxDepth(property(camelContext, int.class, value)); return true;
         case "maxmessagesperpoll":
@@ -229,6 +231,10 @@ public class SftpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "serverHostKeys": target.getConfiguration().setServerHostKeys(property(camelContext, java.lang.String.class, value)); return true;
         case "servermessagelogginglevel":
         case "serverMessageLoggingLevel": target.getConfiguration().setServerMessageLoggingLevel(property(camelContext, org.apache.camel.LoggingLevel.class, value)); return true;
+        case "sessionpoolidletimeout":
+        case "sessionPoolIdleTimeout": target.setSessionPoolIdleTimeout(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
+        case "sessionpoolsize":
+        case "sessionPoolSize": target.setSessionPoolSize(property(camelContext, int.class, value)); return true;
         case "shuffle": target.setShuffle(property(camelContext, boolean.class, value)); return true;
         case "sotimeout":
         case "soTimeout": target.getConfiguration().setSoTimeout(property(camelContext, int.class, value)); return true;
@@ -376,6 +382,8 @@ public class SftpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lazyStartProducer": return boolean.class;
         case "localworkdirectory":
         case "localWorkDirectory": return java.lang.String.class;
+        case "maxconcurrentfiles":
+        case "maxConcurrentFiles": return int.class;
         case "maxdepth":
         case "maxDepth": return int.class;
         case "maxmessagesperpoll":
@@ -471,6 +479,10 @@ public class SftpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "serverHostKeys": return java.lang.String.class;
         case "servermessagelogginglevel":
         case "serverMessageLoggingLevel": return org.apache.camel.LoggingLevel.class;
+        case "sessionpoolidletimeout":
+        case "sessionPoolIdleTimeout": return long.class;
+        case "sessionpoolsize":
+        case "sessionPoolSize": return int.class;
         case "shuffle": return boolean.class;
         case "sotimeout":
         case "soTimeout": return int.class;
@@ -619,6 +631,8 @@ public class SftpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lazyStartProducer": return target.isLazyStartProducer();
         case "localworkdirectory":
         case "localWorkDirectory": return target.getLocalWorkDirectory();
+        case "maxconcurrentfiles":
+        case "maxConcurrentFiles": return target.getMaxConcurrentFiles();
         case "maxdepth":
         case "maxDepth": return target.getMaxDepth();
         case "maxmessagesperpoll":
@@ -714,6 +728,10 @@ public class SftpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "serverHostKeys": return target.getConfiguration().getServerHostKeys();
         case "servermessagelogginglevel":
         case "serverMessageLoggingLevel": return target.getConfiguration().getServerMessageLoggingLevel();
+        case "sessionpoolidletimeout":
+        case "sessionPoolIdleTimeout": return target.getSessionPoolIdleTimeout();
+        case "sessionpoolsize":
+        case "sessionPoolSize": return target.getSessionPoolSize();
         case "shuffle": return target.isShuffle();
         case "sotimeout":
         case "soTimeout": return target.getConfiguration().getSoTimeout();
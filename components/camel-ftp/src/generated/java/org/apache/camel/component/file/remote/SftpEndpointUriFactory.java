@@ -23,7 +23,7 @@ public class SftpEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(134);
+        Set<String> props = new HashSet<>(137);
         props.add("allowNullBody");
         props.add("antExclude");
         props.add("antFilterCaseSensitive");
@@ -89,6 +89,7 @@ public class SftpEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("knownHostsUri");
         props.add("lazyStartProducer");
         props.add("localWorkDirectory");
+        props.add("maxConcurrentFiles");
         props.add("maxDepth");
         props.add("maxMessagesPerPoll");
         props.add("maximumReconnectAttempts");
@@ -141,6 +142,8 @@ public class SftpEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("serverAliveInterval");
         props.add("serverHostKeys");
         props.add("serverMessageLoggingLevel");
+        props.add("sessionPoolIdleTimeout");
+        props.add("sessionPoolSize");
         props.add("shuffle");
         props.add("soTimeout");
         props.add("sortBy");
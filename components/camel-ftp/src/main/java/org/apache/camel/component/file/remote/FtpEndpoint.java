@@ -102,6 +102,10 @@ public class FtpEndpoint<T extends FTPFile> extends RemoteFileEndpoint<FTPFile>
         if (isResumeDownload() && !getConfiguration().isBinary()) {
             throw new IllegalArgumentException("The option binary must be enabled when resumeDownload=true");
         }
+        if (getSessionPoolSize() > 0 && ftpClient != null) {
+            // the pooled sessions cannot share the custom client
+            throw new IllegalArgumentException("You cannot set both sessionPoolSize and a custom ftpClient");
+        }
         return super.createConsumer(processor);
     }
 
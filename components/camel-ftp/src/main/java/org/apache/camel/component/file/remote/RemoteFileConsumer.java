@@ -25,6 +25,7 @@ import org.apache.camel.Processor;
 import org.apache.camel.component.file.GenericFile;
 import org.apache.camel.component.file.GenericFileConsumer;
 import org.apache.camel.component.file.GenericFileOperationFailedException;
+import org.apache.camel.component.file.GenericFileOperations;
 import org.apache.camel.component.file.GenericFileProcessStrategy;
 import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.util.ObjectHelper;
@@ -42,6 +43,7 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
     protected transient boolean loggedInWarning;
     protected transient boolean autoCreatedDone;
     protected transient boolean autoCreateWarning;
+    private RemoteFileSessionPool<T> sessionPool;
 
     protected RemoteFileConsumer(RemoteFileEndpoint<T> endpoint, Processor processor, RemoteFileOperations<T> operations,
                                  GenericFileProcessStrategy processStrategy) {
@@ -131,20 +133,30 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
         // then we need to do this now
         // as there is no exchanges to be routed that otherwise will disconnect
         // from the last UoW
-        if (polledMessages == 0) {
+        // when the files are processed concurrently then the batch is done by now
+        if (polledMessages == 0 || getEndpoint().getMaxConcurrentFiles() > 1) {
             if (getEndpoint().isDisconnect()) {
                 LOG.trace("postPollCheck disconnect from: {}", getEndpoint());
                 disconnect();
             }
         }
+        if (sessionPool != null) {
+            if (getEndpoint().isDisconnect()) {
+                sessionPool.clear();
+            } else {
+                sessionPool.evictIdle();
+            }
+        }
     }
 
     @Override
     protected boolean processExchange(Exchange exchange) {
         // defer disconnect til the UoW is complete - but only the last exchange
         // from the batch should do that
+        // (when the files are processed concurrently, then the last exchange may not be the last to complete,
+        // so the disconnect is done after the batch)
         boolean isLast = exchange.getProperty(ExchangePropertyKey.BATCH_COMPLETE, true, Boolean.class);
-        if (isLast && getEndpoint().isDisconnect()) {
+        if (isLast && getEndpoint().isDisconnect() && getEndpoint().getMaxConcurrentFiles() <= 1) {
             exchange.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
                 @Override
                 public void onDone(Exchange exchange) {
@@ -186,10 +198,46 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
         return !dir.equals("/") && !dir.equals("\\");
     }
 
+    @Override
+    protected boolean isRetrieveFileConcurrently() {
+        return sessionPool != null;
+    }
+
+    @Override
+    protected GenericFileOperations<T> acquireRetrieveOperations() throws Exception {
+        return sessionPool.acquire();
+    }
+
+    @Override
+    protected void releaseRetrieveOperations(GenericFileOperations<T> operations, boolean failed) {
+        sessionPool.release((RemoteFileOperations<T>) operations, failed);
+    }
+
+    /**
+     * The pool of sessions used to download files concurrently, or <tt>null</tt> if the consumer is not configured
+     * with a session pool.
+     */
+    public RemoteFileSessionPool<T> getSessionPool() {
+        return sessionPool;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (getEndpoint().getMaxConcurrentFiles() > 1 && getEndpoint().getSessionPoolSize() > 0) {
+            sessionPool = new RemoteFileSessionPool<>(
+                    getEndpoint(), getEndpoint().getSessionPoolSize(), getEndpoint().getSessionPoolIdleTimeout());
+        }
+        super.doStart();
+    }
+
     @Override
     protected void doStop() throws Exception {
         super.doStop();
         disconnect();
+        if (sessionPool != null) {
+            sessionPool.clear();
+            sessionPool = null;
+        }
     }
 
     protected void disconnect() {
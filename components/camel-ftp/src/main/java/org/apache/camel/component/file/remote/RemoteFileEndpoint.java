@@ -67,6 +67,16 @@ public abstract class RemoteFileEndpoint<T> extends GenericFileEndpoint<T> imple
                                                          + "Exchange that has details about the file such as file name, file size, etc. It's just that the file will "
                                                          + "not be downloaded.")
     private boolean download = true;
+    @UriParam(label = "consumer,advanced", description = "The number of additional sessions (connections) to the remote "
+                                                         + "server which the consumer uses to download files concurrently, when maxConcurrentFiles is greater "
+                                                         + "than 1. The sessions are created on demand, and are health checked before being reused. The consumer "
+                                                         + "still uses its own session to list the files and to commit or rollback the processed files. "
+                                                         + "By default (0) the files are downloaded one at a time using the session of the consumer.")
+    private int sessionPoolSize;
+    @UriParam(label = "consumer,advanced", defaultValue = "60000",
+              description = "The time in millis a pooled session (see sessionPoolSize) can be idle before it is disconnected.",
+              javaType = "java.time.Duration")
+    private long sessionPoolIdleTimeout = 60000;
 
     protected RemoteFileEndpoint() {
         // ftp must be synchronous as the ftp-client is not thread-safe
@@ -218,6 +228,12 @@ public abstract class RemoteFileEndpoint<T> extends GenericFileEndpoint<T> imple
         if (!isSynchronous()) {
             throw new IllegalArgumentException("Using synchronous=false is not supported for camel-ftp");
         }
+        if (config.isStreamDownload() && getMaxConcurrentFiles() > 1) {
+            throw new IllegalArgumentException("You cannot set both streamDownload=true and maxConcurrentFiles greater than 1");
+        }
+        if (sessionPoolSize < 0) {
+            throw new IllegalArgumentException("The option sessionPoolSize must be 0 or positive, was: " + sessionPoolSize);
+        }
     }
 
     @Override
@@ -343,4 +359,29 @@ public abstract class RemoteFileEndpoint<T> extends GenericFileEndpoint<T> imple
         this.download = download;
     }
 
+    public int getSessionPoolSize() {
+        return sessionPoolSize;
+    }
+
+    /**
+     * The number of additional sessions (connections) to the remote server which the consumer uses to download files
+     * concurrently, when maxConcurrentFiles is greater than 1. The sessions are created on demand, and are health
+     * checked before being reused. The consumer still uses its own session to list the files and to commit or rollback
+     * the processed files. By default (0) the files are downloaded one at a time using the session of the consumer.
+     */
+    public void setSessionPoolSize(int sessionPoolSize) {
+        this.sessionPoolSize = sessionPoolSize;
+    }
+
+    public long getSessionPoolIdleTimeout() {
+        return sessionPoolIdleTimeout;
+    }
+
+    /**
+     * The time in millis a pooled session (see sessionPoolSize) can be idle before it is disconnected.
+     */
+    public void setSessionPoolIdleTimeout(long sessionPoolIdleTimeout) {
+        this.sessionPoolIdleTimeout = sessionPoolIdleTimeout;
+    }
+
 }
@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.remote;
+
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.component.file.GenericFileOperationFailedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A pool of sessions (connections) to the remote server, which the remote file consumer uses to download the files of
+ * a batch concurrently, when the option <tt>sessionPoolSize</tt> is used together with <tt>maxConcurrentFiles</tt>.
+ * <p/>
+ * The sessions are created on demand, up to the maximum size of the pool, and are health checked when acquired, where
+ * a session which is no longer connected is discarded and replaced by a new session. Sessions which have been idle for
+ * longer than the idle timeout are disconnected by {@link #evictIdle()}.
+ */
+public class RemoteFileSessionPool<T> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RemoteFileSessionPool.class);
+
+    private final RemoteFileEndpoint<T> endpoint;
+    private final int maxSize;
+    private final long idleTimeout;
+    private final Semaphore permits;
+    // most recently used sessions first, so the least used sessions become idle and can be evicted
+    private final Deque<PooledSession<T>> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder destroyed = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder failedHealthChecks = new LongAdder();
+
+    /**
+     * Creates a new pool.
+     *
+     * @param endpoint    the endpoint which creates the sessions
+     * @param maxSize     the maximum number of sessions
+     * @param idleTimeout the time in millis a session may be idle before it is evicted, use 0 or less to never evict
+     *                    idle sessions
+     */
+    public RemoteFileSessionPool(RemoteFileEndpoint<T> endpoint, int maxSize, long idleTimeout) {
+        this.endpoint = endpoint;
+        this.maxSize = maxSize;
+        this.idleTimeout = idleTimeout;
+        this.permits = new Semaphore(maxSize);
+    }
+
+    /**
+     * Acquires a connected session from the pool, which waits for a session to be released if all the sessions are in
+     * use.
+     *
+     * @return                                     the session, which must be released using {@link #release}
+     * @throws GenericFileOperationFailedException if a new session cannot connect to the remote server
+     */
+    public RemoteFileOperations<T> acquire() throws Exception {
+        permits.acquire();
+        try {
+            PooledSession<T> session;
+            while ((session = idle.pollFirst()) != null) {
+                if (isHealthy(session.operations)) {
+                    return onAcquired(session.operations);
+                }
+                LOG.debug("Discarding session to: {} as it failed health check", endpoint.remoteServerInformation());
+                failedHealthChecks.increment();
+                destroy(session.operations);
+            }
+            return onAcquired(createSession());
+        } catch (Exception e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Releases a session back to the pool.
+     *
+     * @param operations the session
+     * @param failed     whether an operation failed using the session, which then is disconnected instead of being
+     *                   reused
+     */
+    public void release(RemoteFileOperations<T> operations, boolean failed) {
+        try {
+            if (failed) {
+                destroy(operations);
+            } else {
+                idle.offerFirst(new PooledSession<>(operations, System.currentTimeMillis()));
+            }
+        } finally {
+            active.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    /**
+     * Disconnects the sessions which have been idle for longer than the idle timeout.
+     *
+     * @return the number of evicted sessions
+     */
+    public int evictIdle() {
+        if (idleTimeout <= 0) {
+            return 0;
+        }
+        int answer = 0;
+        long cutoff = System.currentTimeMillis() - idleTimeout;
+        // the least recently used sessions are last
+        Iterator<PooledSession<T>> it = idle.descendingIterator();
+        while (it.hasNext()) {
+            PooledSession<T> session = it.next();
+            if (session.lastUsed > cutoff) {
+                break;
+            }
+            // the session may just have been acquired by another thread
+            if (idle.removeLastOccurrence(session)) {
+                LOG.debug("Evicting idle session to: {}", endpoint.remoteServerInformation());
+                evicted.increment();
+                destroy(session.operations);
+                answer++;
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Disconnects all the idle sessions. Sessions in use are not affected, and are returned to the pool when released.
+     */
+    public void clear() {
+        PooledSession<T> session;
+        while ((session = idle.pollFirst()) != null) {
+            destroy(session.operations);
+        }
+    }
+
+    /**
+     * The maximum number of sessions
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * The idle timeout in millis
+     */
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Number of sessions in use
+     */
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    /**
+     * Number of idle sessions
+     */
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Number of times a session was acquired from the pool
+     */
+    public long getAcquiredCount() {
+        return acquired.sum();
+    }
+
+    /**
+     * Number of sessions which have been created
+     */
+    public long getCreatedCount() {
+        return created.sum();
+    }
+
+    /**
+     * Number of sessions which have been disconnected, including evicted and failed sessions
+     */
+    public long getDestroyedCount() {
+        return destroyed.sum();
+    }
+
+    /**
+     * Number of idle sessions which have been evicted
+     */
+    public long getEvictedCount() {
+        return evicted.sum();
+    }
+
+    /**
+     * Number of sessions which failed the health check when acquired
+     */
+    public long getFailedHealthCheckCount() {
+        return failedHealthChecks.sum();
+    }
+
+    /**
+     * The endpoint of the pool
+     */
+    public RemoteFileEndpoint<T> getEndpoint() {
+        return endpoint;
+    }
+
+    private RemoteFileOperations<T> onAcquired(RemoteFileOperations<T> operations) {
+        active.incrementAndGet();
+        acquired.increment();
+        return operations;
+    }
+
+    private RemoteFileOperations<T> createSession() throws Exception {
+        LOG.debug("Creating new session to: {}", endpoint.remoteServerInformation());
+        RemoteFileOperations<T> operations = endpoint.createRemoteFileOperations();
+        boolean connected;
+        try {
+            connected = operations.connect(endpoint.getConfiguration(), null);
+        } catch (Exception e) {
+            disconnect(operations);
+            throw e;
+        }
+        if (!connected) {
+            disconnect(operations);
+            throw new GenericFileOperationFailedException("Cannot connect/login to: " + endpoint.remoteServerInformation());
+        }
+        created.increment();
+        return operations;
+    }
+
+    private boolean isHealthy(RemoteFileOperations<T> operations) {
+        try {
+            if (endpoint.getConfiguration().isSendNoop()) {
+                return operations.sendNoop();
+            } else {
+                return operations.isConnected();
+            }
+        } catch (Exception e) {
+            LOG.debug("Health check of session to: {} failed due to: {}", endpoint.remoteServerInformation(),
+                    e.getMessage());
+            return false;
+        }
+    }
+
+    private void destroy(RemoteFileOperations<T> operations) {
+        destroyed.increment();
+        disconnect(operations);
+    }
+
+    private void disconnect(RemoteFileOperations<T> operations) {
+        try {
+            operations.forceDisconnect();
+        } catch (Exception e) {
+            LOG.debug("Error occurred while disconnecting from {} due: {} This exception will be ignored.",
+                    endpoint.remoteServerInformation(), e.getMessage(), e);
+        }
+    }
+
+    private record PooledSession<T>(RemoteFileOperations<T> operations, long lastUsed) {
+    }
+
+}
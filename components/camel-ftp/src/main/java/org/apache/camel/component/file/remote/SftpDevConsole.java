@@ -16,12 +16,17 @@
  */
 package org.apache.camel.component.file.remote;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
 import com.jcraft.jsch.JSch;
+import org.apache.camel.Route;
 import org.apache.camel.spi.annotations.DevConsole;
 import org.apache.camel.support.console.AbstractDevConsole;
+import org.apache.camel.util.URISupport;
+import org.apache.camel.util.json.JsonArray;
 import org.apache.camel.util.json.JsonObject;
 
 @DevConsole(name = "sftp", displayName = "SFTP", description = "Secure FTP using JSCH")
@@ -45,6 +50,25 @@ public class SftpDevConsole extends AbstractDevConsole {
             sb.append(String.format("\n    %s = %s", e.getKey(), v));
         }
 
+        List<SftpConsumer> consumers = sessionPoolConsumers();
+        if (!consumers.isEmpty()) {
+            sb.append("\n\nSFTP Session Pools\n");
+            for (SftpConsumer consumer : consumers) {
+                RemoteFileSessionPool<?> pool = consumer.getSessionPool();
+                sb.append(String.format("\n    Route: %s", consumer.getRouteId()));
+                sb.append(String.format("\n    Endpoint: %s", URISupport.sanitizeUri(consumer.getEndpoint().getEndpointUri())));
+                sb.append(String.format("\n    Max Size: %s", pool.getMaxSize()));
+                sb.append(String.format("\n    Idle Timeout: %s", pool.getIdleTimeout()));
+                sb.append(String.format("\n    Active: %s", pool.getActiveCount()));
+                sb.append(String.format("\n    Idle: %s", pool.getIdleCount()));
+                sb.append(String.format("\n    Acquired: %s", pool.getAcquiredCount()));
+                sb.append(String.format("\n    Created: %s", pool.getCreatedCount()));
+                sb.append(String.format("\n    Destroyed: %s", pool.getDestroyedCount()));
+                sb.append(String.format("\n    Evicted: %s", pool.getEvictedCount()));
+                sb.append(String.format("\n    Failed Health Checks: %s\n", pool.getFailedHealthCheckCount()));
+            }
+        }
+
         return sb.toString();
     }
 
@@ -63,6 +87,38 @@ public class SftpDevConsole extends AbstractDevConsole {
         }
         root.put("config", jo);
 
+        List<SftpConsumer> consumers = sessionPoolConsumers();
+        if (!consumers.isEmpty()) {
+            JsonArray arr = new JsonArray();
+            for (SftpConsumer consumer : consumers) {
+                RemoteFileSessionPool<?> pool = consumer.getSessionPool();
+                JsonObject jp = new JsonObject();
+                jp.put("routeId", consumer.getRouteId());
+                jp.put("endpointUri", URISupport.sanitizeUri(consumer.getEndpoint().getEndpointUri()));
+                jp.put("maxSize", pool.getMaxSize());
+                jp.put("idleTimeout", pool.getIdleTimeout());
+                jp.put("active", pool.getActiveCount());
+                jp.put("idle", pool.getIdleCount());
+                jp.put("acquired", pool.getAcquiredCount());
+                jp.put("created", pool.getCreatedCount());
+                jp.put("destroyed", pool.getDestroyedCount());
+                jp.put("evicted", pool.getEvictedCount());
+                jp.put("failedHealthChecks", pool.getFailedHealthCheckCount());
+                arr.add(jp);
+            }
+            root.put("sessionPools", arr);
+        }
+
         return root;
     }
+
+    private List<SftpConsumer> sessionPoolConsumers() {
+        List<SftpConsumer> answer = new ArrayList<>();
+        for (Route route : getCamelContext().getRoutes()) {
+            if (route.getConsumer() instanceof SftpConsumer consumer && consumer.getSessionPool() != null) {
+                answer.add(consumer);
+            }
+        }
+        return answer;
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.remote.sftp.integration;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.file.remote.RemoteFileSessionPool;
+import org.apache.camel.component.file.remote.SftpConsumer;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnabledIf(value = "org.apache.camel.test.infra.ftp.services.embedded.SftpUtil#hasRequiredAlgorithms('src/test/resources/hostkey.pem')")
+public class SftpConsumeSessionPoolIT extends SftpServerTestSupport {
+
+    @Test
+    public void testSftpConsumeSessionPool() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            template.sendBodyAndHeader("file://" + service.getFtpRootDir(), "Hello " + i, Exchange.FILE_NAME,
+                    "hello" + i + ".txt");
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+
+        context.getRouteController().startRoute("foo");
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        SftpConsumer consumer = (SftpConsumer) context.getRoute("foo").getConsumer();
+        RemoteFileSessionPool<?> pool = consumer.getSessionPool();
+        assertNotNull(pool);
+        // the files are deleted using the session of the consumer when done
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(0, pool.getActiveCount()));
+        assertEquals(10, pool.getAcquiredCount());
+        assertTrue(pool.getCreatedCount() >= 1 && pool.getCreatedCount() <= 3,
+                "Should create at most 3 sessions, was: " + pool.getCreatedCount());
+        assertEquals(pool.getCreatedCount(), pool.getIdleCount() + pool.getDestroyedCount());
+
+        await().atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertFalse(ftpFile("hello9.txt").toFile().exists()));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("sftp://localhost:{{ftp.server.port}}/{{ftp.root.dir}}"
+                     + "?username=admin&password=admin&delay=10000&delete=true&maxConcurrentFiles=3&sessionPoolSize=3"
+                     + "&knownHostsFile=" + service.getKnownHostsFile()).routeId("foo").noAutoStartup()
+                        .delay(100)
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -69,6 +69,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "headerFilterStrategy": target.setHeaderFilterStrategy(property(camelContext, org.apache.camel.spi.HeaderFilterStrategy.class, value)); return true;
         case "httpactivitylistener":
         case "httpActivityListener": target.setHttpActivityListener(property(camelContext, org.apache.camel.component.http.HttpActivityListener.class, value)); return true;
+        case "httpasyncclient":
+        case "httpAsyncClient": target.setHttpAsyncClient(property(camelContext, org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient.class, value)); return true;
         case "httpclient":
         case "httpClient": target.setHttpClient(property(camelContext, org.apache.hc.client5.http.classic.HttpClient.class, value)); return true;
         case "httpclientconfigurer":
@@ -143,6 +145,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "sslContextParameters": target.setSslContextParameters(property(camelContext, org.apache.camel.support.jsse.SSLContextParameters.class, value)); return true;
         case "throwexceptiononfailure":
         case "throwExceptionOnFailure": target.setThrowExceptionOnFailure(property(camelContext, boolean.class, value)); return true;
+        case "useasyncclient":
+        case "useAsyncClient": target.setUseAsyncClient(property(camelContext, boolean.class, value)); return true;
         case "usesystemproperties":
         case "useSystemProperties": target.setUseSystemProperties(property(camelContext, boolean.class, value)); return true;
         case "useragent":
@@ -202,6 +206,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "headerFilterStrategy": return org.apache.camel.spi.HeaderFilterStrategy.class;
         case "httpactivitylistener":
         case "httpActivityListener": return org.apache.camel.component.http.HttpActivityListener.class;
+        case "httpasyncclient":
+        case "httpAsyncClient": return org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient.class;
         case "httpclient":
         case "httpClient": return org.apache.hc.client5.http.classic.HttpClient.class;
         case "httpclientconfigurer":
@@ -276,6 +282,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "sslContextParameters": return org.apache.camel.support.jsse.SSLContextParameters.class;
         case "throwexceptiononfailure":
         case "throwExceptionOnFailure": return boolean.class;
+        case "useasyncclient":
+        case "useAsyncClient": return boolean.class;
         case "usesystemproperties":
         case "useSystemProperties": return boolean.class;
         case "useragent":
@@ -336,6 +344,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "headerFilterStrategy": return target.getHeaderFilterStrategy();
         case "httpactivitylistener":
         case "httpActivityListener": return target.getHttpActivityListener();
+        case "httpasyncclient":
+        case "httpAsyncClient": return target.getHttpAsyncClient();
         case "httpclient":
         case "httpClient": return target.getHttpClient();
         case "httpclientconfigurer":
@@ -410,6 +420,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "sslContextParameters": return target.getSslContextParameters();
         case "throwexceptiononfailure":
         case "throwExceptionOnFailure": return target.isThrowExceptionOnFailure();
+        case "useasyncclient":
+        case "useAsyncClient": return target.isUseAsyncClient();
         case "usesystemproperties":
         case "useSystemProperties": return target.isUseSystemProperties();
         case "useragent":
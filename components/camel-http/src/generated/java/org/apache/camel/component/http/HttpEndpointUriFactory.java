@@ -24,7 +24,7 @@ public class HttpEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(64);
+        Set<String> props = new HashSet<>(66);
         props.add("authBearerToken");
         props.add("authDomain");
         props.add("authHost");
@@ -48,6 +48,7 @@ public class HttpEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("getWithBody");
         props.add("headerFilterStrategy");
         props.add("httpActivityListener");
+        props.add("httpAsyncClient");
         props.add("httpClient");
         props.add("httpClientConfigurer");
         props.add("httpClientOptions");
@@ -86,6 +87,7 @@ public class HttpEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("skipResponseHeaders");
         props.add("sslContextParameters");
         props.add("throwExceptionOnFailure");
+        props.add("useAsyncClient");
         props.add("useSystemProperties");
         props.add("userAgent");
         props.add("x509HostnameVerifier");
@@ -21,6 +21,7 @@ import java.util.List;
 
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 
 public class CompositeHttpConfigurer extends ServiceSupport implements HttpClientConfigurer {
@@ -40,6 +41,27 @@ public class CompositeHttpConfigurer extends ServiceSupport implements HttpClien
         }
     }
 
+    @Override
+    public void configureHttpAsyncClient(HttpAsyncClientBuilder clientBuilder) {
+        for (HttpClientConfigurer configurer : configurers) {
+            configurer.configureHttpAsyncClient(clientBuilder);
+        }
+    }
+
+    @Override
+    public boolean supportsHttpAsyncClient() {
+        for (HttpClientConfigurer configurer : configurers) {
+            if (!configurer.supportsHttpAsyncClient()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public List<HttpClientConfigurer> getConfigurers() {
+        return configurers;
+    }
+
     public static CompositeHttpConfigurer combineConfigurers(
             HttpClientConfigurer oldConfigurer, HttpClientConfigurer newConfigurer) {
         if (oldConfigurer instanceof CompositeHttpConfigurer compositeHttpConfigurer) {
@@ -29,7 +29,9 @@ import org.apache.hc.client5.http.impl.auth.BasicSchemeFactory;
 import org.apache.hc.client5.http.impl.auth.BearerSchemeFactory;
 import org.apache.hc.client5.http.impl.auth.DigestSchemeFactory;
 import org.apache.hc.client5.http.impl.auth.NTLMSchemeFactory;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.core5.http.config.Registry;
 import org.apache.hc.core5.http.config.RegistryBuilder;
 
 public class DefaultAuthenticationHttpClientConfigurer implements HttpClientConfigurer {
@@ -53,34 +55,57 @@ public class DefaultAuthenticationHttpClientConfigurer implements HttpClientConf
 
     @Override
     public void configureHttpClient(HttpClientBuilder clientBuilder) {
-        Credentials defaultcreds;
         if (domain != null) {
-            defaultcreds = new NTCredentials(username, password, host, domain);
             // NTLM is not included by default so we need to rebuild the registry to include NTLM
-            var autoSchemes = RegistryBuilder.<AuthSchemeFactory> create()
-                    .register(StandardAuthScheme.BASIC, BasicSchemeFactory.INSTANCE)
-                    .register(StandardAuthScheme.DIGEST, DigestSchemeFactory.INSTANCE)
-                    .register(StandardAuthScheme.BEARER, BearerSchemeFactory.INSTANCE)
-                    .register(StandardAuthScheme.NTLM, NTLMSchemeFactory.INSTANCE)
-                    .build();
+            clientBuilder
+                    .setDefaultAuthSchemeRegistry(createNtlmAuthSchemeRegistry())
+                    .setDefaultRequestConfig(createNtlmRequestConfig());
+        }
+        clientBuilder.setDefaultCredentialsProvider(credentialsHelper
+                .getCredentialsProvider(host, null, createCredentials()));
+    }
 
-            // Set NTLM as preferred scheme
-            RequestConfig requestConfig = RequestConfig.custom()
-                    .setTargetPreferredAuthSchemes(List.of(StandardAuthScheme.NTLM))
-                    .build();
+    @Override
+    public boolean supportsHttpAsyncClient() {
+        return true;
+    }
 
+    @Override
+    public void configureHttpAsyncClient(HttpAsyncClientBuilder clientBuilder) {
+        if (domain != null) {
+            // NTLM is not included by default so we need to rebuild the registry to include NTLM
             clientBuilder
-                    .setDefaultAuthSchemeRegistry(autoSchemes)
-                    .setDefaultRequestConfig(requestConfig);
+                    .setDefaultAuthSchemeRegistry(createNtlmAuthSchemeRegistry())
+                    .setDefaultRequestConfig(createNtlmRequestConfig());
+        }
+        clientBuilder.setDefaultCredentialsProvider(credentialsHelper
+                .getCredentialsProvider(host, null, createCredentials()));
+    }
 
-            clientBuilder.setDefaultAuthSchemeRegistry(autoSchemes);
+    private Credentials createCredentials() {
+        if (domain != null) {
+            return new NTCredentials(username, password, host, domain);
         } else if (bearerToken != null) {
-            defaultcreds = new BearerToken(bearerToken);
+            return new BearerToken(bearerToken);
         } else {
-            defaultcreds = new UsernamePasswordCredentials(username, password);
+            return new UsernamePasswordCredentials(username, password);
         }
-        clientBuilder.setDefaultCredentialsProvider(credentialsHelper
-                .getCredentialsProvider(host, null, defaultcreds));
+    }
+
+    private static Registry<AuthSchemeFactory> createNtlmAuthSchemeRegistry() {
+        return RegistryBuilder.<AuthSchemeFactory> create()
+                .register(StandardAuthScheme.BASIC, BasicSchemeFactory.INSTANCE)
+                .register(StandardAuthScheme.DIGEST, DigestSchemeFactory.INSTANCE)
+                .register(StandardAuthScheme.BEARER, BearerSchemeFactory.INSTANCE)
+                .register(StandardAuthScheme.NTLM, NTLMSchemeFactory.INSTANCE)
+                .build();
+    }
+
+    private static RequestConfig createNtlmRequestConfig() {
+        // Set NTLM as preferred scheme
+        return RequestConfig.custom()
+                .setTargetPreferredAuthSchemes(List.of(StandardAuthScheme.NTLM))
+                .build();
     }
 
 }
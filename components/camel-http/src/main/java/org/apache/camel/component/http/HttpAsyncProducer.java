@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProducer;
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.AsyncProcessorAwaitManager;
+import org.apache.camel.spi.HeaderFilterStrategy;
+import org.apache.camel.support.AsyncCallbackToCompletableFutureAdapter;
+import org.apache.camel.support.PluginHelper;
+import org.apache.camel.util.StopWatch;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.entity.AsyncEntityProducers;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
+import org.apache.hc.core5.http.nio.support.BasicResponseConsumer;
+import org.apache.hc.core5.http.protocol.BasicHttpContext;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * HTTP producer which uses the non-blocking {@link CloseableHttpAsyncClient}, so the calling thread is not blocked
+ * while waiting for the response. The exchange is continued by the I/O reactor of the client when the response has
+ * been received.
+ * <p/>
+ * The request is created, and the response is populated on the exchange, in the same way as the {@link HttpProducer}.
+ * However, the request and response bodies are buffered in memory.
+ */
+public class HttpAsyncProducer extends HttpProducer implements AsyncProducer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HttpAsyncProducer.class);
+
+    private final HttpContext httpContext;
+    private CloseableHttpAsyncClient httpAsyncClient;
+
+    public HttpAsyncProducer(HttpEndpoint endpoint) {
+        super(endpoint);
+        this.httpContext = endpoint.getHttpContext();
+    }
+
+    @Override
+    protected void initHttpClient() {
+        // use the HttpAsyncClient instead of the classic HttpClient, which is therefore not created
+        this.httpAsyncClient = getEndpoint().getHttpAsyncClient();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        // start the I/O reactor of the client (no-op if already started)
+        httpAsyncClient.start();
+    }
+
+    @Override
+    public void process(Exchange exchange) throws Exception {
+        AsyncProcessorAwaitManager awaitManager
+                = PluginHelper.getAsyncProcessorAwaitManager(exchange.getContext());
+        awaitManager.process(this, exchange);
+    }
+
+    @Override
+    public CompletableFuture<Exchange> processAsync(Exchange exchange) {
+        AsyncCallbackToCompletableFutureAdapter<Exchange> callback = new AsyncCallbackToCompletableFutureAdapter<>(exchange);
+        process(exchange, callback);
+        return callback.getFuture();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        final HttpUriRequest httpRequest;
+        final HttpHost httpHost;
+        final AsyncEntityProducer entityProducer;
+        final StopWatch watch;
+        try {
+            httpRequest = createRequest(exchange);
+            httpHost = createHost(httpRequest);
+
+            HttpActivityListener listener = getEndpoint().getHttpActivityListener();
+            if (listener != null) {
+                listener.onRequestSubmitted(this, exchange, httpHost, httpRequest, httpRequest.getEntity());
+                watch = new StopWatch();
+            } else {
+                watch = null;
+            }
+            // the listener may have replaced the entity, so create the entity producer afterwards
+            entityProducer = createEntityProducer(httpRequest);
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Executing http {} method: {} asynchronously", httpRequest.getMethod(), httpRequest.getRequestUri());
+        }
+
+        try {
+            httpAsyncClient.execute(
+                    new BasicRequestProducer(httpRequest, entityProducer),
+                    new BasicResponseConsumer<>(new BasicAsyncEntityConsumer()),
+                    createContext(),
+                    new FutureCallback<Message<HttpResponse, byte[]>>() {
+                        @Override
+                        public void completed(Message<HttpResponse, byte[]> result) {
+                            try {
+                                ClassicHttpResponse httpResponse = toClassicResponse(result);
+                                HttpActivityListener listener = getEndpoint().getHttpActivityListener();
+                                if (listener != null) {
+                                    long elapsed = watch != null ? watch.taken() : -1;
+                                    listener.onResponseReceived(HttpAsyncProducer.this, exchange, httpHost, httpResponse,
+                                            httpResponse.getEntity(), elapsed);
+                                }
+                                HeaderFilterStrategy strategy = getEndpoint().getHeaderFilterStrategy();
+                                handleResponse(exchange, httpRequest, httpResponse, strategy);
+                            } catch (RuntimeCamelException e) {
+                                // unwrap the embedded exception to behave the same as the HttpProducer
+                                exchange.setException(e.getCause() instanceof Exception ex ? ex : e);
+                            } catch (Exception e) {
+                                exchange.setException(e);
+                            } finally {
+                                callback.done(false);
+                            }
+                        }
+
+                        @Override
+                        public void failed(Exception ex) {
+                            exchange.setException(ex);
+                            callback.done(false);
+                        }
+
+                        @Override
+                        public void cancelled() {
+                            exchange.setException(new CamelExchangeException("HTTP request cancelled", exchange));
+                            callback.done(false);
+                        }
+                    });
+        } catch (Exception e) {
+            // such as the client is not running
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Creates the entity producer for the request body, which is buffered in memory.
+     */
+    protected AsyncEntityProducer createEntityProducer(HttpUriRequest httpRequest) throws IOException {
+        HttpEntity entity = httpRequest.getEntity();
+        if (entity == null) {
+            return null;
+        }
+        if (entity.getContentEncoding() != null && !httpRequest.containsHeader(HttpHeaders.CONTENT_ENCODING)) {
+            // the async entity producer does not carry the content encoding
+            httpRequest.setHeader(HttpHeaders.CONTENT_ENCODING, entity.getContentEncoding());
+        }
+        byte[] data = EntityUtils.toByteArray(entity);
+        if (data == null) {
+            return null;
+        }
+        ContentType contentType = entity.getContentType() != null ? ContentType.parseLenient(entity.getContentType()) : null;
+        return AsyncEntityProducers.create(data, contentType);
+    }
+
+    /**
+     * Creates a local context per execution.
+     */
+    protected HttpContext createContext() {
+        if (httpContext != null) {
+            return new BasicHttpContext(httpContext);
+        }
+        return HttpClientContext.create();
+    }
+
+    private static ClassicHttpResponse toClassicResponse(Message<HttpResponse, byte[]> message) {
+        HttpResponse head = message.getHead();
+        BasicClassicHttpResponse answer = new BasicClassicHttpResponse(head.getCode(), head.getReasonPhrase());
+        answer.setVersion(head.getVersion());
+        answer.setHeaders(head.getHeaders());
+        byte[] body = message.getBody();
+        if (body != null) {
+            Header contentType = head.getFirstHeader(HttpHeaders.CONTENT_TYPE);
+            Header contentEncoding = head.getFirstHeader(HttpHeaders.CONTENT_ENCODING);
+            answer.setEntity(new ByteArrayEntity(
+                    body, contentType != null ? ContentType.parseLenient(contentType.getValue()) : null,
+                    contentEncoding != null ? contentEncoding.getValue() : null));
+        }
+        return answer;
+    }
+
+    public CloseableHttpAsyncClient getHttpAsyncClient() {
+        return httpAsyncClient;
+    }
+
+    public void setHttpAsyncClient(CloseableHttpAsyncClient httpAsyncClient) {
+        this.httpAsyncClient = httpAsyncClient;
+    }
+}
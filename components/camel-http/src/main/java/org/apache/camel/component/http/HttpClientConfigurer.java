@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.http;
 
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 
 /**
@@ -29,4 +30,29 @@ public interface HttpClientConfigurer {
      * @param clientBuilder the client
      */
     void configureHttpClient(HttpClientBuilder clientBuilder);
+
+    /**
+     * Configure the HttpAsyncClient used when the endpoint has useAsyncClient enabled, which is only called when
+     * {@link #supportsHttpAsyncClient()} returns true.
+     * <p/>
+     * The default implementation does nothing.
+     *
+     * @param clientBuilder the client
+     */
+    default void configureHttpAsyncClient(HttpAsyncClientBuilder clientBuilder) {
+        // noop
+    }
+
+    /**
+     * Whether this configurer supports configuring the HttpAsyncClient with
+     * {@link #configureHttpAsyncClient(HttpAsyncClientBuilder)}.
+     * <p/>
+     * The default is false, so an endpoint with useAsyncClient enabled fails to create its producer, rather than
+     * silently ignoring a configurer which only knows about the classic HttpClient (such as losing the authentication
+     * details). Configurers which implement {@link #configureHttpAsyncClient(HttpAsyncClientBuilder)}, or which have
+     * nothing to configure on the HttpAsyncClient, should return true.
+     */
+    default boolean supportsHttpAsyncClient() {
+        return false;
+    }
 }
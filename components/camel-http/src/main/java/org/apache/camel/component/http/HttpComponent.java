@@ -434,14 +434,26 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         String endpointUriString = endpointUri.toString();
 
         LOG.debug("Creating endpoint uri {}", endpointUriString);
-        final HttpClientConnectionManager localConnectionManager
-                = createConnectionManager(parameters, sslContextParameters, httpConnectionOptions);
+        // remember the pool sizes for the async client, as the parameters are removed when creating the connection manager
+        final int valMaxTotalConnections = getParameter(parameters, "maxTotalConnections", int.class, maxTotalConnections);
+        final int valConnectionsPerRoute = getParameter(parameters, "connectionsPerRoute", int.class, connectionsPerRoute);
+        final HttpClientConnectionManager localConnectionManager;
+        if (getParameter(parameters, "useAsyncClient", boolean.class, false)) {
+            // the async client creates its own connection manager, so the classic one is not needed
+            httpConnectionOptions.putAll(PropertiesHelper.extractProperties(parameters, "httpConnection."));
+            localConnectionManager = null;
+        } else {
+            localConnectionManager = createConnectionManager(parameters, sslContextParameters, httpConnectionOptions);
+        }
         final HttpClientBuilder clientBuilder = createHttpClientBuilder(uri, parameters, httpClientOptions);
         HttpEndpoint endpoint = new HttpEndpoint(endpointUriString, this, clientBuilder, localConnectionManager, configurer);
         endpoint.setResponseTimeout(valResponseTimeout);
         endpoint.setSoTimeout(valSoTimeout);
         endpoint.setConnectTimeout(valConnectTimeout);
         endpoint.setConnectionRequestTimeout(valConnectionRequestTimeout);
+        endpoint.setMaxTotalConnections(valMaxTotalConnections);
+        endpoint.setConnectionsPerRoute(valConnectionsPerRoute);
+        endpoint.setSslContextParameters(sslContextParameters);
         endpoint.setCopyHeaders(copyHeaders);
         endpoint.setSkipControlHeaders(skipControlHeaders);
         endpoint.setSkipRequestHeaders(skipRequestHeaders);
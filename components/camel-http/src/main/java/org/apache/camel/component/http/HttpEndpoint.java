@@ -19,6 +19,7 @@ package org.apache.camel.component.http;
 import java.io.Closeable;
 import java.io.IOException;
 import java.net.URI;
+import java.security.GeneralSecurityException;
 import java.util.Map;
 
 import javax.net.ssl.HostnameVerifier;
@@ -31,6 +32,7 @@ import org.apache.camel.LineNumberAware;
 import org.apache.camel.PollingConsumer;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.http.base.HttpHelper;
@@ -45,12 +47,19 @@ import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StopWatch;
 import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.cookie.BasicCookieStore;
 import org.apache.hc.client5.http.cookie.CookieStore;
 import org.apache.hc.client5.http.impl.DefaultRedirectStrategy;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
 import org.apache.hc.core5.http.EntityDetails;
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpException;
@@ -62,6 +71,7 @@ import org.apache.hc.core5.http.HttpResponseInterceptor;
 import org.apache.hc.core5.http.protocol.HttpContext;
 import org.apache.hc.core5.pool.ConnPoolControl;
 import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -105,6 +115,11 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
     private HttpClientBuilder clientBuilder;
     @UriParam(label = "advanced", description = "Sets a custom HttpClient to be used by the producer")
     private HttpClient httpClient;
+    @UriParam(label = "advanced",
+              description = "Sets a custom HttpAsyncClient to be used by the producer when useAsyncClient is enabled."
+                            + " The client is started by the producer, but its lifecycle is otherwise managed by the user.")
+    private CloseableHttpAsyncClient httpAsyncClient;
+    private PoolingAsyncClientConnectionManager asyncConnectionManager;
     @UriParam(label = "advanced", defaultValue = "false",
               description = "To use System Properties as fallback for configuration for configuring HTTP Client")
     private boolean useSystemProperties;
@@ -190,6 +205,14 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
     @UriParam(label = "producer", defaultValue = "data",
               description = "The name of the multipart/form-data when multipartUpload is enabled.")
     private String multipartUploadName = "data";
+    @UriParam(label = "producer",
+              description = "Whether to use the non-blocking Apache HttpClient 5 async client (CloseableHttpAsyncClient) instead of the"
+                            + " classic blocking client. The producer then does not block the calling thread while waiting for the"
+                            + " response, which allows many concurrent requests to slow HTTP services without a large thread pool,"
+                            + " and supports HTTP/2 multiplexing when negotiated over TLS."
+                            + " The request and response bodies are buffered in memory, and the routing continues on the"
+                            + " I/O reactor thread of the client when the response is received.")
+    private boolean useAsyncClient;
 
     public HttpEndpoint() {
     }
@@ -220,9 +243,32 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
 
     @Override
     public Producer createProducer() throws Exception {
+        if (useAsyncClient) {
+            HttpClientConfigurer unsupported = findUnsupportedAsyncConfigurer(httpClientConfigurer);
+            if (unsupported != null) {
+                throw new IllegalArgumentException(
+                        "The httpClientConfigurer " + unsupported.getClass().getName()
+                                                   + " does not support the HttpAsyncClient,"
+                                                   + " and cannot be used with useAsyncClient=true");
+            }
+            return new HttpAsyncProducer(this);
+        }
         return new HttpProducer(this);
     }
 
+    private static HttpClientConfigurer findUnsupportedAsyncConfigurer(HttpClientConfigurer configurer) {
+        if (configurer instanceof CompositeHttpConfigurer composite) {
+            for (HttpClientConfigurer child : composite.getConfigurers()) {
+                HttpClientConfigurer unsupported = findUnsupportedAsyncConfigurer(child);
+                if (unsupported != null) {
+                    return unsupported;
+                }
+            }
+            return null;
+        }
+        return configurer == null || configurer.supportsHttpAsyncClient() ? null : configurer;
+    }
+
     @Override
     public Consumer createConsumer(Processor processor) throws Exception {
         throw new UnsupportedOperationException("Cannot consume from http endpoint");
@@ -278,19 +324,8 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
 
         if (!useSystemProperties) {
             // configure http proxy from camelContext
-            if (ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyHost"))
-                    && ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyPort"))) {
-                String host = getCamelContext().getGlobalOption("http.proxyHost");
-                int port = Integer.parseInt(getCamelContext().getGlobalOption("http.proxyPort"));
-                String scheme = getCamelContext().getGlobalOption("http.proxyScheme");
-                // fallback and use either http or https depending on secure
-                if (scheme == null) {
-                    scheme = HttpHelper.isSecureConnection(getEndpointUri()) ? "https" : "http";
-                }
-                LOG.debug(
-                        "CamelContext properties http.proxyHost, http.proxyPort, and http.proxyScheme detected. Using http proxy host: {} port: {} scheme: {}",
-                        host, port, scheme);
-                HttpHost proxy = new HttpHost(scheme, host, port);
+            HttpHost proxy = createProxyFromGlobalOptions();
+            if (proxy != null) {
                 clientBuilder.setProxy(proxy);
             }
         } else {
@@ -352,6 +387,151 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
         return clientBuilder.build();
     }
 
+    public CloseableHttpAsyncClient getHttpAsyncClient() {
+        lock.lock();
+        try {
+            if (httpAsyncClient == null) {
+                httpAsyncClient = createHttpAsyncClient();
+            }
+            return httpAsyncClient;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sets a custom HttpAsyncClient to be used by the producer when useAsyncClient is enabled. The client is started by
+     * the producer, but its lifecycle is otherwise managed by the user.
+     */
+    public void setHttpAsyncClient(CloseableHttpAsyncClient httpAsyncClient) {
+        lock.lock();
+        try {
+            this.httpAsyncClient = httpAsyncClient;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Factory method to create a new {@link CloseableHttpAsyncClient} instance, which is configured with the same
+     * connection pool sizes, timeouts, TLS, proxy, cookie and authentication settings as the classic HttpClient.
+     * <p/>
+     * Producers should use the {@link #getHttpAsyncClient()} method instead.
+     */
+    protected CloseableHttpAsyncClient createHttpAsyncClient() {
+        HttpComponent component = getComponent();
+
+        PoolingAsyncClientConnectionManagerBuilder connectionManagerBuilder
+                = PoolingAsyncClientConnectionManagerBuilder.create();
+        int max = maxTotalConnections > 0 ? maxTotalConnections : component.getMaxTotalConnections();
+        if (max > 0) {
+            connectionManagerBuilder.setMaxConnTotal(max);
+        }
+        int perRoute = connectionsPerRoute > 0 ? connectionsPerRoute : component.getConnectionsPerRoute();
+        if (perRoute > 0) {
+            connectionManagerBuilder.setMaxConnPerRoute(perRoute);
+        }
+        ConnectionConfig.Builder connectionConfigBuilder = ConnectionConfig.custom()
+                .setConnectTimeout(connectTimeout)
+                .setSocketTimeout(soTimeout);
+        if (component.getConnectionTimeToLive() > 0) {
+            connectionConfigBuilder.setTimeToLive(TimeValue.ofMilliseconds(component.getConnectionTimeToLive()));
+        }
+        connectionManagerBuilder.setDefaultConnectionConfig(connectionConfigBuilder.build());
+
+        // setup TLS which negotiates HTTP/2 when the server supports it
+        ClientTlsStrategyBuilder tlsStrategyBuilder = ClientTlsStrategyBuilder.create()
+                .setHostnameVerifier(x509HostnameVerifier != null ? x509HostnameVerifier : component.getX509HostnameVerifier());
+        if (sslContextParameters != null) {
+            try {
+                tlsStrategyBuilder.setSslContext(sslContextParameters.createSSLContext(getCamelContext()));
+            } catch (GeneralSecurityException | IOException e) {
+                throw new RuntimeCamelException("Error creating SSLContext for the HttpAsyncClient", e);
+            }
+        } else if (useSystemProperties) {
+            tlsStrategyBuilder.useSystemProperties();
+        }
+        connectionManagerBuilder.setTlsStrategy(tlsStrategyBuilder.build());
+        asyncConnectionManager = connectionManagerBuilder.build();
+
+        HttpAsyncClientBuilder clientBuilder = HttpAsyncClients.custom();
+        clientBuilder.setConnectionManager(asyncConnectionManager);
+        clientBuilder.setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(connectionRequestTimeout)
+                .setResponseTimeout(responseTimeout)
+                .build());
+
+        if (!useSystemProperties) {
+            // configure http proxy from camelContext
+            HttpHost proxy = createProxyFromGlobalOptions();
+            if (proxy != null) {
+                clientBuilder.setProxy(proxy);
+            }
+        } else {
+            clientBuilder.useSystemProperties();
+        }
+
+        if (isBridgeEndpoint()) {
+            // need to use noop cookiestore as we do not want to keep cookies in memory
+            clientBuilder.setDefaultCookieStore(new NoopCookieStore());
+        } else {
+            clientBuilder.setDefaultCookieStore(cookieStore);
+        }
+        if (component.isRedirectHandlingDisabled() || !isFollowRedirects()) {
+            clientBuilder.disableRedirectHandling();
+        } else {
+            clientBuilder.setRedirectStrategy(DefaultRedirectStrategy.INSTANCE);
+        }
+        if (component.isAutomaticRetriesDisabled()) {
+            clientBuilder.disableAutomaticRetries();
+        }
+        if (component.isCookieManagementDisabled()) {
+            clientBuilder.disableCookieManagement();
+        }
+        if (component.isAuthCachingDisabled()) {
+            clientBuilder.disableAuthCaching();
+        }
+        if (component.isConnectionStateDisabled()) {
+            clientBuilder.disableConnectionState();
+        }
+
+        if (isAuthenticationPreemptive()) {
+            // setup the preemptive authentication here
+            clientBuilder.addExecInterceptorFirst("preemptive-auth", new PreemptiveAuthExecChainHandler(this));
+        }
+        String userAgent = getUserAgent();
+        if (userAgent != null) {
+            clientBuilder.setUserAgent(userAgent);
+        }
+
+        HttpClientConfigurer configurer = getHttpClientConfigurer();
+        if (configurer != null && configurer.supportsHttpAsyncClient()) {
+            configurer.configureHttpAsyncClient(clientBuilder);
+        }
+
+        LOG.debug("Setup the HttpAsyncClientBuilder {}", clientBuilder);
+
+        return clientBuilder.build();
+    }
+
+    private HttpHost createProxyFromGlobalOptions() {
+        if (ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyHost"))
+                && ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyPort"))) {
+            String host = getCamelContext().getGlobalOption("http.proxyHost");
+            int port = Integer.parseInt(getCamelContext().getGlobalOption("http.proxyPort"));
+            String scheme = getCamelContext().getGlobalOption("http.proxyScheme");
+            // fallback and use either http or https depending on secure
+            if (scheme == null) {
+                scheme = HttpHelper.isSecureConnection(getEndpointUri()) ? "https" : "http";
+            }
+            LOG.debug(
+                    "CamelContext properties http.proxyHost, http.proxyPort, and http.proxyScheme detected. Using http proxy host: {} port: {} scheme: {}",
+                    host, port, scheme);
+            return new HttpHost(scheme, host, port);
+        }
+        return null;
+    }
+
     @Override
     public HttpComponent getComponent() {
         return (HttpComponent) super.getComponent();
@@ -369,13 +549,20 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
 
     @Override
     protected void doStop() throws Exception {
-        if (getComponent() != null && getComponent().getClientConnectionManager() != clientConnectionManager) {
+        if (clientConnectionManager != null && getComponent() != null
+                && getComponent().getClientConnectionManager() != clientConnectionManager) {
             // need to shutdown the ConnectionManager
             clientConnectionManager.close();
         }
         if (httpClient instanceof Closeable closeable) {
             IOHelper.close(closeable);
         }
+        if (asyncConnectionManager != null) {
+            // only close the async client when it was created by this endpoint
+            IOHelper.close(httpAsyncClient);
+            httpAsyncClient = null;
+            asyncConnectionManager = null;
+        }
         ServiceHelper.stopService(httpActivityListener, httpClientConfigurer);
         super.doStop();
     }
@@ -778,12 +965,24 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
         this.multipartUploadName = multipartUploadName;
     }
 
+    public boolean isUseAsyncClient() {
+        return useAsyncClient;
+    }
+
+    /**
+     * Whether to use the non-blocking Apache HttpClient 5 async client (CloseableHttpAsyncClient) instead of the classic
+     * blocking client. The producer then does not block the calling thread while waiting for the response, which
+     * allows many concurrent requests to slow HTTP services without a large thread pool, and supports HTTP/2
+     * multiplexing when negotiated over TLS. The request and response bodies are buffered in memory, and the routing
+     * continues on the I/O reactor thread of the client when the response is received.
+     */
+    public void setUseAsyncClient(boolean useAsyncClient) {
+        this.useAsyncClient = useAsyncClient;
+    }
+
     @ManagedAttribute(description = "Maximum number of allowed persistent connections")
     public int getClientConnectionsPoolStatsMax() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl<?> connPoolControl) {
-            pool = connPoolControl;
-        }
+        ConnPoolControl<?> pool = getConnPoolControl();
         if (pool != null) {
             PoolStats stats = pool.getTotalStats();
             if (stats != null) {
@@ -795,10 +994,7 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
 
     @ManagedAttribute(description = "Number of available idle persistent connections")
     public int getClientConnectionsPoolStatsAvailable() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl<?> connPoolControl) {
-            pool = connPoolControl;
-        }
+        ConnPoolControl<?> pool = getConnPoolControl();
         if (pool != null) {
             PoolStats stats = pool.getTotalStats();
             if (stats != null) {
@@ -810,10 +1006,7 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
 
     @ManagedAttribute(description = "Number of persistent connections tracked by the connection manager currently being used to execute requests")
     public int getClientConnectionsPoolStatsLeased() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl<?> connPoolControl) {
-            pool = connPoolControl;
-        }
+        ConnPoolControl<?> pool = getConnPoolControl();
         if (pool != null) {
             PoolStats stats = pool.getTotalStats();
             if (stats != null) {
@@ -826,10 +1019,7 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
     @ManagedAttribute(description = "Number of connection requests being blocked awaiting a free connection."
                                     + " This can happen only if there are more worker threads contending for fewer connections.")
     public int getClientConnectionsPoolStatsPending() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl<?> connPoolControl) {
-            pool = connPoolControl;
-        }
+        ConnPoolControl<?> pool = getConnPoolControl();
         if (pool != null) {
             PoolStats stats = pool.getTotalStats();
             if (stats != null) {
@@ -839,4 +1029,14 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
         return -1;
     }
 
+    private ConnPoolControl<?> getConnPoolControl() {
+        if (asyncConnectionManager != null) {
+            return asyncConnectionManager;
+        }
+        if (clientConnectionManager instanceof ConnPoolControl<?> connPoolControl) {
+            return connPoolControl;
+        }
+        return null;
+    }
+
 }
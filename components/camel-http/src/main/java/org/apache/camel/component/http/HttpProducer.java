@@ -110,11 +110,18 @@ public class HttpProducer extends DefaultProducer implements LineNumberAware {
         this.transferException = endpoint.isTransferException();
     }
 
+    /**
+     * Initializes the client used to send the requests
+     */
+    protected void initHttpClient() {
+        this.httpClient = getEndpoint().getHttpClient();
+    }
+
     @Override
     protected void doInit() throws Exception {
         super.doInit();
 
-        this.httpClient = getEndpoint().getHttpClient();
+        initHttpClient();
 
         String range = getEndpoint().getOkStatusCodeRange();
         parseStatusRange(range);
@@ -152,6 +159,32 @@ public class HttpProducer extends DefaultProducer implements LineNumberAware {
 
     @Override
     public void process(Exchange exchange) throws Exception {
+        HttpUriRequest httpRequest = createRequest(exchange);
+        HttpHost httpHost = createHost(httpRequest);
+        HeaderFilterStrategy strategy = getEndpoint().getHeaderFilterStrategy();
+
+        // lets store the result in the output message.
+        try {
+            executeMethod(exchange,
+                    httpHost, httpRequest,
+                    httpResponse -> {
+                        handleResponse(exchange, httpRequest, httpResponse, strategy);
+                        return null;
+                    });
+        } catch (RuntimeCamelException e) {
+            if (e.getCause() instanceof Exception ex) {
+                // Rethrow the embedded exception to simulate the same behavior as with version 4
+                throw ex;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Creates the HTTP request to send for the exchange, with the HTTP headers, cookies and the message body as the
+     * request entity.
+     */
+    protected HttpUriRequest createRequest(Exchange exchange) throws Exception {
         boolean cookies = !getEndpoint().getComponent().isCookieManagementDisabled();
         if (cookies && getEndpoint().isClearExpiredCookies() && !getEndpoint().isBridgeEndpoint()) {
             // create the cookies before the invocation
@@ -171,7 +204,6 @@ public class HttpProducer extends DefaultProducer implements LineNumberAware {
         }
 
         HttpUriRequest httpRequest = createMethod(exchange);
-        HttpHost httpHost = createHost(httpRequest);
 
         Message in = exchange.getIn();
         String httpProtocolVersion = null;
@@ -248,88 +280,81 @@ public class HttpProducer extends DefaultProducer implements LineNumberAware {
             httpRequest.addHeader("Connection", HeaderElements.CLOSE);
         }
 
-        // lets store the result in the output message.
+        return httpRequest;
+    }
+
+    /**
+     * Handles the HTTP response by populating the exchange, or by throwing the {@link HttpOperationFailedException} if
+     * the response code is not within the okStatusCodeRange and throwExceptionOnFailure is enabled.
+     */
+    protected void handleResponse(
+            Exchange exchange, HttpUriRequest httpRequest, ClassicHttpResponse httpResponse, HeaderFilterStrategy strategy)
+            throws IOException, HttpException {
         try {
-            executeMethod(exchange,
-                    httpHost, httpRequest,
-                    httpResponse -> {
-                        try {
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getUri());
-                            }
-                            int responseCode = httpResponse.getCode();
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Http responseCode: {}", responseCode);
-                            }
-                            populateResponseCode(exchange.getOut(), httpResponse, responseCode);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getUri());
+            }
+            int responseCode = httpResponse.getCode();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Http responseCode: {}", responseCode);
+            }
+            populateResponseCode(exchange.getOut(), httpResponse, responseCode);
 
-                            if (!throwException) {
-                                // if we do not use failed exception then populate response for all response codes
-                                HttpProducer.this.populateResponse(exchange, httpRequest, httpResponse, strategy, responseCode);
-                            } else {
-                                boolean ok;
-                                if (minOkRange > 0) {
-                                    ok = responseCode >= minOkRange && responseCode <= maxOkRange;
-                                } else {
-                                    ok = HttpHelper.isStatusCodeOk(responseCode,
-                                            HttpProducer.this.getEndpoint().getOkStatusCodeRange());
-                                }
-                                if (ok) {
-                                    // only populate response for OK response
-                                    HttpProducer.this.populateResponse(exchange, httpRequest, httpResponse, strategy,
-                                            responseCode);
-                                } else {
-                                    // operation failed so populate exception to throw
-                                    throw HttpProducer.this.populateHttpOperationFailedException(exchange, httpRequest,
-                                            httpResponse, responseCode);
-                                }
-                            }
-                        } catch (IOException | HttpException | RuntimeCamelException e) {
-                            throw e;
+            if (!throwException) {
+                // if we do not use failed exception then populate response for all response codes
+                populateResponse(exchange, httpRequest, httpResponse, strategy, responseCode);
+            } else {
+                boolean ok;
+                if (minOkRange > 0) {
+                    ok = responseCode >= minOkRange && responseCode <= maxOkRange;
+                } else {
+                    ok = HttpHelper.isStatusCodeOk(responseCode, getEndpoint().getOkStatusCodeRange());
+                }
+                if (ok) {
+                    // only populate response for OK response
+                    populateResponse(exchange, httpRequest, httpResponse, strategy, responseCode);
+                } else {
+                    // operation failed so populate exception to throw
+                    throw populateHttpOperationFailedException(exchange, httpRequest, httpResponse, responseCode);
+                }
+            }
+        } catch (IOException | HttpException | RuntimeCamelException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeCamelException(e);
+        } finally {
+            if (httpResponse != null && getEndpoint().isDisableStreamCache()) {
+                // close the stream at the end of the exchange to ensure it gets eventually closed later
+                exchange.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
+                    @Override
+                    public void onDone(Exchange exchange1) {
+                        try {
+                            EntityUtils.consume(httpResponse.getEntity());
                         } catch (Exception e) {
-                            throw new RuntimeCamelException(e);
+                            // ignore
                         } finally {
-                            if (httpResponse != null && HttpProducer.this.getEndpoint().isDisableStreamCache()) {
-                                // close the stream at the end of the exchange to ensure it gets eventually closed later
-                                exchange.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
-                                    @Override
-                                    public void onDone(Exchange exchange1) {
-                                        try {
-                                            EntityUtils.consume(httpResponse.getEntity());
-                                        } catch (Exception e) {
-                                            // ignore
-                                        } finally {
-                                            try {
-                                                EntityUtils.consume(httpRequest.getEntity());
-                                            } catch (Exception e) {
-                                                // ignore
-                                            }
-                                        }
-                                    }
-                                });
-                            } else if (httpResponse != null) {
-                                // close the stream now
-                                try {
-                                    EntityUtils.consume(httpResponse.getEntity());
-                                } catch (Exception e) {
-                                    // ignore
-                                } finally {
-                                    try {
-                                        EntityUtils.consume(httpRequest.getEntity());
-                                    } catch (Exception e) {
-                                        // ignore
-                                    }
-                                }
+                            try {
+                                EntityUtils.consume(httpRequest.getEntity());
+                            } catch (Exception e) {
+                                // ignore
                             }
                         }
-                        return null;
-                    });
-        } catch (RuntimeCamelException e) {
-            if (e.getCause() instanceof Exception ex) {
-                // Rethrow the embedded exception to simulate the same behavior as with version 4
-                throw ex;
+                    }
+                });
+            } else if (httpResponse != null) {
+                // close the stream now
+                try {
+                    EntityUtils.consume(httpResponse.getEntity());
+                } catch (Exception e) {
+                    // ignore
+                } finally {
+                    try {
+                        EntityUtils.consume(httpRequest.getEntity());
+                    } catch (Exception e) {
+                        // ignore
+                    }
+                }
             }
-            throw e;
         }
     }
 
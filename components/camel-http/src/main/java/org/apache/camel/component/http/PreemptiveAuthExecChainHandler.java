@@ -18,6 +18,9 @@ package org.apache.camel.component.http;
 
 import java.io.IOException;
 
+import org.apache.hc.client5.http.async.AsyncExecCallback;
+import org.apache.hc.client5.http.async.AsyncExecChain;
+import org.apache.hc.client5.http.async.AsyncExecChainHandler;
 import org.apache.hc.client5.http.auth.AuthCache;
 import org.apache.hc.client5.http.auth.AuthScheme;
 import org.apache.hc.client5.http.auth.AuthScope;
@@ -34,8 +37,10 @@ import org.apache.hc.core5.http.ClassicHttpRequest;
 import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.HttpException;
 import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
 
-public class PreemptiveAuthExecChainHandler implements ExecChainHandler {
+public class PreemptiveAuthExecChainHandler implements ExecChainHandler, AsyncExecChainHandler {
 
     private final HttpEndpoint endpoint;
 
@@ -50,12 +55,28 @@ public class PreemptiveAuthExecChainHandler implements ExecChainHandler {
             ExecChain chain)
             throws IOException, HttpException {
 
-        HttpClientContext context = scope.clientContext;
+        initAuthCache(scope.clientContext, scope.route.getTargetHost());
+        return chain.proceed(request, scope);
+    }
+
+    @Override
+    public void execute(
+            HttpRequest request,
+            AsyncEntityProducer entityProducer,
+            AsyncExecChain.Scope scope,
+            AsyncExecChain chain,
+            AsyncExecCallback asyncExecCallback)
+            throws HttpException, IOException {
+
+        initAuthCache(scope.clientContext, scope.route.getTargetHost());
+        chain.proceed(request, entityProducer, scope, asyncExecCallback);
+    }
+
+    private void initAuthCache(HttpClientContext context, HttpHost httpHost) throws HttpException {
         AuthCache authCache = context.getAuthCache();
         // If no auth scheme available yet, try to initialize it preemptively
         if (authCache == null) {
             CredentialsProvider credentialsProvider = context.getCredentialsProvider();
-            HttpHost httpHost = scope.route.getTargetHost();
             Credentials credentials = credentialsProvider.getCredentials(new AuthScope(httpHost), context);
             if (credentials == null) {
                 credentials = HttpCredentialsHelper.getCredentials(endpoint.getAuthMethod(), endpoint.getAuthUsername(),
@@ -79,6 +100,5 @@ public class PreemptiveAuthExecChainHandler implements ExecChainHandler {
             authCache.put(httpHost, authScheme);
             context.setAuthCache(authCache);
         }
-        return chain.proceed(request, scope);
     }
 }
@@ -17,8 +17,10 @@
 package org.apache.camel.component.http;
 
 import org.apache.hc.client5.http.auth.Credentials;
+import org.apache.hc.client5.http.auth.CredentialsProvider;
 import org.apache.hc.client5.http.auth.NTCredentials;
 import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.core5.http.HttpHost;
 
@@ -56,6 +58,28 @@ public class ProxyHttpClientConfigurer implements HttpClientConfigurer {
     public void configureHttpClient(HttpClientBuilder clientBuilder) {
         clientBuilder.setProxy(new HttpHost(scheme, host, port));
 
+        CredentialsProvider credentialsProvider = createCredentialsProvider();
+        if (credentialsProvider != null) {
+            clientBuilder.setDefaultCredentialsProvider(credentialsProvider);
+        }
+    }
+
+    @Override
+    public boolean supportsHttpAsyncClient() {
+        return true;
+    }
+
+    @Override
+    public void configureHttpAsyncClient(HttpAsyncClientBuilder clientBuilder) {
+        clientBuilder.setProxy(new HttpHost(scheme, host, port));
+
+        CredentialsProvider credentialsProvider = createCredentialsProvider();
+        if (credentialsProvider != null) {
+            clientBuilder.setDefaultCredentialsProvider(credentialsProvider);
+        }
+    }
+
+    private CredentialsProvider createCredentialsProvider() {
         if (username != null && password != null) {
             Credentials defaultcreds;
             if (domain != null) {
@@ -63,9 +87,9 @@ public class ProxyHttpClientConfigurer implements HttpClientConfigurer {
             } else {
                 defaultcreds = new UsernamePasswordCredentials(username, password);
             }
-            clientBuilder.setDefaultCredentialsProvider(credentialsHelper
-                    .getCredentialsProvider(host, port, defaultcreds));
+            return credentialsHelper.getCredentialsProvider(host, port, defaultcreds);
         }
+        return null;
     }
 
 }
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AsyncProducer;
+import org.apache.camel.Exchange;
+import org.apache.camel.Producer;
+import org.apache.camel.component.http.handler.BasicValidationHandler;
+import org.apache.camel.component.http.handler.DelayValidationHandler;
+import org.apache.camel.http.base.HttpOperationFailedException;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.impl.bootstrap.HttpServer;
+import org.apache.hc.core5.http.impl.bootstrap.ServerBootstrap;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.component.http.HttpMethods.GET;
+import static org.apache.camel.component.http.HttpMethods.POST;
+import static org.apache.camel.test.junit5.TestSupport.assertIsInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HttpProducerAsyncClientTest extends BaseHttpTest {
+
+    private HttpServer localServer;
+    private String endpointUrl;
+
+    @Override
+    public void setupResources() throws Exception {
+        localServer = ServerBootstrap.bootstrap()
+                .setCanonicalHostName("localhost").setHttpProcessor(getBasicHttpProcessor())
+                .setConnectionReuseStrategy(getConnectionReuseStrategy()).setResponseFactory(getHttpResponseFactory())
+                .setSslContext(getSSLContext())
+                .register("/get", new BasicValidationHandler(GET.name(), null, null, getExpectedContent()))
+                .register("/post", new BasicValidationHandler(POST.name(), null, "hello", getExpectedContent()))
+                .register("/delay", new DelayValidationHandler(GET.name(), null, null, getExpectedContent(), 1000))
+                .register("/missing", (request, response, context) -> response.setCode(HttpStatus.SC_NOT_FOUND))
+                .create();
+        localServer.start();
+
+        endpointUrl = "http://localhost:" + localServer.getLocalPort();
+    }
+
+    @Override
+    public void cleanupResources() throws Exception {
+        if (localServer != null) {
+            localServer.stop();
+        }
+    }
+
+    @Test
+    public void testGet() {
+        Exchange exchange = template.request(endpointUrl + "/get?useAsyncClient=true", exchange1 -> {
+        });
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void testPost() {
+        Exchange exchange = template.request(endpointUrl + "/post?useAsyncClient=true",
+                exchange1 -> exchange1.getIn().setBody("hello"));
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void testNotFound() {
+        Exchange exchange = template.request(endpointUrl + "/missing?useAsyncClient=true", exchange1 -> {
+        });
+
+        HttpOperationFailedException cause = assertIsInstanceOf(HttpOperationFailedException.class, exchange.getException());
+        assertEquals(HttpStatus.SC_NOT_FOUND, cause.getStatusCode());
+    }
+
+    @Test
+    public void testCallbackCompletedAsynchronously() throws Exception {
+        HttpEndpoint endpoint = context.getEndpoint(endpointUrl + "/delay?useAsyncClient=true", HttpEndpoint.class);
+        Producer producer = endpoint.createProducer();
+        AsyncProducer asyncProducer = assertIsInstanceOf(HttpAsyncProducer.class, producer);
+        producer.start();
+        try {
+            Exchange exchange = endpoint.createExchange();
+            CountDownLatch latch = new CountDownLatch(1);
+            boolean sync = asyncProducer.process(exchange, doneSync -> latch.countDown());
+
+            // the calling thread is not blocked while waiting for the delayed response
+            assertFalse(sync, "Should complete asynchronously");
+            assertTrue(latch.await(10, TimeUnit.SECONDS), "Should complete the callback");
+            assertExchange(exchange);
+        } finally {
+            producer.stop();
+        }
+    }
+
+    @Test
+    public void testConfigurerNotSupportingAsyncClient() {
+        context.getRegistry().bind("classicConfigurer", (HttpClientConfigurer) clientBuilder -> {
+        });
+        HttpEndpoint endpoint = context.getEndpoint(
+                endpointUrl + "/get?useAsyncClient=true&httpClientConfigurer=#classicConfigurer", HttpEndpoint.class);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, endpoint::createProducer);
+        assertTrue(e.getMessage().contains("does not support the HttpAsyncClient"), e.getMessage());
+    }
+
+    @Test
+    public void testConfigurerSupportingAsyncClient() {
+        AtomicInteger configured = new AtomicInteger();
+        context.getRegistry().bind("asyncConfigurer", new HttpClientConfigurer() {
+            @Override
+            public void configureHttpClient(HttpClientBuilder clientBuilder) {
+                // only the async client is used
+            }
+
+            @Override
+            public void configureHttpAsyncClient(HttpAsyncClientBuilder clientBuilder) {
+                configured.incrementAndGet();
+            }
+
+            @Override
+            public boolean supportsHttpAsyncClient() {
+                return true;
+            }
+        });
+
+        HttpEndpoint endpoint = context.getEndpoint(
+                endpointUrl + "/get?useAsyncClient=true&httpClientConfigurer=#asyncConfigurer", HttpEndpoint.class);
+        // the classic connection manager is not created for the async client
+        assertNull(endpoint.getClientConnectionManager());
+
+        Exchange exchange = template.request(endpoint, exchange1 -> {
+        });
+
+        assertExchange(exchange);
+        assertEquals(1, configured.get());
+    }
+
+    @Test
+    public void testActivityListener() {
+        AtomicInteger requests = new AtomicInteger();
+        AtomicInteger responses = new AtomicInteger();
+        context.getRegistry().bind("myListener", new HttpActivityListener() {
+            @Override
+            public void onRequestSubmitted(
+                    Object source, Exchange exchange, HttpHost host, HttpRequest request, HttpEntity entity) {
+                requests.incrementAndGet();
+            }
+
+            @Override
+            public void onResponseReceived(
+                    Object source, Exchange exchange, HttpHost host, HttpResponse response, HttpEntity entity,
+                    long elapsed) {
+                assertNotNull(entity);
+                responses.incrementAndGet();
+            }
+        });
+
+        Exchange exchange = template.request(
+                endpointUrl + "/get?useAsyncClient=true&httpActivityListener=#myListener", exchange1 -> {
+                });
+
+        assertExchange(exchange);
+        assertEquals(1, requests.get());
+        assertEquals(1, responses.get());
+    }
+}
@@ -150,6 +150,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "noOfMetricsSample": getOrCreateConfiguration(target).setNoOfMetricsSample(property(camelContext, java.lang.Integer.class, value)); return true;
         case "offsetrepository":
         case "offsetRepository": getOrCreateConfiguration(target).setOffsetRepository(property(camelContext, org.apache.camel.spi.StateRepository.class, value)); return true;
+        case "parallelpartitionpoolsize":
+        case "parallelPartitionPoolSize": getOrCreateConfiguration(target).setParallelPartitionPoolSize(property(camelContext, int.class, value)); return true;
+        case "parallelpartitionprocessing":
+        case "parallelPartitionProcessing": getOrCreateConfiguration(target).setParallelPartitionProcessing(property(camelContext, boolean.class, value)); return true;
         case "partitionassignor":
         case "partitionAssignor": getOrCreateConfiguration(target).setPartitionAssignor(property(camelContext, java.lang.String.class, value)); return true;
         case "partitionkey":
@@ -391,6 +395,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "noOfMetricsSample": return java.lang.Integer.class;
         case "offsetrepository":
         case "offsetRepository": return org.apache.camel.spi.StateRepository.class;
+        case "parallelpartitionpoolsize":
+        case "parallelPartitionPoolSize": return int.class;
+        case "parallelpartitionprocessing":
+        case "parallelPartitionProcessing": return boolean.class;
         case "partitionassignor":
         case "partitionAssignor": return java.lang.String.class;
         case "partitionkey":
@@ -628,6 +636,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "noOfMetricsSample": return getOrCreateConfiguration(target).getNoOfMetricsSample();
         case "offsetrepository":
         case "offsetRepository": return getOrCreateConfiguration(target).getOffsetRepository();
+        case "parallelpartitionpoolsize":
+        case "parallelPartitionPoolSize": return getOrCreateConfiguration(target).getParallelPartitionPoolSize();
+        case "parallelpartitionprocessing":
+        case "parallelPartitionProcessing": return getOrCreateConfiguration(target).isParallelPartitionProcessing();
         case "partitionassignor":
         case "partitionAssignor": return getOrCreateConfiguration(target).getPartitionAssignor();
         case "partitionkey":
@@ -136,6 +136,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "noOfMetricsSample": target.getConfiguration().setNoOfMetricsSample(property(camelContext, java.lang.Integer.class, value)); return true;
         case "offsetrepository":
         case "offsetRepository": target.getConfiguration().setOffsetRepository(property(camelContext, org.apache.camel.spi.StateRepository.class, value)); return true;
+        case "parallelpartitionpoolsize":
+        case "parallelPartitionPoolSize": target.getConfiguration().setParallelPartitionPoolSize(property(camelContext, int.class, value)); return true;
+        case "parallelpartitionprocessing":
+        case "parallelPartitionProcessing": target.getConfiguration().setParallelPartitionProcessing(property(camelContext, boolean.class, value)); return true;
         case "partitionassignor":
         case "partitionAssignor": target.getConfiguration().setPartitionAssignor(property(camelContext, java.lang.String.class, value)); return true;
         case "partitionkey":
@@ -355,6 +359,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "noOfMetricsSample": return java.lang.Integer.class;
         case "offsetrepository":
         case "offsetRepository": return org.apache.camel.spi.StateRepository.class;
+        case "parallelpartitionpoolsize":
+        case "parallelPartitionPoolSize": return int.class;
+        case "parallelpartitionprocessing":
+        case "parallelPartitionProcessing": return boolean.class;
         case "partitionassignor":
         case "partitionAssignor": return java.lang.String.class;
         case "partitionkey":
@@ -575,6 +583,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "noOfMetricsSample": return target.getConfiguration().getNoOfMetricsSample();
         case "offsetrepository":
         case "offsetRepository": return target.getConfiguration().getOffsetRepository();
+        case "parallelpartitionpoolsize":
+        case "parallelPartitionPoolSize": return target.getConfiguration().getParallelPartitionPoolSize();
+        case "parallelpartitionprocessing":
+        case "parallelPartitionProcessing": return target.getConfiguration().isParallelPartitionProcessing();
         case "partitionassignor":
         case "partitionAssignor": return target.getConfiguration().getPartitionAssignor();
         case "partitionkey":
@@ -23,7 +23,7 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(110);
+        Set<String> props = new HashSet<>(112);
         props.add("additionalProperties");
         props.add("allowManualCommit");
         props.add("autoCommitEnable");
@@ -82,6 +82,8 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
         props.add("metricsSampleWindowMs");
         props.add("noOfMetricsSample");
         props.add("offsetRepository");
+        props.add("parallelPartitionPoolSize");
+        props.add("parallelPartitionProcessing");
         props.add("partitionAssignor");
         props.add("partitionKey");
         props.add("partitioner");
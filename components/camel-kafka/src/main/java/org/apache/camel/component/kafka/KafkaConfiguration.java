@@ -359,6 +359,10 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     private boolean batching;
     @UriParam(label = "consumer")
     private Integer batchingIntervalMs;
+    @UriParam(label = "consumer,advanced")
+    private boolean parallelPartitionProcessing;
+    @UriParam(label = "consumer,advanced", defaultValue = "10")
+    private int parallelPartitionPoolSize = 10;
 
     public KafkaConfiguration() {
     }
@@ -2025,4 +2029,37 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     public void setBatchingIntervalMs(Integer batchingIntervalMs) {
         this.batchingIntervalMs = batchingIntervalMs;
     }
+
+    public boolean isParallelPartitionProcessing() {
+        return parallelPartitionProcessing;
+    }
+
+    /**
+     * Whether to process the records of each assigned partition in parallel (streaming mode only).
+     *
+     * When enabled, the records returned by a poll are grouped per topic partition, and each partition is processed by
+     * its own worker from a thread pool (sized by parallelPartitionPoolSize). Records within the same partition are
+     * still processed in order, one after another, while different partitions are processed concurrently. The offsets
+     * are committed per partition only for the records that have completed, after all the partitions of the poll have
+     * been processed.
+     *
+     * This allows a single consumer to increase throughput when the route is slow, without having to increase the
+     * number of partitions of the topic. Virtual threads are used for the workers when Camel has been configured to use
+     * virtual threads.
+     */
+    public void setParallelPartitionProcessing(boolean parallelPartitionProcessing) {
+        this.parallelPartitionProcessing = parallelPartitionProcessing;
+    }
+
+    public int getParallelPartitionPoolSize() {
+        return parallelPartitionPoolSize;
+    }
+
+    /**
+     * The maximum number of partitions that can be processed concurrently by the consumer when
+     * parallelPartitionProcessing is enabled. The pool is shared by all the consumer threads (see consumersCount).
+     */
+    public void setParallelPartitionPoolSize(int parallelPartitionPoolSize) {
+        this.parallelPartitionPoolSize = parallelPartitionPoolSize;
+    }
 }
@@ -57,6 +57,7 @@ public class KafkaConsumer extends DefaultConsumer
     private static final Logger LOG = LoggerFactory.getLogger(KafkaConsumer.class);
 
     protected ExecutorService executor;
+    protected ExecutorService partitionExecutor;
     private final KafkaEndpoint endpoint;
     private KafkaConsumerHealthCheck consumerHealthCheck;
     private HealthCheckRepository healthCheckRepository;
@@ -91,6 +92,14 @@ public class KafkaConsumer extends DefaultConsumer
         this.consumerListener = consumerListener;
     }
 
+    /**
+     * The thread pool used for processing the records of each partition in parallel, or <tt>null</tt> if
+     * parallelPartitionProcessing is not enabled.
+     */
+    public ExecutorService getPartitionExecutor() {
+        return partitionExecutor;
+    }
+
     @Override
     public KafkaEndpoint getEndpoint() {
         return (KafkaEndpoint) super.getEndpoint();
@@ -149,6 +158,9 @@ public class KafkaConsumer extends DefaultConsumer
         }
 
         executor = endpoint.createExecutor();
+        if (endpoint.getConfiguration().isParallelPartitionProcessing() && !endpoint.getConfiguration().isBatching()) {
+            partitionExecutor = endpoint.createPartitionExecutor();
+        }
 
         String topic = endpoint.getConfiguration().getTopic();
         Pattern pattern = null;
@@ -216,6 +228,12 @@ public class KafkaConsumer extends DefaultConsumer
         tasks.clear();
         executor = null;
 
+        if (partitionExecutor != null) {
+            // the fetch threads have been stopped, so there are no more records to dispatch to the partition workers
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(partitionExecutor);
+            partitionExecutor = null;
+        }
+
         if (stopOffsetRepo) {
             StateRepository<String, String> repo = endpoint.getConfiguration().getOffsetRepository();
             LOG.debug("Stopping OffsetRepository: {}", repo);
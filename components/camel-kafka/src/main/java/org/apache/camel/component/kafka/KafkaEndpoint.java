@@ -206,6 +206,11 @@ public class KafkaEndpoint extends DefaultEndpoint implements MultipleConsumersS
                 "KafkaConsumer[" + configuration.getTopic() + "]", configuration.getConsumersCount());
     }
 
+    public ExecutorService createPartitionExecutor() {
+        return getCamelContext().getExecutorServiceManager().newFixedThreadPool(this,
+                "KafkaPartitionWorker[" + configuration.getTopic() + "]", configuration.getParallelPartitionPoolSize());
+    }
+
     public ExecutorService createProducerExecutor() {
         int core = getConfiguration().getWorkerPoolCoreSize();
         int max = getConfiguration().getWorkerPoolMaxSize();
@@ -38,6 +38,7 @@ import org.apache.camel.component.kafka.consumer.support.TopicHelper;
 import org.apache.camel.component.kafka.consumer.support.batching.KafkaRecordBatchingProcessorFacade;
 import org.apache.camel.component.kafka.consumer.support.classic.ClassicRebalanceListener;
 import org.apache.camel.component.kafka.consumer.support.resume.ResumeRebalanceListener;
+import org.apache.camel.component.kafka.consumer.support.streaming.KafkaRecordParallelStreamingProcessorFacade;
 import org.apache.camel.component.kafka.consumer.support.streaming.KafkaRecordStreamingProcessorFacade;
 import org.apache.camel.component.kafka.consumer.support.subcription.DefaultSubscribeAdapter;
 import org.apache.camel.component.kafka.consumer.support.subcription.SubscribeAdapter;
@@ -447,6 +448,9 @@ public class KafkaFetchRecords implements Runnable {
         if (configuration.isBatching()) {
             return new KafkaRecordBatchingProcessorFacade(
                     kafkaConsumer, threadId, commitManager, consumerListener);
+        } else if (kafkaConsumer.getPartitionExecutor() != null) {
+            return new KafkaRecordParallelStreamingProcessorFacade(
+                    kafkaConsumer, threadId, commitManager, consumerListener);
         } else {
             return new KafkaRecordStreamingProcessorFacade(
                     kafkaConsumer, threadId, commitManager, consumerListener);
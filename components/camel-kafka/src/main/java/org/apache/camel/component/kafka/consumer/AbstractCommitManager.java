@@ -19,6 +19,8 @@ package org.apache.camel.component.kafka.consumer;
 
 import java.time.Duration;
 import java.util.Collections;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.component.kafka.KafkaConfiguration;
@@ -43,6 +45,8 @@ public abstract class AbstractCommitManager implements CommitManager {
     protected final KafkaConfiguration configuration;
 
     private final Consumer<?, ?> consumer;
+    // manual commits can happen concurrently from the partition workers when using parallel partition processing
+    private final Lock forceCommitLock = new ReentrantLock();
 
     protected AbstractCommitManager(Consumer<?, ?> consumer, KafkaConsumer kafkaConsumer, String threadId,
                                     String printableTopic) {
@@ -89,9 +93,14 @@ public abstract class AbstractCommitManager implements CommitManager {
         }
 
         long timeout = configuration.getCommitTimeoutMs();
-        consumer.commitSync(
-                Collections.singletonMap(partition, new OffsetAndMetadata(partitionLastOffset + 1)),
-                Duration.ofMillis(timeout));
+        forceCommitLock.lock();
+        try {
+            consumer.commitSync(
+                    Collections.singletonMap(partition, new OffsetAndMetadata(partitionLastOffset + 1)),
+                    Duration.ofMillis(timeout));
+        } finally {
+            forceCommitLock.unlock();
+        }
     }
 
     protected void saveStateToOffsetRepository(
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.camel.component.kafka.consumer.support.streaming;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.component.kafka.consumer.KafkaManualCommit;
+import org.apache.camel.component.kafka.consumer.errorhandler.KafkaConsumerListener;
+import org.apache.camel.component.kafka.consumer.support.AbstractKafkaRecordProcessorFacade;
+import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.InterruptException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Streaming record processor that processes the records of each partition in parallel.
+ *
+ * The records of a poll are grouped by partition, and each partition is processed by a worker from the partition
+ * executor of the Camel consumer. The records within a partition are processed in order. The polling thread waits for
+ * all the partitions to complete, and then commits the offsets of each partition. As the workers only record the offset
+ * of a record once it has been processed (and stops at the first failure when breakOnFirstError is in use), only the
+ * contiguous prefix of completed records is committed.
+ *
+ * The Kafka consumer is not thread-safe, so the regular commits requested from a worker are deferred to the polling
+ * thread. Manual synchronous commits (forceCommit) are instead run on the worker threads: they are serialized by the
+ * commit manager, and the consumer is not used meanwhile as the polling thread is waiting for all the partitions.
+ */
+public class KafkaRecordParallelStreamingProcessorFacade extends AbstractKafkaRecordProcessorFacade {
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaRecordParallelStreamingProcessorFacade.class);
+    private final KafkaRecordStreamingProcessor kafkaRecordProcessor;
+    private final ExecutorService executor;
+
+    public KafkaRecordParallelStreamingProcessorFacade(
+                                                       KafkaConsumer camelKafkaConsumer, String threadId,
+                                                       CommitManager commitManager, KafkaConsumerListener consumerListener) {
+        super(camelKafkaConsumer, threadId, commitManager, consumerListener);
+
+        this.executor = camelKafkaConsumer.getPartitionExecutor();
+        this.kafkaRecordProcessor = new KafkaRecordStreamingProcessor(
+                camelKafkaConsumer.getEndpoint().getConfiguration(),
+                camelKafkaConsumer.getProcessor(),
+                new PartitionWorkerCommitManager(commitManager));
+    }
+
+    @Override
+    public ProcessingResult processPolledRecords(ConsumerRecords<Object, Object> allRecords) {
+        logRecords(allRecords);
+
+        Set<TopicPartition> partitions = allRecords.partitions();
+        if (partitions.isEmpty()) {
+            return ProcessingResult.newUnprocessed();
+        }
+
+        LOG.debug("Poll received records on {} partitions which will be processed in parallel", partitions.size());
+
+        Map<TopicPartition, Future<ProcessingResult>> workers = new LinkedHashMap<>(partitions.size());
+        for (TopicPartition partition : partitions) {
+            List<ConsumerRecord<Object, Object>> partitionRecords = allRecords.records(partition);
+            logRecordsInPartition(partitionRecords, partition);
+
+            workers.put(partition, executor.submit(() -> processPartition(partition, partitionRecords)));
+        }
+
+        ProcessingResult result = ProcessingResult.newUnprocessed();
+        ProcessingResult failedResult = null;
+        for (Map.Entry<TopicPartition, Future<ProcessingResult>> entry : workers.entrySet()) {
+            TopicPartition partition = entry.getKey();
+            ProcessingResult partitionResult = awaitPartition(partition, entry.getValue());
+
+            // the worker has only recorded the offsets of the records it has completed, so this is safe to commit
+            LOG.debug("Committing offset on partition {} after parallel execution", partition.partition());
+            commitManager.commit(partition);
+
+            if (partitionResult.isFailed() && failedResult == null) {
+                failedResult = partitionResult;
+            }
+            if (!result.isBreakOnErrorHit()) {
+                result = partitionResult;
+            }
+        }
+
+        if (consumerListener != null && failedResult != null) {
+            if (!consumerListener.afterProcess(failedResult)) {
+                return failedResult;
+            }
+        }
+
+        return result;
+    }
+
+    private ProcessingResult processPartition(TopicPartition partition, List<ConsumerRecord<Object, Object>> records) {
+        LOG.debug("Processing records on partition {}", partition.partition());
+
+        ProcessingResult result = ProcessingResult.newUnprocessed();
+        Iterator<ConsumerRecord<Object, Object>> recordIterator = records.iterator();
+        while (recordIterator.hasNext() && !isStopping()) {
+            ConsumerRecord<Object, Object> consumerRecord = recordIterator.next();
+            logRecord(consumerRecord);
+
+            // each partition is processed on its own, so there is no next partition from the point of view of a record
+            result = kafkaRecordProcessor.processExchange(camelKafkaConsumer, partition, false,
+                    recordIterator.hasNext(), consumerRecord);
+
+            LOG.debug("Processed record on partition {} with offset {}",
+                    consumerRecord.partition(),
+                    consumerRecord.offset());
+
+            if (result.isBreakOnErrorHit()) {
+                break;
+            }
+            if (consumerListener != null && result.isFailed()) {
+                // the listener (ie pausing the consumer) is triggered from the polling thread
+                break;
+            }
+        }
+
+        return result;
+    }
+
+    private ProcessingResult awaitPartition(TopicPartition partition, Future<ProcessingResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            LOG.info("Interrupted while waiting for the records on partition {} to be processed", partition);
+            Thread.currentThread().interrupt();
+            throw new InterruptException(e);
+        } catch (ExecutionException e) {
+            throw RuntimeCamelException.wrapRuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * Commit manager used by the partition workers, which defers the regular commits to the polling thread as the Kafka
+     * consumer is not thread-safe. Forced (manual synchronous) commits are run on the worker thread, relying on the
+     * commit manager to serialize them, and on the polling thread waiting for all the partitions to be processed.
+     */
+    private static final class PartitionWorkerCommitManager implements CommitManager {
+        private final CommitManager delegate;
+
+        private PartitionWorkerCommitManager(CommitManager delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public KafkaManualCommit getManualCommit(
+                Exchange exchange, TopicPartition partition, ConsumerRecord<Object, Object> consumerRecord) {
+            return delegate.getManualCommit(exchange, partition, consumerRecord);
+        }
+
+        @Override
+        public void commit() {
+            // noop: committed from the polling thread when all the partitions have been processed
+        }
+
+        @Override
+        public void commit(TopicPartition partition) {
+            // noop: committed from the polling thread when all the partitions have been processed
+        }
+
+        @Override
+        public void forceCommit(TopicPartition partition, long partitionLastOffset) {
+            // committed right away from the worker: serialized by the delegate while the polling thread is waiting
+            delegate.forceCommit(partition, partitionLastOffset);
+        }
+
+        @Override
+        public void recordOffset(TopicPartition partition, long partitionLastOffset) {
+            delegate.recordOffset(partition, partitionLastOffset);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.integration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.kafka.integration.common.KafkaAdminUtil;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KafkaConsumerParallelPartitionProcessingIT extends BaseKafkaTestSupport {
+
+    public static final String TOPIC = "test-parallel-partitions";
+    private static final int PARTITIONS = 3;
+    private static final int RECORDS_PER_PARTITION = 10;
+
+    @EndpointInject("mock:result")
+    private MockEndpoint to;
+
+    private final Map<Integer, List<String>> receivedPerPartition = new ConcurrentHashMap<>();
+    private final List<String> threadNames = new CopyOnWriteArrayList<>();
+
+    private org.apache.kafka.clients.producer.KafkaProducer<String, String> producer;
+
+    @BeforeAll
+    public static void setupTopic() {
+        if (kafkaAdminClient == null) {
+            kafkaAdminClient = KafkaAdminUtil.createAdminClient(service);
+        }
+
+        kafkaAdminClient.createTopics(Collections.singleton(new NewTopic(TOPIC, PARTITIONS, (short) 1)));
+    }
+
+    @BeforeEach
+    public void before() {
+        Properties props = getDefaultProperties();
+        producer = new org.apache.kafka.clients.producer.KafkaProducer<>(props);
+    }
+
+    @AfterEach
+    public void after() {
+        if (producer != null) {
+            producer.close();
+        }
+        // clean all test topics
+        kafkaAdminClient.deleteTopics(Collections.singletonList(TOPIC)).all();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                fromF("kafka:%s?brokers=%s&groupId=parallel&autoOffsetReset=earliest&consumersCount=1"
+                      + "&parallelPartitionProcessing=true&parallelPartitionPoolSize=%d",
+                        TOPIC, service.getBootstrapServers(), PARTITIONS)
+                        .routeId("parallel")
+                        .process(this::record)
+                        .delay(50)
+                        .to(to);
+            }
+
+            private void record(Exchange exchange) {
+                int partition = exchange.getMessage().getHeader(KafkaConstants.PARTITION, Integer.class);
+                receivedPerPartition.computeIfAbsent(partition, p -> new CopyOnWriteArrayList<>())
+                        .add(exchange.getMessage().getBody(String.class));
+                threadNames.add(Thread.currentThread().getName());
+            }
+        };
+    }
+
+    @Test
+    public void kafkaPartitionsAreProcessedInParallelAndInOrder() throws Exception {
+        to.expectedMessageCount(PARTITIONS * RECORDS_PER_PARTITION);
+
+        for (int i = 0; i < RECORDS_PER_PARTITION; i++) {
+            for (int p = 0; p < PARTITIONS; p++) {
+                producer.send(new ProducerRecord<>(TOPIC, p, "key", p + "-" + i));
+            }
+        }
+
+        to.assertIsSatisfied(30000);
+
+        for (Map.Entry<Integer, List<String>> entry : receivedPerPartition.entrySet()) {
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < RECORDS_PER_PARTITION; i++) {
+                expected.add(entry.getKey() + "-" + i);
+            }
+            assertEquals(expected, entry.getValue(), "Records must be processed in order within a partition");
+        }
+
+        assertTrue(threadNames.stream().allMatch(name -> name.contains("KafkaPartitionWorker")),
+                "Records should be processed by the partition workers");
+    }
+}
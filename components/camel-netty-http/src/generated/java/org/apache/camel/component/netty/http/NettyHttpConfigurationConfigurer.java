@@ -69,6 +69,8 @@ public class NettyHttpConfigurationConfigurer extends org.apache.camel.support.c
         case "encodersaslist":
         case "encodersAsList": target.setEncodersAsList(property(camelContext, java.util.List.class, value)); return true;
         case "encoding": target.setEncoding(property(camelContext, java.lang.String.class, value)); return true;
+        case "fileregion":
+        case "fileRegion": target.setFileRegion(property(camelContext, boolean.class, value)); return true;
         case "host": target.setHost(property(camelContext, java.lang.String.class, value)); return true;
         case "hostnameverification":
         case "hostnameVerification": target.setHostnameVerification(property(camelContext, boolean.class, value)); return true;
@@ -249,6 +251,8 @@ public class NettyHttpConfigurationConfigurer extends org.apache.camel.support.c
         case "encodersaslist":
         case "encodersAsList": return java.util.List.class;
         case "encoding": return java.lang.String.class;
+        case "fileregion":
+        case "fileRegion": return boolean.class;
         case "host": return java.lang.String.class;
         case "hostnameverification":
         case "hostnameVerification": return boolean.class;
@@ -430,6 +434,8 @@ public class NettyHttpConfigurationConfigurer extends org.apache.camel.support.c
         case "encodersaslist":
         case "encodersAsList": return target.getEncodersAsList();
         case "encoding": return target.getEncoding();
+        case "fileregion":
+        case "fileRegion": return target.isFileRegion();
         case "host": return target.getHost();
         case "hostnameverification":
         case "hostnameVerification": return target.isHostnameVerification();
@@ -30,6 +30,7 @@ import java.util.Locale;
 import java.util.Map;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.DefaultHttpRequest;
@@ -49,6 +50,7 @@ import org.apache.camel.Message;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.TypeConverter;
 import org.apache.camel.component.netty.NettyConverter;
+import org.apache.camel.component.netty.NettyHelper;
 import org.apache.camel.http.base.HttpHeaderFilterStrategy;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.support.ExceptionHelper;
@@ -483,6 +485,17 @@ public class DefaultNettyHttpBinding implements NettyHttpBinding, Cloneable {
 
         HttpResponse response = null;
 
+        if (cause == null && configuration.isFileRegion() && !configuration.isSsl() && !configuration.isCompression()) {
+            // send files using zero-copy file transfer
+            DefaultFileRegion region = NettyHelper.getFileRegionBody(body, message.getExchange());
+            if (region != null) {
+                response = new OutboundFileRegionHttpResponse(
+                        region, new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.valueOf(code), true));
+                response.headers().set(HttpHeaderNames.CONTENT_LENGTH.toString(), region.count());
+                LOG.trace("Content-Length: {}", region.count());
+            }
+        }
+
         if (body instanceof InputStream && configuration.isDisableStreamCache()) {
             response = new OutboundStreamHttpResponse(
                     (InputStream) body, new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.valueOf(code), true));
@@ -90,8 +90,8 @@ public class HttpServerSharedInitializerFactory extends HttpServerInitializerFac
         if (configuration.isChunked()) {
             pipeline.addLast("inbound-streamer", new HttpInboundStreamHandler());
             pipeline.addLast("aggregator", new HttpObjectAggregator(configuration.getChunkedMaxContentLength()));
-            pipeline.addLast("outbound-streamer", new HttpOutboundStreamHandler());
         }
+        pipeline.addLast("outbound-streamer", new HttpOutboundStreamHandler());
         if (configuration.isCompression()) {
             pipeline.addLast("deflater", new HttpContentCompressor());
         }
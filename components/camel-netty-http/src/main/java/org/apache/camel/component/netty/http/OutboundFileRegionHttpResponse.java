@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty.http;
+
+import io.netty.channel.DefaultFileRegion;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+
+/**
+ * A HTTP response where the content is a file region, which is written to the channel using zero-copy file transfer.
+ */
+public class OutboundFileRegionHttpResponse extends DefaultHttpResponse {
+    private final DefaultFileRegion fileRegion;
+
+    public OutboundFileRegionHttpResponse(DefaultFileRegion fileRegion, DefaultHttpResponse response) {
+        super(response.protocolVersion(), response.status(), response.headers());
+        this.fileRegion = fileRegion;
+    }
+
+    public DefaultHttpResponse getResponse() {
+        return new DefaultHttpResponse(this.protocolVersion(), this.status(), this.headers());
+    }
+
+    public DefaultFileRegion getFileRegion() {
+        return fileRegion;
+    }
+}
@@ -19,7 +19,9 @@ package org.apache.camel.component.netty.http.handlers;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
 import io.netty.channel.DefaultChannelPromise;
+import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.handler.stream.ChunkedWriteHandler;
+import org.apache.camel.component.netty.http.OutboundFileRegionHttpResponse;
 import org.apache.camel.component.netty.http.OutboundStreamHttpRequest;
 import org.apache.camel.component.netty.http.OutboundStreamHttpResponse;
 
@@ -34,6 +36,13 @@ public class HttpOutboundStreamHandler extends ChunkedWriteHandler {
         } else if (msg instanceof OutboundStreamHttpResponse) {
             super.write(ctx, ((OutboundStreamHttpResponse) msg).getResponse(), promise);
             needNewPromise = true;
+        } else if (msg instanceof OutboundFileRegionHttpResponse) {
+            // write the response headers followed by the file region and the end of the content
+            OutboundFileRegionHttpResponse response = (OutboundFileRegionHttpResponse) msg;
+            super.write(ctx, response.getResponse(), new DefaultChannelPromise(ctx.channel()));
+            super.write(ctx, response.getFileRegion(), new DefaultChannelPromise(ctx.channel()));
+            super.write(ctx, LastHttpContent.EMPTY_LAST_CONTENT, promise);
+            return;
         }
 
         if (needNewPromise) {
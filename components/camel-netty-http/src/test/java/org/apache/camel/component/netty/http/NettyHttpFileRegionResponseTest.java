@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty.http;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit5.TestSupport.createDirectory;
+import static org.apache.camel.test.junit5.TestSupport.deleteDirectory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class NettyHttpFileRegionResponseTest extends BaseNettyTest {
+
+    private final String body = "Hello World from a file region\n".repeat(1000);
+
+    @Override
+    public void doPreSetup() throws Exception {
+        deleteDirectory("target/fileregion");
+        createDirectory("target/fileregion");
+        Files.writeString(new File("target/fileregion/hello.txt").toPath(), body);
+    }
+
+    @Test
+    public void testFileRegionResponse() {
+        Exchange out = template.request("netty-http:http://localhost:{{port}}/myserver", null);
+        assertEquals(body, out.getMessage().getBody(String.class));
+        assertEquals(body.length(), out.getMessage().getHeader(Exchange.CONTENT_LENGTH, Integer.class));
+
+        // and again using the same connection
+        String reply = template.requestBody("netty-http:http://localhost:{{port}}/myserver", null, String.class);
+        assertEquals(body, reply);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("netty-http:http://localhost:{{port}}/myserver?fileRegion=true")
+                        .setBody(constant(new File("target/fileregion/hello.txt")));
+            }
+        };
+    }
+
+}
@@ -70,6 +70,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "encoding": getOrCreateConfiguration(target).setEncoding(property(camelContext, java.lang.String.class, value)); return true;
         case "executorservice":
         case "executorService": target.setExecutorService(property(camelContext, io.netty.util.concurrent.EventExecutorGroup.class, value)); return true;
+        case "fileregion":
+        case "fileRegion": getOrCreateConfiguration(target).setFileRegion(property(camelContext, boolean.class, value)); return true;
         case "hostnameverification":
         case "hostnameVerification": getOrCreateConfiguration(target).setHostnameVerification(property(camelContext, boolean.class, value)); return true;
         case "keepalive":
@@ -217,6 +219,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "encoding": return java.lang.String.class;
         case "executorservice":
         case "executorService": return io.netty.util.concurrent.EventExecutorGroup.class;
+        case "fileregion":
+        case "fileRegion": return boolean.class;
         case "hostnameverification":
         case "hostnameVerification": return boolean.class;
         case "keepalive":
@@ -365,6 +369,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "encoding": return getOrCreateConfiguration(target).getEncoding();
         case "executorservice":
         case "executorService": return target.getExecutorService();
+        case "fileregion":
+        case "fileRegion": return getOrCreateConfiguration(target).isFileRegion();
         case "hostnameverification":
         case "hostnameVerification": return getOrCreateConfiguration(target).isHostnameVerification();
         case "keepalive":
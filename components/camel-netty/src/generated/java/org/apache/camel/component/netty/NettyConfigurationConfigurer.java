@@ -62,6 +62,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "encodersaslist":
         case "encodersAsList": target.setEncodersAsList(property(camelContext, java.util.List.class, value)); return true;
         case "encoding": target.setEncoding(property(camelContext, java.lang.String.class, value)); return true;
+        case "fileregion":
+        case "fileRegion": target.setFileRegion(property(camelContext, boolean.class, value)); return true;
         case "host": target.setHost(property(camelContext, java.lang.String.class, value)); return true;
         case "hostnameverification":
         case "hostnameVerification": target.setHostnameVerification(property(camelContext, boolean.class, value)); return true;
@@ -207,6 +209,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "encodersaslist":
         case "encodersAsList": return java.util.List.class;
         case "encoding": return java.lang.String.class;
+        case "fileregion":
+        case "fileRegion": return boolean.class;
         case "host": return java.lang.String.class;
         case "hostnameverification":
         case "hostnameVerification": return boolean.class;
@@ -353,6 +357,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "encodersaslist":
         case "encodersAsList": return target.getEncodersAsList();
         case "encoding": return target.getEncoding();
+        case "fileregion":
+        case "fileRegion": return target.isFileRegion();
         case "host": return target.getHost();
         case "hostnameverification":
         case "hostnameVerification": return target.isHostnameVerification();
@@ -23,7 +23,7 @@ public class NettyEndpointUriFactory extends org.apache.camel.support.component.
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(78);
+        Set<String> props = new HashSet<>(79);
         props.add("allowDefaultCodec");
         props.add("allowSerializedHeaders");
         props.add("autoAppendDelimiter");
@@ -47,6 +47,7 @@ public class NettyEndpointUriFactory extends org.apache.camel.support.component.
         props.add("encoding");
         props.add("exceptionHandler");
         props.add("exchangePattern");
+        props.add("fileRegion");
         props.add("host");
         props.add("hostnameVerification");
         props.add("keepAlive");
@@ -169,6 +169,13 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
     @UriParam(label = "producer,advanced",
               description = "If the useByteBuf is true, netty producer will turn the message body into ByteBuf before sending it out.")
     private boolean useByteBuf;
+    @UriParam(label = "advanced",
+              description = "Whether to send file bodies (such as from the file consumer) as a file region, which allows the"
+                            + " operating system to transfer the content of the file directly to the network (zero-copy), instead"
+                            + " of reading the file into memory. This is only in use for TCP and HTTP responses, and not when"
+                            + " using SSL, compression, textline, transferExchange or useByteBuf. The payload is written as-is,"
+                            + " so the encoders must not need to modify the payload.")
+    private boolean fileRegion;
     @UriParam(label = "advanced",
               description = "For UDP only. If enabled the using byte array codec instead of Java serialization protocol.")
     private boolean udpByteArrayCodec;
@@ -818,6 +825,20 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
         this.useByteBuf = useByteBuf;
     }
 
+    public boolean isFileRegion() {
+        return fileRegion;
+    }
+
+    /**
+     * Whether to send file bodies (such as from the file consumer) as a file region, which allows the operating system
+     * to transfer the content of the file directly to the network (zero-copy), instead of reading the file into memory.
+     * This is only in use for TCP and HTTP responses, and not when using SSL, compression, textline, transferExchange
+     * or useByteBuf. The payload is written as-is, so the encoders must not need to modify the payload.
+     */
+    public void setFileRegion(boolean fileRegion) {
+        this.fileRegion = fileRegion;
+    }
+
     public boolean isUdpByteArrayCodec() {
         return udpByteArrayCodec;
     }
@@ -16,19 +16,24 @@
  */
 package org.apache.camel.component.netty;
 
+import java.io.File;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.nio.file.Path;
 import java.util.concurrent.ThreadFactory;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.DefaultAddressedEnvelope;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.util.concurrent.DefaultEventExecutorGroup;
 import io.netty.util.concurrent.EventExecutorGroup;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.NoTypeConversionAvailableException;
+import org.apache.camel.WrappedFile;
+import org.apache.camel.converter.stream.FileRegion;
 import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -79,6 +84,35 @@ public final class NettyHelper {
         return s;
     }
 
+    /**
+     * Whether file bodies should be written as a file region (zero-copy) with the given configuration
+     *
+     * @param  configuration the configuration
+     * @return               <tt>true</tt> if enabled and supported by the configuration
+     */
+    public static boolean isFileRegionEnabled(NettyConfiguration configuration) {
+        return configuration.isFileRegion() && configuration.isTcp() && !configuration.isSsl()
+                && !configuration.isTextline() && !configuration.isTransferExchange() && !configuration.isUseByteBuf();
+    }
+
+    /**
+     * Gets the file body as a Netty file region, which is written to the channel using zero-copy file transfer.
+     *
+     * @param  body     the current body
+     * @param  exchange the exchange
+     * @return          the file region, or <tt>null</tt> if the body is not a file on the local file system
+     */
+    public static DefaultFileRegion getFileRegionBody(Object body, Exchange exchange) {
+        if (body instanceof WrappedFile || body instanceof File || body instanceof Path || body instanceof FileRegion) {
+            FileRegion region = exchange.getContext().getTypeConverter().tryConvertTo(FileRegion.class, exchange, body);
+            if (region != null) {
+                LOG.trace("Using file region: {}", region);
+                return new DefaultFileRegion(region.getFile(), region.getPosition(), region.getCount());
+            }
+        }
+        return null;
+    }
+
     /**
      * Writes the given body to Netty channel. Will <b>not</b >wait until the body has been written.
      *
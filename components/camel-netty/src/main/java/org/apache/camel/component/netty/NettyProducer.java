@@ -431,6 +431,14 @@ public class NettyProducer extends DefaultAsyncProducer {
      * @throws Exception is thrown if error getting the request body
      */
     protected Object getRequestBody(Exchange exchange) throws Exception {
+        if (NettyHelper.isFileRegionEnabled(getConfiguration())) {
+            // send files using zero-copy file transfer
+            Object region = NettyHelper.getFileRegionBody(exchange.getIn().getBody(), exchange);
+            if (region != null) {
+                return region;
+            }
+        }
+
         Object body = NettyPayloadHelper.getIn(getEndpoint(), exchange);
         if (body == null) {
             return null;
@@ -175,6 +175,13 @@ public class ServerChannelHandler extends SimpleChannelInboundHandler<Object> {
                 NettyHelper.close(ctx.channel());
             }
         } else {
+            if (NettyHelper.isFileRegionEnabled(consumer.getConfiguration())) {
+                // send files using zero-copy file transfer
+                Object region = NettyHelper.getFileRegionBody(body, exchange);
+                if (region != null) {
+                    body = region;
+                }
+            }
             // if textline enabled then covert to a String which must be used for textline
             if (consumer.getConfiguration().isTextline()) {
                 body = NettyHelper.getTextlineBody(body, exchange, consumer.getConfiguration().getDelimiter(),
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty;
+
+import java.io.File;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+public class NettyFileRegionTcpTest extends BaseNettyTest {
+
+    @Test
+    public void testFileRegion() throws Exception {
+        MockEndpoint server = getMockEndpoint("mock:server");
+        server.expectedBodiesReceived("Hello World");
+
+        // the reply is a file which is sent back using a file region as well
+        MockEndpoint reply = getMockEndpoint("mock:reply");
+        reply.expectedBodiesReceived("Hello World");
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("netty:tcp://localhost:{{port}}?sync=true&fileRegion=true")
+                        .to("mock:server")
+                        .setBody(constant(new File("src/test/data/message1.txt")));
+
+                from("file:src/test/data?noop=true&fileName=message1.txt")
+                        .to("netty:tcp://localhost:{{port}}?sync=true&fileRegion=true")
+                        .to("mock:reply");
+            }
+        };
+    }
+
+}
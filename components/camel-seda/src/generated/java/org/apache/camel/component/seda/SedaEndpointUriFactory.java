@@ -23,7 +23,9 @@ public class SedaEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(20);
+        Set<String> props = new HashSet<>(23);
+        props.add("batchSize");
+        props.add("batchTimeout");
         props.add("blockWhenFull");
         props.add("bridgeErrorHandler");
         props.add("browseLimit");
@@ -33,6 +35,7 @@ public class SedaEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("exceptionHandler");
         props.add("exchangePattern");
         props.add("failIfNoConsumers");
+        props.add("groupExchanges");
         props.add("lazyStartProducer");
         props.add("limitConcurrentConsumers");
         props.add("multipleConsumers");
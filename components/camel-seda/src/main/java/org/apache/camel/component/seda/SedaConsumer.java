@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
@@ -25,8 +26,10 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
+import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangeExtension;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.Processor;
 import org.apache.camel.ShutdownRunningTask;
 import org.apache.camel.Suspendable;
@@ -43,21 +46,32 @@ import org.slf4j.LoggerFactory;
  * <p/>
  * In this implementation there is a little <i>slack period</i> when you suspend/stop the consumer, by which the
  * consumer may pickup a newly arrived messages and process it. That period is up till 1 second.
+ * <p/>
+ * When the batch size is larger than 1, then the consumer drains the available messages from the queue (up to the batch
+ * size) and processes them one after the other, or as a single grouped exchange.
  */
 public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownAware, Suspendable {
 
     private static final Logger LOG = LoggerFactory.getLogger(SedaConsumer.class);
 
     private final AtomicInteger taskCount = new AtomicInteger();
+    // exchanges taken from the queue in a batch which are not yet processed
+    private final AtomicInteger batchPending = new AtomicInteger();
     private volatile CountDownLatch latch;
     private volatile boolean shutdownPending;
     private volatile boolean forceShutdown;
     private ExecutorService executor;
     private final int pollTimeout;
+    private final int batchSize;
+    private final long batchTimeout;
+    private final boolean groupExchanges;
 
     public SedaConsumer(SedaEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
         this.pollTimeout = endpoint.getPollTimeout();
+        this.batchSize = Math.max(1, endpoint.getBatchSize());
+        this.batchTimeout = endpoint.getBatchTimeout();
+        this.groupExchanges = endpoint.isGroupExchanges();
     }
 
     @Override
@@ -79,7 +93,7 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         if (getEndpoint().isPurgeWhenStopping()) {
             getEndpoint().purgeQueue();
         }
-        return getEndpoint().getQueue().size();
+        return getEndpoint().getQueue().size() + batchPending.get();
     }
 
     @Override
@@ -181,16 +195,10 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
                             exchange);
                 }
                 if (exchange != null) {
-                    try {
-                        final Exchange original = exchange;
-                        // prepare the exchange before sending to consumer
-                        final Exchange prepared = prepareExchange(exchange);
-                        // callback to be executed when sending to consumer and processing is done
-                        AsyncCallback callback = doneSync -> onProcessingDone(original, prepared);
-                        // process the exchange
-                        sendToConsumers(prepared, callback);
-                    } catch (Exception e) {
-                        getExceptionHandler().handleException("Error processing exchange", exchange, e);
+                    if (batchSize > 1) {
+                        processBatch(queue, exchange);
+                    } else {
+                        processExchange(exchange);
                     }
                 } else if (shutdownPending && queue.isEmpty()) {
                     LOG.trace("Shutdown is pending, so this consumer thread is breaking out because the task queue is empty.");
@@ -210,6 +218,111 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         }
     }
 
+    private void processExchange(Exchange exchange) {
+        try {
+            final Exchange original = exchange;
+            // prepare the exchange before sending to consumer
+            final Exchange prepared = prepareExchange(exchange);
+            // callback to be executed when sending to consumer and processing is done
+            AsyncCallback callback = doneSync -> onProcessingDone(original, prepared);
+            // process the exchange
+            sendToConsumers(prepared, callback);
+        } catch (Exception e) {
+            getExceptionHandler().handleException("Error processing exchange", exchange, e);
+        }
+    }
+
+    private void processBatch(BlockingQueue<Exchange> queue, Exchange first) {
+        List<Exchange> batch = new ArrayList<>(Math.min(batchSize, 1024));
+        batch.add(first);
+        // take the messages which are available without blocking
+        queue.drainTo(batch, batchSize - 1);
+        batchPending.addAndGet(batch.size());
+        if (batchTimeout > 0 && batch.size() < batchSize) {
+            // wait for more messages to fill up the batch
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchTimeout);
+            long remaining;
+            try {
+                while (batch.size() < batchSize && (remaining = deadline - System.nanoTime()) > 0) {
+                    Exchange exchange = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (exchange == null) {
+                        break;
+                    }
+                    batch.add(exchange);
+                    int drained = queue.drainTo(batch, batchSize - batch.size());
+                    batchPending.addAndGet(1 + drained);
+                }
+            } catch (InterruptedException e) {
+                // the messages have been taken from the queue, so process them before stopping
+                LOG.debug("Poll interrupted, are we stopping? {}", isStopping() || isStopped());
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Drained {} exchanges from queue {}", batch.size(), ObjectHelper.getIdentityHashCode(queue));
+        }
+
+        if (groupExchanges) {
+            batchPending.addAndGet(-batch.size());
+            processGroupedExchange(batch);
+        } else {
+            for (Exchange exchange : batch) {
+                batchPending.decrementAndGet();
+                processExchange(exchange);
+            }
+        }
+    }
+
+    private void processGroupedExchange(List<Exchange> batch) {
+        // the grouped exchange has a single reply, which cannot be the reply of each exchange in the group,
+        // so exchanges that expect a reply are rejected
+        final List<Exchange> grouped = new ArrayList<>(batch.size());
+        for (Exchange exchange : batch) {
+            if (exchange.getPattern().isOutCapable()) {
+                exchange.setException(new CamelExchangeException(
+                        "Cannot reply to an InOut exchange when the consumer is grouping exchanges (groupExchanges=true)",
+                        exchange));
+                UnitOfWorkHelper.doneSynchronizations(exchange, exchange.getExchangeExtension().handoverCompletions());
+            } else {
+                grouped.add(exchange);
+            }
+        }
+        if (grouped.isEmpty()) {
+            return;
+        }
+
+        final Exchange group = createExchange(false);
+        group.getMessage().setBody(grouped);
+        group.setProperty(ExchangePropertyKey.BATCH_SIZE, grouped.size());
+        try {
+            final Exchange prepared = prepareExchange(group);
+            sendToConsumers(prepared, doneSync -> {
+                try {
+                    onProcessingDone(group, prepared);
+                } finally {
+                    doneGroupedExchanges(group, grouped);
+                    releaseExchange(group, false);
+                }
+            });
+        } catch (Exception e) {
+            group.setException(e);
+            getExceptionHandler().handleException("Error processing exchange", group, e);
+            doneGroupedExchanges(group, grouped);
+            releaseExchange(group, false);
+        }
+    }
+
+    private static void doneGroupedExchanges(Exchange group, List<Exchange> batch) {
+        // the exchanges in the group are done when the grouped exchange is done (such as waking up the producers that
+        // wait for the exchanges to complete)
+        for (Exchange exchange : batch) {
+            if (group.getException() != null && exchange.getException() == null) {
+                exchange.setException(group.getException());
+            }
+            UnitOfWorkHelper.doneSynchronizations(exchange, exchange.getExchangeExtension().handoverCompletions());
+        }
+    }
+
     /**
      * Strategy to invoke when the exchange is done being processed.
      * <p/>
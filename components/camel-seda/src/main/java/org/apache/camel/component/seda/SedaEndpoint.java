@@ -99,6 +99,24 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
               description = "The timeout (in milliseconds) used when polling. When a timeout occurs, the consumer can check whether it is"
                             + " allowed to continue running. Setting a lower value allows the consumer to react more quickly upon shutdown.")
     private int pollTimeout = 1000;
+    @UriParam(label = "consumer,advanced", defaultValue = "1",
+              description = "The maximum number of messages each consumer thread takes from the queue at once. When a message is"
+                            + " polled then the consumer drains the messages which are available on the queue up to the batch size,"
+                            + " and processes them without polling the queue for each message. This reduces the contention on the queue"
+                            + " when there are many concurrent producers.")
+    private int batchSize = 1;
+    @UriParam(label = "consumer,advanced", javaType = "java.time.Duration",
+              description = "The time (in milliseconds) to wait for more messages to fill up the batch, when the queue has fewer messages"
+                            + " available than the batch size. By default, the consumer does not wait, and processes the messages"
+                            + " which are available.")
+    private long batchTimeout;
+    @UriParam(label = "consumer,advanced",
+              description = "Whether to group the messages taken from the queue as a single exchange (when batch size is larger than 1)."
+                            + " The grouped exchange has the exchanges as a java.util.List<Exchange> as the message body (the same as the"
+                            + " output of GroupedExchangeAggregationStrategy), which is useful for sending messages in bulk. Each exchange"
+                            + " in the group is completed (or failed) when the grouped exchange is done. Exchanges that expect a reply"
+                            + " (InOut) cannot be grouped, and are failed.")
+    private boolean groupExchanges;
 
     @UriParam(label = "producer", defaultValue = "IfReplyExpected",
               description = "Option to specify whether the caller should wait for the async task to complete or not before continuing. The"
@@ -526,6 +544,51 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         this.pollTimeout = pollTimeout;
     }
 
+    @ManagedAttribute
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The maximum number of messages each consumer thread takes from the queue at once. When a message is polled then
+     * the consumer drains the messages which are available on the queue up to the batch size, and processes them
+     * without polling the queue for each message. This reduces the contention on the queue when there are many
+     * concurrent producers.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @ManagedAttribute
+    public long getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    /**
+     * The time (in milliseconds) to wait for more messages to fill up the batch, when the queue has fewer messages
+     * available than the batch size. By default, the consumer does not wait, and processes the messages which are
+     * available.
+     */
+    public void setBatchTimeout(long batchTimeout) {
+        this.batchTimeout = batchTimeout;
+    }
+
+    @ManagedAttribute
+    public boolean isGroupExchanges() {
+        return groupExchanges;
+    }
+
+    /**
+     * Whether to group the messages taken from the queue as a single exchange (when batch size is larger than 1). The
+     * grouped exchange has the exchanges as a java.util.List<Exchange> as the message body (the same as the output of
+     * GroupedExchangeAggregationStrategy), which is useful for sending messages in bulk. Each exchange in the group is
+     * completed (or failed) when the grouped exchange is done. Exchanges that expect a reply (InOut) cannot be grouped,
+     * and are failed.
+     */
+    public void setGroupExchanges(boolean groupExchanges) {
+        this.groupExchanges = groupExchanges;
+    }
+
     @ManagedAttribute
     public boolean isPurgeWhenStopping() {
         return purgeWhenStopping;
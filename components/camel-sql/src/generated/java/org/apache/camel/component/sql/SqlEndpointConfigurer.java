@@ -36,6 +36,10 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "batch": target.setBatch(property(camelContext, boolean.class, value)); return true;
         case "batchautocommitdisabled":
         case "batchAutoCommitDisabled": target.setBatchAutoCommitDisabled(property(camelContext, boolean.class, value)); return true;
+        case "batchcommitperchunk":
+        case "batchCommitPerChunk": target.setBatchCommitPerChunk(property(camelContext, boolean.class, value)); return true;
+        case "batchsize":
+        case "batchSize": target.setBatchSize(property(camelContext, int.class, value)); return true;
         case "breakbatchonconsumefail":
         case "breakBatchOnConsumeFail": target.setBreakBatchOnConsumeFail(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
@@ -136,6 +140,10 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "batch": return boolean.class;
         case "batchautocommitdisabled":
         case "batchAutoCommitDisabled": return boolean.class;
+        case "batchcommitperchunk":
+        case "batchCommitPerChunk": return boolean.class;
+        case "batchsize":
+        case "batchSize": return int.class;
         case "breakbatchonconsumefail":
         case "breakBatchOnConsumeFail": return boolean.class;
         case "bridgeerrorhandler":
@@ -232,6 +240,10 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "batch": return target.isBatch();
         case "batchautocommitdisabled":
         case "batchAutoCommitDisabled": return target.isBatchAutoCommitDisabled();
+        case "batchcommitperchunk":
+        case "batchCommitPerChunk": return target.isBatchCommitPerChunk();
+        case "batchsize":
+        case "batchSize": return target.getBatchSize();
         case "breakbatchonconsumefail":
         case "breakBatchOnConsumeFail": return target.isBreakBatchOnConsumeFail();
         case "bridgeerrorhandler":
@@ -51,6 +51,12 @@ public class JdbcAggregationRepositoryConfigurer extends org.apache.camel.suppor
         case "transactionManager": target.setTransactionManager(property(camelContext, org.springframework.transaction.PlatformTransactionManager.class, value)); return true;
         case "userecovery":
         case "useRecovery": target.setUseRecovery(property(camelContext, boolean.class, value)); return true;
+        case "writebehind":
+        case "writeBehind": target.setWriteBehind(property(camelContext, boolean.class, value)); return true;
+        case "writebehindbatchsize":
+        case "writeBehindBatchSize": target.setWriteBehindBatchSize(property(camelContext, int.class, value)); return true;
+        case "writebehindflushinterval":
+        case "writeBehindFlushInterval": target.setWriteBehindFlushInterval(property(camelContext, long.class, value)); return true;
         default: return false;
         }
     }
@@ -86,6 +92,12 @@ public class JdbcAggregationRepositoryConfigurer extends org.apache.camel.suppor
         case "transactionManager": return org.springframework.transaction.PlatformTransactionManager.class;
         case "userecovery":
         case "useRecovery": return boolean.class;
+        case "writebehind":
+        case "writeBehind": return boolean.class;
+        case "writebehindbatchsize":
+        case "writeBehindBatchSize": return int.class;
+        case "writebehindflushinterval":
+        case "writeBehindFlushInterval": return long.class;
         default: return null;
         }
     }
@@ -122,6 +134,12 @@ public class JdbcAggregationRepositoryConfigurer extends org.apache.camel.suppor
         case "transactionManager": return target.getTransactionManager();
         case "userecovery":
         case "useRecovery": return target.isUseRecovery();
+        case "writebehind":
+        case "writeBehind": return target.isWriteBehind();
+        case "writebehindbatchsize":
+        case "writeBehindBatchSize": return target.getWriteBehindBatchSize();
+        case "writebehindflushinterval":
+        case "writeBehindFlushInterval": return target.getWriteBehindFlushInterval();
         default: return null;
         }
     }
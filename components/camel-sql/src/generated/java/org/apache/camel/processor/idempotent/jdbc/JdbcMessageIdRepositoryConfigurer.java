@@ -45,6 +45,12 @@ public class JdbcMessageIdRepositoryConfigurer extends org.apache.camel.support.
         case "tableName": target.setTableName(property(camelContext, java.lang.String.class, value)); return true;
         case "transactiontemplate":
         case "transactionTemplate": target.setTransactionTemplate(property(camelContext, org.springframework.transaction.support.TransactionTemplate.class, value)); return true;
+        case "writebehind":
+        case "writeBehind": target.setWriteBehind(property(camelContext, boolean.class, value)); return true;
+        case "writebehindbatchsize":
+        case "writeBehindBatchSize": target.setWriteBehindBatchSize(property(camelContext, int.class, value)); return true;
+        case "writebehindflushinterval":
+        case "writeBehindFlushInterval": target.setWriteBehindFlushInterval(property(camelContext, long.class, value)); return true;
         default: return false;
         }
     }
@@ -74,6 +80,12 @@ public class JdbcMessageIdRepositoryConfigurer extends org.apache.camel.support.
         case "tableName": return java.lang.String.class;
         case "transactiontemplate":
         case "transactionTemplate": return org.springframework.transaction.support.TransactionTemplate.class;
+        case "writebehind":
+        case "writeBehind": return boolean.class;
+        case "writebehindbatchsize":
+        case "writeBehindBatchSize": return int.class;
+        case "writebehindflushinterval":
+        case "writeBehindFlushInterval": return long.class;
         default: return null;
         }
     }
@@ -104,6 +116,12 @@ public class JdbcMessageIdRepositoryConfigurer extends org.apache.camel.support.
         case "tableName": return target.getTableName();
         case "transactiontemplate":
         case "transactionTemplate": return target.getTransactionTemplate();
+        case "writebehind":
+        case "writeBehind": return target.isWriteBehind();
+        case "writebehindbatchsize":
+        case "writeBehindBatchSize": return target.getWriteBehindBatchSize();
+        case "writebehindflushinterval":
+        case "writeBehindFlushInterval": return target.getWriteBehindFlushInterval();
         default: return null;
         }
     }
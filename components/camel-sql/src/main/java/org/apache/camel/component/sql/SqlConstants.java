@@ -79,6 +79,10 @@ public final class SqlConstants {
      */
     @Metadata(label = "producer", javaType = "Iterator")
     public static final String SQL_PARAMETERS = "CamelSqlParameters";
+    @Metadata(label = "producer", description = "The number of chunks the batch was executed in, when using the option\n" +
+                                                "batchSize.",
+              javaType = "Integer")
+    public static final String SQL_BATCH_CHUNK_COUNT = "CamelSqlBatchChunkCount";
 
     private SqlConstants() {
         // Utility class
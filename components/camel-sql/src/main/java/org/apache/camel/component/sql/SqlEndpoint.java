@@ -40,6 +40,12 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
     @UriParam(label = "producer", defaultValue = "true",
               description = "Whether to optimize batch by turning off auto-commit which can dramatic improve performance, and instead execute as a manual commit after the entire batch operation is complete")
     private boolean batchAutoCommitDisabled = true;
+    @UriParam(label = "producer",
+              description = "Whether to commit after each chunk of batchSize rows has been executed, instead of after the entire batch operation is complete. This only applies when batchAutoCommitDisabled is enabled and the exchange is not transacted. This keeps the transaction small, but when a chunk fails then only that chunk is rolled back.")
+    private boolean batchCommitPerChunk;
+    @UriParam(label = "producer",
+              description = "The number of rows to add to the JDBC batch before the batch is executed, when batch is enabled. This allows to stream a large message body, such as an iterator or a stream list from another query, to the database without holding all the rows in memory. By default (0) all the rows are executed as a single JDBC batch.")
+    private int batchSize;
 
     public SqlEndpoint() {
     }
@@ -109,4 +115,30 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
     public void setBatchAutoCommitDisabled(boolean batchAutoCommitDisabled) {
         this.batchAutoCommitDisabled = batchAutoCommitDisabled;
     }
+
+    public boolean isBatchCommitPerChunk() {
+        return batchCommitPerChunk;
+    }
+
+    /**
+     * Whether to commit after each chunk of batchSize rows has been executed, instead of after the entire batch
+     * operation is complete. This only applies when batchAutoCommitDisabled is enabled and the exchange is not
+     * transacted. This keeps the transaction small, but when a chunk fails then only that chunk is rolled back.
+     */
+    public void setBatchCommitPerChunk(boolean batchCommitPerChunk) {
+        this.batchCommitPerChunk = batchCommitPerChunk;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The number of rows to add to the JDBC batch before the batch is executed, when batch is enabled. This allows to
+     * stream a large message body, such as an iterator or a stream list from another query, to the database without
+     * holding all the rows in memory. By default (0) all the rows are executed as a single JDBC batch.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
 }
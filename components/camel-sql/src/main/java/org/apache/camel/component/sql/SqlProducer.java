@@ -25,6 +25,7 @@ import java.sql.Statement;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.support.DefaultProducer;
@@ -53,6 +54,8 @@ public class SqlProducer extends DefaultProducer {
     private final SqlPrepareStatementStrategy sqlPrepareStatementStrategy;
     private final boolean useMessageBodyForSql;
     private final boolean manualCommit;
+    private final int batchSize;
+    private final boolean batchCommitPerChunk;
     private int parametersCount;
 
     public SqlProducer(SqlEndpoint endpoint, String query, JdbcTemplate jdbcTemplate,
@@ -60,6 +63,8 @@ public class SqlProducer extends DefaultProducer {
                        boolean batch, boolean alwaysPopulateStatement, boolean useMessageBodyForSql) {
         super(endpoint);
         this.manualCommit = endpoint.isBatchAutoCommitDisabled();
+        this.batchSize = endpoint.getBatchSize();
+        this.batchCommitPerChunk = endpoint.isBatchCommitPerChunk();
         this.jdbcTemplate = jdbcTemplate;
         this.sqlPrepareStatementStrategy = sqlPrepareStatementStrategy;
         this.query = query;
@@ -154,41 +159,12 @@ public class SqlProducer extends DefaultProducer {
                 Object data = null;
                 ResultSet rs = null;
                 try {
-                    populateStatement(ps, exchange, sql, preparedQuery);
                     boolean isResultSet = false;
-                    boolean restoreAutoCommit = true;
 
                     if (batch) {
-                        if (!exchange.isTransacted() && manualCommit) {
-                            // optimize batch by turning off auto-commit
-                            restoreAutoCommit = ps.getConnection().getAutoCommit();
-                            ps.getConnection().setAutoCommit(false);
-                        }
-                        try {
-                            int[] updateCounts = ps.executeBatch();
-                            int total = 0;
-                            for (int count : updateCounts) {
-                                total += count;
-                            }
-                            exchange.getIn().setHeader(SqlConstants.SQL_UPDATE_COUNT, total);
-                            if (!exchange.isTransacted() && manualCommit) {
-                                // optimize batch by commit after done
-                                ps.getConnection().commit();
-                            }
-                        } catch (Exception e) {
-                            if (!exchange.isTransacted() && manualCommit) {
-                                // we failed so rollback
-                                ps.getConnection().rollback();
-                            }
-                            throw e;
-                        } finally {
-                            if (!exchange.isTransacted() && manualCommit && restoreAutoCommit) {
-                                // restore auto commit on connection as it may be used
-                                // in another kind of query (connection pooling)
-                                ps.getConnection().setAutoCommit(true);
-                            }
-                        }
+                        processBatch(ps, exchange, sql, preparedQuery);
                     } else {
+                        populateStatement(ps, exchange, sql, preparedQuery, null);
                         isResultSet = ps.execute();
                         if (isResultSet) {
 
@@ -237,6 +213,43 @@ public class SqlProducer extends DefaultProducer {
         });
     }
 
+    private void processBatch(PreparedStatement ps, Exchange exchange, String sql, String preparedQuery)
+            throws SQLException {
+        boolean manual = !exchange.isTransacted() && manualCommit;
+        boolean restoreAutoCommit = true;
+        if (manual) {
+            // optimize batch by turning off auto-commit
+            restoreAutoCommit = ps.getConnection().getAutoCommit();
+            ps.getConnection().setAutoCommit(false);
+        }
+        BatchChunks chunks = new BatchChunks(ps, manual && batchCommitPerChunk);
+        try {
+            // the rows are executed in chunks while populating the statement, when using batch size
+            populateStatement(ps, exchange, sql, preparedQuery, chunks);
+            chunks.executeRemaining();
+            exchange.getIn().setHeader(SqlConstants.SQL_UPDATE_COUNT, chunks.total);
+            if (batchSize > 0) {
+                exchange.getIn().setHeader(SqlConstants.SQL_BATCH_CHUNK_COUNT, chunks.count);
+            }
+            if (manual && !chunks.commit) {
+                // optimize batch by commit after done
+                ps.getConnection().commit();
+            }
+        } catch (Exception e) {
+            if (manual) {
+                // we failed so rollback
+                ps.getConnection().rollback();
+            }
+            throw e;
+        } finally {
+            if (manual && restoreAutoCommit) {
+                // restore auto commit on connection as it may be used
+                // in another kind of query (connection pooling)
+                ps.getConnection().setAutoCommit(true);
+            }
+        }
+    }
+
     protected Object processStreamList(
             Exchange exchange, PreparedStatementCreator statementCreator, String sql, String preparedQuery)
             throws Exception {
@@ -253,7 +266,7 @@ public class SqlProducer extends DefaultProducer {
             ps = statementCreator.createPreparedStatement(con);
             ResultSetIterator iterator = null;
 
-            populateStatement(ps, exchange, sql, preparedQuery);
+            populateStatement(ps, exchange, sql, preparedQuery, null);
 
             boolean isResultSet = ps.execute();
             if (isResultSet) {
@@ -274,7 +287,8 @@ public class SqlProducer extends DefaultProducer {
         }
     }
 
-    private void populateStatement(PreparedStatement ps, Exchange exchange, String sql, String preparedQuery)
+    private void populateStatement(
+            PreparedStatement ps, Exchange exchange, String sql, String preparedQuery, BatchChunks chunks)
             throws SQLException {
 
         if (getEndpoint().getFetchSize() > 0) {
@@ -304,7 +318,11 @@ public class SqlProducer extends DefaultProducer {
                     Iterator<?> i = sqlPrepareStatementStrategy.createPopulateIterator(sql, preparedQuery, expected,
                             exchange, value);
                     sqlPrepareStatementStrategy.populateStatement(ps, i, expected);
-                    ps.addBatch();
+                    if (chunks != null) {
+                        chunks.addBatch();
+                    } else {
+                        ps.addBatch();
+                    }
                 }
             } else {
                 Object value;
@@ -323,4 +341,56 @@ public class SqlProducer extends DefaultProducer {
     public void setParametersCount(int parametersCount) {
         this.parametersCount = parametersCount;
     }
+
+    /**
+     * Executes the rows of a JDBC batch in chunks of the batch size, so the rows of the message body are streamed to the
+     * database instead of all being held in the JDBC batch.
+     */
+    private final class BatchChunks {
+
+        private final PreparedStatement ps;
+        private final boolean commit;
+        private int rows;
+        private int count;
+        private int total;
+
+        private BatchChunks(PreparedStatement ps, boolean commit) {
+            this.ps = ps;
+            this.commit = commit;
+        }
+
+        void addBatch() throws SQLException {
+            ps.addBatch();
+            rows++;
+            if (batchSize > 0 && rows >= batchSize) {
+                execute();
+            }
+        }
+
+        void executeRemaining() throws SQLException {
+            // always execute the batch at least once
+            if (rows > 0 || count == 0) {
+                execute();
+            }
+        }
+
+        private void execute() throws SQLException {
+            long start = System.nanoTime();
+            int[] updateCounts = ps.executeBatch();
+            int updated = 0;
+            for (int updateCount : updateCounts) {
+                updated += updateCount;
+            }
+            if (commit) {
+                ps.getConnection().commit();
+            }
+            total += updated;
+            count++;
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Executed batch chunk {} with {} rows and update count {} in {} millis", count, rows, updated,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+            rows = 0;
+        }
+    }
 }
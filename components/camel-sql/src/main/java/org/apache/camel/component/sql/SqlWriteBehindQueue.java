@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Write-behind queue which groups the writes of many concurrent callers together, and writes them to the database in a
+ * single transaction (group commit).
+ * <p/>
+ * A background thread takes the queued writes, and executes them in order in one transaction. The batch is flushed as
+ * soon as the queue is drained, so a single caller is not delayed, and the thread only waits (up to the flush interval,
+ * or until the batch size is hit) while more writes keep arriving. Consecutive updates of the same SQL statement are executed as a single
+ * JDBC batch statement. The callers are blocked until the transaction of their batch has been committed, so a write is
+ * durable when the call returns, as without write-behind.
+ * <p/>
+ * If the transaction of a batch fails, then its writes are executed again one by one, each in its own transaction, so a
+ * failing write only fails its own caller.
+ */
+public class SqlWriteBehindQueue extends ServiceSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SqlWriteBehindQueue.class);
+
+    private final CamelContext camelContext;
+    private final String name;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long flushInterval;
+    private final int batchSize;
+    private final BlockingQueue<Write<?>> queue = new LinkedBlockingQueue<>();
+    private volatile boolean running;
+    private ExecutorService executorService;
+
+    /**
+     * Creates a write-behind queue.
+     *
+     * @param camelContext        the camel context used to create the background thread
+     * @param name                the name used for the background thread
+     * @param jdbcTemplate        the template to execute the batch statements
+     * @param transactionTemplate the template for the transaction of each batch
+     * @param flushInterval       the maximum time in millis a write waits for other writes to join its batch
+     * @param batchSize           the maximum number of writes in a batch
+     */
+    public SqlWriteBehindQueue(CamelContext camelContext, String name, JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate, long flushInterval, int batchSize) {
+        this.camelContext = camelContext;
+        this.name = name;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.flushInterval = flushInterval;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Executes the callback in the transaction of the next batch, and waits until the batch has been committed.
+     *
+     * @param  callback the callback doing the work
+     * @return          the result of the callback
+     */
+    public <T> T execute(TransactionCallback<T> callback) {
+        return submit(new Write<>(callback, null, null));
+    }
+
+    /**
+     * Executes the update statement as part of the next batch, and waits until the batch has been committed.
+     *
+     * @param  sql  the update statement
+     * @param  args the arguments of the statement
+     * @return      the number of rows affected, which may be {@link java.sql.Statement#SUCCESS_NO_INFO} if the JDBC
+     *              driver does not report the counts of a batch
+     */
+    public int update(String sql, Object... args) {
+        Integer answer = submit(new Write<>(null, sql, new ArgumentPreparedStatementSetter(args)));
+        return answer != null ? answer : 0;
+    }
+
+    /**
+     * Number of writes waiting to be executed
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    private <T> T submit(Write<T> write) {
+        if (!running) {
+            throw new IllegalStateException("Write-behind queue " + name + " is not started");
+        }
+        queue.add(write);
+        try {
+            return write.future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeCamelException("Interrupted while waiting for the write to be committed", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeCamelException(cause);
+        }
+    }
+
+    private void run() {
+        List<Write<?>> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Write<?> first = queue.poll(1000, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushInterval);
+                while (batch.size() < batchSize) {
+                    int drained = queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    // flush as soon as the queue is drained, as there are no other writes arriving to join the batch
+                    if (drained == 0 || batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    // more writes are arriving, so wait a short while for the next write to join the batch
+                    Write<?> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+                for (Write<?> write : batch) {
+                    write.future.completeExceptionally(
+                            new RuntimeCamelException("Interrupted while flushing write-behind queue " + name, e));
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Write<?>> batch) {
+        LOG.trace("Flushing batch of {} writes", batch.size());
+        Object[] results;
+        try {
+            results = transactionTemplate.execute(status -> executeBatch(batch, status));
+        } catch (Exception e) {
+            LOG.debug("Error flushing batch of {} writes. Executing the writes one by one. Caused by: {}", batch.size(),
+                    e.getMessage(), e);
+            for (Write<?> write : batch) {
+                try {
+                    write.complete(transactionTemplate.execute(status -> executeOne(write, status)));
+                } catch (Exception ex) {
+                    write.future.completeExceptionally(ex);
+                }
+            }
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).complete(results[i]);
+        }
+    }
+
+    private Object[] executeBatch(List<Write<?>> batch, TransactionStatus status) {
+        Object[] results = new Object[batch.size()];
+        int i = 0;
+        while (i < batch.size()) {
+            Write<?> write = batch.get(i);
+            if (write.sql == null) {
+                results[i] = write.callback.doInTransaction(status);
+                i++;
+                continue;
+            }
+            // consecutive updates of the same statement are executed as one batch statement
+            int end = i + 1;
+            while (end < batch.size() && write.sql.equals(batch.get(end).sql)) {
+                end++;
+            }
+            List<Write<?>> updates = batch.subList(i, end);
+            int[] counts = jdbcTemplate.batchUpdate(write.sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int index) throws SQLException {
+                    updates.get(index).setter.setValues(ps);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return updates.size();
+                }
+            });
+            for (int j = 0; j < counts.length; j++) {
+                results[i + j] = counts[j];
+            }
+            i = end;
+        }
+        return results;
+    }
+
+    private Object executeOne(Write<?> write, TransactionStatus status) {
+        if (write.sql == null) {
+            return write.callback.doInTransaction(status);
+        }
+        return jdbcTemplate.update(write.sql, write.setter);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        running = true;
+        executorService = camelContext.getExecutorServiceManager().newSingleThreadExecutor(this,
+                "SqlWriteBehindQueue[" + name + "]");
+        executorService.execute(this::run);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // the pending writes are flushed before the thread terminates
+        running = false;
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdownGraceful(executorService, Math.max(5000, flushInterval * 2));
+            executorService = null;
+        }
+        Write<?> write;
+        while ((write = queue.poll()) != null) {
+            write.future.completeExceptionally(new IllegalStateException("Write-behind queue " + name + " is stopped"));
+        }
+    }
+
+    private static final class Write<T> {
+        private final TransactionCallback<T> callback;
+        private final String sql;
+        private final PreparedStatementSetter setter;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private Write(TransactionCallback<T> callback, String sql, PreparedStatementSetter setter) {
+            this.callback = callback;
+            this.sql = sql;
+            this.setter = setter;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void complete(Object result) {
+            future.complete((T) result);
+        }
+    }
+}
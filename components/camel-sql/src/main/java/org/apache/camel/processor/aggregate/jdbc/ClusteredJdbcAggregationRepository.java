@@ -68,7 +68,7 @@ public class ClusteredJdbcAggregationRepository extends JdbcAggregationRepositor
 
     @Override
     public void remove(final CamelContext camelContext, final String correlationId, final Exchange exchange) {
-        transactionTemplate.execute(new TransactionCallbackWithoutResult() {
+        executeWrite(new TransactionCallbackWithoutResult() {
             protected void doInTransactionWithoutResult(TransactionStatus status) {
                 final String confirmKey = exchange.getExchangeId();
                 final long version = exchange.getProperty(VERSION_PROPERTY, Long.class);
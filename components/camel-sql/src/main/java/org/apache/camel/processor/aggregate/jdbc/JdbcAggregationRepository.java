@@ -21,6 +21,7 @@ import java.math.BigDecimal;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -31,8 +32,10 @@ import java.util.concurrent.TimeUnit;
 import javax.sql.DataSource;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.component.sql.SqlWriteBehindQueue;
 import org.apache.camel.spi.Configurer;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.OptimisticLockingAggregationRepository;
@@ -67,7 +70,7 @@ import org.springframework.transaction.support.TransactionTemplate;
           annotations = { "interfaceName=org.apache.camel.spi.AggregationRepository" })
 @Configurer(metadataOnly = true)
 public class JdbcAggregationRepository extends ServiceSupport
-        implements RecoverableAggregationRepository, OptimisticLockingAggregationRepository {
+        implements RecoverableAggregationRepository, OptimisticLockingAggregationRepository, CamelContextAware {
 
     protected static final String EXCHANGE = "exchange";
     protected static final String ID = "id";
@@ -122,6 +125,20 @@ public class JdbcAggregationRepository extends ServiceSupport
             = new DefaultJdbcOptimisticLockingExceptionMapper();
     @Metadata(label = "advanced", description = "To use a custom LobHandler")
     private LobHandler lobHandler = new DefaultLobHandler();
+    @Metadata(label = "advanced",
+              description = "Whether to use write-behind, where the writes of concurrent exchanges are grouped together and written to the database"
+                            + " in a single transaction (group commit), using JDBC batch statements where possible. Each write is still only returned"
+                            + " when its batch has been committed. The writes are executed by a background thread and therefore do not participate"
+                            + " in any transaction of the caller.")
+    private boolean writeBehind;
+    @Metadata(label = "advanced", defaultValue = "10",
+              description = "The maximum time in millis a write waits for other writes to join its batch, when using write-behind.")
+    private long writeBehindFlushInterval = 10;
+    @Metadata(label = "advanced", defaultValue = "100",
+              description = "The maximum number of writes in a batch, when using write-behind.")
+    private int writeBehindBatchSize = 100;
+    private SqlWriteBehindQueue writeBehindQueue;
+    private CamelContext camelContext;
 
     /**
      * Creates an aggregation repository
@@ -139,6 +156,16 @@ public class JdbcAggregationRepository extends ServiceSupport
         this.setDataSource(dataSource);
     }
 
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
     /**
      * Sets the name of the repository
      */
@@ -185,7 +212,7 @@ public class JdbcAggregationRepository extends ServiceSupport
 
     @Override
     public Exchange add(final CamelContext camelContext, final String correlationId, final Exchange exchange) {
-        return transactionTemplate.execute(new TransactionCallback<Exchange>() {
+        return executeWrite(new TransactionCallback<Exchange>() {
 
             public Exchange doInTransaction(TransactionStatus status) {
                 Exchange result = null;
@@ -410,7 +437,7 @@ public class JdbcAggregationRepository extends ServiceSupport
 
     @Override
     public void remove(final CamelContext camelContext, final String correlationId, final Exchange exchange) {
-        transactionTemplate.execute(new TransactionCallbackWithoutResult() {
+        executeWrite(new TransactionCallbackWithoutResult() {
             protected void doInTransactionWithoutResult(TransactionStatus status) {
                 final String confirmKey = exchange.getExchangeId();
                 final long version = exchange.getProperty(VERSION_PROPERTY, Long.class);
@@ -437,6 +464,18 @@ public class JdbcAggregationRepository extends ServiceSupport
 
     @Override
     public boolean confirmWithResult(final CamelContext camelContext, final String exchangeId) {
+        if (writeBehindQueue != null) {
+            LOG.debug("Confirming exchangeId {}", exchangeId);
+            // the confirms are executed as a batch statement which may not report the update count
+            final int mustBeOne = writeBehindQueue
+                    .update("DELETE FROM " + getRepositoryNameCompleted() + " WHERE " + ID + " = ?", exchangeId);
+            if (mustBeOne != 1 && mustBeOne != Statement.SUCCESS_NO_INFO) {
+                LOG.error("problem removing row {} from {} - DELETE statement did not return 1 but {}",
+                        exchangeId, getRepositoryNameCompleted(), mustBeOne);
+                return false;
+            }
+            return true;
+        }
         return transactionTemplate.execute(new TransactionCallback<Boolean>() {
             public Boolean doInTransaction(TransactionStatus status) {
                 LOG.debug("Confirming exchangeId {}", exchangeId);
@@ -452,6 +491,16 @@ public class JdbcAggregationRepository extends ServiceSupport
         });
     }
 
+    /**
+     * Executes the write in a transaction, which is grouped together with other writes when using write-behind.
+     */
+    protected <T> T executeWrite(TransactionCallback<T> callback) {
+        if (writeBehindQueue != null) {
+            return writeBehindQueue.execute(callback);
+        }
+        return transactionTemplate.execute(callback);
+    }
+
     @Override
     public Set<String> getKeys() {
         return getKeys(getRepositoryName());
@@ -659,6 +708,43 @@ public class JdbcAggregationRepository extends ServiceSupport
         this.jdbcOptimisticLockingExceptionMapper = jdbcOptimisticLockingExceptionMapper;
     }
 
+    public boolean isWriteBehind() {
+        return writeBehind;
+    }
+
+    /**
+     * Whether to use write-behind, where the writes of concurrent exchanges are grouped together and written to the
+     * database in a single transaction (group commit), using JDBC batch statements where possible. Each write is still
+     * only returned when its batch has been committed. The writes are executed by a background thread and therefore do
+     * not participate in any transaction of the caller.
+     */
+    public void setWriteBehind(boolean writeBehind) {
+        this.writeBehind = writeBehind;
+    }
+
+    public long getWriteBehindFlushInterval() {
+        return writeBehindFlushInterval;
+    }
+
+    /**
+     * The maximum time in millis a write waits for other writes to join its batch, when using write-behind. The default
+     * is 10 millis.
+     */
+    public void setWriteBehindFlushInterval(long writeBehindFlushInterval) {
+        this.writeBehindFlushInterval = writeBehindFlushInterval;
+    }
+
+    public int getWriteBehindBatchSize() {
+        return writeBehindBatchSize;
+    }
+
+    /**
+     * The maximum number of writes in a batch, when using write-behind. The default is 100.
+     */
+    public void setWriteBehindBatchSize(int writeBehindBatchSize) {
+        this.writeBehindBatchSize = writeBehindBatchSize;
+    }
+
     public String getRepositoryName() {
         return repositoryName;
     }
@@ -723,11 +809,23 @@ public class JdbcAggregationRepository extends ServiceSupport
             LOG.info("On startup there are no completed exchanges to be recovered in repository: {}",
                     getRepositoryNameCompleted());
         }
+
+        if (writeBehind) {
+            ObjectHelper.notNull(camelContext, "camelContext", this);
+            LOG.info("Using write-behind with flush interval: {} millis and batch size: {} in repository: {}",
+                    writeBehindFlushInterval, writeBehindBatchSize, getRepositoryName());
+            writeBehindQueue = new SqlWriteBehindQueue(
+                    camelContext, getRepositoryName(), jdbcTemplate, transactionTemplate, writeBehindFlushInterval, writeBehindBatchSize);
+            writeBehindQueue.start();
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
-        // noop
+        if (writeBehindQueue != null) {
+            writeBehindQueue.stop();
+            writeBehindQueue = null;
+        }
     }
 
 }
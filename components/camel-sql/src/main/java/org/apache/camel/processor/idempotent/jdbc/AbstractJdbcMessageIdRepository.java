@@ -18,11 +18,15 @@ package org.apache.camel.processor.idempotent.jdbc;
 
 import javax.sql.DataSource;
 
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
 import org.apache.camel.api.management.ManagedOperation;
 import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.component.sql.SqlWriteBehindQueue;
 import org.apache.camel.spi.IdempotentRepository;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -50,7 +54,8 @@ import org.springframework.transaction.support.TransactionTemplate;
  * pre-configured to use a <tt>String</tt> type.
  */
 @ManagedResource(description = "JDBC IdempotentRepository")
-public abstract class AbstractJdbcMessageIdRepository extends ServiceSupport implements IdempotentRepository {
+public abstract class AbstractJdbcMessageIdRepository extends ServiceSupport
+        implements IdempotentRepository, CamelContextAware {
 
     protected Logger log = LoggerFactory.getLogger(getClass());
 
@@ -62,6 +67,19 @@ public abstract class AbstractJdbcMessageIdRepository extends ServiceSupport imp
     @Metadata(description = "The Spring TransactionTemplate to use for connecting to the database", required = true)
     protected TransactionTemplate transactionTemplate;
     protected DataSource dataSource; // not in use
+    @Metadata(label = "advanced",
+              description = "Whether to use write-behind, where the writes of concurrent exchanges are grouped together and written to the database"
+                            + " in a single transaction (group commit). Each write is still only returned when its batch has been committed."
+                            + " The writes are executed by a background thread and therefore do not participate in any transaction of the caller.")
+    protected boolean writeBehind;
+    @Metadata(label = "advanced", defaultValue = "10",
+              description = "The maximum time in millis a write waits for other writes to join its batch, when using write-behind.")
+    protected long writeBehindFlushInterval = 10;
+    @Metadata(label = "advanced", defaultValue = "100",
+              description = "The maximum number of writes in a batch, when using write-behind.")
+    protected int writeBehindBatchSize = 100;
+    private SqlWriteBehindQueue writeBehindQueue;
+    private CamelContext camelContext;
 
     public AbstractJdbcMessageIdRepository() {
     }
@@ -124,19 +142,41 @@ public abstract class AbstractJdbcMessageIdRepository extends ServiceSupport imp
         return transactionTemplate;
     }
 
+    /**
+     * Executes the write in a transaction, which is grouped together with other writes when using write-behind.
+     */
+    protected <T> T executeWrite(TransactionCallback<T> callback) {
+        if (writeBehindQueue != null) {
+            return writeBehindQueue.execute(callback);
+        }
+        return transactionTemplate.execute(callback);
+    }
+
     @Override
     protected void doStart() throws Exception {
+        if (writeBehind) {
+            ObjectHelper.notNull(camelContext, "camelContext", this);
+            log.info("Using write-behind with flush interval: {} millis and batch size: {} for processor: {}",
+                    writeBehindFlushInterval, writeBehindBatchSize, processorName);
+            writeBehindQueue = new SqlWriteBehindQueue(
+                    camelContext, processorName, jdbcTemplate, transactionTemplate, writeBehindFlushInterval, writeBehindBatchSize);
+            writeBehindQueue.start();
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
+        if (writeBehindQueue != null) {
+            writeBehindQueue.stop();
+            writeBehindQueue = null;
+        }
     }
 
     @ManagedOperation(description = "Adds the key to the store")
     @Override
     public boolean add(final String key) {
         // Run this in single transaction.
-        Boolean rc = transactionTemplate.execute(new TransactionCallback<Boolean>() {
+        Boolean rc = executeWrite(new TransactionCallback<Boolean>() {
             public Boolean doInTransaction(TransactionStatus status) {
                 int count = queryForInt(key);
                 if (count == 0) {
@@ -171,7 +211,7 @@ public abstract class AbstractJdbcMessageIdRepository extends ServiceSupport imp
     @ManagedOperation(description = "Remove the key from the store")
     @Override
     public boolean remove(final String key) {
-        Boolean rc = transactionTemplate.execute(new TransactionCallback<Boolean>() {
+        Boolean rc = executeWrite(new TransactionCallback<Boolean>() {
             public Boolean doInTransaction(TransactionStatus status) {
                 int updateCount = delete(key);
                 if (updateCount == 0) {
@@ -187,7 +227,7 @@ public abstract class AbstractJdbcMessageIdRepository extends ServiceSupport imp
     @ManagedOperation(description = "Clear the store")
     @Override
     public void clear() {
-        transactionTemplate.execute(new TransactionCallback<Boolean>() {
+        executeWrite(new TransactionCallback<Boolean>() {
             public Boolean doInTransaction(TransactionStatus status) {
                 delete();
                 return Boolean.TRUE;
@@ -200,6 +240,16 @@ public abstract class AbstractJdbcMessageIdRepository extends ServiceSupport imp
         return true;
     }
 
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
     public JdbcTemplate getJdbcTemplate() {
         return jdbcTemplate;
     }
@@ -224,6 +274,43 @@ public abstract class AbstractJdbcMessageIdRepository extends ServiceSupport imp
         this.transactionTemplate = transactionTemplate;
     }
 
+    public boolean isWriteBehind() {
+        return writeBehind;
+    }
+
+    /**
+     * Whether to use write-behind, where the writes of concurrent exchanges are grouped together and written to the
+     * database in a single transaction (group commit). Each write is still only returned when its batch has been
+     * committed. The writes are executed by a background thread and therefore do not participate in any transaction of
+     * the caller.
+     */
+    public void setWriteBehind(boolean writeBehind) {
+        this.writeBehind = writeBehind;
+    }
+
+    public long getWriteBehindFlushInterval() {
+        return writeBehindFlushInterval;
+    }
+
+    /**
+     * The maximum time in millis a write waits for other writes to join its batch, when using write-behind. The default
+     * is 10 millis.
+     */
+    public void setWriteBehindFlushInterval(long writeBehindFlushInterval) {
+        this.writeBehindFlushInterval = writeBehindFlushInterval;
+    }
+
+    public int getWriteBehindBatchSize() {
+        return writeBehindBatchSize;
+    }
+
+    /**
+     * The maximum number of writes in a batch, when using write-behind. The default is 100.
+     */
+    public void setWriteBehindBatchSize(int writeBehindBatchSize) {
+        this.writeBehindBatchSize = writeBehindBatchSize;
+    }
+
     public DataSource getDataSource() {
         return dataSource;
     }
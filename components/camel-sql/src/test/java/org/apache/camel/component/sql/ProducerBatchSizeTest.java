@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ProducerBatchSizeTest extends CamelTestSupport {
+
+    private EmbeddedDatabase db;
+    private JdbcTemplate jdbcTemplate;
+
+    public record MyData(int id, String project, String license) {
+    }
+
+    @Override
+    public void doPreSetup() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+                .setName(getClass().getSimpleName())
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("sql/createAndPopulateDatabase.sql").build();
+
+        jdbcTemplate = new JdbcTemplate(db);
+        jdbcTemplate.execute("create table projects_copy (id integer primary key, project varchar(10), license varchar(5))");
+    }
+
+    @Override
+    public void doPostTearDown() throws Exception {
+        if (db != null) {
+            db.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldExecuteBatchInChunks() throws InterruptedException {
+        MockEndpoint mock = getMockEndpoint("mock:insert");
+        mock.expectedMessageCount(1);
+        mock.expectedHeaderReceived(SqlConstants.SQL_UPDATE_COUNT, 25);
+        mock.expectedHeaderReceived(SqlConstants.SQL_BATCH_CHUNK_COUNT, 3);
+
+        Stream<MyData> data = IntStream.range(100, 125).mapToObj(i -> new MyData(i, "Project" + i, "ASF"));
+        template.sendBody("direct:insert", data);
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        assertEquals(28, jdbcTemplate.queryForObject("select count(*) from projects", Integer.class));
+        assertEquals("Project124", jdbcTemplate.queryForObject("select project from projects where id = 124", String.class));
+    }
+
+    @Test
+    public void shouldCommitEachChunk() throws InterruptedException {
+        MockEndpoint mock = getMockEndpoint("mock:insert");
+        mock.expectedMessageCount(0);
+
+        // the second chunk fails due to duplicate key
+        Stream<MyData> data = IntStream.of(100, 101, 1, 103).mapToObj(i -> new MyData(i, "Project" + i, "ASF"));
+        template.send("direct:insertCommitPerChunk", e -> e.getIn().setBody(data));
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        // only the first chunk is committed
+        assertEquals(5, jdbcTemplate.queryForObject("select count(*) from projects", Integer.class));
+    }
+
+    @Test
+    public void shouldCopyStreamList() throws InterruptedException {
+        MockEndpoint mock = getMockEndpoint("mock:copy");
+        mock.expectedMessageCount(1);
+        mock.expectedHeaderReceived(SqlConstants.SQL_UPDATE_COUNT, 3);
+        mock.expectedHeaderReceived(SqlConstants.SQL_BATCH_CHUNK_COUNT, 2);
+
+        template.sendBody("direct:copy", null);
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        assertEquals(3, jdbcTemplate.queryForObject("select count(*) from projects_copy", Integer.class));
+        assertEquals("Linux", jdbcTemplate.queryForObject("select project from projects_copy where id = 3", String.class));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                getContext().getComponent("sql", SqlComponent.class).setDataSource(db);
+
+                from("direct:insert")
+                        .to("sql:insert into projects values " +
+                            "(:#$simple{body.id},:#$simple{body.project},:#$simple{body.license})" +
+                            "?batch=true&batchSize=10")
+                        .to("mock:insert");
+
+                from("direct:insertCommitPerChunk")
+                        .to("sql:insert into projects values " +
+                            "(:#$simple{body.id},:#$simple{body.project},:#$simple{body.license})" +
+                            "?batch=true&batchSize=2&batchCommitPerChunk=true")
+                        .to("mock:insert");
+
+                from("direct:copy")
+                        .to("sql:select * from projects order by id?outputType=StreamList")
+                        .to("sql:insert into projects_copy values (:#id,:#project,:#license)?batch=true&batchSize=2")
+                        .to("mock:copy");
+            }
+        };
+    }
+}
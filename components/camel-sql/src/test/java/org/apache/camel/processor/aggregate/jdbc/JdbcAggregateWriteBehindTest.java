@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate.jdbc;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JdbcAggregateWriteBehindTest extends AbstractJdbcAggregationTestSupport {
+
+    private static final int KEYS = 10;
+    private static final int SIZE = 500;
+
+    @Test
+    public void testWriteBehind() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(KEYS);
+        mock.allMessages().body().isEqualTo(SIZE / KEYS);
+
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        for (int i = 0; i < SIZE; i++) {
+            final String id = "" + i % KEYS;
+            executor.submit(() -> template.sendBodyAndHeader("direct:start", 1, "id", id));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        // all the completed exchanges are confirmed
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertEquals(0, repo.getKeys().size());
+            assertEquals(0, repo.scan(context).size());
+        });
+    }
+
+    @Override
+    void configureJdbcAggregationRepository() {
+        super.configureJdbcAggregationRepository();
+        repo.setWriteBehind(true);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                configureJdbcAggregationRepository();
+
+                // the groups must be aggregated in parallel for the writes to be grouped together
+                from("direct:start")
+                        .aggregate(header("id"), new SumAggregationStrategy())
+                        .aggregationRepository(repo)
+                        .lockStripes(KEYS)
+                        .completionSize(SIZE / KEYS)
+                        .to("mock:result");
+            }
+        };
+    }
+
+    private static class SumAggregationStrategy implements AggregationStrategy {
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            if (oldExchange == null) {
+                return newExchange;
+            }
+            int sum = oldExchange.getIn().getBody(Integer.class) + newExchange.getIn().getBody(Integer.class);
+            oldExchange.getIn().setBody(sum);
+            return oldExchange;
+        }
+    }
+}
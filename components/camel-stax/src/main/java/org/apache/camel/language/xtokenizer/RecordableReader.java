@@ -66,6 +66,13 @@ class RecordableReader extends FilterReader {
         return b;
     }
 
+    /**
+     * Discards the first characters of the recorded text, without turning off recording.
+     */
+    public void discard(int pos) {
+        buf.trim(pos, 0);
+    }
+
     public void record() {
         recording = true;
     }
@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.Serializable;
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -171,6 +172,8 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
     static class XMLTokenIterator implements Iterator<Object>, Closeable {
         private static final Logger LOG = LoggerFactory.getLogger(XMLTokenIterator.class);
         private static final Pattern NAMESPACE_PATTERN = Pattern.compile("xmlns(:\\w+|)\\s*=\\s*('[^']*'|\"[^\"]*\")");
+        // the number of recorded characters of a skipped element before they are discarded
+        private static final int DISCARD_THRESHOLD = 64 * 1024;
 
         private AttributedQName[] splitpath;
         private int index;
@@ -193,15 +196,25 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
         private Object nextToken;
 
         XMLTokenIterator(String path, Map<String, String> nsmap, char mode, int group, Reader in) throws XMLStreamException {
-            final String[] sl = path.substring(1).split("/");
-            this.splitpath = new AttributedQName[sl.length];
-            for (int i = 0; i < sl.length; i++) {
-                String s = sl[i];
+            final List<String> sl = splitPath(path);
+            this.splitpath = new AttributedQName[sl.size()];
+            for (int i = 0; i < sl.size(); i++) {
+                String s = sl.get(i);
                 if (s.length() > 0) {
+                    // the attribute predicates such as [@type='gold'] follow the name
+                    String predicates = null;
+                    int p = s.indexOf('[');
+                    if (p > 0) {
+                        predicates = s.substring(p);
+                        s = s.substring(0, p);
+                    }
                     int d = s.indexOf(':');
                     String pfx = StringHelper.before(s, ":", "");
                     this.splitpath[i] = new AttributedQName(
                             "*".equals(pfx) ? "*" : nsmap == null ? "" : nsmap.get(pfx), d > 0 ? s.substring(d + 1) : s, pfx);
+                    if (predicates != null) {
+                        this.splitpath[i].parsePredicates(predicates, nsmap);
+                    }
                 }
             }
 
@@ -328,6 +341,9 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
         }
 
         private void readCurrent(boolean incl) throws XMLStreamException {
+            // when skipping an element then its text is not needed (except in wrapped mode where the preceding
+            // siblings are part of the token), so discard the recorded text to keep the memory usage low
+            boolean discard = !incl && mode != 'w';
             int d = depth;
             while (d <= depth) {
                 int code = reader.next();
@@ -336,6 +352,11 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
                 } else if (code == XMLStreamConstants.END_ELEMENT) {
                     depth--;
                 }
+                if (discard && in.size() > DISCARD_THRESHOLD) {
+                    int pos = reader.getLocation().getCharacterOffset();
+                    in.discard(pos - consumed);
+                    consumed = pos;
+                }
             }
             // either look ahead to the next token or stay at the end element token
             if (incl) {
@@ -485,7 +506,7 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
                             pushNamespaces(reader);
                         }
                         backtrack = false;
-                        if (current().matches(name)) {
+                        if (current().matches(reader)) {
                             // mark the position of the match in the segments list
                             if (isBottom()) {
                                 // final match
@@ -569,6 +590,41 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
             return null;
         }
 
+        /**
+         * Splits the path into its steps, where an empty step is the descendant-or-self axis (//).
+         */
+        private static List<String> splitPath(String path) {
+            List<String> answer = new ArrayList<>();
+            StringBuilder sb = new StringBuilder();
+            char quote = 0;
+            int brackets = 0;
+            for (int i = 1; i < path.length(); i++) {
+                char c = path.charAt(i);
+                if (quote != 0) {
+                    if (c == quote) {
+                        quote = 0;
+                    }
+                } else if (c == '\'' || c == '"') {
+                    quote = c;
+                } else if (c == '[') {
+                    brackets++;
+                } else if (c == ']') {
+                    brackets--;
+                } else if (c == '/' && brackets == 0) {
+                    answer.add(sb.toString());
+                    sb.setLength(0);
+                    continue;
+                }
+                sb.append(c);
+            }
+            answer.add(sb.toString());
+            // trailing empty steps are ignored
+            while (answer.size() > 1 && answer.get(answer.size() - 1).isEmpty()) {
+                answer.remove(answer.size() - 1);
+            }
+            return answer;
+        }
+
         private static String makeName(QName qname) {
             String pfx = qname.getPrefix();
             return pfx.isEmpty() ? qname.getLocalPart() : qname.getPrefix() + ":" + qname.getLocalPart();
@@ -612,6 +668,7 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
         private static final long serialVersionUID = 9878370226894144L;
         private Pattern lcpattern;
         private boolean nsany;
+        private List<AttributePredicate> predicates;
 
         AttributedQName(String localPart) {
             super(localPart);
@@ -635,6 +692,72 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
                             : getLocalPart().equals(qname.getLocalPart()));
         }
 
+        /**
+         * Whether the current start element of the reader matches the name and the attribute predicates
+         */
+        public boolean matches(XMLStreamReader reader) {
+            if (!matches(reader.getName())) {
+                return false;
+            }
+            if (predicates != null) {
+                for (AttributePredicate predicate : predicates) {
+                    if (!predicate.matches(reader)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Parses attribute predicates such as <tt>[@type='gold']</tt>, <tt>[@c:type="gold"]</tt> or <tt>[@id]</tt>
+         */
+        void parsePredicates(String text, Map<String, String> nsmap) {
+            predicates = new ArrayList<>();
+            int pos = 0;
+            while (pos < text.length()) {
+                if (!text.startsWith("[@", pos)) {
+                    throw new IllegalArgumentException("Invalid predicate: " + text.substring(pos));
+                }
+                int end = -1;
+                char quote = 0;
+                for (int i = pos + 2; i < text.length(); i++) {
+                    char c = text.charAt(i);
+                    if (quote != 0) {
+                        if (c == quote) {
+                            quote = 0;
+                        }
+                    } else if (c == '\'' || c == '"') {
+                        quote = c;
+                    } else if (c == ']') {
+                        end = i;
+                        break;
+                    }
+                }
+                if (end < 0) {
+                    throw new IllegalArgumentException("Invalid predicate: " + text.substring(pos));
+                }
+                String predicate = text.substring(pos + 2, end);
+                String name = predicate;
+                String value = null;
+                int eq = predicate.indexOf('=');
+                if (eq > 0) {
+                    name = predicate.substring(0, eq).trim();
+                    value = StringHelper.removeLeadingAndEndingQuotes(predicate.substring(eq + 1).trim());
+                }
+                // unprefixed attributes are not in a namespace
+                String ns = "";
+                int d = name.indexOf(':');
+                if (d > 0) {
+                    String pfx = name.substring(0, d);
+                    ns = "*".equals(pfx) ? "*" : nsmap == null ? "" : nsmap.getOrDefault(pfx, "");
+                    name = name.substring(d + 1);
+                }
+                predicates.add(new AttributePredicate(ns, name, value));
+                pos = end + 1;
+            }
+        }
+
         private void checkWildcard(String nsa, String lcp) {
             nsany = "*".equals(nsa);
             boolean wc = false;
@@ -668,4 +791,32 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
             }
         }
     }
+
+    /**
+     * Predicate on an attribute of an element, which either must exist or have the given value
+     */
+    static final class AttributePredicate implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private final String namespaceURI;
+        private final String localPart;
+        private final String value;
+
+        AttributePredicate(String namespaceURI, String localPart, String value) {
+            this.namespaceURI = namespaceURI;
+            this.localPart = localPart;
+            this.value = value;
+        }
+
+        boolean matches(XMLStreamReader reader) {
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                if (localPart.equals(reader.getAttributeLocalName(i))) {
+                    String ns = reader.getAttributeNamespace(i);
+                    if ("*".equals(namespaceURI) || namespaceURI.equals(ns == null ? "" : ns)) {
+                        return value == null || value.equals(reader.getAttributeValue(i));
+                    }
+                }
+            }
+            return false;
+        }
+    }
 }
@@ -478,6 +478,57 @@ public class XMLTokenExpressionIteratorTest {
                 'i', new ByteArrayInputStream(TEST_BODY_MIXED_CHILDREN), RESULTS_AUNT_AND_UNCLE);
     }
 
+    @Test
+    public void testExtractChildByAttribute() throws Exception {
+        invokeAndVerify("//C:child[@some_attr='c']", 'i', new ByteArrayInputStream(TEST_BODY),
+                new String[] { RESULTS_CHILD[2] });
+    }
+
+    @Test
+    public void testExtractChildByAttributes() throws Exception {
+        invokeAndVerify("//C:child[@some_attr=\"d\"][@anotherAttr='d']", 'i', new ByteArrayInputStream(TEST_BODY),
+                new String[] { RESULTS_CHILD[3] });
+        invokeAndVerify("//C:child[@some_attr='d'][@anotherAttr='x']", 'i', new ByteArrayInputStream(TEST_BODY),
+                RESULTS_NULL);
+    }
+
+    @Test
+    public void testExtractChildWithAncestorAttribute() throws Exception {
+        invokeAndVerify("/G:greatgrandparent/grandparent/C:parent[@some_attr='2']/C:child", 'i',
+                new ByteArrayInputStream(TEST_BODY), new String[] { RESULTS_CHILD[2], RESULTS_CHILD[3] });
+    }
+
+    @Test
+    public void testExtractParentWithAttribute() throws Exception {
+        invokeAndVerify("//C:parent[@some_attr]", 'i', new ByteArrayInputStream(TEST_BODY), RESULTS_PARENT);
+        invokeAndVerify("//C:parent[@no_attr]", 'i', new ByteArrayInputStream(TEST_BODY), RESULTS_NULL);
+    }
+
+    @Test
+    public void testExtractAttributeValueWithSlash() throws Exception {
+        byte[] body = "<root><item href='a/b'>1</item><item href='a/c'>2</item></root>".getBytes();
+        invokeAndVerify("/root/item[@href='a/c']", 'u', new ByteArrayInputStream(body), new String[] { "2" });
+    }
+
+    @Test
+    public void testSkipLargeElements() throws Exception {
+        // the skipped elements are bigger than the threshold where the recorded text is discarded
+        StringBuilder sb = new StringBuilder("<root>");
+        for (int i = 0; i < 5; i++) {
+            sb.append("<skip>");
+            for (int j = 0; j < 10000; j++) {
+                sb.append("<data>").append(j).append("</data>");
+            }
+            sb.append("</skip>");
+            sb.append("<item id='").append(i).append("'>").append(i).append("</item>");
+        }
+        sb.append("</root>");
+        invokeAndVerify("/root/item[@id='3']", 'i', new ByteArrayInputStream(sb.toString().getBytes()),
+                new String[] { "<item id='3'>3</item>" });
+        invokeAndVerify("/root/item", 't', new ByteArrayInputStream(sb.toString().getBytes()),
+                new String[] { "0", "1", "2", "3", "4" });
+    }
+
     private void invokeAndVerify(String path, char mode, InputStream in, String[] expected) throws Exception {
         XMLTokenExpressionIterator xtei = new XMLTokenExpressionIterator(path, mode);
         xtei.setNamespaces(nsmap);
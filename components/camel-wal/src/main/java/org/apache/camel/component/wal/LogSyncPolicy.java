@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Determines when the entries appended with {@link LogWriter#appendAsync(LogEntry)} are forced to disk. The entries
+ * which are not forced by the policy are forced when the {@link LogSupervisor} of the writer flushes the log.
+ */
+public final class LogSyncPolicy {
+    private final int entryCount;
+    private final long intervalNanos;
+
+    private LogSyncPolicy(int entryCount, long intervalNanos) {
+        this.entryCount = entryCount;
+        this.intervalNanos = intervalNanos;
+    }
+
+    /**
+     * Forces the log to disk after every batch of concurrent appends
+     *
+     * @return the policy
+     */
+    public static LogSyncPolicy perBatch() {
+        return new LogSyncPolicy(1, 0);
+    }
+
+    /**
+     * Forces the log to disk once the given number of entries have been written since the last time it was forced
+     *
+     * @param  entryCount the number of entries
+     * @return            the policy
+     */
+    public static LogSyncPolicy everyEntries(int entryCount) {
+        if (entryCount < 1) {
+            throw new IllegalArgumentException("The entry count must be positive: " + entryCount);
+        }
+        return new LogSyncPolicy(entryCount, 0);
+    }
+
+    /**
+     * Forces the log to disk after a batch of appends if the given interval has elapsed since the last time it was
+     * forced
+     *
+     * @param  interval the interval in milliseconds
+     * @return          the policy
+     */
+    public static LogSyncPolicy everyInterval(long interval) {
+        if (interval < 0) {
+            throw new IllegalArgumentException("The interval must not be negative: " + interval);
+        }
+        return new LogSyncPolicy(0, TimeUnit.MILLISECONDS.toNanos(interval));
+    }
+
+    /**
+     * Whether the log should be forced to disk after a batch of appends
+     *
+     * @param  unsyncedEntries    the number of entries written since the last time the log was forced
+     * @param  nanosSinceLastSync the time elapsed since the last time the log was forced
+     * @return                    true if the log should be forced
+     */
+    boolean shouldSync(int unsyncedEntries, long nanosSinceLastSync) {
+        if (entryCount > 0) {
+            return unsyncedEntries >= entryCount;
+        }
+        return nanosSinceLastSync >= intervalNanos;
+    }
+
+    /**
+     * Whether the log is forced to disk right after every batch of appends
+     *
+     * @return true for the per batch policy
+     */
+    boolean isPerBatch() {
+        return entryCount == 1;
+    }
+
+    @Override
+    public String toString() {
+        if (entryCount == 1) {
+            return "LogSyncPolicy{perBatch}";
+        }
+        if (entryCount > 0) {
+            return "LogSyncPolicy{everyEntries=" + entryCount + "}";
+        }
+        return "LogSyncPolicy{everyInterval=" + TimeUnit.NANOSECONDS.toMillis(intervalNanos) + "ms}";
+    }
+}
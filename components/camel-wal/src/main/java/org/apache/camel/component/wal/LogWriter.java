@@ -22,7 +22,12 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
@@ -33,6 +38,11 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A writer for write-ahead log files
+ * <p/>
+ * Entries appended with {@link #appendAsync(LogEntry)} are written in batches (group commit): the entries appended
+ * concurrently while another thread is writing are written by that thread with a single write, and the log is forced to
+ * disk according to the {@link LogSyncPolicy} of the writer, or by the {@link LogSupervisor}. The returned future
+ * completes once the entry has been forced to disk.
  */
 public final class LogWriter implements AutoCloseable {
     /**
@@ -40,12 +50,19 @@ public final class LogWriter implements AutoCloseable {
      */
     public static final int DEFAULT_CAPACITY = 1024 * 512;
     private static final Logger LOG = LoggerFactory.getLogger(LogWriter.class);
+    private static final int MAX_BATCH_BYTES = 1024 * 1024;
 
     private final Lock lock = new ReentrantLock();
     private final FileChannel fileChannel;
 
     private final LogSupervisor flushPolicy;
+    private final LogSyncPolicy syncPolicy;
     private final TransactionLog transactionLog;
+    private final LogWriterMetrics metrics = new LogWriterMetrics();
+    private final Queue<PendingAppend> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean committing = new AtomicBoolean();
+    private List<PendingAppend> unsynced = new ArrayList<>();
+    private volatile long lastSync = System.nanoTime();
 
     private long startOfRecords;
 
@@ -58,7 +75,21 @@ public final class LogWriter implements AutoCloseable {
      * @throws IOException   in case of I/O errors
      */
     public LogWriter(File logFile, LogSupervisor logSupervisor) throws IOException {
-        this(logFile, logSupervisor, DEFAULT_CAPACITY);
+        this(logFile, logSupervisor, DEFAULT_CAPACITY, null);
+    }
+
+    /**
+     * Constructs a new log writer with the default capacity {@link LogWriter#DEFAULT_CAPACITY} (512 KiB) and a policy
+     * for forcing the entries appended with {@link #appendAsync(LogEntry)} to disk. If the file already exists, it will
+     * be truncated.
+     *
+     * @param  logFile       the transaction log file
+     * @param  logSupervisor the log supervisor {@link LogSupervisor} for the writer
+     * @param  syncPolicy    the policy for forcing the entries to disk (if null, only the supervisor forces them)
+     * @throws IOException   in case of I/O errors
+     */
+    public LogWriter(File logFile, LogSupervisor logSupervisor, LogSyncPolicy syncPolicy) throws IOException {
+        this(logFile, logSupervisor, DEFAULT_CAPACITY, syncPolicy);
     }
 
     /**
@@ -72,6 +103,10 @@ public final class LogWriter implements AutoCloseable {
      * @throws IOException    in case of I/O errors
      */
     LogWriter(File logFile, LogSupervisor logSupervisor, int maxRecordCount) throws IOException {
+        this(logFile, logSupervisor, maxRecordCount, null);
+    }
+
+    LogWriter(File logFile, LogSupervisor logSupervisor, int maxRecordCount, LogSyncPolicy syncPolicy) throws IOException {
         this.fileChannel = FileChannel.open(logFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
                 StandardOpenOption.TRUNCATE_EXISTING);
 
@@ -79,6 +114,7 @@ public final class LogWriter implements AutoCloseable {
         writeHeader(header);
 
         this.flushPolicy = logSupervisor;
+        this.syncPolicy = syncPolicy;
         this.transactionLog = new TransactionLog(maxRecordCount);
         this.flushPolicy.start(this::tryFlush);
     }
@@ -93,27 +129,68 @@ public final class LogWriter implements AutoCloseable {
     }
 
     private void tryFlush() {
-        lock.lock();
         try {
-            flush();
+            sync(takeUnsynced(), true);
         } catch (IOException e) {
             LOG.error("Unable to save record: {}", e.getMessage(), e);
             throw new RuntimeException(e);
+        }
+    }
+
+    private List<PendingAppend> takeUnsynced() {
+        lock.lock();
+        try {
+            if (unsynced.isEmpty()) {
+                return List.of();
+            }
+            List<PendingAppend> answer = unsynced;
+            unsynced = new ArrayList<>();
+            return answer;
         } finally {
             lock.unlock();
         }
     }
 
+    /**
+     * Forces the data to disk (outside the lock, so the appends can continue meanwhile) and completes the appends which
+     * were written before
+     */
+    private void sync(List<PendingAppend> appends, boolean metaData) throws IOException {
+        lastSync = System.nanoTime();
+        try {
+            fileChannel.force(metaData);
+        } catch (IOException e) {
+            appends.forEach(a -> a.future.completeExceptionally(e));
+            throw e;
+        }
+        metrics.onSync();
+        appends.forEach(a -> a.future.complete(a.entryInfo));
+    }
+
+    /**
+     * Gets the throughput metrics of the log file
+     *
+     * @return the metrics
+     */
+    public LogWriterMetrics getMetrics() {
+        return metrics;
+    }
+
     public void reset() throws IOException {
-        fileChannel.truncate(startOfRecords);
-        fileChannel.position(startOfRecords);
+        lock.lock();
+        try {
+            fileChannel.truncate(startOfRecords);
+            fileChannel.position(startOfRecords);
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
     public void close() {
         try {
             flushPolicy.stop();
-            flush();
+            sync(takeUnsynced(), true);
 
             fileChannel.close();
         } catch (IOException e) {
@@ -140,11 +217,136 @@ public final class LogWriter implements AutoCloseable {
      * @throws IOException for lower-level I/O errors
      */
     public EntryInfo.CachedEntryInfo append(LogEntry entry) throws IOException {
-        final TransactionLog.LayerInfo layerInfo = transactionLog.add(entry);
-        if (layerInfo.getLayer() == 0) {
-            return persist(layerInfo, entry);
+        lock.lock();
+        try {
+            metrics.onAppend();
+            final TransactionLog.LayerInfo layerInfo = transactionLog.add(entry);
+            if (layerInfo.getLayer() == 0) {
+                return persist(layerInfo, entry);
+            }
+
+            return appendRollingOver(layerInfo, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends an entry to the transaction log file, batching it with the entries appended concurrently. The calling
+     * thread either writes the batch itself, or leaves it to the thread which is already writing.
+     *
+     * @param  entry the entry to write to the transaction log
+     * @return       a future completed with the metadata for the appended log entry once the entry has been forced to
+     *               disk, or completed exceptionally in case of I/O errors
+     */
+    public CompletableFuture<EntryInfo.CachedEntryInfo> appendAsync(LogEntry entry) {
+        return appendAsync(entry, true);
+    }
+
+    /**
+     * Appends an entry to the transaction log file, batching it with the entries appended concurrently. The calling
+     * thread either writes the batch itself, or leaves it to the thread which is already writing.
+     *
+     * @param  entry       the entry to write to the transaction log
+     * @param  waitForSync whether the returned future completes once the entry has been forced to disk, or as soon as
+     *                     it has been written (leaving it to the sync policy or the supervisor to force it to disk)
+     * @return             a future completed with the metadata for the appended log entry, or completed exceptionally
+     *                     in case of I/O errors
+     */
+    public CompletableFuture<EntryInfo.CachedEntryInfo> appendAsync(LogEntry entry, boolean waitForSync) {
+        final PendingAppend append = new PendingAppend(entry);
+        pending.add(append);
+
+        // the thread which wins the flag writes the batch; the loop re-checks for appends added while releasing it
+        while (!pending.isEmpty() && committing.compareAndSet(false, true)) {
+            try {
+                commitPending();
+            } finally {
+                committing.set(false);
+            }
+        }
+
+        return waitForSync ? append.future : append.written;
+    }
+
+    private void commitPending() {
+        List<PendingAppend> toSync = null;
+
+        lock.lock();
+        try {
+            List<PendingAppend> batch = new ArrayList<>();
+            int batchBytes = 0;
+            PendingAppend append;
+            while (batchBytes < MAX_BATCH_BYTES && (append = pending.poll()) != null) {
+                batch.add(append);
+                batchBytes += append.entry.size();
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                writeBatch(batch, batchBytes);
+            } catch (IOException | RuntimeException e) {
+                LOG.error("Unable to append {} records: {}", batch.size(), e.getMessage(), e);
+                batch.forEach(a -> {
+                    a.written.completeExceptionally(e);
+                    a.future.completeExceptionally(e);
+                });
+                return;
+            }
+
+            metrics.onBatch(batch.size());
+            batch.forEach(a -> a.written.complete(a.entryInfo));
+            unsynced.addAll(batch);
+            if (syncPolicy != null && syncPolicy.shouldSync(unsynced.size(), System.nanoTime() - lastSync)) {
+                toSync = unsynced;
+                unsynced = new ArrayList<>();
+            }
+        } finally {
+            lock.unlock();
         }
 
+        if (toSync != null) {
+            try {
+                sync(toSync, false);
+            } catch (IOException e) {
+                LOG.error("Unable to force the records to disk: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Writes a batch of entries with a single write, unless an entry rolls-over the transaction log
+     */
+    private void writeBatch(List<PendingAppend> batch, int batchBytes) throws IOException {
+        ByteBuffer batchBuffer = ByteBuffer.allocate(batchBytes);
+        long position = fileChannel.position();
+
+        for (PendingAppend append : batch) {
+            metrics.onAppend();
+            final TransactionLog.LayerInfo layerInfo = transactionLog.add(append.entry);
+            if (layerInfo.getLayer() == 0) {
+                append.entryInfo = EntryInfo.createForCached(position + batchBuffer.position(), layerInfo);
+                IOUtil.serialize(batchBuffer, append.entry);
+            } else {
+                writeBuffer(batchBuffer);
+                append.entryInfo = appendRollingOver(layerInfo, append.entry);
+                position = fileChannel.position();
+            }
+        }
+
+        writeBuffer(batchBuffer);
+    }
+
+    private void writeBuffer(ByteBuffer buffer) throws IOException {
+        if (buffer.position() > 0) {
+            metrics.onWrite(IOUtil.write(fileChannel, buffer));
+        }
+    }
+
+    private EntryInfo.CachedEntryInfo appendRollingOver(TransactionLog.LayerInfo layerInfo, LogEntry entry)
+            throws IOException {
         if (layerInfo.isRollingOver()) {
             reset();
         }
@@ -187,6 +389,7 @@ public final class LogWriter implements AutoCloseable {
         }
 
         long size = IOUtil.write(fileChannel, updateBuffer, position);
+        metrics.onWrite(size);
 
         if (size == 0) {
             LOG.warn("No bytes written for the given record!");
@@ -209,7 +412,7 @@ public final class LogWriter implements AutoCloseable {
         IOUtil.serialize(writeBuffer, entry);
 
         long recordPosition = fileChannel.position();
-        IOUtil.write(fileChannel, writeBuffer);
+        metrics.onWrite(IOUtil.write(fileChannel, writeBuffer));
 
         return EntryInfo.createForCached(recordPosition, layerInfo);
     }
@@ -247,10 +450,15 @@ public final class LogWriter implements AutoCloseable {
          */
         assert layerInfo != null;
 
-        final LogEntry logEntry = transactionLog.update(layerInfo, state);
+        lock.lock();
+        try {
+            final LogEntry logEntry = transactionLog.update(layerInfo, state);
 
-        if (logEntry != null) {
-            persist(layerInfo, logEntry, entryInfo.getPosition());
+            if (logEntry != null) {
+                persist(layerInfo, logEntry, entryInfo.getPosition());
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -274,10 +482,24 @@ public final class LogWriter implements AutoCloseable {
         }
 
         long size = IOUtil.write(fileChannel, updateBuffer, entryInfo.getPosition());
+        metrics.onWrite(size);
 
         if (size == 0) {
             LOG.warn("No bytes written for the given record!");
         }
     }
 
+    /**
+     * An entry appended with {@link #appendAsync(LogEntry)}, waiting to be written and forced to disk
+     */
+    private static final class PendingAppend {
+        private final LogEntry entry;
+        private final CompletableFuture<EntryInfo.CachedEntryInfo> written = new CompletableFuture<>();
+        private final CompletableFuture<EntryInfo.CachedEntryInfo> future = new CompletableFuture<>();
+        private EntryInfo.CachedEntryInfo entryInfo;
+
+        private PendingAppend(LogEntry entry) {
+            this.entry = entry;
+        }
+    }
 }
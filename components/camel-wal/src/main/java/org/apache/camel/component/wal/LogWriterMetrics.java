@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput metrics for the log file of a {@link LogWriter}
+ */
+public final class LogWriterMetrics {
+    private final long startTime = System.nanoTime();
+    private final LongAdder appends = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchedAppends = new LongAdder();
+    private final LongAccumulator maxBatchSize = new LongAccumulator(Math::max, 0);
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder syncs = new LongAdder();
+
+    LogWriterMetrics() {
+    }
+
+    void onAppend() {
+        appends.increment();
+    }
+
+    void onBatch(int size) {
+        batches.increment();
+        batchedAppends.add(size);
+        maxBatchSize.accumulate(size);
+    }
+
+    void onWrite(long bytes) {
+        bytesWritten.add(bytes);
+    }
+
+    void onSync() {
+        syncs.increment();
+    }
+
+    /**
+     * Gets the number of entries appended to the log
+     */
+    public long getAppendCount() {
+        return appends.sum();
+    }
+
+    /**
+     * Gets the number of batches written by {@link LogWriter#appendAsync(LogEntry)}
+     */
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    /**
+     * Gets the average number of entries per batch written by {@link LogWriter#appendAsync(LogEntry)}
+     */
+    public double getAverageBatchSize() {
+        long count = batches.sum();
+        return count == 0 ? 0 : (double) batchedAppends.sum() / count;
+    }
+
+    /**
+     * Gets the largest number of entries written in one batch by {@link LogWriter#appendAsync(LogEntry)}
+     */
+    public long getMaxBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    /**
+     * Gets the number of bytes written to the log (including the updates of the entry states)
+     */
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    /**
+     * Gets the number of times the log was forced to disk
+     */
+    public long getSyncCount() {
+        return syncs.sum();
+    }
+
+    /**
+     * Gets the number of entries appended per second since the log was opened
+     */
+    public double getAppendRate() {
+        return perSecond(appends.sum());
+    }
+
+    /**
+     * Gets the number of bytes written per second since the log was opened
+     */
+    public double getByteRate() {
+        return perSecond(bytesWritten.sum());
+    }
+
+    private double perSecond(long count) {
+        long elapsed = System.nanoTime() - startTime;
+        return elapsed <= 0 ? 0 : count * 1_000_000_000.0 / elapsed;
+    }
+
+    @Override
+    public String toString() {
+        return "LogWriterMetrics{" +
+               "appends=" + getAppendCount() +
+               ", batches=" + getBatchCount() +
+               ", averageBatchSize=" + getAverageBatchSize() +
+               ", maxBatchSize=" + getMaxBatchSize() +
+               ", bytesWritten=" + getBytesWritten() +
+               ", syncs=" + getSyncCount() +
+               '}';
+    }
+}
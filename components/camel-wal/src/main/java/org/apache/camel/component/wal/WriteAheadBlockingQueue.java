@@ -0,0 +1,844 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.component.wal.exceptions.InvalidRecordException;
+import org.apache.camel.spi.Synchronization;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultExchangeHolder;
+import org.apache.camel.support.SynchronizationAdapter;
+import org.apache.camel.support.UnitOfWorkHelper;
+import org.apache.camel.util.ClassLoadingAwareObjectInputStream;
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link BlockingQueue} of exchanges that is backed by segmented, append-only write-ahead log files.
+ * <p/>
+ * Every exchange offered to the queue is appended to the current segment (using the same record format as the
+ * {@link LogWriter}) before the offer returns. Only a window of exchanges is kept in memory: once the window is full,
+ * the exchanges are kept on disk only and are read back when the window has been consumed. The on completions of an
+ * exchange which is kept on disk only (such as the on completions handed over by the SEDA producer, which for example
+ * commit the file or JMS message consumed upstream) are kept in memory, and are added to the exchange read back from
+ * disk, so they are run when the exchange is done, the same as for exchanges in the window. An exchange taken from the
+ * queue is marked as processed (or failed) in its segment when the exchange is done, and segments without pending
+ * entries are deleted. When the queue is created again, the entries which were not processed are replayed in the order
+ * they were appended.
+ * <p/>
+ * Concurrent producers share the cost of forcing the data to disk: a producer which is waiting to force the segment
+ * finds its data already forced if another producer has forced the segment in the meantime (group commit).
+ */
+public class WriteAheadBlockingQueue extends AbstractQueue<Exchange> implements BlockingQueue<Exchange> {
+    static final String SEGMENT_PREFIX = "segment-";
+    static final String SEGMENT_SUFFIX = ".wal";
+    static final int VALUE_METADATA_SERIALIZED = 1;
+
+    private static final Logger LOG = LoggerFactory.getLogger(WriteAheadBlockingQueue.class);
+
+    private final Lock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Lock syncLock = new ReentrantLock();
+
+    private final CamelContext camelContext;
+    private final File directory;
+    private final int capacity;
+    private final int windowSize;
+    private final long maxSegmentSize;
+    private final boolean sync;
+    private final boolean allowSerializedHeaders;
+    private final String deserializationFilter;
+
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    private final ArrayDeque<Entry> window = new ArrayDeque<>();
+    // the on completions of the exchanges which are only on disk, by exchange id
+    private final Map<String, List<Synchronization>> diskOnlyCompletions = new HashMap<>();
+    // the on completions of the discarded entries, which are run once the lock is released
+    private final List<Runnable> discardedCompletions = new ArrayList<>();
+    private ByteBuffer writeBuffer = ByteBuffer.allocate(4096);
+    private Segment writeSegment;
+    // the position of the first entry which is only on disk (if any)
+    private Segment readSegment;
+    private long readPosition;
+    // the number of entries which are only on disk
+    private int diskOnly;
+    private int count;
+    private long appended;
+    private volatile long synced;
+    private volatile boolean closed;
+
+    WriteAheadBlockingQueue(CamelContext camelContext, File directory, int capacity, int windowSize, long maxSegmentSize,
+                            boolean sync, boolean allowSerializedHeaders, String deserializationFilter) {
+        this.camelContext = camelContext;
+        this.directory = directory;
+        this.capacity = capacity;
+        this.windowSize = windowSize;
+        this.maxSegmentSize = maxSegmentSize;
+        this.sync = sync;
+        this.allowSerializedHeaders = allowSerializedHeaders;
+        this.deserializationFilter = deserializationFilter;
+    }
+
+    /**
+     * Opens the segments from the directory and prepares the entries which were not processed to be replayed
+     *
+     * @throws IOException in case of I/O errors
+     */
+    void open() throws IOException {
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Unable to create the queue directory " + directory);
+        }
+
+        File[] files = directory.listFiles((dir, name) -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX));
+        if (files != null) {
+            for (File file : files) {
+                String id = file.getName().substring(SEGMENT_PREFIX.length(),
+                        file.getName().length() - SEGMENT_SUFFIX.length());
+                Segment segment = Segment.open(file, Long.parseLong(id));
+                segments.put(segment.id, segment);
+                count += segment.outstanding;
+            }
+        }
+
+        for (Segment segment : new ArrayList<>(segments.values())) {
+            if (segment != segments.lastEntry().getValue()) {
+                segment.sealed = true;
+                releaseIfDone(segment);
+            }
+        }
+
+        if (segments.isEmpty() || segments.lastEntry().getValue().size >= maxSegmentSize) {
+            roll();
+        } else {
+            writeSegment = segments.lastEntry().getValue();
+        }
+
+        diskOnly = count;
+        if (count > 0) {
+            readSegment = segments.firstEntry().getValue();
+            readPosition = Header.BYTES;
+            LOG.info("Replaying {} pending exchanges from {}", count, directory);
+        }
+    }
+
+    /**
+     * Closes the segments. Exchanges which were taken from the queue but are not done yet are replayed when the queue
+     * is opened again.
+     */
+    void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (Segment segment : segments.values()) {
+                segment.close(segment == writeSegment && sync);
+            }
+            segments.clear();
+            window.clear();
+            diskOnlyCompletions.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * The number of segment files currently used by the queue
+     */
+    public int getSegmentCount() {
+        lock.lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(Exchange exchange) {
+        try {
+            return enqueue(exchange, true, 0);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public boolean offer(Exchange exchange, long timeout, TimeUnit unit) throws InterruptedException {
+        return enqueue(exchange, true, unit.toNanos(timeout));
+    }
+
+    @Override
+    public void put(Exchange exchange) throws InterruptedException {
+        enqueue(exchange, false, 0);
+    }
+
+    @Override
+    public Exchange poll() {
+        lock.lock();
+        try {
+            return count > 0 ? dequeue() : null;
+        } finally {
+            unlockAndRunDiscardedCompletions();
+        }
+    }
+
+    @Override
+    public Exchange poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            unlockAndRunDiscardedCompletions();
+        }
+    }
+
+    @Override
+    public Exchange take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            unlockAndRunDiscardedCompletions();
+        }
+    }
+
+    @Override
+    public Exchange peek() {
+        lock.lock();
+        try {
+            if (count == 0) {
+                return null;
+            }
+            fill();
+            return window.isEmpty() ? null : window.peekFirst().exchange;
+        } finally {
+            unlockAndRunDiscardedCompletions();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super Exchange> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super Exchange> c, int maxElements) {
+        if (c == this) {
+            throw new IllegalArgumentException("Cannot drain a queue into itself");
+        }
+        lock.lock();
+        try {
+            int n = 0;
+            while (n < maxElements && count > 0) {
+                Exchange exchange = dequeue();
+                if (exchange == null) {
+                    break;
+                }
+                c.add(exchange);
+                n++;
+            }
+            return n;
+        } finally {
+            unlockAndRunDiscardedCompletions();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        lock.lock();
+        try {
+            // only the exchanges in the memory window can be removed
+            Iterator<Entry> it = window.iterator();
+            while (it.hasNext()) {
+                Entry entry = it.next();
+                if (entry.exchange == o) {
+                    it.remove();
+                    count--;
+                    done(entry, LogEntry.EntryState.IGNORED);
+                    notFull.signal();
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all the exchanges from the queue, marking their entries as ignored
+     */
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            while (count > 0) {
+                fill();
+                Entry entry = window.pollFirst();
+                if (entry == null) {
+                    break;
+                }
+                count--;
+                done(entry, LogEntry.EntryState.IGNORED);
+            }
+            notFull.signalAll();
+        } finally {
+            unlockAndRunDiscardedCompletions();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacity - count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Iterates over a snapshot of the exchanges in the memory window. Exchanges which are only on disk are not
+     * included.
+     */
+    @Override
+    public Iterator<Exchange> iterator() {
+        lock.lock();
+        try {
+            List<Exchange> answer = new ArrayList<>(window.size());
+            for (Entry entry : window) {
+                answer.add(entry.exchange);
+            }
+            return answer.iterator();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean enqueue(Exchange exchange, boolean timed, long nanos) throws InterruptedException {
+        if (exchange == null) {
+            throw new NullPointerException();
+        }
+
+        // serialize outside the lock so producers only contend on appending to the segment
+        byte[] key = exchange.getExchangeId().getBytes(StandardCharsets.UTF_8);
+        byte[] value = serialize(exchange);
+
+        long sequence;
+        Segment segment;
+        lock.lockInterruptibly();
+        try {
+            while (count >= capacity) {
+                if (!timed) {
+                    notFull.await();
+                } else if (nanos <= 0) {
+                    return false;
+                } else {
+                    nanos = notFull.awaitNanos(nanos);
+                }
+            }
+            if (closed) {
+                throw new IllegalStateException("The queue at " + directory + " is closed");
+            }
+
+            segment = writeSegment;
+            long position = append(key, value);
+            if (diskOnly == 0 && window.size() < windowSize) {
+                window.addLast(new Entry(exchange, segment, position));
+            } else {
+                if (diskOnly++ == 0) {
+                    readSegment = segment;
+                    readPosition = position;
+                }
+                // only the data of the exchange is kept on disk, so keep its on completions until it is read back
+                List<Synchronization> completions = exchange.getExchangeExtension().handoverCompletions();
+                if (completions != null) {
+                    diskOnlyCompletions.put(exchange.getExchangeId(), completions);
+                }
+            }
+            count++;
+            sequence = ++appended;
+            notEmpty.signal();
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Unable to append the exchange to the queue at " + directory, e);
+        } finally {
+            lock.unlock();
+        }
+
+        if (sync) {
+            force(sequence, segment);
+        }
+        return true;
+    }
+
+    private long append(byte[] key, byte[] value) throws IOException {
+        int size = LogEntry.size(key, value);
+        if (writeBuffer.capacity() < size) {
+            writeBuffer = ByteBuffer.allocate(Math.max(size, writeBuffer.capacity() * 2));
+        }
+        IOUtil.serialize(writeBuffer, LogEntry.EntryState.NEW.getCode(), 0, key, VALUE_METADATA_SERIALIZED, value);
+
+        long position = writeSegment.append(writeBuffer);
+        writeSegment.outstanding++;
+        if (writeSegment.size >= maxSegmentSize) {
+            roll();
+        }
+        return position;
+    }
+
+    /**
+     * Forces the segment to disk, unless another producer has already forced the data up to the given sequence
+     */
+    private void force(long sequence, Segment segment) {
+        if (synced >= sequence) {
+            return;
+        }
+
+        syncLock.lock();
+        try {
+            if (synced >= sequence) {
+                return;
+            }
+
+            long target;
+            lock.lock();
+            try {
+                target = appended;
+                if (segment.sealed) {
+                    // the segment has been forced when it was rolled
+                    segment = writeSegment;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                segment.channel.force(false);
+            } catch (ClosedChannelException e) {
+                if (!segment.sealed && !closed) {
+                    throw new RuntimeCamelException("Unable to force the queue segment " + segment.file + " to disk", e);
+                }
+            } catch (IOException e) {
+                throw new RuntimeCamelException("Unable to force the queue segment " + segment.file + " to disk", e);
+            }
+            synced = target;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void roll() throws IOException {
+        long id = 1;
+        if (writeSegment != null) {
+            if (sync) {
+                writeSegment.channel.force(false);
+            }
+            writeSegment.sealed = true;
+            id = writeSegment.id + 1;
+        } else if (!segments.isEmpty()) {
+            id = segments.lastKey() + 1;
+        }
+
+        Segment previous = writeSegment;
+        writeSegment = Segment.create(new File(directory, SEGMENT_PREFIX + id + SEGMENT_SUFFIX), id);
+        segments.put(id, writeSegment);
+        if (previous != null) {
+            releaseIfDone(previous);
+        }
+    }
+
+    private Exchange dequeue() {
+        fill();
+        Entry entry = window.pollFirst();
+        if (entry == null) {
+            return null;
+        }
+        count--;
+        notFull.signal();
+
+        entry.exchange.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
+            @Override
+            public void onComplete(Exchange exchange) {
+                acknowledge(entry, LogEntry.EntryState.PROCESSED);
+            }
+
+            @Override
+            public void onFailure(Exchange exchange) {
+                acknowledge(entry, LogEntry.EntryState.FAILED);
+            }
+        });
+        return entry.exchange;
+    }
+
+    /**
+     * Reads the next entries which are only on disk into the memory window, once the window has been consumed
+     */
+    private void fill() {
+        if (!window.isEmpty()) {
+            return;
+        }
+
+        while (diskOnly > 0 && window.size() < windowSize) {
+            if (readPosition >= readSegment.size) {
+                Segment previous = readSegment;
+                readSegment = segments.higherEntry(previous.id).getValue();
+                readPosition = Header.BYTES;
+                releaseIfDone(previous);
+                continue;
+            }
+
+            Segment segment = readSegment;
+            long position = readPosition;
+            PersistedLogEntry record;
+            try {
+                record = segment.read(position);
+            } catch (IOException e) {
+                throw new RuntimeCamelException("Unable to read from the queue segment " + segment.file, e);
+            }
+            readPosition += record.size();
+            if (record.getEntryState() != LogEntry.EntryState.NEW) {
+                continue;
+            }
+
+            diskOnly--;
+            List<Synchronization> completions
+                    = diskOnlyCompletions.remove(new String(record.getKey(), StandardCharsets.UTF_8));
+            Exchange exchange;
+            try {
+                exchange = deserialize(record.getValue());
+            } catch (Exception e) {
+                LOG.warn("Discarding the entry at position {} of {} as it cannot be read: {}", position, segment.file,
+                        e.getMessage(), e);
+                count--;
+                notFull.signal();
+                done(new Entry(null, segment, position), LogEntry.EntryState.FAILED);
+                if (completions != null) {
+                    Exchange failed = new DefaultExchange(camelContext);
+                    failed.setException(e);
+                    discardedCompletions.add(() -> UnitOfWorkHelper.doneSynchronizations(failed, completions));
+                }
+                continue;
+            }
+            if (completions != null) {
+                for (Synchronization completion : completions) {
+                    exchange.getExchangeExtension().addOnCompletion(completion);
+                }
+            }
+            window.addLast(new Entry(exchange, segment, position));
+        }
+
+        if (diskOnly == 0 && readSegment != null) {
+            Segment previous = readSegment;
+            readSegment = null;
+            releaseIfDone(previous);
+        }
+    }
+
+    /**
+     * Releases the lock, and then runs the on completions of the entries discarded meanwhile, so the callbacks cannot
+     * stall the producers and consumers of the queue
+     */
+    private void unlockAndRunDiscardedCompletions() {
+        List<Runnable> completions = null;
+        if (!discardedCompletions.isEmpty()) {
+            completions = new ArrayList<>(discardedCompletions);
+            discardedCompletions.clear();
+        }
+        lock.unlock();
+        if (completions != null) {
+            completions.forEach(Runnable::run);
+        }
+    }
+
+    private void acknowledge(Entry entry, LogEntry.EntryState state) {
+        lock.lock();
+        try {
+            if (closed) {
+                LOG.debug("The queue at {} is closed: exchange {} will be replayed", directory,
+                        entry.exchange.getExchangeId());
+                return;
+            }
+            done(entry, state);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void done(Entry entry, LogEntry.EntryState state) {
+        try {
+            entry.segment.updateState(entry.position, state);
+        } catch (IOException e) {
+            LOG.warn("Unable to update the state of the entry at position {} of {}: {}", entry.position, entry.segment.file,
+                    e.getMessage(), e);
+        }
+        entry.segment.outstanding--;
+        releaseIfDone(entry.segment);
+    }
+
+    private void releaseIfDone(Segment segment) {
+        if (segment.sealed && segment.outstanding == 0 && segment != readSegment) {
+            segments.remove(segment.id);
+            segment.close(false);
+            if (!segment.file.delete()) {
+                LOG.warn("Unable to delete the queue segment {}", segment.file);
+            }
+        }
+    }
+
+    private byte[] serialize(Exchange exchange) {
+        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(exchange, true, allowSerializedHeaders);
+        ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOut = new ObjectOutputStream(bytesOut)) {
+            objectOut.writeObject(holder);
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Unable to serialize exchange " + exchange.getExchangeId(), e);
+        }
+        return bytesOut.toByteArray();
+    }
+
+    private Exchange deserialize(byte[] value) throws IOException, ClassNotFoundException {
+        ObjectInputStream objectIn = null;
+        try {
+            objectIn = new ClassLoadingAwareObjectInputStream(
+                    camelContext.getApplicationContextClassLoader(), new ByteArrayInputStream(value));
+            objectIn.setObjectInputFilter(ObjectInputFilter.Config.createFilter(deserializationFilter));
+            DefaultExchangeHolder holder = (DefaultExchangeHolder) objectIn.readObject();
+
+            Exchange answer = new DefaultExchange(camelContext);
+            DefaultExchangeHolder.unmarshal(answer, holder);
+            return answer;
+        } finally {
+            IOHelper.close(objectIn);
+        }
+    }
+
+    /**
+     * An exchange in the memory window (or taken from the queue) and the location of its entry
+     */
+    private record Entry(Exchange exchange, Segment segment, long position) {
+    }
+
+    /**
+     * A segment file of the queue
+     */
+    private static final class Segment {
+        private final long id;
+        private final File file;
+        private final FileChannel channel;
+        private final ByteBuffer stateBuffer = ByteBuffer.allocate(Integer.BYTES);
+        private long size;
+        // the number of entries which are not processed yet
+        private int outstanding;
+        private boolean sealed;
+
+        private Segment(long id, File file, FileChannel channel) {
+            this.id = id;
+            this.file = file;
+            this.channel = channel;
+        }
+
+        static Segment create(File file, long id) throws IOException {
+            FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            Segment segment = new Segment(id, file, channel);
+
+            ByteBuffer headerBuffer = ByteBuffer.allocate(Header.BYTES);
+            headerBuffer.put(Header.WA_DEFAULT_V1.getFormatName().getBytes());
+            headerBuffer.putInt(Header.WA_DEFAULT_V1.getFileVersion());
+            segment.size = IOUtil.write(channel, headerBuffer, 0);
+            return segment;
+        }
+
+        /**
+         * Opens an existing segment, counting its pending entries. An incomplete record at the end of the segment (ie.
+         * from a crash while it was being appended) is truncated.
+         */
+        static Segment open(File file, long id) throws IOException {
+            FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+            Segment segment = new Segment(id, file, channel);
+
+            ByteBuffer headerBuffer = ByteBuffer.allocate(Header.BYTES);
+            if (channel.read(headerBuffer, 0) < Header.BYTES) {
+                // not even the header made it to disk
+                segment.size = Header.BYTES;
+                segment.writeHeader();
+                return segment;
+            }
+            String formatName = new String(headerBuffer.array(), 0, Header.FORMAT_NAME_SIZE);
+            if (!Header.FORMAT_NAME.equals(formatName)) {
+                channel.close();
+                throw new IOException("The file " + file + " is not a valid write-ahead log segment");
+            }
+
+            long position = Header.BYTES;
+            long fileSize = channel.size();
+            while (position < fileSize) {
+                try {
+                    PersistedLogEntry record = segment.read(position);
+                    if (record.getEntryState() == LogEntry.EntryState.NEW) {
+                        segment.outstanding++;
+                    }
+                    position += record.size();
+                } catch (InvalidRecordException | IllegalArgumentException e) {
+                    LOG.warn("Truncating the queue segment {} at position {} due to an incomplete record: {}", file, position,
+                            e.getMessage());
+                    channel.truncate(position);
+                    break;
+                }
+            }
+            segment.size = position;
+            return segment;
+        }
+
+        private void writeHeader() throws IOException {
+            ByteBuffer headerBuffer = ByteBuffer.allocate(Header.BYTES);
+            headerBuffer.put(Header.WA_DEFAULT_V1.getFormatName().getBytes());
+            headerBuffer.putInt(Header.WA_DEFAULT_V1.getFileVersion());
+            IOUtil.write(channel, headerBuffer, 0);
+            channel.truncate(Header.BYTES);
+        }
+
+        long append(ByteBuffer buffer) throws IOException {
+            long position = size;
+            size += IOUtil.write(channel, buffer, position);
+            return position;
+        }
+
+        void updateState(long position, LogEntry.EntryState state) throws IOException {
+            stateBuffer.putInt(state.getCode());
+            IOUtil.write(channel, stateBuffer, position);
+        }
+
+        PersistedLogEntry read(long start) throws IOException {
+            long position = start;
+            ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES * 3);
+            readFully(buffer, position);
+            int state = buffer.getInt();
+            int keyMetadata = buffer.getInt();
+            int keyLength = buffer.getInt();
+            position += buffer.capacity();
+
+            byte[] key = readSlot(keyLength, position);
+            position += keyLength;
+
+            buffer = ByteBuffer.allocate(Integer.BYTES * 2);
+            readFully(buffer, position);
+            int valueMetadata = buffer.getInt();
+            int valueLength = buffer.getInt();
+            position += buffer.capacity();
+
+            byte[] value = readSlot(valueLength, position);
+
+            return new PersistedLogEntry(
+                    EntryInfo.createForPersisted(start), LogEntry.EntryState.fromInt(state), keyMetadata, key,
+                    valueMetadata, value);
+        }
+
+        private byte[] readSlot(int length, long position) throws IOException {
+            if (length < 0 || position + length > channel.size()) {
+                throw new InvalidRecordException("A data slot within a record is incomplete or malformed");
+            }
+            byte[] data = new byte[length];
+            readFully(ByteBuffer.wrap(data), position);
+            return data;
+        }
+
+        private void readFully(ByteBuffer buffer, long position) throws IOException {
+            try {
+                while (buffer.hasRemaining()) {
+                    int read = channel.read(buffer, position + buffer.position());
+                    if (read < 0) {
+                        throw new EOFException();
+                    }
+                }
+            } catch (EOFException e) {
+                throw new InvalidRecordException("A record is incomplete or malformed");
+            }
+            buffer.flip();
+        }
+
+        void close(boolean force) {
+            try {
+                if (force) {
+                    channel.force(false);
+                }
+                channel.close();
+            } catch (IOException e) {
+                LOG.warn("Unable to close the queue segment {}: {}", file, e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.io.File;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.component.seda.BlockingQueueFactory;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * Implementation of {@link BlockingQueueFactory} producing a {@link WriteAheadBlockingQueue}, which persists the
+ * exchanges to write-ahead log files in a directory, so they survive a restart.
+ * <p/>
+ * Each queue needs its own directory, so a factory should be used by a single SEDA endpoint (or several endpoints for
+ * the same queue). The queue is closed when the factory is stopped, or when the factory creates the queue again.
+ */
+public class WriteAheadBlockingQueueFactory extends ServiceSupport
+        implements BlockingQueueFactory<Exchange>, CamelContextAware {
+
+    /**
+     * The default number of exchanges kept in memory
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 1000;
+
+    /**
+     * The default size of a segment file: 64 MiB
+     */
+    public static final long DEFAULT_MAX_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    private CamelContext camelContext;
+    private File directory;
+    private int defaultCapacity = Integer.MAX_VALUE;
+    private int windowSize = DEFAULT_WINDOW_SIZE;
+    private long maxSegmentSize = DEFAULT_MAX_SEGMENT_SIZE;
+    private boolean sync = true;
+    private boolean allowSerializedHeaders;
+    private String deserializationFilter = "java.**;org.apache.camel.**;!*";
+    private volatile WriteAheadBlockingQueue queue;
+
+    public WriteAheadBlockingQueueFactory() {
+    }
+
+    public WriteAheadBlockingQueueFactory(File directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * The directory where the segment files of the queue are stored
+     */
+    public void setDirectory(File directory) {
+        this.directory = directory;
+    }
+
+    public int getDefaultCapacity() {
+        return defaultCapacity;
+    }
+
+    /**
+     * The capacity of the queue when none is provided. Producers block when the queue is full.
+     */
+    public void setDefaultCapacity(int defaultCapacity) {
+        this.defaultCapacity = defaultCapacity;
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * The maximum number of exchanges kept in memory. Beyond this number the exchanges are only kept on disk, and are
+     * read back from disk when the consumers catch up.
+     */
+    public void setWindowSize(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    public long getMaxSegmentSize() {
+        return maxSegmentSize;
+    }
+
+    /**
+     * The size in bytes after which a new segment file is started. Segment files are deleted once all their exchanges
+     * have been processed.
+     */
+    public void setMaxSegmentSize(long maxSegmentSize) {
+        this.maxSegmentSize = maxSegmentSize;
+    }
+
+    public boolean isSync() {
+        return sync;
+    }
+
+    /**
+     * Whether to force the data to disk before an exchange is accepted by the queue. Concurrent producers share the
+     * cost of forcing the data to disk. When disabled, the exchanges survive a crash of the JVM but may be lost if the
+     * operating system crashes.
+     */
+    public void setSync(boolean sync) {
+        this.sync = sync;
+    }
+
+    public boolean isAllowSerializedHeaders() {
+        return allowSerializedHeaders;
+    }
+
+    /**
+     * Whether headers and properties which are {@link java.io.Serializable} are persisted. By default only primitive
+     * types and strings are persisted.
+     */
+    public void setAllowSerializedHeaders(boolean allowSerializedHeaders) {
+        this.allowSerializedHeaders = allowSerializedHeaders;
+    }
+
+    public String getDeserializationFilter() {
+        return deserializationFilter;
+    }
+
+    /**
+     * Sets a deserialization filter used when reading exchanges back from disk. By default the filter will allow all
+     * java packages and subpackages and all org.apache.camel packages and subpackages, while the remaining will be
+     * blacklisted and not deserialized. This parameter should be customized if you're using classes you trust to be
+     * deserialized.
+     */
+    public void setDeserializationFilter(String deserializationFilter) {
+        this.deserializationFilter = deserializationFilter;
+    }
+
+    @Override
+    public WriteAheadBlockingQueue create() {
+        return create(defaultCapacity);
+    }
+
+    @Override
+    public WriteAheadBlockingQueue create(int capacity) {
+        ObjectHelper.notNull(camelContext, "camelContext");
+        ObjectHelper.notNull(directory, "directory");
+
+        lock.lock();
+        try {
+            // let the context close the queue on shutdown
+            if (!camelContext.hasService(this)) {
+                camelContext.addService(this, true, true);
+            }
+
+            // the segment files can only be used by one queue at a time
+            if (queue != null) {
+                queue.close();
+            }
+
+            WriteAheadBlockingQueue answer = new WriteAheadBlockingQueue(
+                    camelContext, directory, capacity, windowSize, maxSegmentSize, sync, allowSerializedHeaders,
+                    deserializationFilter);
+            answer.open();
+            queue = answer;
+            return answer;
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        lock.lock();
+        try {
+            if (queue != null) {
+                queue.close();
+                queue = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
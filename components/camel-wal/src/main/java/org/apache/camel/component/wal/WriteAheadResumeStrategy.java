@@ -20,7 +20,10 @@ package org.apache.camel.component.wal;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
@@ -183,7 +186,7 @@ public class WriteAheadResumeStrategy implements ResumeStrategy, CamelContextAwa
                     LogEntry.EntryState.NEW, 0,
                     keyBuffer.array(), 0, valueBuffer.array());
 
-            entryInfo = logWriter.append(entry);
+            entryInfo = append(entry);
         } catch (IOException e) {
             LOG.error("Unable to append a new record to the transaction log. The system will try to update the record " +
                       "on the delegate strategy before forcing the failure");
@@ -195,6 +198,31 @@ public class WriteAheadResumeStrategy implements ResumeStrategy, CamelContextAwa
         tryUpdateDelegate(offsetKey, offsetValue, entryInfo, updateCallBack);
     }
 
+    /**
+     * Appends the entry to the transaction log. With the per batch sync policy, it waits for the entry to be forced to
+     * disk. The other policies may leave the entry to the supervisor, so it only waits for the entry to be written, as
+     * otherwise a single caller would be held until the next flush of the supervisor.
+     */
+    private EntryInfo.CachedEntryInfo append(LogEntry entry) throws IOException, InterruptedException {
+        final LogSyncPolicy syncPolicy = resumeStrategyConfiguration.getSyncPolicy();
+        if (syncPolicy == null) {
+            return logWriter.append(entry);
+        }
+
+        final long timeout = resumeStrategyConfiguration.getSyncTimeout();
+        try {
+            return logWriter.appendAsync(entry, syncPolicy.isPerBatch()).get(timeout, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IOException(
+                    "Timed out after " + timeout + " ms waiting for the record to be saved to the transaction log");
+        }
+    }
+
     /**
      * Tries to update the offset in the delegate strategy, ensuring the entry on log reflects the success or failure of
      * the update request
@@ -315,7 +343,7 @@ public class WriteAheadResumeStrategy implements ResumeStrategy, CamelContextAwa
             DefaultLogSupervisor flushPolicy = new DefaultLogSupervisor(
                     resumeStrategyConfiguration.getSupervisorInterval(),
                     executorService);
-            logWriter = new LogWriter(logFile, flushPolicy);
+            logWriter = new LogWriter(logFile, flushPolicy, resumeStrategyConfiguration.getSyncPolicy());
         } catch (Exception e) {
             throw new RuntimeCamelException(e);
         }
@@ -24,10 +24,13 @@ import org.apache.camel.resume.ResumeStrategyConfiguration;
 
 public class WriteAheadResumeStrategyConfiguration extends ResumeStrategyConfiguration {
     public static final long DEFAULT_SUPERVISOR_INTERVAL = 100;
+    public static final long DEFAULT_SYNC_TIMEOUT = 10000;
 
     private File logFile;
     private ResumeStrategy delegateResumeStrategy;
     private long supervisorInterval;
+    private LogSyncPolicy syncPolicy;
+    private long syncTimeout = DEFAULT_SYNC_TIMEOUT;
 
     public File getLogFile() {
         return logFile;
@@ -53,6 +56,22 @@ public class WriteAheadResumeStrategyConfiguration extends ResumeStrategyConfigu
         this.supervisorInterval = supervisorInterval;
     }
 
+    public LogSyncPolicy getSyncPolicy() {
+        return syncPolicy;
+    }
+
+    void setSyncPolicy(LogSyncPolicy syncPolicy) {
+        this.syncPolicy = syncPolicy;
+    }
+
+    public long getSyncTimeout() {
+        return syncTimeout;
+    }
+
+    void setSyncTimeout(long syncTimeout) {
+        this.syncTimeout = syncTimeout;
+    }
+
     @Override
     public String resumeStrategyService() {
         return "write-ahead-resume-strategy";
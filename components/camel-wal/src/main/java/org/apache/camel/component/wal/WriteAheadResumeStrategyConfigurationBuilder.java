@@ -28,6 +28,8 @@ public class WriteAheadResumeStrategyConfigurationBuilder
     private File logFile;
     private ResumeStrategy delegateResumeStrategy;
     private long supervisorInterval;
+    private LogSyncPolicy syncPolicy;
+    private long syncTimeout = WriteAheadResumeStrategyConfiguration.DEFAULT_SYNC_TIMEOUT;
 
     /**
      * The transaction log file to use
@@ -53,6 +55,33 @@ public class WriteAheadResumeStrategyConfigurationBuilder
         return this;
     }
 
+    /**
+     * The policy for forcing the entries to disk. When not set, the entries are forced to disk by the supervisor, and
+     * the offsets are updated without waiting for it. With {@link LogSyncPolicy#perBatch()} the offsets are updated on
+     * the delegate strategy once the entry is forced to disk, and with the other policies once the entry is written.
+     *
+     * @param  syncPolicy the policy
+     * @return            this instance
+     */
+    public WriteAheadResumeStrategyConfigurationBuilder withSyncPolicy(LogSyncPolicy syncPolicy) {
+        this.syncPolicy = syncPolicy;
+
+        return this;
+    }
+
+    /**
+     * The maximum time in milliseconds to wait for an entry to be written (and forced to disk, if required by the sync
+     * policy) before failing the offset update
+     *
+     * @param  syncTimeout the timeout in milliseconds
+     * @return             this instance
+     */
+    public WriteAheadResumeStrategyConfigurationBuilder withSyncTimeout(long syncTimeout) {
+        this.syncTimeout = syncTimeout;
+
+        return this;
+    }
+
     @Override
     public WriteAheadResumeStrategyConfiguration build() {
         final WriteAheadResumeStrategyConfiguration writeAheadResumeStrategyConfiguration
@@ -63,6 +92,8 @@ public class WriteAheadResumeStrategyConfigurationBuilder
         writeAheadResumeStrategyConfiguration.setLogFile(logFile);
         writeAheadResumeStrategyConfiguration.setDelegateResumeStrategy(delegateResumeStrategy);
         writeAheadResumeStrategyConfiguration.setSupervisorInterval(supervisorInterval);
+        writeAheadResumeStrategyConfiguration.setSyncPolicy(syncPolicy);
+        writeAheadResumeStrategyConfiguration.setSyncTimeout(syncTimeout);
 
         return writeAheadResumeStrategyConfiguration;
     }
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LogWriterGroupCommitTest extends LogTestBase {
+
+    private List<String> readKeys(File logFile) throws IOException {
+        List<String> keys = new ArrayList<>();
+        try (LogReader reader = new LogReader(logFile)) {
+            PersistedLogEntry entry;
+            while ((entry = reader.readEntry()) != null) {
+                assertEquals(LogEntry.EntryState.NEW, entry.getEntryState());
+                keys.add(new String(entry.getKey()));
+            }
+        }
+        return keys;
+    }
+
+    @Test
+    public void testConcurrentAppendsPerBatch() throws Exception {
+        File logFile = new File(testDir, "test.data");
+        final int threads = 8;
+        final int perThread = 500;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try (LogWriter logWriter = new LogWriter(logFile, new DefaultLogSupervisor(10000), LogSyncPolicy.perBatch())) {
+            List<Future<List<CompletableFuture<EntryInfo.CachedEntryInfo>>>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int offset = t * perThread;
+                results.add(executorService.submit(() -> {
+                    List<CompletableFuture<EntryInfo.CachedEntryInfo>> futures = new ArrayList<>();
+                    for (int i = 0; i < perThread; i++) {
+                        futures.add(logWriter.appendAsync(createNewLogEntry(null, offset + i)));
+                    }
+                    return futures;
+                }));
+            }
+
+            Set<Long> positions = new HashSet<>();
+            for (Future<List<CompletableFuture<EntryInfo.CachedEntryInfo>>> result : results) {
+                for (CompletableFuture<EntryInfo.CachedEntryInfo> future : result.get(30, TimeUnit.SECONDS)) {
+                    EntryInfo.CachedEntryInfo entryInfo = future.get(30, TimeUnit.SECONDS);
+                    assertNotNull(entryInfo);
+                    assertTrue(positions.add(entryInfo.getPosition()), "Each entry must have its own position");
+                }
+            }
+
+            LogWriterMetrics metrics = logWriter.getMetrics();
+            assertEquals(threads * perThread, metrics.getAppendCount());
+            assertTrue(metrics.getBatchCount() <= threads * perThread);
+            assertTrue(metrics.getSyncCount() >= 1);
+            assertTrue(metrics.getBytesWritten() > 0);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        List<String> keys = readKeys(logFile);
+        assertEquals(threads * perThread, keys.size());
+        assertEquals(threads * perThread, new HashSet<>(keys).size());
+    }
+
+    @Test
+    public void testEveryEntriesWaitsForSupervisor() throws Exception {
+        File logFile = new File(testDir, "test.data");
+
+        try (LogWriter logWriter = new LogWriter(logFile, new DefaultLogSupervisor(200), LogSyncPolicy.everyEntries(3))) {
+            // the supervisor flushes right after starting, so wait until its next run is due later
+            Thread.sleep(50);
+
+            CompletableFuture<EntryInfo.CachedEntryInfo> first = logWriter.appendAsync(createNewLogEntry(null, 0));
+            CompletableFuture<EntryInfo.CachedEntryInfo> second = logWriter.appendAsync(createNewLogEntry(null, 1));
+            assertFalse(first.isDone());
+            assertFalse(second.isDone());
+
+            CompletableFuture<EntryInfo.CachedEntryInfo> third = logWriter.appendAsync(createNewLogEntry(null, 2));
+            assertTrue(first.isDone());
+            assertTrue(second.isDone());
+            assertTrue(third.isDone());
+
+            // the remaining entry is forced to disk by the supervisor
+            CompletableFuture<EntryInfo.CachedEntryInfo> fourth = logWriter.appendAsync(createNewLogEntry(null, 3));
+            assertNotNull(fourth.get(5, TimeUnit.SECONDS));
+
+            assertEquals(4, logWriter.getMetrics().getBatchCount());
+            assertEquals(1, logWriter.getMetrics().getMaxBatchSize());
+        }
+
+        assertEquals(List.of("record-0", "record-1", "record-2", "record-3"), readKeys(logFile));
+    }
+
+    @Test
+    public void testAppendWithoutWaitingForSync() throws Exception {
+        File logFile = new File(testDir, "test.data");
+
+        try (LogWriter logWriter = new LogWriter(logFile, new DefaultLogSupervisor(10000), LogSyncPolicy.everyEntries(3))) {
+            // the future completes once the entry is written, while forcing it to disk is left to the policy
+            CompletableFuture<EntryInfo.CachedEntryInfo> written = logWriter.appendAsync(createNewLogEntry(null, 0), false);
+            assertTrue(written.isDone());
+            assertNotNull(written.get());
+
+            CompletableFuture<EntryInfo.CachedEntryInfo> synced = logWriter.appendAsync(createNewLogEntry(null, 1));
+            assertFalse(synced.isDone());
+        }
+
+        assertEquals(List.of("record-0", "record-1"), readKeys(logFile));
+    }
+
+    @Test
+    public void testRollOverAndUpdateState() throws Exception {
+        File logFile = new File(testDir, "test.data");
+
+        try (LogWriter logWriter
+                = new LogWriter(logFile, new DefaultLogSupervisor(100), 10, LogSyncPolicy.everyInterval(0))) {
+            List<EntryInfo.CachedEntryInfo> entries = new ArrayList<>();
+            for (int i = 0; i < 25; i++) {
+                entries.add(logWriter.appendAsync(createNewLogEntry(null, i)).get(5, TimeUnit.SECONDS));
+            }
+
+            for (EntryInfo.CachedEntryInfo entryInfo : entries.subList(20, 25)) {
+                logWriter.updateState(entryInfo, LogEntry.EntryState.PROCESSED);
+            }
+        }
+
+        // only the last layer of entries is kept after rolling-over
+        int processed = 0;
+        int count = 0;
+        try (LogReader reader = new LogReader(logFile)) {
+            PersistedLogEntry entry;
+            while ((entry = reader.readEntry()) != null) {
+                count++;
+                if (entry.getEntryState() == LogEntry.EntryState.PROCESSED) {
+                    processed++;
+                }
+            }
+        }
+        assertEquals(10, count);
+        assertEquals(5, processed);
+    }
+
+    @Test
+    public void testSyncPolicy() {
+        assertTrue(LogSyncPolicy.perBatch().shouldSync(1, 0));
+        assertFalse(LogSyncPolicy.everyEntries(10).shouldSync(9, Long.MAX_VALUE));
+        assertTrue(LogSyncPolicy.everyEntries(10).shouldSync(10, 0));
+        assertFalse(LogSyncPolicy.everyInterval(100).shouldSync(1000, TimeUnit.MILLISECONDS.toNanos(99)));
+        assertTrue(LogSyncPolicy.everyInterval(100).shouldSync(1, TimeUnit.MILLISECONDS.toNanos(100)));
+    }
+}
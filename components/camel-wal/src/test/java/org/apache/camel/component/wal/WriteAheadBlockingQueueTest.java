@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.Registry;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.SynchronizationAdapter;
+import org.apache.camel.support.UnitOfWorkHelper;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WriteAheadBlockingQueueTest extends CamelTestSupport {
+
+    @TempDir
+    File testDir;
+
+    @Override
+    protected void bindToRegistry(Registry registry) throws Exception {
+        registry.bind("walQueue", new WriteAheadBlockingQueueFactory(new File(testDir, "route")));
+    }
+
+    private WriteAheadBlockingQueueFactory createFactory() {
+        WriteAheadBlockingQueueFactory factory = new WriteAheadBlockingQueueFactory(new File(testDir, "queue"));
+        factory.setCamelContext(context);
+        factory.setWindowSize(2);
+        factory.setMaxSegmentSize(1024);
+        return factory;
+    }
+
+    private Exchange createExchange(Object body) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getMessage().setBody(body);
+        exchange.getMessage().setHeader("index", body);
+        return exchange;
+    }
+
+    private static void done(Exchange exchange) {
+        UnitOfWorkHelper.doneSynchronizations(exchange, exchange.getExchangeExtension().handoverCompletions());
+    }
+
+    @Test
+    public void testFifoBeyondWindow() {
+        WriteAheadBlockingQueue queue = createFactory().create();
+        for (int i = 0; i < 20; i++) {
+            assertTrue(queue.offer(createExchange(i)));
+        }
+        assertEquals(20, queue.size());
+        assertTrue(queue.getSegmentCount() > 1);
+
+        for (int i = 0; i < 20; i++) {
+            Exchange exchange = queue.poll();
+            assertNotNull(exchange);
+            assertEquals(i, exchange.getMessage().getBody());
+            assertEquals(i, exchange.getMessage().getHeader("index"));
+            done(exchange);
+        }
+        assertNull(queue.poll());
+
+        // the segments are deleted once all their entries are processed
+        assertEquals(1, queue.getSegmentCount());
+        File[] files = queue.getDirectory().listFiles();
+        assertNotNull(files);
+        assertEquals(1, files.length);
+    }
+
+    @Test
+    public void testOnCompletionsOfSpilledExchanges() {
+        WriteAheadBlockingQueue queue = createFactory().create();
+        List<Object> completed = new ArrayList<>();
+        List<Object> failed = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            // such as the on completions handed over by the SEDA producer
+            Exchange exchange = createExchange(i);
+            exchange.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
+                @Override
+                public void onComplete(Exchange exchange) {
+                    completed.add(exchange.getMessage().getBody());
+                }
+
+                @Override
+                public void onFailure(Exchange exchange) {
+                    failed.add(exchange.getMessage().getBody());
+                }
+            });
+            assertTrue(queue.offer(exchange));
+        }
+
+        // the exchanges beyond the window of 2 are only on disk, but keep their on completions
+        for (int i = 0; i < 5; i++) {
+            Exchange exchange = queue.poll();
+            assertNotNull(exchange);
+            if (i == 3) {
+                exchange.setException(new IllegalArgumentException("Forced"));
+            }
+            done(exchange);
+        }
+        assertEquals(List.of(0, 1, 2, 4), completed);
+        assertEquals(List.of(3), failed);
+    }
+
+    @Test
+    public void testReplayAfterRestart() throws Exception {
+        WriteAheadBlockingQueueFactory factory = createFactory();
+        WriteAheadBlockingQueue queue = factory.create();
+        for (int i = 0; i < 10; i++) {
+            queue.put(createExchange(i));
+        }
+
+        // processed and failed exchanges are not replayed, but the exchange which is not done yet is
+        done(queue.take());
+        Exchange failed = queue.take();
+        failed.setException(new IllegalArgumentException("Forced"));
+        done(failed);
+        queue.take();
+        factory.stop();
+
+        factory = createFactory();
+        queue = factory.create();
+        assertEquals(8, queue.size());
+
+        List<Object> bodies = new ArrayList<>();
+        Exchange exchange;
+        while ((exchange = queue.poll()) != null) {
+            bodies.add(exchange.getMessage().getBody());
+            done(exchange);
+        }
+        assertEquals(List.of(2, 3, 4, 5, 6, 7, 8, 9), bodies);
+        factory.stop();
+
+        queue = createFactory().create();
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testCapacity() throws Exception {
+        WriteAheadBlockingQueue queue = createFactory().create(2);
+        assertTrue(queue.offer(createExchange(1)));
+        assertTrue(queue.offer(createExchange(2)));
+        assertFalse(queue.offer(createExchange(3)));
+        assertEquals(0, queue.remainingCapacity());
+
+        queue.clear();
+        assertEquals(0, queue.size());
+        assertTrue(queue.offer(createExchange(3)));
+        assertEquals(3, queue.take().getMessage().getBody());
+    }
+
+    @Test
+    public void testSedaRoute() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(100);
+
+        for (int i = 0; i < 100; i++) {
+            template.sendBody("seda:start?queueFactory=#walQueue", "Message " + i);
+        }
+
+        mock.assertIsSatisfied();
+        for (int i = 0; i < 100; i++) {
+            assertEquals("Message " + i, mock.getReceivedExchanges().get(i).getMessage().getBody());
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("seda:start?queueFactory=#walQueue").to("mock:result");
+            }
+        };
+    }
+}
@@ -106,4 +106,86 @@ public interface TypeConverter {
      * @return          the converted value, or <tt>null</tt> if not possible to convert
      */
     <T> T tryConvertTo(Class<T> type, Exchange exchange, Object value);
+
+    /**
+     * Looks up a handle for converting values of the given type to the requested type.
+     * <p/>
+     * The handle can be kept by callers that repeatedly convert between the same types (such as a processor that
+     * converts the message body), which avoids looking up the type converter for every conversion. The handle can
+     * convert values of any type, but is only optimized for values of exactly the given from type.
+     *
+     * @param  fromType the type of the values to be converted
+     * @param  toType   the requested type
+     * @return          the handle
+     */
+    default <T> Handle<T> lookupHandle(Class<?> fromType, Class<T> toType) {
+        final TypeConverter tc = this;
+        return new Handle<>() {
+            @Override
+            public Class<?> getFromType() {
+                return fromType;
+            }
+
+            @Override
+            public Class<T> getToType() {
+                return toType;
+            }
+
+            @Override
+            public T convertTo(Exchange exchange, Object value) {
+                return tc.convertTo(toType, exchange, value);
+            }
+
+            @Override
+            public T mandatoryConvertTo(Exchange exchange, Object value) throws NoTypeConversionAvailableException {
+                return tc.mandatoryConvertTo(toType, exchange, value);
+            }
+
+            @Override
+            public T tryConvertTo(Exchange exchange, Object value) {
+                return tc.tryConvertTo(toType, exchange, value);
+            }
+        };
+    }
+
+    /**
+     * A handle for converting values to a given type, which is looked up using
+     * {@link TypeConverter#lookupHandle(Class, Class)}.
+     * <p/>
+     * The conversions have the same semantics as the corresponding methods on {@link TypeConverter}.
+     */
+    interface Handle<T> {
+
+        /**
+         * The type of values the handle is optimized for
+         */
+        Class<?> getFromType();
+
+        /**
+         * The requested type
+         */
+        Class<T> getToType();
+
+        /**
+         * Converts the value to the requested type
+         *
+         * @see TypeConverter#convertTo(Class, Exchange, Object)
+         */
+        T convertTo(Exchange exchange, Object value) throws TypeConversionException;
+
+        /**
+         * Converts the value to the requested type
+         *
+         * @see TypeConverter#mandatoryConvertTo(Class, Exchange, Object)
+         */
+        T mandatoryConvertTo(Exchange exchange, Object value)
+                throws TypeConversionException, NoTypeConversionAvailableException;
+
+        /**
+         * Tries to convert the value to the requested type
+         *
+         * @see TypeConverter#tryConvertTo(Class, Exchange, Object)
+         */
+        T tryConvertTo(Exchange exchange, Object value);
+    }
 }
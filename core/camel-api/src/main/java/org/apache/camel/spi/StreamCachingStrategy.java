@@ -17,6 +17,7 @@
 package org.apache.camel.spi;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 
 import org.apache.camel.Exchange;
@@ -107,6 +108,59 @@ public interface StreamCachingStrategy extends StaticService {
 
     }
 
+    /**
+     * Pool of direct (off-heap) {@link ByteBuffer}s used for spooling stream caches, when
+     * {@link #setSpoolDirectBufferEnabled(boolean)} is enabled.
+     */
+    interface DirectBufferPool {
+
+        /**
+         * The size in bytes of the buffers in the pool.
+         */
+        int getBufferSize();
+
+        /**
+         * Acquires a buffer from the pool.
+         *
+         * @return the buffer (cleared), or <tt>null</tt> if the pool is exhausted
+         */
+        ByteBuffer acquire();
+
+        /**
+         * Releases the buffer back to the pool.
+         *
+         * @param buffer the buffer which was acquired from this pool
+         */
+        void release(ByteBuffer buffer);
+
+        /**
+         * Callback when a stream cache has been spilled from the direct buffers to a memory mapped file.
+         *
+         * @param length the number of bytes which was spilled
+         */
+        void onSpill(long length);
+
+        /**
+         * Gets the number of bytes of the buffers currently in use by stream caches.
+         */
+        long getBytesInUse();
+
+        /**
+         * Gets the number of bytes of the idle buffers kept in the pool.
+         */
+        long getBytesIdle();
+
+        /**
+         * Gets the counter for number of stream caches spilled from the direct buffers to a memory mapped file.
+         */
+        long getSpillCounter();
+
+        /**
+         * Gets the total accumulated number of bytes spilled from the direct buffers to memory mapped files.
+         */
+        long getSpillSize();
+    }
+
     /**
      * Sets whether the stream caching is enabled.
      * <p/>
@@ -233,6 +287,53 @@ public interface StreamCachingStrategy extends StaticService {
 
     boolean isRemoveSpoolDirectoryWhenStopping();
 
+    /**
+     * Sets whether to spool into pooled direct (off-heap) byte buffers instead of a temporary file, when spooling is
+     * enabled and the spool rules determines the stream should be spooled.
+     * <p/>
+     * When the stream is bigger than the {@link #setSpoolMemoryMappedThreshold(long)}, or when the pool of direct
+     * buffers is exhausted, then the stream is spilled to a memory mapped file in the spool directory. Reading a
+     * spooled stream cache again (such as with multicast, splitter or redelivery) does not copy the content, as each
+     * stream cache reads from its own view of the same buffers.
+     * <p/>
+     * Spooling to direct buffers is not in use when a {@link #setSpoolCipher(String)} is configured.
+     * <p/>
+     * <b>Notice:</b> This cannot be changed at runtime.
+     *
+     * Default is disabled.
+     */
+    void setSpoolDirectBufferEnabled(boolean spoolDirectBufferEnabled);
+
+    boolean isSpoolDirectBufferEnabled();
+
+    /**
+     * Sets the maximum number of bytes of direct buffers in the pool used for spooling, when
+     * {@link #setSpoolDirectBufferEnabled(boolean)} is enabled. When the pool is exhausted, then streams are spilled to
+     * memory mapped files.
+     * <p/>
+     * The default size is 64 MB.
+     */
+    void setSpoolDirectBufferPoolSize(long poolSize);
+
+    long getSpoolDirectBufferPoolSize();
+
+    /**
+     * Threshold in bytes when a stream spooled to direct buffers is spilled to a memory mapped file, when
+     * {@link #setSpoolDirectBufferEnabled(boolean)} is enabled.
+     * <p/>
+     * The default threshold is 8 MB. Use <tt>-1</tt> to only spill when the pool of direct buffers is exhausted.
+     */
+    void setSpoolMemoryMappedThreshold(long threshold);
+
+    long getSpoolMemoryMappedThreshold();
+
+    /**
+     * Gets the pool of direct buffers used for spooling.
+     *
+     * @return the pool, or <tt>null</tt> if spooling to direct buffers is not in use
+     */
+    DirectBufferPool getDirectBufferPool();
+
     /**
      * Sets whether if just any of the {@link org.apache.camel.spi.StreamCachingStrategy.SpoolRule} rules returns
      * <tt>true</tt> then {@link #shouldSpoolCache(long)} returns <tt>true</tt>. If this option is <tt>false</tt>, then
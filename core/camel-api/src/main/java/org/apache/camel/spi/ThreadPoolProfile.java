@@ -41,6 +41,7 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
     private Integer maxQueueSize;
     private Boolean allowCoreThreadTimeOut;
     private ThreadPoolRejectedPolicy rejectedPolicy;
+    private Boolean virtualThreads;
 
     /**
      * Creates a new thread pool profile, with no id set.
@@ -235,6 +236,28 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
         this.rejectedPolicy = rejectedPolicy;
     }
 
+    /**
+     * Gets whether to run the tasks on virtual threads.
+     *
+     * @return <tt>true</tt> to use virtual threads, or <tt>null</tt> if not configured
+     */
+    public Boolean getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Sets whether to run the tasks on virtual threads (requires JDK 21 or newer).
+     * <p/>
+     * Each task is run on a new virtual thread instead of on a pooled platform thread. The maximum pool size is then
+     * the maximum number of tasks that run concurrently, and the max queue size is the maximum number of tasks that
+     * wait for their turn.
+     *
+     * @param virtualThreads <tt>true</tt> to use virtual threads
+     */
+    public void setVirtualThreads(Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
     /**
      * Overwrites each attribute that is null with the attribute from defaultProfile
      *
@@ -265,11 +288,15 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
         if (rejectedPolicy == null) {
             rejectedPolicy = defaultProfile.getRejectedPolicy();
         }
+        if (virtualThreads == null) {
+            virtualThreads = defaultProfile.getVirtualThreads();
+        }
     }
 
     public boolean isEmpty() {
         return poolSize == null && maxPoolSize == null && keepAliveTime == null && timeUnit == null
-                && maxQueueSize == null && allowCoreThreadTimeOut == null && rejectedPolicy == null;
+                && maxQueueSize == null && allowCoreThreadTimeOut == null && rejectedPolicy == null
+                && virtualThreads == null;
     }
 
     @Override
@@ -284,6 +311,7 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
         cloned.setAllowCoreThreadTimeOut(allowCoreThreadTimeOut);
         cloned.setRejectedPolicy(rejectedPolicy);
         cloned.setTimeUnit(timeUnit);
+        cloned.setVirtualThreads(virtualThreads);
         return cloned;
     }
 
@@ -291,7 +319,8 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
     public String toString() {
         return "ThreadPoolProfile[" + id + " (" + defaultProfile + ") size:" + poolSize + "-" + maxPoolSize
                + ", keepAlive:" + keepAliveTime + " " + timeUnit + ", maxQueue:" + maxQueueSize
-               + ", allowCoreThreadTimeOut:" + allowCoreThreadTimeOut + ", rejectedPolicy:" + rejectedPolicy + "]";
+               + ", allowCoreThreadTimeOut:" + allowCoreThreadTimeOut + ", rejectedPolicy:" + rejectedPolicy
+               + ", virtualThreads:" + virtualThreads + "]";
     }
 
 }
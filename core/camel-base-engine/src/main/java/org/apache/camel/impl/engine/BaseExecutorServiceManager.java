@@ -200,7 +200,8 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         ThreadPoolProfile defaultProfile = getDefaultThreadPoolProfile();
         profile.addDefaults(defaultProfile);
 
-        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true);
+        boolean virtual = profile.getVirtualThreads() != null && profile.getVirtualThreads();
+        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true, virtual);
         ExecutorService executorService = threadPoolFactory.newThreadPool(profile, threadFactory);
         onThreadPoolCreated(executorService, source, profile.getId());
         if (LOG.isDebugEnabled()) {
@@ -592,7 +593,11 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     }
 
     protected ThreadFactory createThreadFactory(String name, boolean daemon) {
-        ThreadFactory factory = new CamelThreadFactory(threadNamePattern, name, daemon);
+        return createThreadFactory(name, daemon, false);
+    }
+
+    protected ThreadFactory createThreadFactory(String name, boolean daemon, boolean virtual) {
+        ThreadFactory factory = new CamelThreadFactory(threadNamePattern, name, daemon, virtual);
         for (ThreadFactoryListener listener : threadFactoryListeners) {
             factory = listener.onNewThreadFactory(factory);
         }
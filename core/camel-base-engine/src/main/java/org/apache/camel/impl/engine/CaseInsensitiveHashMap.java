@@ -0,0 +1,493 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.apache.camel.Exchange;
+
+/**
+ * A map that uses case insensitive keys, but preserves the original key cases.
+ * <p/>
+ * The map is an open addressing hash map (linear probing), where the entries are kept in insertion order in compact
+ * arrays, together with the case-folded hash of the keys, so the hash of a key is only computed once when it is looked
+ * up. The case-folded hashes of the well-known Camel headers (such as {@link Exchange#FILE_NAME} and
+ * {@link Exchange#HTTP_URI}) are precomputed, and their keys are interned when added to the map.
+ * <p/>
+ * Copying a map into an empty map (such as when an exchange is copied by multicast or wire tap) is copy-on-write: the
+ * arrays are shared until either map is changed.
+ * <p/>
+ * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed by the
+ * Camel routing engine.
+ */
+public class CaseInsensitiveHashMap extends AbstractMap<String, Object> implements Serializable {
+
+    private static final @Serial long serialVersionUID = 4287329837213478203L;
+
+    private static final int DEFAULT_CAPACITY = 8;
+    // the index slot is free, or the entry has been removed
+    private static final int FREE = 0;
+    private static final int REMOVED = -1;
+
+    private static final String[] EMPTY_KEYS = new String[0];
+    private static final Object[] EMPTY_VALUES = new Object[0];
+    private static final int[] EMPTY_HASHES = new int[0];
+    private static final int[] EMPTY_INDEX = new int[1];
+
+    private static final Map<String, WellKnownKey> WELL_KNOWN_KEYS = new HashMap<>();
+
+    static {
+        String[] keys = {
+                Exchange.ACCEPT_CONTENT_TYPE, Exchange.AUTHENTICATION, Exchange.BREADCRUMB_ID,
+                Exchange.CHARSET_NAME, Exchange.CONTENT_ENCODING, Exchange.CONTENT_LENGTH, Exchange.CONTENT_TYPE,
+                Exchange.CORRELATION_ID, Exchange.FILE_CONTENT_TYPE, Exchange.FILE_LAST_MODIFIED,
+                Exchange.FILE_LENGTH, Exchange.FILE_LOCAL_WORK_PATH, Exchange.FILE_NAME, Exchange.FILE_NAME_CONSUMED,
+                Exchange.FILE_NAME_ONLY, Exchange.FILE_NAME_PRODUCED, Exchange.FILE_PARENT, Exchange.FILE_PATH,
+                Exchange.HTTP_BASE_URI, Exchange.HTTP_CHARACTER_ENCODING, Exchange.HTTP_CHUNKED, Exchange.HTTP_HOST,
+                Exchange.HTTP_METHOD, Exchange.HTTP_PATH, Exchange.HTTP_PORT, Exchange.HTTP_PROTOCOL_VERSION,
+                Exchange.HTTP_QUERY, Exchange.HTTP_RAW_QUERY, Exchange.HTTP_RESPONSE_CODE,
+                Exchange.HTTP_RESPONSE_TEXT, Exchange.HTTP_SCHEME, Exchange.HTTP_SERVLET_REQUEST,
+                Exchange.HTTP_SERVLET_RESPONSE, Exchange.HTTP_URI, Exchange.HTTP_URL, Exchange.MESSAGE_TIMESTAMP,
+                Exchange.OVERRULE_FILE_NAME, Exchange.REDELIVERY_COUNTER, Exchange.REDELIVERY_DELAY,
+                Exchange.REDELIVERY_EXHAUSTED, Exchange.REDELIVERY_MAX_COUNTER, Exchange.REST_HTTP_QUERY,
+                Exchange.REST_HTTP_URI, Exchange.SOAP_ACTION, Exchange.XSLT_FILE_NAME,
+                // common http headers
+                "Accept", "Accept-Encoding", "Authorization", "Cache-Control", "Connection", "Cookie", "Date",
+                "Host", "Location", "Set-Cookie", "Transfer-Encoding", "User-Agent"
+        };
+        for (String key : keys) {
+            WELL_KNOWN_KEYS.put(key, new WellKnownKey(key, foldedHash(key)));
+        }
+    }
+
+    // the entries in insertion order (removed entries have a null key)
+    private transient String[] keys = EMPTY_KEYS;
+    private transient Object[] values = EMPTY_VALUES;
+    private transient int[] hashes = EMPTY_HASHES;
+    // open addressing table with the position of the entries (+1)
+    private transient int[] index = EMPTY_INDEX;
+    // number of used entries (including removed)
+    private transient int used;
+    private transient int size;
+    // whether the arrays are shared with another map (copy-on-write)
+    private transient boolean shared;
+    private transient int modCount;
+    private transient Set<Map.Entry<String, Object>> entrySet;
+
+    public CaseInsensitiveHashMap() {
+    }
+
+    public CaseInsensitiveHashMap(Map<? extends String, ?> map) {
+        putAll(map);
+    }
+
+    /**
+     * Computes the case-folded hash of the key, which is the same for keys that are equal when ignoring case (such as
+     * with {@link String#equalsIgnoreCase(String)}).
+     */
+    static int foldedHash(String key) {
+        int h = 0;
+        for (int i = 0, len = key.length(); i < len; i++) {
+            char ch = key.charAt(i);
+            if (ch < 128) {
+                if (ch >= 'A' && ch <= 'Z') {
+                    ch += 'a' - 'A';
+                }
+            } else if (Character.isSurrogate(ch)) {
+                // surrogate pairs may be compared as code points, so they are not part of the hash
+                continue;
+            } else {
+                ch = Character.toLowerCase(Character.toUpperCase(ch));
+            }
+            h = 31 * h + ch;
+        }
+        return h;
+    }
+
+    private static int hash(String key) {
+        WellKnownKey known = WELL_KNOWN_KEYS.get(key);
+        return known != null ? known.hash : foldedHash(key);
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String s && indexOf(s, hash(s)) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (key instanceof String s) {
+            int e = indexOf(s, hash(s));
+            if (e >= 0) {
+                return values[e];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Objects.requireNonNull(key, "key");
+        int h;
+        WellKnownKey known = WELL_KNOWN_KEYS.get(key);
+        if (known != null) {
+            h = known.hash;
+            key = known.key;
+        } else {
+            h = foldedHash(key);
+        }
+        int e = indexOf(key, h);
+        if (e >= 0) {
+            // keep the existing key (like a sorted map with case insensitive order)
+            unshare();
+            Object old = values[e];
+            values[e] = value;
+            return old;
+        }
+        add(key, h, value);
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (key instanceof String s) {
+            int e = indexOf(s, hash(s));
+            if (e >= 0) {
+                Object old = values[e];
+                removeAt(e);
+                return old;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void putAll(Map<? extends String, ?> map) {
+        if (size == 0 && map instanceof CaseInsensitiveHashMap other && other.size > 0) {
+            // share the arrays until either map is changed
+            keys = other.keys;
+            values = other.values;
+            hashes = other.hashes;
+            index = other.index;
+            used = other.used;
+            size = other.size;
+            shared = true;
+            other.shared = true;
+            modCount++;
+            return;
+        }
+        for (Map.Entry<? extends String, ?> entry : map.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public void clear() {
+        keys = EMPTY_KEYS;
+        values = EMPTY_VALUES;
+        hashes = EMPTY_HASHES;
+        index = EMPTY_INDEX;
+        used = 0;
+        size = 0;
+        shared = false;
+        modCount++;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        int mc = modCount;
+        for (int e = 0; e < used; e++) {
+            String key = keys[e];
+            if (key != null) {
+                action.accept(key, values[e]);
+            }
+        }
+        if (mc != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private int indexOf(String key, int h) {
+        int[] index = this.index;
+        int mask = index.length - 1;
+        int i = spread(h) & mask;
+        int slot;
+        while ((slot = index[i]) != FREE) {
+            if (slot != REMOVED) {
+                int e = slot - 1;
+                if (hashes[e] == h) {
+                    String k = keys[e];
+                    if (k == key || k.equalsIgnoreCase(key)) {
+                        return e;
+                    }
+                }
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void add(String key, int h, Object value) {
+        if (used == keys.length) {
+            // compact the removed entries, or grow when the map is more than half full
+            rebuild(size >= keys.length / 2 ? Math.max(DEFAULT_CAPACITY, keys.length * 2) : keys.length);
+        } else {
+            unshare();
+        }
+        int e = used++;
+        keys[e] = key;
+        values[e] = value;
+        hashes[e] = h;
+        insertIndex(index, h, e);
+        size++;
+        modCount++;
+    }
+
+    private void removeAt(int e) {
+        unshare();
+        int mask = index.length - 1;
+        int i = spread(hashes[e]) & mask;
+        while (index[i] != e + 1) {
+            i = (i + 1) & mask;
+        }
+        index[i] = REMOVED;
+        keys[e] = null;
+        values[e] = null;
+        size--;
+        modCount++;
+    }
+
+    private static void insertIndex(int[] index, int h, int e) {
+        int mask = index.length - 1;
+        int i = spread(h) & mask;
+        while (index[i] > FREE) {
+            i = (i + 1) & mask;
+        }
+        index[i] = e + 1;
+    }
+
+    private void rebuild(int capacity) {
+        String[] newKeys = new String[capacity];
+        Object[] newValues = new Object[capacity];
+        int[] newHashes = new int[capacity];
+        // the index is at most half full
+        int[] newIndex = new int[capacity * 2];
+        int n = 0;
+        for (int e = 0; e < used; e++) {
+            if (keys[e] != null) {
+                newKeys[n] = keys[e];
+                newValues[n] = values[e];
+                newHashes[n] = hashes[e];
+                insertIndex(newIndex, hashes[e], n);
+                n++;
+            }
+        }
+        keys = newKeys;
+        values = newValues;
+        hashes = newHashes;
+        index = newIndex;
+        used = n;
+        shared = false;
+    }
+
+    private void unshare() {
+        if (shared) {
+            keys = keys.clone();
+            values = values.clone();
+            hashes = hashes.clone();
+            index = index.clone();
+            shared = false;
+        }
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int e = 0; e < used; e++) {
+            if (keys[e] != null) {
+                out.writeObject(keys[e]);
+                out.writeObject(values[e]);
+            }
+        }
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        clear();
+        int n = in.readInt();
+        for (int i = 0; i < n; i++) {
+            put((String) in.readObject(), in.readObject());
+        }
+    }
+
+    private record WellKnownKey(String key, int hash) {
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CaseInsensitiveHashMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        private EntryIterator() {
+            advance();
+        }
+
+        private void advance() {
+            while (next < used && keys[next] == null) {
+                next++;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < used;
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= used) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            advance();
+            return new Entry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(last);
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class Entry implements Map.Entry<String, Object> {
+
+        private final int e;
+        private final String key;
+
+        private Entry(int e) {
+            this.e = e;
+            this.key = keys[e];
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            // the entry may have been removed
+            return keys[e] == key ? values[e] : null;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            if (keys[e] != key) {
+                throw new IllegalStateException("Entry has been removed");
+            }
+            unshare();
+            Object old = values[e];
+            values[e] = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Map.Entry<?, ?> other
+                    && key.equals(other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
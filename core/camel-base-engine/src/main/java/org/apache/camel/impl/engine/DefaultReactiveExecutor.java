@@ -103,6 +103,18 @@ public class DefaultReactiveExecutor extends ServiceSupport implements ReactiveE
         return pendingTasks.intValue();
     }
 
+    /**
+     * Callback to let another thread run the task, when a task is scheduled (fairly) from a thread which is not already
+     * running reactive work, such as when an asynchronous callback is completed by a thread from a 3rd party library.
+     *
+     * @param  runnable the task
+     * @return          <tt>true</tt> if the task is handed over to another thread, or <tt>false</tt> to run the task
+     *                  using the current thread (default)
+     */
+    protected boolean offload(Runnable runnable) {
+        return false;
+    }
+
     @Override
     protected void doStop() throws Exception {
         if (LOG.isDebugEnabled() && statisticsEnabled) {
@@ -124,6 +136,7 @@ public class DefaultReactiveExecutor extends ServiceSupport implements ReactiveE
         private volatile Deque<Runnable> queue = new ArrayDeque<>();
         private volatile Deque<Deque<Runnable>> back;
         private volatile boolean running;
+        private int polling;
 
         public Worker(int number, DefaultReactiveExecutor executor) {
             this.number = number;
@@ -135,6 +148,9 @@ public class DefaultReactiveExecutor extends ServiceSupport implements ReactiveE
             if (LOG.isTraceEnabled()) {
                 LOG.trace("Schedule [first={}, main={}, sync={}]: {}", first, main, sync, runnable);
             }
+            if (!main && !sync && !running && polling == 0 && queue.isEmpty() && executor.offload(runnable)) {
+                return;
+            }
             if (main) {
                 executeMainFlow();
             }
@@ -232,6 +248,8 @@ public class DefaultReactiveExecutor extends ServiceSupport implements ReactiveE
             if (polled == null) {
                 return false;
             }
+            // the task is run from the queue by the current thread (transacted) so it must not be offloaded
+            polling++;
             try {
                 decrementPendingTasks();
                 if (LOG.isTraceEnabled()) {
@@ -241,6 +259,8 @@ public class DefaultReactiveExecutor extends ServiceSupport implements ReactiveE
             } catch (Exception t) {
                 // should not happen
                 LOG.warn("Error executing reactive work due to {}. This exception is ignored.", t.getMessage(), t);
+            } finally {
+                polling--;
             }
             return true;
         }
@@ -19,12 +19,16 @@ package org.apache.camel.impl.engine;
 import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -54,6 +58,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultStreamCachingStrategy.class);
 
+    // the size of the direct buffers in the pool
+    private static final int DIRECT_BUFFER_SIZE = 64 * 1024;
+
     private CamelContext camelContext;
     private boolean enabled;
     private String allowClassNames;
@@ -70,6 +77,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private String spoolCipher;
     private int bufferSize = IOHelper.DEFAULT_BUFFER_SIZE;
     private boolean removeSpoolDirectoryWhenStopping = true;
+    private boolean spoolDirectBufferEnabled;
+    private long spoolDirectBufferPoolSize = 64 * 1024 * 1024;
+    private long spoolMemoryMappedThreshold = 8 * 1024 * 1024;
+    private PooledDirectBuffers directBufferPool;
     private final UtilizationStatistics statistics = new UtilizationStatistics();
     private final Set<SpoolRule> spoolRules = new LinkedHashSet<>();
     private boolean anySpoolRules;
@@ -207,6 +218,41 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.removeSpoolDirectoryWhenStopping = removeSpoolDirectoryWhenStopping;
     }
 
+    @Override
+    public boolean isSpoolDirectBufferEnabled() {
+        return spoolDirectBufferEnabled;
+    }
+
+    @Override
+    public void setSpoolDirectBufferEnabled(boolean spoolDirectBufferEnabled) {
+        this.spoolDirectBufferEnabled = spoolDirectBufferEnabled;
+    }
+
+    @Override
+    public long getSpoolDirectBufferPoolSize() {
+        return spoolDirectBufferPoolSize;
+    }
+
+    @Override
+    public void setSpoolDirectBufferPoolSize(long spoolDirectBufferPoolSize) {
+        this.spoolDirectBufferPoolSize = spoolDirectBufferPoolSize;
+    }
+
+    @Override
+    public long getSpoolMemoryMappedThreshold() {
+        return spoolMemoryMappedThreshold;
+    }
+
+    @Override
+    public void setSpoolMemoryMappedThreshold(long spoolMemoryMappedThreshold) {
+        this.spoolMemoryMappedThreshold = spoolMemoryMappedThreshold;
+    }
+
+    @Override
+    public DirectBufferPool getDirectBufferPool() {
+        return directBufferPool;
+    }
+
     @Override
     public boolean isAnySpoolRules() {
         return anySpoolRules;
@@ -448,6 +494,16 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                 }
                 spoolRules.add(new UsedHeapMemorySpoolRule(spoolUsedHeapMemoryLimit));
             }
+            if (spoolDirectBufferEnabled) {
+                if (spoolCipher != null && !spoolCipher.isEmpty()) {
+                    LOG.warn("Spooling to direct buffers is not in use because spoolCipher is configured");
+                } else {
+                    directBufferPool = new PooledDirectBuffers(
+                            DIRECT_BUFFER_SIZE, Math.max(DIRECT_BUFFER_SIZE, spoolDirectBufferPoolSize));
+                    LOG.debug("Spooling to direct buffers with pool size: {} and memory mapped threshold: {}",
+                            spoolDirectBufferPoolSize, spoolMemoryMappedThreshold);
+                }
+            }
         }
 
         LOG.debug("StreamCaching configuration {}", this);
@@ -474,6 +530,11 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         }
 
         statistics.reset();
+
+        if (directBufferPool != null) {
+            directBufferPool.clear();
+            directBufferPool = null;
+        }
     }
 
     private boolean isSpoolRemovable() {
@@ -489,6 +550,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                + ", spoolThreshold=" + spoolThreshold
                + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
                + ", bufferSize=" + bufferSize
+               + ", spoolDirectBufferEnabled=" + spoolDirectBufferEnabled
+               + ", spoolDirectBufferPoolSize=" + spoolDirectBufferPoolSize
+               + ", spoolMemoryMappedThreshold=" + spoolMemoryMappedThreshold
                + ", anySpoolRules=" + anySpoolRules + "]";
     }
 
@@ -555,6 +619,91 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         }
     }
 
+    /**
+     * Pool of direct buffers which is bounded by the number of bytes allocated (in use and idle).
+     */
+    private static final class PooledDirectBuffers implements DirectBufferPool {
+
+        private final int bufferSize;
+        private final long maxSize;
+        private final Queue<ByteBuffer> idle = new ConcurrentLinkedQueue<>();
+        private final AtomicLong allocated = new AtomicLong();
+        private final AtomicLong inUse = new AtomicLong();
+        private final LongAdder spillCounter = new LongAdder();
+        private final LongAdder spillSize = new LongAdder();
+
+        private PooledDirectBuffers(int bufferSize, long maxSize) {
+            this.bufferSize = bufferSize;
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        @Override
+        public ByteBuffer acquire() {
+            ByteBuffer answer = idle.poll();
+            if (answer == null) {
+                if (allocated.addAndGet(bufferSize) > maxSize) {
+                    // the pool is exhausted
+                    allocated.addAndGet(-bufferSize);
+                    return null;
+                }
+                answer = ByteBuffer.allocateDirect(bufferSize);
+            }
+            answer.clear();
+            inUse.addAndGet(bufferSize);
+            return answer;
+        }
+
+        @Override
+        public void release(ByteBuffer buffer) {
+            inUse.addAndGet(-bufferSize);
+            idle.offer(buffer);
+        }
+
+        @Override
+        public void onSpill(long length) {
+            spillCounter.increment();
+            spillSize.add(length);
+        }
+
+        @Override
+        public long getBytesInUse() {
+            return inUse.get();
+        }
+
+        @Override
+        public long getBytesIdle() {
+            return allocated.get() - inUse.get();
+        }
+
+        @Override
+        public long getSpillCounter() {
+            return spillCounter.longValue();
+        }
+
+        @Override
+        public long getSpillSize() {
+            return spillSize.longValue();
+        }
+
+        void clear() {
+            ByteBuffer buffer;
+            while ((buffer = idle.poll()) != null) {
+                allocated.addAndGet(-buffer.capacity());
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.format("[bytesInUse=%s, bytesIdle=%s, spillCounter=%s, spillSize=%s]",
+                    getBytesInUse(), getBytesIdle(), getSpillCounter(), getSpillSize());
+        }
+    }
+
     /**
      * Represents utilization statistics.
      */
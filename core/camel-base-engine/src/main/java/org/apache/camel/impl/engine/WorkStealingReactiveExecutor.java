@@ -0,0 +1,346 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReactiveExecutor} which runs the asynchronous continuations on a fixed number of lanes (one thread per lane)
+ * with work stealing between the lanes.
+ * <p/>
+ * With the {@link DefaultReactiveExecutor} an asynchronous continuation runs on whatever thread completes the
+ * asynchronous work, such as an IO thread from netty, vertx or kafka. This executor hands over such continuations to a
+ * lane instead, where each lane has a bounded queue, and idle lanes steal tasks from the busy lanes. This spreads the
+ * work on all the CPU cores, and keeps the threads of the 3rd party libraries free to do IO.
+ * <p/>
+ * New exchanges are still routed by the thread that creates them (such as a consumer thread), and the work scheduled
+ * while a thread is already running reactive work, is queued and run by the same thread as with the
+ * {@link DefaultReactiveExecutor}. Transacted exchanges are never handed over to a lane. If the queues of the lanes are
+ * full, then the task is run by the current thread.
+ */
+@ManagedResource(description = "Managed WorkStealingReactiveExecutor")
+public class WorkStealingReactiveExecutor extends DefaultReactiveExecutor implements CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkStealingReactiveExecutor.class);
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private CamelContext camelContext;
+    private int lanes;
+    private int laneCapacity = 1024;
+    private final AtomicInteger idleLanes = new AtomicInteger();
+    private final LongAdder rejectedTasks = new LongAdder();
+    private volatile Lane[] workers;
+    private volatile boolean running;
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @ManagedAttribute(description = "Number of lanes")
+    public int getLanes() {
+        return lanes;
+    }
+
+    /**
+     * Number of lanes (threads) to run the asynchronous continuations. Is default the number of CPU cores.
+     */
+    public void setLanes(int lanes) {
+        this.lanes = lanes;
+    }
+
+    @ManagedAttribute(description = "Maximum number of pending tasks per lane")
+    public int getLaneCapacity() {
+        return laneCapacity;
+    }
+
+    /**
+     * Maximum number of pending tasks per lane. When the lanes are full, then the tasks are run by the thread
+     * scheduling the task. Is default 1024.
+     */
+    public void setLaneCapacity(int laneCapacity) {
+        this.laneCapacity = laneCapacity;
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks per lane")
+    public int[] getLaneQueueSizes() {
+        Lane[] arr = workers;
+        int[] answer = new int[arr != null ? arr.length : 0];
+        for (int i = 0; i < answer.length; i++) {
+            answer[i] = arr[i].size.get();
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Number of tasks run per lane")
+    public long[] getLaneTasksRun() {
+        Lane[] arr = workers;
+        long[] answer = new long[arr != null ? arr.length : 0];
+        for (int i = 0; i < answer.length; i++) {
+            answer[i] = arr[i].runs;
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Number of tasks stolen from other lanes per lane")
+    public long[] getLaneSteals() {
+        Lane[] arr = workers;
+        long[] answer = new long[arr != null ? arr.length : 0];
+        for (int i = 0; i < answer.length; i++) {
+            answer[i] = arr[i].steals;
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Total number of pending tasks in the lanes")
+    public int getLanePendingTasks() {
+        int answer = 0;
+        for (int size : getLaneQueueSizes()) {
+            answer += size;
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Total number of tasks run by the lanes")
+    public long getTasksRun() {
+        long answer = 0;
+        for (long runs : getLaneTasksRun()) {
+            answer += runs;
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Total number of tasks stolen from other lanes")
+    public long getSteals() {
+        long answer = 0;
+        for (long steals : getLaneSteals()) {
+            answer += steals;
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Number of tasks run by the thread scheduling the task, because the lanes were full")
+    public long getRejectedTasks() {
+        return rejectedTasks.longValue();
+    }
+
+    @Override
+    protected boolean offload(Runnable runnable) {
+        Lane[] arr = workers;
+        if (!running || arr == null || Thread.currentThread() instanceof LaneThread) {
+            return false;
+        }
+        // power of two choices: pick the least loaded of two random lanes
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Lane first = arr[random.nextInt(arr.length)];
+        Lane second = arr[random.nextInt(arr.length)];
+        if (second.size.get() < first.size.get()) {
+            Lane tmp = first;
+            first = second;
+            second = tmp;
+        }
+        if (!first.offer(runnable) && (first == second || !second.offer(runnable))) {
+            rejectedTasks.increment();
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Lanes are full, running task using current thread: {}", runnable);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        int size = lanes > 0 ? lanes : Runtime.getRuntime().availableProcessors();
+        Lane[] arr = new Lane[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = new Lane(i);
+        }
+        running = true;
+        for (Lane lane : arr) {
+            String name = "CamelReactiveLane #" + lane.index;
+            if (camelContext != null) {
+                name = camelContext.getExecutorServiceManager().resolveThreadName("ReactiveLane #" + lane.index);
+            }
+            lane.thread = new LaneThread(lane, name);
+            lane.thread.setDaemon(true);
+        }
+        workers = arr;
+        for (Lane lane : arr) {
+            lane.thread.start();
+        }
+        LOG.debug("Started {} lanes with capacity {}", size, laneCapacity);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        running = false;
+        Lane[] arr = workers;
+        if (arr != null) {
+            // the lanes run their pending tasks before terminating
+            for (Lane lane : arr) {
+                LockSupport.unpark(lane.thread);
+            }
+            for (Lane lane : arr) {
+                lane.thread.join(5000);
+            }
+            workers = null;
+            // run the tasks that may have been added while the lanes were stopping
+            for (Lane lane : arr) {
+                Runnable task;
+                while ((task = lane.poll()) != null) {
+                    super.schedule(task);
+                }
+            }
+        }
+        super.doStop();
+    }
+
+    @Override
+    public String toString() {
+        return "WorkStealingReactiveExecutor";
+    }
+
+    private static final class LaneThread extends Thread {
+
+        private LaneThread(Runnable runnable, String name) {
+            super(runnable, name);
+        }
+    }
+
+    private final class Lane implements Runnable {
+
+        private final int index;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private volatile boolean parked;
+        private volatile long runs;
+        private volatile long steals;
+        private Thread thread;
+
+        private Lane(int index) {
+            this.index = index;
+        }
+
+        boolean offer(Runnable runnable) {
+            if (size.incrementAndGet() > laneCapacity) {
+                size.decrementAndGet();
+                return false;
+            }
+            tasks.add(runnable);
+            Lane[] arr = workers;
+            if (parked) {
+                LockSupport.unpark(thread);
+            } else if (idleLanes.get() > 0 && arr != null) {
+                // this lane is busy so let an idle lane steal the task
+                for (Lane lane : arr) {
+                    if (lane.parked) {
+                        LockSupport.unpark(lane.thread);
+                        break;
+                    }
+                }
+            }
+            return true;
+        }
+
+        Runnable poll() {
+            Runnable answer = tasks.poll();
+            if (answer != null) {
+                size.decrementAndGet();
+            }
+            return answer;
+        }
+
+        private Runnable steal(Lane[] arr) {
+            int start = ThreadLocalRandom.current().nextInt(arr.length);
+            for (int i = 0; i < arr.length; i++) {
+                Lane victim = arr[(start + i) % arr.length];
+                if (victim != this) {
+                    Runnable answer = victim.poll();
+                    if (answer != null) {
+                        steals++;
+                        return answer;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private boolean hasWork(Lane[] arr) {
+            for (Lane lane : arr) {
+                if (lane.size.get() > 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void run() {
+            final Lane[] arr = workers;
+            while (running) {
+                Runnable task = poll();
+                if (task == null) {
+                    task = steal(arr);
+                }
+                if (task != null) {
+                    runs++;
+                    // run the task (and the work it schedules) using the reactive worker of this thread
+                    WorkStealingReactiveExecutor.super.schedule(task);
+                    continue;
+                }
+                idleLanes.incrementAndGet();
+                parked = true;
+                // check again after being marked as parked, so a task offered meanwhile is not missed
+                if (running && !hasWork(arr)) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                parked = false;
+                idleLanes.decrementAndGet();
+            }
+            // run the pending tasks of this lane before terminating
+            Runnable task;
+            while ((task = poll()) != null) {
+                runs++;
+                WorkStealingReactiveExecutor.super.schedule(task);
+            }
+        }
+    }
+
+}
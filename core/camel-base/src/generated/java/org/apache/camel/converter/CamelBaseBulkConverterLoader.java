@@ -41,7 +41,7 @@ public final class CamelBaseBulkConverterLoader implements TypeConverterLoader,
 
     @Override
     public int size() {
-        return 130;
+        return 133;
     }
 
     @Override
@@ -171,6 +171,9 @@ public final class CamelBaseBulkConverterLoader implements TypeConverterLoader,
             if (value instanceof java.io.ByteArrayOutputStream) {
                 return org.apache.camel.converter.IOConverter.toInputStream((java.io.ByteArrayOutputStream) value);
             }
+            if (value instanceof org.apache.camel.converter.stream.FileRegion) {
+                return org.apache.camel.converter.IOConverter.toInputStream((org.apache.camel.converter.stream.FileRegion) value);
+            }
         } else if (to == java.io.ObjectInput.class) {
             if (value instanceof java.io.InputStream) {
                 return org.apache.camel.converter.IOConverter.toObjectInput((java.io.InputStream) value, exchange);
@@ -519,6 +522,13 @@ public final class CamelBaseBulkConverterLoader implements TypeConverterLoader,
             if (value instanceof org.apache.camel.Predicate) {
                 return org.apache.camel.converter.CamelConverter.toProcessor((org.apache.camel.Predicate) value);
             }
+        } else if (to == org.apache.camel.converter.stream.FileRegion.class) {
+            if (value instanceof java.io.File) {
+                return org.apache.camel.converter.IOConverter.toFileRegion((java.io.File) value);
+            }
+            if (value instanceof java.nio.file.Path) {
+                return org.apache.camel.converter.IOConverter.toFileRegion((java.nio.file.Path) value);
+            }
         } else if (to == org.apache.camel.spi.Resource.class) {
             if (value instanceof java.lang.String) {
                 return org.apache.camel.converter.ResourceConverter.toResource((java.lang.String) value, camelContext);
@@ -561,6 +571,7 @@ public final class CamelBaseBulkConverterLoader implements TypeConverterLoader,
         registry.addConverter(new TypeConvertible<>(java.io.Reader.class, java.io.InputStream.class), this);
         registry.addConverter(new TypeConvertible<>(byte[].class, java.io.InputStream.class), this);
         registry.addConverter(new TypeConvertible<>(java.io.ByteArrayOutputStream.class, java.io.InputStream.class), this);
+        registry.addConverter(new TypeConvertible<>(org.apache.camel.converter.stream.FileRegion.class, java.io.InputStream.class), this);
         registry.addConverter(new TypeConvertible<>(java.io.InputStream.class, java.io.ObjectInput.class), this);
         registry.addConverter(new TypeConvertible<>(java.io.OutputStream.class, java.io.ObjectOutput.class), this);
         registry.addConverter(new TypeConvertible<>(java.io.File.class, java.io.OutputStream.class), this);
@@ -657,6 +668,8 @@ public final class CamelBaseBulkConverterLoader implements TypeConverterLoader,
         registry.addConverter(new TypeConvertible<>(java.lang.String.class, java.util.concurrent.TimeUnit.class), this);
         registry.addConverter(new TypeConvertible<>(org.apache.camel.Expression.class, org.apache.camel.Processor.class), this);
         registry.addConverter(new TypeConvertible<>(org.apache.camel.Predicate.class, org.apache.camel.Processor.class), this);
+        registry.addConverter(new TypeConvertible<>(java.io.File.class, org.apache.camel.converter.stream.FileRegion.class), this);
+        registry.addConverter(new TypeConvertible<>(java.nio.file.Path.class, org.apache.camel.converter.stream.FileRegion.class), this);
         registry.addConverter(new TypeConvertible<>(java.lang.String.class, org.apache.camel.spi.Resource.class), this);
     }
 
@@ -769,6 +782,9 @@ public final class CamelBaseBulkConverterLoader implements TypeConverterLoader,
             if (from == java.io.ByteArrayOutputStream.class) {
                 return this;
             }
+            if (from == org.apache.camel.converter.stream.FileRegion.class) {
+                return this;
+            }
         } else if (to == java.io.ObjectInput.class) {
             if (from == java.io.InputStream.class) {
                 return this;
@@ -1092,6 +1108,13 @@ public final class CamelBaseBulkConverterLoader implements TypeConverterLoader,
             if (from == org.apache.camel.Predicate.class) {
                 return this;
             }
+        } else if (to == org.apache.camel.converter.stream.FileRegion.class) {
+            if (from == java.io.File.class) {
+                return this;
+            }
+            if (from == java.nio.file.Path.class) {
+                return this;
+            }
         } else if (to == org.apache.camel.spi.Resource.class) {
             if (from == java.lang.String.class) {
                 return this;
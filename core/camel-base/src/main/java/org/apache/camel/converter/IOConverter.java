@@ -48,6 +48,7 @@ import java.util.stream.Stream;
 
 import org.apache.camel.Converter;
 import org.apache.camel.Exchange;
+import org.apache.camel.converter.stream.FileRegion;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.InputStreamIterator;
 import org.apache.camel.util.IOHelper;
@@ -356,4 +357,19 @@ public final class IOConverter {
         return path.toFile();
     }
 
+    @Converter(order = 45)
+    public static FileRegion toFileRegion(File file) {
+        return FileRegion.of(file);
+    }
+
+    @Converter(order = 46)
+    public static FileRegion toFileRegion(Path path) {
+        return FileRegion.of(path.toFile());
+    }
+
+    @Converter(order = 47)
+    public static InputStream toInputStream(FileRegion region) throws IOException {
+        return IOHelper.buffered(region.newInputStream());
+    }
+
 }
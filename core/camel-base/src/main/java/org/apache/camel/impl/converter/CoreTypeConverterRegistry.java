@@ -19,9 +19,11 @@ package org.apache.camel.impl.converter;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.CamelExecutionException;
@@ -72,6 +74,18 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     // space for others added during runtime
     private final Map<TypeConvertible<?, ?>, TypeConverter> converters = new ConcurrentHashMap<>(256);
 
+    // the handles per target type (see lookupHandle)
+    private final ClassValue<Map<Class<?>, Handle<?>>> handles = new ClassValue<>() {
+        @Override
+        protected Map<Class<?>, Handle<?>> computeValue(Class<?> type) {
+            handleTypes.add(type);
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private final Set<Class<?>> handleTypes = ConcurrentHashMap.newKeySet();
+    // incremented when type converters are added or removed, so the handles resolve their type converter again
+    private final AtomicInteger version = new AtomicInteger();
+
     protected CoreTypeConverterRegistry(boolean statisticsEnabled) {
         if (statisticsEnabled) {
             statistics = new TypeConverterStatistics();
@@ -278,10 +292,20 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     protected Object doConvertToAndStat(
             final Class<?> type, final Exchange exchange, final Object value,
             final boolean tryConvert) {
+        return doConvertToAndStat(type, exchange, value, tryConvert, null);
+    }
+
+    private Object doConvertToAndStat(
+            final Class<?> type, final Exchange exchange, final Object value,
+            final boolean tryConvert, final ConverterHandle<?> handle) {
 
         Object answer = null;
         try {
-            answer = doConvertTo(type, exchange, value, tryConvert);
+            if (handle != null) {
+                answer = handle.doConvertTo(exchange, value, tryConvert);
+            } else {
+                answer = doConvertTo(type, exchange, value, tryConvert);
+            }
         } catch (Exception e) {
             // only record if not try
             if (!tryConvert) {
@@ -386,7 +410,14 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         final Class<?> aClass = type.isPrimitive() ? ObjectHelper.convertPrimitiveTypeToWrapperType(type) : type;
         final TypeConvertible<?, ?> typeConvertible = new TypeConvertible<>(value.getClass(), aClass);
 
-        final Object ret = tryCachedConverters(type, exchange, value, typeConvertible);
+        return doConvertTo(type, exchange, value, tryConvert, typeConvertible, converters.get(typeConvertible));
+    }
+
+    private Object doConvertTo(
+            final Class<?> type, final Exchange exchange, final Object value,
+            final boolean tryConvert, final TypeConvertible<?, ?> typeConvertible, final TypeConverter typeConverter) {
+
+        final Object ret = tryCachedConverters(type, exchange, value, typeConvertible, typeConverter);
         if (ret != null) {
             return ret;
         }
@@ -416,8 +447,9 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         return TypeConverter.MISS_VALUE;
     }
 
-    private Object tryCachedConverters(Class<?> type, Exchange exchange, Object value, TypeConvertible<?, ?> typeConvertible) {
-        final TypeConverter typeConverter = converters.get(typeConvertible);
+    private Object tryCachedConverters(
+            Class<?> type, Exchange exchange, Object value, TypeConvertible<?, ?> typeConvertible,
+            TypeConverter typeConverter) {
         if (typeConverter != null) {
             final Object ret = typeConverter.convertTo(type, exchange, value);
             if (ret != null) {
@@ -485,6 +517,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     @Override
     public void addConverter(TypeConvertible<?, ?> typeConvertible, TypeConverter typeConverter) {
         converters.put(typeConvertible, typeConverter);
+        version.incrementAndGet();
     }
 
     @Override
@@ -505,6 +538,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         if (converter == MISS_CONVERTER) {
             // we have previously attempted to convert but missed, so add this converter
             converters.put(typeConvertible, typeConverter);
+            version.incrementAndGet();
             return;
         }
 
@@ -522,6 +556,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
 
             if (add) {
                 converters.put(typeConvertible, typeConverter);
+                version.incrementAndGet();
             }
         }
     }
@@ -546,6 +581,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     public boolean removeTypeConverter(Class<?> toType, Class<?> fromType) {
         LOG.trace("Removing type converter from: {} to: {}", fromType, toType);
         final TypeConverter removed = converters.remove(new TypeConvertible<>(fromType, toType));
+        version.incrementAndGet();
         return removed != null;
     }
 
@@ -566,6 +602,17 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         return doLookup(toType, fromType);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Handle<T> lookupHandle(Class<?> fromType, Class<T> toType) {
+        Map<Class<?>, Handle<?>> map = handles.get(toType);
+        Handle<?> answer = map.get(fromType);
+        if (answer == null) {
+            answer = map.computeIfAbsent(fromType, k -> new ConverterHandle<>(k, toType));
+        }
+        return (Handle<T>) answer;
+    }
+
     @Override
     public Map<Class<?>, TypeConverter> lookup(Class<?> toType) {
         Map<Class<?>, TypeConverter> answer = new LinkedHashMap<>();
@@ -653,6 +700,117 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         statistics.logMappingStatisticsMessage(converters, MISS_CONVERTER);
 
         statistics.reset();
+
+        // the handles are kept on the classes, so they must be removed to not leak this registry
+        for (Class<?> type : handleTypes) {
+            handles.remove(type);
+        }
+        handleTypes.clear();
+    }
+
+    /**
+     * A handle which keeps the type converter for converting from the given type, so the conversion does not have to
+     * look up the type converter.
+     */
+    private final class ConverterHandle<T> implements Handle<T> {
+
+        private final Class<?> fromType;
+        private final Class<T> toType;
+        // whether the conversion is done by a type converter, and not by any of the optimized common conversions
+        private final boolean direct;
+        private final TypeConvertible<?, ?> typeConvertible;
+        private volatile ResolvedConverter resolved;
+
+        ConverterHandle(Class<?> fromType, Class<T> toType) {
+            this.fromType = fromType;
+            this.toType = toType;
+            this.direct = !toType.isPrimitive() && !toType.isEnum() && !toType.isAssignableFrom(fromType)
+                    && !(toType == Boolean.class && fromType == String.class)
+                    && !(toType == String.class
+                            && (fromType == Boolean.class || fromType == Integer.class || fromType == Long.class));
+            this.typeConvertible = new TypeConvertible<>(fromType, toType);
+        }
+
+        @Override
+        public Class<?> getFromType() {
+            return fromType;
+        }
+
+        @Override
+        public Class<T> getToType() {
+            return toType;
+        }
+
+        private boolean isDirect(Object value) {
+            return direct && value != null && value.getClass() == fromType;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T convertTo(Exchange exchange, Object value) {
+            if (isDirect(value)) {
+                Object answer = doConvertToAndStat(toType, exchange, value, false, this);
+                return answer == Void.class ? null : (T) answer;
+            }
+            return CoreTypeConverterRegistry.this.convertTo(toType, exchange, value);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T mandatoryConvertTo(Exchange exchange, Object value) throws NoTypeConversionAvailableException {
+            if (isDirect(value)) {
+                Object answer = doConvertToAndStat(toType, exchange, value, false, this);
+                if (answer == Void.class) {
+                    return null;
+                }
+                if (answer == null) {
+                    // Could not find suitable conversion
+                    throw new NoTypeConversionAvailableException(value, toType);
+                }
+                return (T) answer;
+            }
+            return CoreTypeConverterRegistry.this.mandatoryConvertTo(toType, exchange, value);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T tryConvertTo(Exchange exchange, Object value) {
+            if (isDirect(value)) {
+                Object answer = doConvertToAndStat(toType, exchange, value, true, this);
+                return answer == Void.class ? null : (T) answer;
+            }
+            return CoreTypeConverterRegistry.this.tryConvertTo(toType, exchange, value);
+        }
+
+        Object doConvertTo(Exchange exchange, Object value, boolean tryConvert) {
+            if (!tryConvert) {
+                statistics.incrementAttempt();
+            }
+            return CoreTypeConverterRegistry.this.doConvertTo(toType, exchange, value, tryConvert, typeConvertible,
+                    resolveConverter());
+        }
+
+        private TypeConverter resolveConverter() {
+            ResolvedConverter rc = resolved;
+            int v = version.get();
+            if (rc == null || rc.version != v || rc.converter == null) {
+                // resolve again as the type converters have changed (or the converter was not found before)
+                TypeConverter tc = converters.get(typeConvertible);
+                if (rc == null || rc.version != v || tc != null) {
+                    resolved = new ResolvedConverter(v, tc);
+                }
+                return tc;
+            }
+            return rc.converter;
+        }
+
+        @Override
+        public String toString() {
+            return "TypeConverterHandle[" + fromType.getName() + " -> " + toType.getName() + "]";
+        }
+    }
+
+    private record ResolvedConverter(int version, TypeConverter converter) {
     }
 
     /**
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.support.LanguageHelper;
+import org.apache.camel.support.ObjectHelper;
+
+/**
+ * Base class for simple language predicates which are compiled to bytecode by {@link SimplePredicateCompiler}.
+ * <p/>
+ * The generated subclasses implement {@link #matches(Exchange)} by calling the static methods of this class, which
+ * implement the operators the same way as the interpreted predicates from
+ * {@link org.apache.camel.support.builder.PredicateBuilder}.
+ */
+abstract class CompiledSimplePredicate implements Predicate {
+
+    private final String text;
+    private final Expression[] expressions;
+
+    protected CompiledSimplePredicate(String text, Expression[] expressions) {
+        this.text = text;
+        this.expressions = expressions;
+    }
+
+    @Override
+    public void init(CamelContext context) {
+        for (Expression expression : expressions) {
+            expression.init(context);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    static boolean matches(Expression expression, Exchange exchange) {
+        if (expression instanceof Predicate predicate) {
+            return predicate.matches(exchange);
+        } else {
+            Object value = expression.evaluate(exchange, Object.class);
+            return org.apache.camel.util.ObjectHelper.evaluateValuePredicate(value);
+        }
+    }
+
+    static boolean isEqualTo(Exchange exchange, Object leftValue, Object rightValue) {
+        if (leftValue == null || rightValue == null) {
+            return leftValue == rightValue;
+        }
+        return ObjectHelper.typeCoerceEquals(exchange.getContext().getTypeConverter(), leftValue, rightValue);
+    }
+
+    static boolean isEqualToIgnoreCase(Exchange exchange, Object leftValue, Object rightValue) {
+        if (leftValue == null || rightValue == null) {
+            return leftValue == rightValue;
+        }
+        return ObjectHelper.typeCoerceEquals(exchange.getContext().getTypeConverter(), leftValue, rightValue, true);
+    }
+
+    static boolean isNotEqualTo(Exchange exchange, Object leftValue, Object rightValue) {
+        if (leftValue == null || rightValue == null) {
+            return leftValue != rightValue;
+        }
+        return ObjectHelper.typeCoerceNotEquals(exchange.getContext().getTypeConverter(), leftValue, rightValue);
+    }
+
+    static boolean isLessThan(Exchange exchange, Object leftValue, Object rightValue) {
+        if (leftValue == null || rightValue == null) {
+            return leftValue == rightValue;
+        }
+        return ObjectHelper.typeCoerceCompare(exchange.getContext().getTypeConverter(), leftValue, rightValue) < 0;
+    }
+
+    static boolean isLessThanOrEqualTo(Exchange exchange, Object leftValue, Object rightValue) {
+        if (leftValue == null || rightValue == null) {
+            return leftValue == rightValue;
+        }
+        return ObjectHelper.typeCoerceCompare(exchange.getContext().getTypeConverter(), leftValue, rightValue) <= 0;
+    }
+
+    static boolean isGreaterThan(Exchange exchange, Object leftValue, Object rightValue) {
+        if (leftValue == null || rightValue == null) {
+            return false;
+        }
+        return ObjectHelper.typeCoerceCompare(exchange.getContext().getTypeConverter(), leftValue, rightValue) > 0;
+    }
+
+    static boolean isGreaterThanOrEqualTo(Exchange exchange, Object leftValue, Object rightValue) {
+        if (leftValue == null || rightValue == null) {
+            return leftValue == rightValue;
+        }
+        return ObjectHelper.typeCoerceCompare(exchange.getContext().getTypeConverter(), leftValue, rightValue) >= 0;
+    }
+
+    static boolean contains(Exchange exchange, Object leftValue, Object rightValue) {
+        if (leftValue == null || rightValue == null) {
+            return leftValue == rightValue;
+        }
+        return ObjectHelper.typeCoerceContains(exchange.getContext().getTypeConverter(), leftValue, rightValue, false);
+    }
+
+    static boolean containsIgnoreCase(Exchange exchange, Object leftValue, Object rightValue) {
+        if (leftValue == null || rightValue == null) {
+            return leftValue == rightValue;
+        }
+        return ObjectHelper.typeCoerceContains(exchange.getContext().getTypeConverter(), leftValue, rightValue, true);
+    }
+
+    static boolean startsWith(Exchange exchange, Object leftValue, Object rightValue) {
+        return LanguageHelper.startsWith(exchange, leftValue, rightValue);
+    }
+
+    static boolean endsWith(Exchange exchange, Object leftValue, Object rightValue) {
+        return LanguageHelper.endsWith(exchange, leftValue, rightValue);
+    }
+}
@@ -0,0 +1,556 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.language.simple.ast.BinaryExpression;
+import org.apache.camel.language.simple.ast.LogicalExpression;
+import org.apache.camel.language.simple.ast.SimpleNode;
+import org.apache.camel.language.simple.types.BinaryOperatorType;
+import org.apache.camel.language.simple.types.LogicalOperatorType;
+import org.apache.camel.support.builder.PredicateBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compiles the AST of a simple language predicate to JVM bytecode.
+ * <p/>
+ * The logical and binary operators of the predicate are compiled into the
+ * {@link Predicate#matches(org.apache.camel.Exchange)} method of a hidden class (see
+ * {@link MethodHandles.Lookup#defineHiddenClass(byte[], boolean, MethodHandles.Lookup.ClassOption...)}), which extends
+ * {@link CompiledSimplePredicate}. The operands (such as functions and literals) are evaluated as {@link Expression}s
+ * created from the AST the same way as when the predicate is interpreted, and are stored in final fields of the hidden
+ * class, which the JIT compiler trusts as constants.
+ * <p/>
+ * Operators that cannot be compiled (such as regex, in, range and is) are evaluated as interpreted expressions.
+ */
+final class SimplePredicateCompiler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SimplePredicateCompiler.class);
+
+    private static final String SUPER_CLASS = "org/apache/camel/language/simple/CompiledSimplePredicate";
+    private static final String CLASS_NAME = SUPER_CLASS + "$Generated";
+    private static final String EXPRESSION_CLASS = "org/apache/camel/Expression";
+    private static final String EXPRESSION_DESC = "L" + EXPRESSION_CLASS + ";";
+    private static final String CONSTRUCTOR_DESC = "(Ljava/lang/String;[" + EXPRESSION_DESC + ")V";
+    private static final String MATCHES_DESC = "(Lorg/apache/camel/Exchange;)Z";
+    private static final String LEAF_DESC = "(" + EXPRESSION_DESC + "Lorg/apache/camel/Exchange;)Z";
+    private static final String EVALUATE_DESC = "(Lorg/apache/camel/Exchange;Ljava/lang/Class;)Ljava/lang/Object;";
+    private static final String OPERATOR_DESC = "(Lorg/apache/camel/Exchange;Ljava/lang/Object;Ljava/lang/Object;)Z";
+
+    private final CamelContext camelContext;
+    private final String expression;
+    private final List<Expression> expressions = new ArrayList<>();
+
+    private SimplePredicateCompiler(CamelContext camelContext, String expression) {
+        this.camelContext = camelContext;
+        this.expression = expression;
+    }
+
+    /**
+     * Compiles the AST nodes of the predicate.
+     *
+     * @param  camelContext the camel context
+     * @param  expression   the input string
+     * @param  nodes        the AST nodes of the predicate
+     * @return              the compiled predicate, or <tt>null</tt> if the predicate could not be compiled, such as
+     *                      when hidden classes are not supported
+     */
+    static Predicate compile(CamelContext camelContext, String expression, List<SimpleNode> nodes) {
+        SimplePredicateCompiler compiler = new SimplePredicateCompiler(camelContext, expression);
+
+        // the nodes are combined by and (the same as with the interpreted predicate)
+        Node root = null;
+        for (SimpleNode node : nodes) {
+            Node answer = compiler.toNode(node);
+            if (answer != null) {
+                root = root == null ? answer : new Logical(true, root, answer);
+            }
+        }
+        if (root == null) {
+            // return a false predicate as response as there was nothing to parse
+            return PredicateBuilder.constant(false);
+        }
+
+        try {
+            return compiler.define(root);
+        } catch (Throwable e) {
+            LOG.debug("Cannot compile simple predicate: {} due to: {}. The predicate is interpreted instead.", expression,
+                    e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private Node toNode(SimpleNode node) {
+        if (node instanceof LogicalExpression logical && logical.getLeft() != null && logical.getRight() != null) {
+            Node left = toNode(logical.getLeft());
+            Node right = left != null ? toNode(logical.getRight()) : null;
+            if (left != null && right != null) {
+                return new Logical(logical.getOperator() == LogicalOperatorType.AND, left, right);
+            }
+        } else if (node instanceof BinaryExpression binary && binary.getLeft() != null && binary.getRight() != null) {
+            String method = toMethod(binary.getOperator());
+            if (method != null) {
+                int left = addExpression(binary.getLeft().createExpression(camelContext, expression));
+                int right = addExpression(binary.getRight().createExpression(camelContext, expression));
+                return new Operator(method, isNegated(binary.getOperator()), left, right);
+            }
+        }
+
+        // evaluate the node as an interpreted expression
+        Expression exp = node.createExpression(camelContext, expression);
+        return exp != null ? new Leaf(addExpression(exp)) : null;
+    }
+
+    private int addExpression(Expression exp) {
+        org.apache.camel.util.ObjectHelper.notNull(exp, "expression");
+        expressions.add(exp);
+        return expressions.size() - 1;
+    }
+
+    private static String toMethod(BinaryOperatorType type) {
+        return switch (type) {
+            case EQ -> "isEqualTo";
+            case EQ_IGNORE, NOT_EQ_IGNORE -> "isEqualToIgnoreCase";
+            case NOT_EQ -> "isNotEqualTo";
+            case GT -> "isGreaterThan";
+            case GTE -> "isGreaterThanOrEqualTo";
+            case LT -> "isLessThan";
+            case LTE -> "isLessThanOrEqualTo";
+            case CONTAINS, NOT_CONTAINS -> "contains";
+            case CONTAINS_IGNORECASE, NOT_CONTAINS_IGNORECASE -> "containsIgnoreCase";
+            case STARTS_WITH -> "startsWith";
+            case ENDS_WITH -> "endsWith";
+            default -> null;
+        };
+    }
+
+    private static boolean isNegated(BinaryOperatorType type) {
+        return type == BinaryOperatorType.NOT_EQ_IGNORE || type == BinaryOperatorType.NOT_CONTAINS
+                || type == BinaryOperatorType.NOT_CONTAINS_IGNORECASE;
+    }
+
+    private Predicate define(Node root) throws Throwable {
+        byte[] bytes = generate(root);
+        MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(bytes, true);
+        MethodHandle constructor = lookup.findConstructor(lookup.lookupClass(),
+                MethodType.methodType(void.class, String.class, Expression[].class));
+        Expression[] array = expressions.toArray(new Expression[0]);
+        Predicate answer = (Predicate) constructor.invoke(expression, array);
+        LOG.trace("Compiled simple predicate: {} with {} expressions to class: {}", expression, array.length,
+                lookup.lookupClass().getName());
+        return answer;
+    }
+
+    // --------------------------------------------------------------
+    // bytecode
+    // --------------------------------------------------------------
+
+    private byte[] generate(Node root) throws IOException {
+        ConstantPool pool = new ConstantPool();
+        int thisClass = pool.classRef(CLASS_NAME);
+        int superClass = pool.classRef(SUPER_CLASS);
+        int[] fields = new int[expressions.size()];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = pool.fieldRef(CLASS_NAME, "e" + i, EXPRESSION_DESC);
+        }
+
+        // constructor which calls the super constructor and stores the expressions in the final fields
+        Code init = new Code();
+        init.op(Code.ALOAD_0, 1);
+        init.op(Code.ALOAD_1, 1);
+        init.op(Code.ALOAD_2, 1);
+        init.op(Code.INVOKESPECIAL, -3);
+        init.u2(pool.methodRef(SUPER_CLASS, "<init>", CONSTRUCTOR_DESC));
+        for (int i = 0; i < fields.length; i++) {
+            init.op(Code.ALOAD_0, 1);
+            init.op(Code.ALOAD_2, 1);
+            init.pushInt(i);
+            init.op(Code.AALOAD, -1);
+            init.op(Code.PUTFIELD, -2);
+            init.u2(fields[i]);
+        }
+        init.op(Code.RETURN, 0);
+
+        // the matches method with the compiled operators
+        Code matches = new Code();
+        emit(matches, pool, fields, root);
+        matches.op(Code.IRETURN, -1);
+
+        // the constant pool must be complete before it is written, so write the class body first
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(body);
+        out.writeShort(0x0010 | 0x0020); // final super
+        out.writeShort(thisClass);
+        out.writeShort(superClass);
+        out.writeShort(0); // interfaces
+        out.writeShort(fields.length);
+        for (int i = 0; i < fields.length; i++) {
+            out.writeShort(0x0002 | 0x0010); // private final
+            out.writeShort(pool.utf8("e" + i));
+            out.writeShort(pool.utf8(EXPRESSION_DESC));
+            out.writeShort(0);
+        }
+        out.writeShort(2);
+        writeMethod(out, pool, "<init>", CONSTRUCTOR_DESC, init, 3);
+        writeMethod(out, pool, "matches", MATCHES_DESC, matches, 2);
+        out.writeShort(0); // attributes
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream file = new DataOutputStream(bytes);
+        file.writeInt(0xCAFEBABE);
+        file.writeShort(0);
+        file.writeShort(61); // java 17
+        pool.writeTo(file);
+        body.writeTo(file);
+        file.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void emit(Code code, ConstantPool pool, int[] fields, Node node) {
+        if (node instanceof Leaf leaf) {
+            code.op(Code.ALOAD_0, 1);
+            code.op(Code.GETFIELD, 0);
+            code.u2(fields[leaf.index]);
+            code.op(Code.ALOAD_1, 1);
+            code.op(Code.INVOKESTATIC, -1);
+            code.u2(pool.methodRef(SUPER_CLASS, "matches", LEAF_DESC));
+        } else if (node instanceof Operator operator) {
+            code.op(Code.ALOAD_1, 1);
+            emitValue(code, pool, fields[operator.left]);
+            emitValue(code, pool, fields[operator.right]);
+            code.op(Code.INVOKESTATIC, -2);
+            code.u2(pool.methodRef(SUPER_CLASS, operator.method, OPERATOR_DESC));
+            if (operator.negate) {
+                code.op(Code.ICONST_1, 1);
+                code.op(Code.IXOR, -1);
+            }
+        } else if (node instanceof Logical logical) {
+            // short circuit: and jumps to false when the left side is false, or jumps to true when the left side is true
+            emit(code, pool, fields, logical.left);
+            int shortCircuit = code.branch(logical.and ? Code.IFEQ : Code.IFNE, -1);
+            emit(code, pool, fields, logical.right);
+            int end = code.branch(Code.GOTO, 0);
+            code.label(shortCircuit);
+            code.op(logical.and ? Code.ICONST_0 : Code.ICONST_1, 1);
+            code.label(end);
+        }
+    }
+
+    private static void emitValue(Code code, ConstantPool pool, int field) {
+        // expression.evaluate(exchange, Object.class)
+        code.op(Code.ALOAD_0, 1);
+        code.op(Code.GETFIELD, 0);
+        code.u2(field);
+        code.op(Code.ALOAD_1, 1);
+        code.ldc(pool.classRef("java/lang/Object"));
+        code.op(Code.INVOKEINTERFACE, -2);
+        code.u2(pool.interfaceMethodRef(EXPRESSION_CLASS, "evaluate", EVALUATE_DESC));
+        code.u1(3);
+        code.u1(0);
+    }
+
+    private static void writeMethod(
+            DataOutputStream out, ConstantPool pool, String name, String desc, Code code, int maxLocals)
+            throws IOException {
+        byte[] frames = code.stackMapTable();
+        out.writeShort(0x0001); // public
+        out.writeShort(pool.utf8(name));
+        out.writeShort(pool.utf8(desc));
+        out.writeShort(1);
+        out.writeShort(pool.utf8("Code"));
+        int attributes = frames != null ? 6 + frames.length : 0;
+        out.writeInt(12 + code.length + attributes);
+        out.writeShort(code.maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(code.length);
+        out.write(code.code, 0, code.length);
+        out.writeShort(0); // exception table
+        if (frames != null) {
+            out.writeShort(1);
+            out.writeShort(pool.utf8("StackMapTable"));
+            out.writeInt(frames.length);
+            out.write(frames);
+        } else {
+            out.writeShort(0);
+        }
+    }
+
+    // --------------------------------------------------------------
+    // model
+    // --------------------------------------------------------------
+
+    private interface Node {
+    }
+
+    /**
+     * A node which is evaluated as an interpreted expression
+     */
+    private record Leaf(int index) implements Node {
+    }
+
+    /**
+     * A binary operator which is invoked with the values of the left and right expressions
+     */
+    private record Operator(String method, boolean negate, int left, int right) implements Node {
+    }
+
+    /**
+     * A logical and/or operator
+     */
+    private record Logical(boolean and, Node left, Node right) implements Node {
+    }
+
+    /**
+     * The constant pool of the class file
+     */
+    private static final class ConstantPool {
+
+        private final Map<String, Integer> entries = new HashMap<>();
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private int count = 1;
+
+        int utf8(String text) {
+            Integer index = entries.get("U" + text);
+            if (index == null) {
+                try {
+                    out.writeByte(1);
+                    out.writeUTF(text);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+                index = add("U" + text);
+            }
+            return index;
+        }
+
+        int classRef(String name) {
+            return entry("C" + name, 7, utf8(name), -1);
+        }
+
+        int fieldRef(String owner, String name, String desc) {
+            return entry("F" + owner + "." + name + desc, 9, classRef(owner), nameAndType(name, desc));
+        }
+
+        int methodRef(String owner, String name, String desc) {
+            return entry("M" + owner + "." + name + desc, 10, classRef(owner), nameAndType(name, desc));
+        }
+
+        int interfaceMethodRef(String owner, String name, String desc) {
+            return entry("I" + owner + "." + name + desc, 11, classRef(owner), nameAndType(name, desc));
+        }
+
+        private int nameAndType(String name, String desc) {
+            return entry("N" + name + desc, 12, utf8(name), utf8(desc));
+        }
+
+        private int entry(String key, int tag, int first, int second) {
+            Integer index = entries.get(key);
+            if (index == null) {
+                try {
+                    out.writeByte(tag);
+                    out.writeShort(first);
+                    if (second != -1) {
+                        out.writeShort(second);
+                    }
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+                index = add(key);
+            }
+            return index;
+        }
+
+        private int add(String key) {
+            int index = count++;
+            entries.put(key, index);
+            return index;
+        }
+
+        void writeTo(DataOutputStream file) throws IOException {
+            file.writeShort(count);
+            bytes.writeTo(file);
+        }
+    }
+
+    /**
+     * The bytecode of a method, which keeps track of the stack size and the frames at the branch targets.
+     * <p/>
+     * The locals of a method never change, and there is at most one int value on the stack at a branch target.
+     */
+    private static final class Code {
+
+        static final int ICONST_0 = 0x03;
+        static final int ICONST_1 = 0x04;
+        static final int BIPUSH = 0x10;
+        static final int SIPUSH = 0x11;
+        static final int LDC = 0x12;
+        static final int LDC_W = 0x13;
+        static final int ALOAD_0 = 0x2A;
+        static final int ALOAD_1 = 0x2B;
+        static final int ALOAD_2 = 0x2C;
+        static final int AALOAD = 0x32;
+        static final int IXOR = 0x82;
+        static final int IFEQ = 0x99;
+        static final int IFNE = 0x9A;
+        static final int GOTO = 0xA7;
+        static final int IRETURN = 0xAC;
+        static final int RETURN = 0xB1;
+        static final int GETFIELD = 0xB4;
+        static final int PUTFIELD = 0xB5;
+        static final int INVOKESPECIAL = 0xB7;
+        static final int INVOKESTATIC = 0xB8;
+        static final int INVOKEINTERFACE = 0xB9;
+
+        private byte[] code = new byte[256];
+        private int length;
+        private int stack;
+        private int maxStack;
+        // the offset and stack size of each frame
+        private final List<int[]> frames = new ArrayList<>();
+
+        void u1(int value) {
+            if (length == code.length) {
+                code = Arrays.copyOf(code, code.length * 2);
+            }
+            code[length++] = (byte) value;
+        }
+
+        void u2(int value) {
+            u1(value >> 8);
+            u1(value);
+        }
+
+        void op(int opcode, int stackChange) {
+            u1(opcode);
+            stack += stackChange;
+            maxStack = Math.max(maxStack, stack);
+        }
+
+        void pushInt(int value) {
+            if (value <= 5) {
+                op(ICONST_0 + value, 1);
+            } else if (value <= Byte.MAX_VALUE) {
+                op(BIPUSH, 1);
+                u1(value);
+            } else {
+                op(SIPUSH, 1);
+                u2(value);
+            }
+        }
+
+        void ldc(int index) {
+            if (index <= 0xFF) {
+                op(LDC, 1);
+                u1(index);
+            } else {
+                op(LDC_W, 1);
+                u2(index);
+            }
+        }
+
+        /**
+         * Emits a branch instruction and returns its offset, which must be passed to {@link #label(int)} at the target
+         */
+        int branch(int opcode, int stackChange) {
+            int offset = length;
+            op(opcode, stackChange);
+            u2(0);
+            if (opcode == GOTO) {
+                // the code after goto is only reached by other branches which have one value less on the stack
+                stack--;
+            }
+            return offset;
+        }
+
+        /**
+         * Marks the current offset as the target of the given branch instruction
+         */
+        void label(int branch) {
+            int jump = length - branch;
+            if (jump > Short.MAX_VALUE) {
+                throw new IllegalStateException("Predicate is too big to be compiled");
+            }
+            code[branch + 1] = (byte) (jump >> 8);
+            code[branch + 2] = (byte) jump;
+
+            int[] last = frames.isEmpty() ? null : frames.get(frames.size() - 1);
+            if (last != null && last[0] == length) {
+                if (last[1] != stack) {
+                    throw new IllegalStateException("Inconsistent stack at offset " + length);
+                }
+            } else {
+                frames.add(new int[] { length, stack });
+            }
+        }
+
+        byte[] stackMapTable() {
+            if (frames.isEmpty()) {
+                return null;
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            bytes.write(frames.size() >> 8);
+            bytes.write(frames.size());
+            int previous = -1;
+            for (int[] frame : frames) {
+                int delta = previous == -1 ? frame[0] : frame[0] - previous - 1;
+                previous = frame[0];
+                if (frame[1] == 0) {
+                    if (delta < 64) {
+                        // same_frame
+                        bytes.write(delta);
+                    } else {
+                        // same_frame_extended
+                        bytes.write(251);
+                        bytes.write(delta >> 8);
+                        bytes.write(delta);
+                    }
+                } else if (frame[1] == 1) {
+                    if (delta < 64) {
+                        // same_locals_1_stack_item_frame
+                        bytes.write(64 + delta);
+                    } else {
+                        // same_locals_1_stack_item_frame_extended
+                        bytes.write(247);
+                        bytes.write(delta >> 8);
+                        bytes.write(delta);
+                    }
+                    // the int value
+                    bytes.write(1);
+                } else {
+                    throw new IllegalStateException("Unexpected stack size " + frame[1] + " at offset " + frame[0]);
+                }
+            }
+            return bytes.toByteArray();
+        }
+    }
+}
@@ -82,6 +82,24 @@ public class SimplePredicateParser extends BaseSimpleParser {
         }
     }
 
+    /**
+     * Parses the predicate and compiles the AST to bytecode, instead of creating a predicate which interprets the AST.
+     * <p/>
+     * If the predicate cannot be compiled then the predicate is interpreted.
+     */
+    public Predicate parseCompiledPredicate() {
+        try {
+            parseTokens();
+            return doParseCompiledPredicate();
+        } catch (SimpleParserException e) {
+            // catch parser exception and turn that into a syntax exceptions
+            throw new SimpleIllegalSyntaxException(expression, e.getIndex(), e.getMessage(), e);
+        } catch (Exception e) {
+            // include exception in rethrown exception
+            throw new SimpleIllegalSyntaxException(expression, -1, e.getMessage(), e);
+        }
+    }
+
     public String parseCode() {
         try {
             parseTokens();
@@ -159,6 +177,17 @@ public class SimplePredicateParser extends BaseSimpleParser {
         }
     }
 
+    /**
+     * Second step compiling into a predicate
+     */
+    protected Predicate doParseCompiledPredicate() {
+        Predicate answer = SimplePredicateCompiler.compile(camelContext, expression, nodes);
+        if (answer == null) {
+            answer = doParsePredicate();
+        }
+        return answer;
+    }
+
     /**
      * Second step parsing into code
      */
@@ -90,6 +90,9 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
     @Metadata(javaType = "java.lang.Boolean")
     private String optimisticLocking;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String lockStripes;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.util.concurrent.ExecutorService")
     private String executorService;
     @XmlAttribute
@@ -173,6 +176,7 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
                 ? source.optimisticLockRetryPolicyDefinition.copyDefinition() : null;
         this.parallelProcessing = source.parallelProcessing;
         this.optimisticLocking = source.optimisticLocking;
+        this.lockStripes = source.lockStripes;
         this.executorService = source.executorService;
         this.timeoutCheckerExecutorService = source.timeoutCheckerExecutorService;
         this.aggregateController = source.aggregateController;
@@ -501,6 +505,14 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         this.optimisticLocking = optimisticLocking;
     }
 
+    public String getLockStripes() {
+        return lockStripes;
+    }
+
+    public void setLockStripes(String lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public String getParallelProcessing() {
         return parallelProcessing;
     }
@@ -1000,6 +1012,32 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         return this;
     }
 
+    /**
+     * Turns on lock striping, where the aggregator uses the given number of locks (stripes), and an incoming exchange
+     * only locks the stripe of its correlation key. This allows exchanges with different correlation keys to be
+     * aggregated in parallel, while exchanges with the same correlation key are still aggregated one at a time.
+     * <p/>
+     * By default a single lock is used for all the correlation keys. Lock striping cannot be used together with
+     * optimistic locking or completionFromBatchConsumer.
+     */
+    public AggregateDefinition lockStripes(int lockStripes) {
+        setLockStripes(Integer.toString(lockStripes));
+        return this;
+    }
+
+    /**
+     * Turns on lock striping, where the aggregator uses the given number of locks (stripes), and an incoming exchange
+     * only locks the stripe of its correlation key. This allows exchanges with different correlation keys to be
+     * aggregated in parallel, while exchanges with the same correlation key are still aggregated one at a time.
+     * <p/>
+     * By default a single lock is used for all the correlation keys. Lock striping cannot be used together with
+     * optimistic locking or completionFromBatchConsumer.
+     */
+    public AggregateDefinition lockStripes(String lockStripes) {
+        setLockStripes(lockStripes);
+        return this;
+    }
+
     /**
      * Allows to configure retry settings when using optimistic locking.
      */
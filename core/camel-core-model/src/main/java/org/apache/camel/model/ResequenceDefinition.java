@@ -201,6 +201,20 @@ public class ResequenceDefinition extends OutputDefinition<ResequenceDefinition>
         return this;
     }
 
+    /**
+     * Sets the stream resequencer to use a ring buffer indexed by the sequence number and a hashed timer wheel for the
+     * timeouts, which requires numeric sequence numbers
+     *
+     * @return the builder
+     */
+    public ResequenceDefinition timerWheel() {
+        if (streamConfig == null) {
+            throw new IllegalStateException("timerWheel() only supported for stream resequencer");
+        }
+        streamConfig.setTimerWheel(Boolean.toString(true));
+        return this;
+    }
+
     /**
      * Sets the in batch size for number of exchanges received
      *
@@ -71,6 +71,9 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     @Metadata(javaType = "java.lang.Boolean")
     private String streaming;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String maxInflight;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
     private String stopOnException;
     @XmlAttribute
@@ -102,6 +105,7 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.parallelProcessing = source.parallelProcessing;
         this.synchronous = source.synchronous;
         this.streaming = source.streaming;
+        this.maxInflight = source.maxInflight;
         this.stopOnException = source.stopOnException;
         this.timeout = source.timeout;
         this.executorService = source.executorService;
@@ -410,6 +414,39 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * Sets the maximum number of split messages in flight, when using parallel processing. A split message is in flight
+     * from when it is split until its reply has been aggregated. When the limit is reached, the splitter waits for a
+     * reply to be aggregated before splitting the next message, which in streaming mode applies backpressure to the
+     * source, so a large message can be split with a bounded amount of memory.
+     * <p/>
+     * When this option is set, the replies are aggregated in the same order as the messages were split, also in
+     * streaming mode, as the replies which are waiting for their predecessors are bounded by this limit.
+     *
+     * @param  maxInflight the maximum number of split messages in flight
+     * @return             the builder
+     */
+    public SplitDefinition maxInflight(int maxInflight) {
+        return maxInflight(Integer.toString(maxInflight));
+    }
+
+    /**
+     * Sets the maximum number of split messages in flight, when using parallel processing. A split message is in flight
+     * from when it is split until its reply has been aggregated. When the limit is reached, the splitter waits for a
+     * reply to be aggregated before splitting the next message, which in streaming mode applies backpressure to the
+     * source, so a large message can be split with a bounded amount of memory.
+     * <p/>
+     * When this option is set, the replies are aggregated in the same order as the messages were split, also in
+     * streaming mode, as the replies which are waiting for their predecessors are bounded by this limit.
+     *
+     * @param  maxInflight the maximum number of split messages in flight
+     * @return             the builder
+     */
+    public SplitDefinition maxInflight(String maxInflight) {
+        setMaxInflight(maxInflight);
+        return this;
+    }
+
     /**
      * Will now stop further processing if an exception or failure occurred during processing of an
      * {@link org.apache.camel.Exchange} and the caused exception will be thrown.
@@ -630,6 +667,14 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.streaming = streaming;
     }
 
+    public String getMaxInflight() {
+        return maxInflight;
+    }
+
+    public void setMaxInflight(String maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
     @Deprecated(since = "4.7.0")
     public String getParallelAggregate() {
         return parallelAggregate;
@@ -64,6 +64,9 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     @XmlAttribute
     @Metadata(defaultValue = "1000", javaType = "java.time.Duration")
     private String timePeriodMillis;
+    @XmlAttribute
+    @Metadata(enums = "Aimd,Vegas")
+    private String adaptiveAlgorithm;
 
     public ThrottleDefinition() {
         totalRequestsMode();
@@ -80,6 +83,7 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         this.callerRunsWhenRejected = source.callerRunsWhenRejected;
         this.rejectExecution = source.rejectExecution;
         this.timePeriodMillis = source.timePeriodMillis;
+        this.adaptiveAlgorithm = source.adaptiveAlgorithm;
     }
 
     public ThrottleDefinition(Expression maximumRequestsPerPeriod) {
@@ -125,6 +129,8 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     protected String description() {
         if (mode.equals(ThrottlingMode.TotalRequests.name())) {
             return getExpression() + " request per " + getTimePeriodMillis() + " millis";
+        } else if (adaptiveAlgorithm != null) {
+            return getExpression() + " maximum adaptive (" + adaptiveAlgorithm + ") concurrent requests";
         } else {
             return getExpression() + " maximum concurrent requests";
         }
@@ -331,6 +337,19 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return this;
     }
 
+    /**
+     * Adjusts the maximum concurrent requests automatically from the latency of the exchanges, when using concurrent
+     * requests mode. The algorithm is either Aimd (additive increase, multiplicative decrease) or Vegas (TCP Vegas style
+     * gradient). The maximum requests is then the upper bound of the limit.
+     *
+     * @param  adaptiveAlgorithm the algorithm, either Aimd or Vegas
+     * @return                   the builder
+     */
+    public ThrottleDefinition adaptiveAlgorithm(String adaptiveAlgorithm) {
+        setAdaptiveAlgorithm(adaptiveAlgorithm);
+        return this;
+    }
+
     /**
      * To use a custom thread pool (ScheduledExecutorService) by the throttler.
      *
@@ -455,6 +474,14 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return mode;
     }
 
+    public String getAdaptiveAlgorithm() {
+        return adaptiveAlgorithm;
+    }
+
+    public void setAdaptiveAlgorithm(String adaptiveAlgorithm) {
+        this.adaptiveAlgorithm = adaptiveAlgorithm;
+    }
+
     /**
      * Sets the throttling mode to one of the available modes enumerated in ThrottlingMode
      *
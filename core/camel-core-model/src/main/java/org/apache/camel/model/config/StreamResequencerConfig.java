@@ -52,6 +52,9 @@ public class StreamResequencerConfig extends ResequencerConfig {
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
     private String rejectOld;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean")
+    private String timerWheel;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "org.apache.camel.processor.resequencer.ExpressionResultComparator")
     private String comparator;
 
@@ -122,6 +125,7 @@ public class StreamResequencerConfig extends ResequencerConfig {
         this.deliveryAttemptInterval = source.deliveryAttemptInterval;
         this.ignoreInvalidExchanges = source.ignoreInvalidExchanges;
         this.rejectOld = source.rejectOld;
+        this.timerWheel = source.timerWheel;
         this.comparator = source.comparator;
     }
 
@@ -219,4 +223,18 @@ public class StreamResequencerConfig extends ResequencerConfig {
         return rejectOld;
     }
 
+    public String getTimerWheel() {
+        return timerWheel;
+    }
+
+    /**
+     * Whether to use a resequencer engine which keeps the messages in a ring buffer indexed by their sequence number,
+     * and uses a hashed timer wheel for the timeouts. This reduces the contention and the number of timer tasks when
+     * many messages arrive out of order. This requires numeric sequence numbers, and cannot be used with a custom
+     * comparator.
+     */
+    public void setTimerWheel(String timerWheel) {
+        this.timerWheel = timerWheel;
+    }
+
 }
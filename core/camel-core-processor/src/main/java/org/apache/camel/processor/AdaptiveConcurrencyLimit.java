@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+/**
+ * A concurrency limit which is adjusted from the latency of the exchanges, used by the {@link ConcurrentRequestsThrottler}
+ * in adaptive mode.
+ * <p/>
+ * The limit starts at {@link #INITIAL_LIMIT} (or the maximum limit if lower), and is never adjusted above the maximum
+ * limit, which is the maximum requests of the throttler. The limit is only increased while it is being used, as the
+ * latency tells nothing about the capacity of the downstream system while only a few exchanges are in flight.
+ * <p/>
+ * The lowest latency is taken from the exchanges which succeeded only, and is measured again from time to time, so the
+ * limit follows when the downstream system gets slower.
+ */
+public abstract class AdaptiveConcurrencyLimit {
+
+    public static final int INITIAL_LIMIT = 20;
+
+    private static final int PROBE_MULTIPLIER = 30;
+
+    private volatile int limit;
+    private volatile int maximumLimit;
+    private volatile long minLatency;
+    private long samples;
+
+    protected AdaptiveConcurrencyLimit() {
+        this.limit = INITIAL_LIMIT;
+        this.maximumLimit = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Creates a limit for the given algorithm.
+     *
+     * @param  algorithm                either <tt>Aimd</tt> or <tt>Vegas</tt>
+     * @throws IllegalArgumentException if the algorithm is not supported
+     */
+    public static AdaptiveConcurrencyLimit newLimit(String algorithm) {
+        if ("Aimd".equalsIgnoreCase(algorithm)) {
+            return new Aimd();
+        } else if ("Vegas".equalsIgnoreCase(algorithm)) {
+            return new Vegas();
+        }
+        throw new IllegalArgumentException("Unknown adaptive algorithm: " + algorithm + ". Supported values are: Aimd, Vegas");
+    }
+
+    /**
+     * The name of the algorithm
+     */
+    public abstract String getAlgorithm();
+
+    /**
+     * The current limit, which is never above the maximum limit.
+     */
+    public int getLimit() {
+        return Math.min(limit, maximumLimit);
+    }
+
+    /**
+     * The lowest latency (in nanos) of the exchanges, which is the latency of the downstream system without load.
+     */
+    public long getMinLatency() {
+        return minLatency;
+    }
+
+    /**
+     * Sets the upper bound of the limit.
+     */
+    public void setMaximumLimit(int maximumLimit) {
+        this.maximumLimit = maximumLimit;
+    }
+
+    /**
+     * Adjusts the limit from the latency of a completed exchange.
+     *
+     * @param  latency  the time (in nanos) from when the exchange acquired a permit until it completed
+     * @param  inflight the number of exchanges in flight when the exchange completed, including the exchange
+     * @param  failed   whether the exchange failed
+     * @return          the new limit
+     */
+    public synchronized int onSample(long latency, int inflight, boolean failed) {
+        int current = getLimit();
+        if (!failed && latency > 0) {
+            if (++samples >= (long) PROBE_MULTIPLIER * current) {
+                // measure the lowest latency again, starting from this exchange
+                samples = 0;
+                minLatency = latency;
+                return current;
+            } else if (minLatency == 0 || latency < minLatency) {
+                minLatency = latency;
+            }
+        }
+        int answer = Math.max(1, Math.min(maximumLimit, update(current, latency, inflight, failed)));
+        limit = answer;
+        return answer;
+    }
+
+    /**
+     * Calculates the new limit
+     *
+     * @param limit    the current limit
+     * @param latency  the latency of the completed exchange
+     * @param inflight the number of exchanges in flight
+     * @param failed   whether the exchange failed
+     */
+    protected abstract int update(int limit, long latency, int inflight, boolean failed);
+
+    /**
+     * Additive increase, multiplicative decrease.
+     * <p/>
+     * The limit is decreased by 10% when an exchange fails, or when its latency is more than twice the lowest latency.
+     * Otherwise, the limit is increased by one when at least half of it is in use. The limit is decreased at most once
+     * per latency window: the exchanges which were already in flight when the limit was decreased do not decrease it
+     * again.
+     */
+    static final class Aimd extends AdaptiveConcurrencyLimit {
+
+        private static final double BACKOFF_RATIO = 0.9;
+        private static final int LATENCY_TOLERANCE = 2;
+
+        private boolean backedOff;
+        private long lastBackoff;
+
+        @Override
+        public String getAlgorithm() {
+            return "Aimd";
+        }
+
+        @Override
+        protected int update(int limit, long latency, int inflight, boolean failed) {
+            long min = getMinLatency();
+            if (failed || min > 0 && latency > min * LATENCY_TOLERANCE) {
+                long now = System.nanoTime();
+                if (backedOff && now - latency - lastBackoff < 0) {
+                    // the exchange started before the last decrease, which already accounted for it
+                    return limit;
+                }
+                backedOff = true;
+                lastBackoff = now;
+                return (int) (limit * BACKOFF_RATIO);
+            } else if (inflight * 2 >= limit) {
+                return limit + 1;
+            }
+            return limit;
+        }
+    }
+
+    /**
+     * TCP Vegas style gradient.
+     * <p/>
+     * The number of exchanges which are queued in the downstream system is estimated as
+     * <tt>limit * (1 - minLatency / latency)</tt>. The limit is increased while the estimated queue is small, and
+     * decreased when it grows, where the thresholds grow with the logarithm of the limit.
+     */
+    static final class Vegas extends AdaptiveConcurrencyLimit {
+
+        @Override
+        public String getAlgorithm() {
+            return "Vegas";
+        }
+
+        @Override
+        protected int update(int limit, long latency, int inflight, boolean failed) {
+            int log10 = Math.max(1, (int) Math.log10(limit));
+            if (failed) {
+                return limit - log10;
+            }
+            long min = getMinLatency();
+            if (inflight * 2 < limit || min == 0) {
+                // the limit is not used, so the latency says nothing about the capacity
+                return limit;
+            }
+
+            int alpha = 3 * log10;
+            int beta = 6 * log10;
+            int queueSize = (int) Math.ceil(limit * (1 - (double) min / latency));
+            if (queueSize <= log10) {
+                return limit + beta;
+            } else if (queueSize < alpha) {
+                return limit + log10;
+            } else if (queueSize > beta) {
+                return limit - log10;
+            }
+            return limit;
+        }
+    }
+
+}
@@ -18,6 +18,7 @@ package org.apache.camel.processor;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
@@ -51,6 +52,9 @@ import org.slf4j.LoggerFactory;
  *
  * The throttling mechanism is a Semaphore with maxConcurrentRequests permits on it. Callers trying to acquire a permit
  * will block if necessary when maxConcurrentRequests permits have been acquired.
+ *
+ * In adaptive mode the number of permits is an {@link AdaptiveConcurrencyLimit}, which is adjusted from the latency of
+ * the exchanges, and maxConcurrentRequests is the upper bound of the limit.
  */
 public class ConcurrentRequestsThrottler extends AbstractThrottler {
 
@@ -69,6 +73,7 @@ public class ConcurrentRequestsThrottler extends AbstractThrottler {
     }
 
     private final Map<String, ThrottlingState> states = new ConcurrentHashMap<>();
+    private String adaptiveAlgorithm;
 
     public ConcurrentRequestsThrottler(final CamelContext camelContext, final Expression maxRequestsExpression,
                                        final ScheduledExecutorService asyncExecutor, final boolean shutdownAsyncExecutor,
@@ -222,16 +227,22 @@ public class ConcurrentRequestsThrottler extends AbstractThrottler {
         private final AtomicReference<ScheduledFuture<?>> cleanFuture = new AtomicReference<>();
         private volatile int throttleRate;
         private final WrappedSemaphore semaphore;
+        private final AdaptiveConcurrencyLimit adaptiveLimit;
 
         ThrottlingState(String key) {
             this.key = key;
             semaphore = new WrappedSemaphore();
+            adaptiveLimit = adaptiveAlgorithm != null ? AdaptiveConcurrencyLimit.newLimit(adaptiveAlgorithm) : null;
         }
 
         public int getThrottleRate() {
             return throttleRate;
         }
 
+        public AdaptiveConcurrencyLimit getAdaptiveLimit() {
+            return adaptiveLimit;
+        }
+
         public void clean() {
             states.remove(key);
         }
@@ -250,19 +261,41 @@ public class ConcurrentRequestsThrottler extends AbstractThrottler {
         }
 
         private void addSynchronization(final Exchange exchange) {
+            final long acquired = adaptiveLimit != null ? System.nanoTime() : 0;
             exchange.getExchangeExtension().addOnCompletion(new Synchronization() {
                 @Override
                 public void onComplete(Exchange exchange) {
+                    if (adaptiveLimit != null) {
+                        adapt(exchange, System.nanoTime() - acquired, false);
+                    }
                     release(exchange);
                 }
 
                 @Override
                 public void onFailure(Exchange exchange) {
+                    if (adaptiveLimit != null) {
+                        adapt(exchange, System.nanoTime() - acquired, true);
+                    }
                     release(exchange);
                 }
             });
         }
 
+        /**
+         * Adjusts the throttle rate to the adaptive limit, from the latency of the completed exchange.
+         */
+        private void adapt(final Exchange exchange, long latency, boolean failed) {
+            lock.lock();
+            try {
+                // the permit of this exchange is not released yet, so it is included
+                int inflight = throttleRate - semaphore.availablePermits();
+                int newThrottle = adaptiveLimit.onSample(latency, inflight, failed);
+                adjustThrottleRate(exchange, newThrottle);
+            } finally {
+                lock.unlock();
+            }
+        }
+
         /**
          * Returns a permit.
          */
@@ -302,41 +335,50 @@ public class ConcurrentRequestsThrottler extends AbstractThrottler {
                 }
 
                 if (newThrottle != null) {
-                    if (newThrottle != throttleRate) {
-                        // decrease
-                        if (throttleRate > newThrottle) {
-                            int delta = throttleRate - newThrottle;
-
-                            // discard any permits that are needed to decrease throttling
-                            semaphore.reducePermits(delta);
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Throttle rate decreased from {} to {}, triggered by ExchangeId: {}", throttleRate,
-                                        newThrottle, exchange.getExchangeId());
-                            }
-
-                            // increase
-                        } else if (newThrottle > throttleRate) {
-                            int delta = newThrottle - throttleRate;
-                            semaphore.increasePermits(delta);
-                            if (throttleRate == 0) {
-                                if (LOG.isDebugEnabled()) {
-                                    LOG.debug("Initial throttle rate set to {}, triggered by ExchangeId: {}", newThrottle,
-                                            exchange.getExchangeId());
-                                }
-                            } else {
-                                if (LOG.isDebugEnabled()) {
-                                    LOG.debug("Throttle rate increase from {} to {}, triggered by ExchangeId: {}", throttleRate,
-                                            newThrottle, exchange.getExchangeId());
-                                }
-                            }
-                        }
-                        throttleRate = newThrottle;
+                    if (adaptiveLimit != null) {
+                        // the expression is the upper bound of the adaptive limit
+                        adaptiveLimit.setMaximumLimit(newThrottle);
+                        newThrottle = adaptiveLimit.getLimit();
                     }
+                    adjustThrottleRate(exchange, newThrottle);
                 }
             } finally {
                 lock.unlock();
             }
         }
+
+        private void adjustThrottleRate(final Exchange exchange, int newThrottle) {
+            if (newThrottle != throttleRate) {
+                // decrease
+                if (throttleRate > newThrottle) {
+                    int delta = throttleRate - newThrottle;
+
+                    // discard any permits that are needed to decrease throttling
+                    semaphore.reducePermits(delta);
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Throttle rate decreased from {} to {}, triggered by ExchangeId: {}", throttleRate,
+                                newThrottle, exchange.getExchangeId());
+                    }
+
+                    // increase
+                } else if (newThrottle > throttleRate) {
+                    int delta = newThrottle - throttleRate;
+                    semaphore.increasePermits(delta);
+                    if (throttleRate == 0) {
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug("Initial throttle rate set to {}, triggered by ExchangeId: {}", newThrottle,
+                                    exchange.getExchangeId());
+                        }
+                    } else {
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug("Throttle rate increase from {} to {}, triggered by ExchangeId: {}", throttleRate,
+                                    newThrottle, exchange.getExchangeId());
+                        }
+                    }
+                }
+                throttleRate = newThrottle;
+            }
+        }
     }
 
     // extend Semaphore so we can reduce permits if required
@@ -371,6 +413,36 @@ public class ConcurrentRequestsThrottler extends AbstractThrottler {
         return "ConcurrentRequests";
     }
 
+    /**
+     * The algorithm used to adjust the maximum concurrent requests from the latency of the exchanges, or <tt>null</tt>
+     * if the maximum is not adjusted.
+     */
+    public String getAdaptiveAlgorithm() {
+        return adaptiveAlgorithm;
+    }
+
+    /**
+     * Sets the algorithm (<tt>Aimd</tt> or <tt>Vegas</tt>) to adjust the maximum concurrent requests from the latency of
+     * the exchanges. The maximum requests expression is then the upper bound.
+     */
+    public void setAdaptiveAlgorithm(String adaptiveAlgorithm) {
+        if (adaptiveAlgorithm != null) {
+            // fail fast on unknown algorithm
+            AdaptiveConcurrencyLimit.newLimit(adaptiveAlgorithm);
+        }
+        this.adaptiveAlgorithm = adaptiveAlgorithm;
+    }
+
+    /**
+     * Gets the lowest latency (in millis) observed by the adaptive limit. If it is grouped throttling applied with
+     * correlationExpression then the lowest within the groups is returned.
+     */
+    public long getAdaptiveMinLatency() {
+        long answer = states.values().stream().map(ThrottlingState::getAdaptiveLimit).filter(Objects::nonNull)
+                .mapToLong(AdaptiveConcurrencyLimit::getMinLatency).filter(l -> l > 0).min().orElse(0);
+        return TimeUnit.NANOSECONDS.toMillis(answer);
+    }
+
     /**
      * Gets the current maximum request. If it is grouped throttling applied with correlationExpression then the max
      * within the group will return
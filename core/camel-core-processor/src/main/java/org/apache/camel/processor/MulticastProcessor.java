@@ -173,6 +173,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
     private final AggregationStrategy aggregationStrategy;
     private final boolean parallelProcessing;
     private boolean synchronous;
+    private int maxInflight;
     private final boolean streaming;
     private final boolean parallelAggregate;
     private final boolean stopOnException;
@@ -285,6 +286,19 @@ public class MulticastProcessor extends AsyncProcessorSupport
         this.synchronous = synchronous;
     }
 
+    public int getMaxInflight() {
+        return maxInflight;
+    }
+
+    /**
+     * Sets the maximum number of sub messages which are sent in parallel processing mode, and not yet aggregated. When
+     * the limit is reached, the next sub message is not created until a reply has been aggregated. The replies are then
+     * aggregated in order (also in streaming mode), as at most this number of replies wait for their predecessors.
+     */
+    public void setMaxInflight(int maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
     @Override
     protected void doBuild() throws Exception {
         if (processorExchangeFactory != null) {
@@ -411,6 +425,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean suspended = new AtomicBoolean();
         final Map<String, String> mdc;
         final ScheduledFuture<?> timeoutTask;
 
@@ -433,11 +448,13 @@ public class MulticastProcessor extends AsyncProcessorSupport
             } else {
                 this.mdc = null;
             }
+            // with a bounded window the replies can be aggregated in order, as only the window is buffered
+            boolean ordered = !isStreaming() || maxInflight > 0;
             if (capacity > 0) {
                 this.completion
-                        = new AsyncCompletionService<>(sync ? syncScheduler : scheduler, !isStreaming(), lock, capacity);
+                        = new AsyncCompletionService<>(sync ? syncScheduler : scheduler, ordered, lock, capacity);
             } else {
-                this.completion = new AsyncCompletionService<>(sync ? syncScheduler : scheduler, !isStreaming(), lock);
+                this.completion = new AsyncCompletionService<>(sync ? syncScheduler : scheduler, ordered, lock);
             }
         }
 
@@ -474,6 +491,30 @@ public class MulticastProcessor extends AsyncProcessorSupport
             }
         }
 
+        /**
+         * Whether the next sub message must wait, because the maximum number of sub messages in flight has been
+         * reached. In this case the task is suspended, and resumed by {@link #resumeIfSuspended()} once a reply is
+         * aggregated.
+         */
+        protected boolean suspendIfWindowFull() {
+            if (maxInflight <= 0 || !isWindowFull()) {
+                return false;
+            }
+            suspended.set(true);
+            // a reply may have been aggregated before the task was flagged as suspended
+            return isWindowFull() || !suspended.compareAndSet(true, false);
+        }
+
+        protected void resumeIfSuspended() {
+            if (suspended.get() && !done.get() && !isWindowFull() && suspended.compareAndSet(true, false)) {
+                schedule(this);
+            }
+        }
+
+        private boolean isWindowFull() {
+            return nbExchangeSent.get() - nbAggregated.get() >= maxInflight;
+        }
+
         protected void timeout() {
             Lock lock = this.lock;
             if (lock.tryLock()) {
@@ -607,6 +648,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
                         // next step
                         if (hasNext && !isParallelProcessing()) {
                             schedule(this);
+                        } else if (isParallelProcessing()) {
+                            resumeIfSuspended();
                         }
                     };
 
@@ -625,7 +668,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
                     }
                 });
                 // after submitting this pair then move on to the next pair (if in parallel mode)
-                if (hasNext && isParallelProcessing()) {
+                if (hasNext && isParallelProcessing() && !suspendIfWindowFull()) {
                     schedule(this);
                 }
             } catch (Exception e) {
@@ -31,9 +31,11 @@ import org.apache.camel.Expression;
 import org.apache.camel.Navigate;
 import org.apache.camel.Processor;
 import org.apache.camel.Traceable;
+import org.apache.camel.processor.resequencer.DefaultExchangeComparator;
 import org.apache.camel.processor.resequencer.ResequencerEngine;
 import org.apache.camel.processor.resequencer.SequenceElementComparator;
 import org.apache.camel.processor.resequencer.SequenceSender;
+import org.apache.camel.processor.resequencer.TimerWheelResequencerEngine;
 import org.apache.camel.spi.ExceptionHandler;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
@@ -70,13 +72,15 @@ public class StreamResequencer extends AsyncProcessorSupport
     private String routeId;
     private final CamelContext camelContext;
     private final ExceptionHandler exceptionHandler;
-    private final ResequencerEngine<Exchange> engine;
+    private ResequencerEngine<Exchange> engine;
     private final Processor processor;
+    private final SequenceElementComparator<Exchange> comparator;
     private final Expression expression;
     private Delivery delivery;
     private int capacity;
     private boolean ignoreInvalidExchanges;
     private long deliveryAttemptInterval = 1000L;
+    private boolean timerWheel;
 
     /**
      * Creates a new {@link StreamResequencer} instance.
@@ -91,6 +95,7 @@ public class StreamResequencer extends AsyncProcessorSupport
         this.engine = new ResequencerEngine<>(comparator);
         this.engine.setSequenceSender(this);
         this.processor = processor;
+        this.comparator = comparator;
         this.expression = expression;
         this.exceptionHandler = new LoggingExceptionHandler(camelContext, getClass());
     }
@@ -171,6 +176,19 @@ public class StreamResequencer extends AsyncProcessorSupport
         this.ignoreInvalidExchanges = ignoreInvalidExchanges;
     }
 
+    public boolean isTimerWheel() {
+        return timerWheel;
+    }
+
+    /**
+     * Sets whether to use the {@link TimerWheelResequencerEngine}, which keeps the exchanges in a ring buffer indexed
+     * by their sequence number and uses a hashed timer wheel for the timeouts, instead of a sorted set and a timer task
+     * per exchange. This requires numeric sequence numbers (the default comparator).
+     */
+    public void setTimerWheel(boolean timerWheel) {
+        this.timerWheel = timerWheel;
+    }
+
     @Override
     public String toString() {
         return id;
@@ -208,6 +226,21 @@ public class StreamResequencer extends AsyncProcessorSupport
 
     @Override
     protected void doInit() throws Exception {
+        if (timerWheel && !(engine instanceof TimerWheelResequencerEngine)) {
+            if (!(comparator instanceof DefaultExchangeComparator)) {
+                throw new IllegalArgumentException(
+                        "The timer wheel resequencer engine requires numeric sequence numbers, and cannot be used with comparator: "
+                                                   + comparator);
+            }
+            TimerWheelResequencerEngine<Exchange> answer
+                    = new TimerWheelResequencerEngine<>(comparator, this::sequenceNumber, Math.max(capacity, 1024));
+            answer.setTimeout(engine.getTimeout());
+            answer.setRejectOld(engine.getRejectOld());
+            answer.setSequenceSender(this);
+            // let the delivery thread deliver when an exchange times out
+            answer.setTimeoutHandler(() -> delivery.request());
+            engine = answer;
+        }
         ServiceHelper.initService(processor);
     }
 
@@ -240,7 +273,7 @@ public class StreamResequencer extends AsyncProcessorSupport
     @Override
     public boolean process(Exchange exchange, AsyncCallback callback) {
         try {
-            engine.waitUntil(s -> s.size() < capacity);
+            engine.waitForCapacity(capacity);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             // we were interrupted so break out
@@ -267,6 +300,14 @@ public class StreamResequencer extends AsyncProcessorSupport
         return true;
     }
 
+    private Long sequenceNumber(Exchange exchange) {
+        try {
+            return expression.evaluate(exchange, Long.class);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     @Override
     public boolean hasNext() {
         return processor != null;
@@ -100,6 +100,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
     private static final Logger LOG = LoggerFactory.getLogger(AggregateProcessor.class);
     private volatile Lock lock;
+    private volatile Lock[] stripedLocks;
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
     private final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
@@ -231,6 +232,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private Integer closeCorrelationKeyOnCompletion;
     private boolean parallelProcessing;
     private boolean optimisticLocking;
+    private int lockStripes;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -404,13 +406,15 @@ public class AggregateProcessor extends AsyncProcessorSupport
         removeFlagCompleteAllGroupsInclusive(copy);
 
         List<Exchange> aggregated = null;
-        lock.lock();
+        AtomicBoolean forceCompletionOfOtherGroups = new AtomicBoolean();
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
-            aggregated = doAggregation(key, copy);
+            aggregated = doAggregation(key, copy, forceCompletionOfOtherGroups);
         } catch (CamelExchangeException e) {
             exchange.setException(e);
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
 
         // we are completed so do that work outside the lock
@@ -419,6 +423,11 @@ public class AggregateProcessor extends AsyncProcessorSupport
             aggregated.forEach(agg -> onSubmitCompletion(key, agg));
         }
 
+        // with lock striping the other groups can only be completed after the lock of this group has been released
+        if (forceCompletionOfOtherGroups.get()) {
+            doForceCompletionOfAllGroups(key);
+        }
+
         // check for the special header to force completion of all groups (inclusive of the message)
         if (isCompleteAllGroupsInclusive(exchange)) {
             removeFlagCompleteAllGroupsInclusive(exchange);
@@ -472,11 +481,14 @@ public class AggregateProcessor extends AsyncProcessorSupport
      *
      * @param  key                                     the correlation key
      * @param  newExchange                             the exchange
+     * @param  forceCompletionOfOtherGroups            set to <tt>true</tt> if the other groups must be force completed
+     *                                                 after the lock has been released (when using lock striping)
      * @return                                         the aggregated exchange(s) which is complete, or <tt>null</tt> if
      *                                                 not yet complete
      * @throws org.apache.camel.CamelExchangeException is thrown if error aggregating
      */
-    private List<Exchange> doAggregation(String key, Exchange newExchange) throws CamelExchangeException {
+    private List<Exchange> doAggregation(String key, Exchange newExchange, AtomicBoolean forceCompletionOfOtherGroups)
+            throws CamelExchangeException {
         LOG.trace("onAggregation +++ start +++ with correlation key: {}", key);
 
         List<Exchange> list = new ArrayList<>();
@@ -576,10 +588,10 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // check for the special exchange property to force completion of all groups
         if (isCompleteAllGroups(answer)) {
             removeFlagCompleteAllGroups(answer);
-            forceCompletionOfAllGroups();
+            forceCompletionOfAllGroups(forceCompletionOfOtherGroups);
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
-            forceCompletionOfAllGroups();
+            forceCompletionOfAllGroups(forceCompletionOfOtherGroups);
         }
 
         // special for some repository implementations
@@ -616,6 +628,15 @@ public class AggregateProcessor extends AsyncProcessorSupport
         return list;
     }
 
+    private void forceCompletionOfAllGroups(AtomicBoolean forceCompletionOfOtherGroups) {
+        if (stripedLocks != null) {
+            // we hold the lock of the current group, and must not lock other stripes as that could deadlock
+            forceCompletionOfOtherGroups.set(true);
+        } else {
+            forceCompletionOfAllGroups();
+        }
+    }
+
     protected void doAggregationComplete(
             String complete, List<Exchange> list, String key,
             Exchange originalExchange, Exchange answer, boolean aggregateFailed) {
@@ -1105,6 +1126,18 @@ public class AggregateProcessor extends AsyncProcessorSupport
         this.optimisticLocking = optimisticLocking;
     }
 
+    public int getLockStripes() {
+        return lockStripes;
+    }
+
+    /**
+     * Number of locks (stripes) to use, where the lock of a correlation key is selected by its hash code. This allows
+     * different correlation keys to be aggregated in parallel. The default value 0 uses a single shared lock.
+     */
+    public void setLockStripes(int lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public AggregationRepository getAggregationRepository() {
         return aggregationRepository;
     }
@@ -1266,7 +1299,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
         private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
             // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
-            super(executor, requestMapPollTimeMillis, optimisticLocking);
+            // (with lock striping there is no shared lock, so the timeout map must use its own lock)
+            super(executor, requestMapPollTimeMillis, optimisticLocking || lockStripes > 0);
             addListener(this::onEviction);
         }
 
@@ -1298,20 +1332,27 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
             // get the aggregated exchange
             boolean evictionStolen = false;
-            Exchange answer = aggregationRepository.get(camelContext, key);
-            if (answer == null) {
-                evictionStolen = true;
-            } else {
-                // indicate it was completed by timeout
-                answer.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_TIMEOUT);
-                try {
-                    answer = onCompletion(key, answer, answer, true, false);
-                    if (answer != null) {
-                        onSubmitCompletion(key, answer);
-                    }
-                } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
+            // the shared lock is already held by purge, however with lock striping we must lock the group
+            Lock keyLock = getLock(key);
+            keyLock.lock();
+            try {
+                Exchange answer = aggregationRepository.get(camelContext, key);
+                if (answer == null) {
                     evictionStolen = true;
+                } else {
+                    // indicate it was completed by timeout
+                    answer.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_TIMEOUT);
+                    try {
+                        answer = onCompletion(key, answer, answer, true, false);
+                        if (answer != null) {
+                            onSubmitCompletion(key, answer);
+                        }
+                    } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
+                        evictionStolen = true;
+                    }
                 }
+            } finally {
+                keyLock.unlock();
             }
 
             if (optimisticLocking && evictionStolen) {
@@ -1343,25 +1384,32 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
             if (keys != null && !keys.isEmpty()) {
                 // must acquire the shared aggregation lock to be able to trigger interval completion
-                lock.lock();
+                Lock groupsLock = getGroupsLock();
+                groupsLock.lock();
                 try {
                     for (String key : keys) {
                         boolean stolenInterval = false;
-                        Exchange exchange = aggregationRepository.get(camelContext, key);
-                        if (exchange == null) {
-                            stolenInterval = true;
-                        } else {
-                            LOG.trace("Completion interval triggered for correlation key: {}", key);
-                            // indicate it was completed by interval
-                            exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
-                            try {
-                                Exchange answer = onCompletion(key, exchange, exchange, false, false);
-                                if (answer != null) {
-                                    onSubmitCompletion(key, answer);
-                                }
-                            } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
+                        Lock groupLock = getGroupLock(key);
+                        groupLock.lock();
+                        try {
+                            Exchange exchange = aggregationRepository.get(camelContext, key);
+                            if (exchange == null) {
                                 stolenInterval = true;
+                            } else {
+                                LOG.trace("Completion interval triggered for correlation key: {}", key);
+                                // indicate it was completed by interval
+                                exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
+                                try {
+                                    Exchange answer = onCompletion(key, exchange, exchange, false, false);
+                                    if (answer != null) {
+                                        onSubmitCompletion(key, answer);
+                                    }
+                                } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
+                                    stolenInterval = true;
+                                }
                             }
+                        } finally {
+                            groupLock.unlock();
                         }
                         if (optimisticLocking && stolenInterval) {
                             LOG.debug(
@@ -1370,7 +1418,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         }
                     }
                 } finally {
-                    lock.unlock();
+                    groupsLock.unlock();
                 }
             }
 
@@ -1411,7 +1459,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         LOG.info("We are shutting down so stop recovering");
                         return;
                     }
-                    lock.lock();
+                    lockAllGroups();
                     try {
                         // consider in progress if it was in progress before we did the scan, or currently after we did the scan
                         // its safer to consider it in progress than risk duplicates due both in progress + recovered
@@ -1488,7 +1536,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                             }
                         }
                     } finally {
-                        lock.unlock();
+                        unlockAllGroups();
                     }
                 }
             } finally {
@@ -1554,6 +1602,16 @@ public class AggregateProcessor extends AsyncProcessorSupport
             LOG.info("Optimistic locking is enabled");
         }
 
+        if (lockStripes > 0) {
+            if (optimisticLocking) {
+                throw new IllegalArgumentException("Lock striping cannot be used together with optimistic locking");
+            }
+            if (completionFromBatchConsumer) {
+                throw new IllegalArgumentException("Lock striping cannot be used together with completionFromBatchConsumer");
+            }
+            LOG.info("Lock striping is enabled with {} stripes", lockStripes);
+        }
+
         ServiceHelper.startService(aggregationStrategy, processor, aggregationRepository);
 
         // should we use recover checker
@@ -1637,6 +1695,14 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         .newSingleThreadScheduledExecutor(this, AGGREGATE_OPTIMISTIC_LOCKING_EXECUTOR));
                 shutdownOptimisticLockingExecutorService = true;
             }
+        } else if (lockStripes > 0) {
+            Lock[] locks = new Lock[lockStripes];
+            for (int i = 0; i < lockStripes; i++) {
+                locks[i] = new ReentrantLock();
+            }
+            stripedLocks = locks;
+            // there is no shared lock as each group is locked by its stripe
+            lock = NoLock.INSTANCE;
         } else {
             lock = new ReentrantLock();
         }
@@ -1747,10 +1813,11 @@ public class AggregateProcessor extends AsyncProcessorSupport
     }
 
     public int forceCompletionOfGroup(String key) {
-        // must acquire the shared aggregation lock to be able to trigger force completion
+        // must acquire the aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1764,7 +1831,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 }
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         LOG.trace("Completed force completion of group {}", key);
 
@@ -1775,6 +1842,10 @@ public class AggregateProcessor extends AsyncProcessorSupport
     }
 
     public int forceCompletionOfAllGroups() {
+        return doForceCompletionOfAllGroups(null);
+    }
+
+    private int doForceCompletionOfAllGroups(String excludeKey) {
 
         // only run if CamelContext has been fully started or is stopping
         boolean allow = camelContext.getStatus().isStarted() || camelContext.getStatus().isStopping();
@@ -1792,23 +1863,33 @@ public class AggregateProcessor extends AsyncProcessorSupport
         int total = 0;
         if (keys != null && !keys.isEmpty()) {
             // must acquire the shared aggregation lock to be able to trigger force completion
-            lock.lock();
+            Lock groupsLock = getGroupsLock();
+            groupsLock.lock();
             total = keys.size();
             try {
                 for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
-                    if (exchange != null) {
-                        LOG.trace("Force completion triggered for correlation key: {}", key);
-                        // indicate it was completed by a force completion request
-                        exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
-                        Exchange answer = onCompletion(key, exchange, exchange, false, false);
-                        if (answer != null) {
-                            onSubmitCompletion(key, answer);
+                    if (key.equals(excludeKey)) {
+                        continue;
+                    }
+                    Lock groupLock = getGroupLock(key);
+                    groupLock.lock();
+                    try {
+                        Exchange exchange = aggregationRepository.get(camelContext, key);
+                        if (exchange != null) {
+                            LOG.trace("Force completion triggered for correlation key: {}", key);
+                            // indicate it was completed by a force completion request
+                            exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
+                            Exchange answer = onCompletion(key, exchange, exchange, false, false);
+                            if (answer != null) {
+                                onSubmitCompletion(key, answer);
+                            }
                         }
+                    } finally {
+                        groupLock.unlock();
                     }
                 }
             } finally {
-                lock.unlock();
+                groupsLock.unlock();
             }
         }
         LOG.trace("Completed force completion of all groups task");
@@ -1820,10 +1901,11 @@ public class AggregateProcessor extends AsyncProcessorSupport
     }
 
     public int forceDiscardingOfGroup(String key) {
-        // must acquire the shared aggregation lock to be able to trigger force completion
+        // must acquire the aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1833,7 +1915,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 onCompletion(key, exchange, exchange, false, true);
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         LOG.trace("Completed force discarded of group {}", key);
 
@@ -1861,19 +1943,26 @@ public class AggregateProcessor extends AsyncProcessorSupport
         int total = 0;
         if (keys != null && !keys.isEmpty()) {
             // must acquire the shared aggregation lock to be able to trigger force completion
-            lock.lock();
+            Lock groupsLock = getGroupsLock();
+            groupsLock.lock();
             total = keys.size();
             try {
                 for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
-                    if (exchange != null) {
-                        LOG.trace("Force discarded triggered for correlation key: {}", key);
-                        // force discarding by setting aggregate failed as true
-                        onCompletion(key, exchange, exchange, false, true);
+                    Lock groupLock = getGroupLock(key);
+                    groupLock.lock();
+                    try {
+                        Exchange exchange = aggregationRepository.get(camelContext, key);
+                        if (exchange != null) {
+                            LOG.trace("Force discarded triggered for correlation key: {}", key);
+                            // force discarding by setting aggregate failed as true
+                            onCompletion(key, exchange, exchange, false, true);
+                        }
+                    } finally {
+                        groupLock.unlock();
                     }
                 }
             } finally {
-                lock.unlock();
+                groupsLock.unlock();
             }
         }
         LOG.trace("Completed force discarding of all groups task");
@@ -1884,6 +1973,59 @@ public class AggregateProcessor extends AsyncProcessorSupport
         return total;
     }
 
+    /**
+     * Gets the lock to use for aggregating the given correlation key, which is either the shared lock, or the stripe of
+     * the key when using lock striping.
+     */
+    private Lock getLock(String key) {
+        Lock[] locks = stripedLocks;
+        if (locks != null) {
+            int hash = key.hashCode();
+            // spread the hash as the keys may only differ in the lower bits
+            hash ^= hash >>> 16;
+            return locks[(hash & Integer.MAX_VALUE) % locks.length];
+        }
+        return lock;
+    }
+
+    /**
+     * Gets the lock to hold while iterating all the groups, which is the shared lock, or no lock when using lock
+     * striping as each group is then locked individually using {@link #getGroupLock(String)}.
+     */
+    private Lock getGroupsLock() {
+        return stripedLocks != null ? NoLock.INSTANCE : lock;
+    }
+
+    /**
+     * Gets the lock to hold for a group while iterating all the groups, which is only in use with lock striping.
+     */
+    private Lock getGroupLock(String key) {
+        return stripedLocks != null ? getLock(key) : NoLock.INSTANCE;
+    }
+
+    private void lockAllGroups() {
+        Lock[] locks = stripedLocks;
+        if (locks != null) {
+            // always lock the stripes in the same order
+            for (Lock stripe : locks) {
+                stripe.lock();
+            }
+        } else {
+            lock.lock();
+        }
+    }
+
+    private void unlockAllGroups() {
+        Lock[] locks = stripedLocks;
+        if (locks != null) {
+            for (int i = locks.length - 1; i >= 0; i--) {
+                locks[i].unlock();
+            }
+        } else {
+            lock.unlock();
+        }
+    }
+
     /**
      * Synchronization class to avoid busy-loop when waiting for exchanges to be processed during shutdown.
      */
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.loadbalancer;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.Exchange;
+
+/**
+ * Implements the least latency load balancing policy, which chooses the processor with the lowest exponentially
+ * weighted moving average of the latency.
+ * <p/>
+ * The latency is multiplied by the number of exchanges in flight (plus one), so a fast processor is not chosen for all
+ * the exchanges until its latency goes up, and is increased for processors which fail. Processors which have not
+ * completed any exchanges yet are given the average latency of the other processors, and are chosen first when the
+ * cost is equal, so they are tried once without being flooded while their first exchanges are in flight.
+ */
+public class EwmaLoadBalancer extends LatencyAwareLoadBalancer {
+
+    private transient int index;
+
+    @Override
+    protected AsyncProcessor chooseProcessor(AsyncProcessor[] processors, Exchange exchange) {
+        int size = processors.length;
+        if (size == 0) {
+            return null;
+        } else if (size == 1) {
+            // there is only 1
+            return processors[0];
+        }
+
+        ProcessorLoadStatistics[] stats = new ProcessorLoadStatistics[size];
+        for (int i = 0; i < size; i++) {
+            stats[i] = getStatistics(processors[i]);
+        }
+        long seed = averageLatency(stats);
+
+        int offset = ThreadLocalRandom.current().nextInt(size);
+        int chosen = offset;
+        double lowest = Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            int pos = (offset + i) % size;
+            double cost = cost(stats[pos], seed);
+            if (cost < lowest || cost == lowest && stats[pos].getEwmaLatency() < stats[chosen].getEwmaLatency()) {
+                lowest = cost;
+                chosen = pos;
+            }
+        }
+        index = chosen;
+        return processors[chosen];
+    }
+
+    public int getLastChosenProcessorIndex() {
+        return index;
+    }
+
+}
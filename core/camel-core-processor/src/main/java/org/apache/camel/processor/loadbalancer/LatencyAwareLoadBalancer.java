@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.loadbalancer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.Exchange;
+
+/**
+ * A base class for {@link LoadBalancer} implementations which choose a single destination for each exchange, from how
+ * busy or how slow each processor is.
+ * <p/>
+ * The number of exchanges in flight and the latency of each processor are tracked in {@link ProcessorLoadStatistics},
+ * where the latency is the exponentially weighted moving average of the time from when the exchange is handed to the
+ * processor until the processor is done.
+ */
+public abstract class LatencyAwareLoadBalancer extends QueueLoadBalancer {
+
+    // how many times more costly a processor which only fails is
+    private static final int FAILURE_PENALTY = 10;
+
+    private final Map<AsyncProcessor, ProcessorLoadStatistics> statistics = new ConcurrentHashMap<>();
+    private double smoothingFactor = 0.3;
+
+    @Override
+    public void addProcessor(AsyncProcessor processor) {
+        statistics.computeIfAbsent(processor, p -> new ProcessorLoadStatistics());
+        super.addProcessor(processor);
+    }
+
+    @Override
+    public void removeProcessor(AsyncProcessor processor) {
+        super.removeProcessor(processor);
+        statistics.remove(processor);
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        AsyncProcessor[] list = doGetProcessors();
+        if (list.length > 0) {
+            AsyncProcessor processor = chooseProcessor(list, exchange);
+            if (processor == null) {
+                Exception e = new IllegalStateException("No processors could be chosen to process " + exchange);
+                exchange.setException(e);
+            } else {
+                ProcessorLoadStatistics stats = getStatistics(processor);
+                stats.begin();
+                final long start = System.nanoTime();
+                processor.process(exchange, doneSync -> {
+                    stats.done(System.nanoTime() - start, exchange.isFailed(), smoothingFactor);
+                    callback.done(doneSync);
+                });
+                return false;
+            }
+        }
+        // no processors but indicate we are done
+        callback.done(false);
+        return false;
+    }
+
+    /**
+     * Gets the statistics of the given processor
+     */
+    public ProcessorLoadStatistics getStatistics(AsyncProcessor processor) {
+        // the processor may have been removed while the exchange was being routed
+        return statistics.computeIfAbsent(processor, p -> new ProcessorLoadStatistics());
+    }
+
+    /**
+     * The cost of sending an exchange to the processor, which is its latency multiplied by the number of exchanges in
+     * flight plus one, and by up to eleven for its recent failures.
+     * <p/>
+     * A processor which has not completed any exchanges yet, or which has failed recently (as failures are often
+     * fast), is given at least the seed latency, so it is not chosen for all the exchanges.
+     *
+     * @param stats       the statistics of the processor
+     * @param seedLatency the latency to use for processors without a latency, typically the average latency of the
+     *                    processors
+     */
+    protected static double cost(ProcessorLoadStatistics stats, long seedLatency) {
+        long latency = stats.getEwmaLatency();
+        double failureRate = stats.getFailureRate();
+        if (latency == 0 || failureRate > 0) {
+            latency = Math.max(latency, seedLatency);
+        }
+        return (double) latency * (stats.getInflight() + 1) * (1 + FAILURE_PENALTY * failureRate);
+    }
+
+    /**
+     * The average latency of the given statistics, ignoring the processors which have not completed any exchanges yet,
+     * or 1 when none has.
+     */
+    protected static long averageLatency(ProcessorLoadStatistics... stats) {
+        long total = 0;
+        int count = 0;
+        for (ProcessorLoadStatistics s : stats) {
+            long latency = s.getEwmaLatency();
+            if (latency > 0) {
+                total += latency;
+                count++;
+            }
+        }
+        return count > 0 ? Math.max(1, total / count) : 1;
+    }
+
+    public double getSmoothingFactor() {
+        return smoothingFactor;
+    }
+
+    /**
+     * The weight of the latest latency in the moving average of the latency, between 0 and 1. A higher value makes the
+     * load balancer react faster to changes in latency. The default is 0.3.
+     */
+    public void setSmoothingFactor(double smoothingFactor) {
+        if (smoothingFactor <= 0 || smoothingFactor > 1) {
+            throw new IllegalArgumentException("SmoothingFactor must be between 0 and 1, was: " + smoothingFactor);
+        }
+        this.smoothingFactor = smoothingFactor;
+    }
+
+}
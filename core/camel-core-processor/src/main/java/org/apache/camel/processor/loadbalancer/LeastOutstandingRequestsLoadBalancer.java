@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.loadbalancer;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.Exchange;
+
+/**
+ * Implements the least outstanding requests load balancing policy, which chooses the processor with the fewest
+ * exchanges in flight.
+ * <p/>
+ * The processors are scanned from a random position, so processors with the same number of exchanges in flight are
+ * chosen evenly.
+ */
+public class LeastOutstandingRequestsLoadBalancer extends LatencyAwareLoadBalancer {
+
+    private transient int index;
+
+    @Override
+    protected AsyncProcessor chooseProcessor(AsyncProcessor[] processors, Exchange exchange) {
+        int size = processors.length;
+        if (size == 0) {
+            return null;
+        } else if (size == 1) {
+            // there is only 1
+            return processors[0];
+        }
+
+        int offset = ThreadLocalRandom.current().nextInt(size);
+        int chosen = offset;
+        int least = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            int pos = (offset + i) % size;
+            int inflight = getStatistics(processors[pos]).getInflight();
+            if (inflight < least) {
+                least = inflight;
+                chosen = pos;
+                if (inflight == 0) {
+                    break;
+                }
+            }
+        }
+        index = chosen;
+        return processors[chosen];
+    }
+
+    public int getLastChosenProcessorIndex() {
+        return index;
+    }
+
+}
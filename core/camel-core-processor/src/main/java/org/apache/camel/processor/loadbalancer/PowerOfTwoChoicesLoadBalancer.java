@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.loadbalancer;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.Exchange;
+
+/**
+ * Implements the power of two choices load balancing policy, which picks two processors at random and chooses the
+ * least loaded of them.
+ * <p/>
+ * The load is the same cost as used by the {@link EwmaLoadBalancer}: the latency multiplied by the number of exchanges
+ * in flight plus one, and increased for processors which fail, where a processor without latency is given the latency
+ * of the other one. Comparing only two processors is cheap with many processors, and avoids that all the exchanges are
+ * sent to the same processor when its statistics are outdated.
+ */
+public class PowerOfTwoChoicesLoadBalancer extends LatencyAwareLoadBalancer {
+
+    private transient int index;
+
+    @Override
+    protected AsyncProcessor chooseProcessor(AsyncProcessor[] processors, Exchange exchange) {
+        int size = processors.length;
+        if (size == 0) {
+            return null;
+        } else if (size == 1) {
+            // there is only 1
+            return processors[0];
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        // pick another processor than the first
+        int second = (first + 1 + random.nextInt(size - 1)) % size;
+
+        ProcessorLoadStatistics a = getStatistics(processors[first]);
+        ProcessorLoadStatistics b = getStatistics(processors[second]);
+        long seed = averageLatency(a, b);
+        double costA = cost(a, seed);
+        double costB = cost(b, seed);
+        int chosen;
+        if (costA != costB) {
+            chosen = costA < costB ? first : second;
+        } else {
+            // the processor without latency yet is tried first
+            chosen = a.getEwmaLatency() <= b.getEwmaLatency() ? first : second;
+        }
+        index = chosen;
+        return processors[chosen];
+    }
+
+    public int getLastChosenProcessorIndex() {
+        return index;
+    }
+
+}
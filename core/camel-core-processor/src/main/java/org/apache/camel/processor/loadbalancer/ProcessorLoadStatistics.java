@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The number of exchanges in flight, the latency and the failure rate of a processor of a
+ * {@link LatencyAwareLoadBalancer}.
+ * <p/>
+ * The statistics are updated without locking, as they are updated for every exchange.
+ */
+public final class ProcessorLoadStatistics {
+
+    // below this the failure rate is considered to be zero, as the moving average only tends to zero
+    private static final double MIN_FAILURE_RATE = 0.001;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicLong ewmaLatency = new AtomicLong();
+    // the bits of the moving average of the failures (as a double), as there is no AtomicDouble
+    private final AtomicLong failureRate = new AtomicLong();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    void begin() {
+        inflight.incrementAndGet();
+    }
+
+    void done(long latency, boolean failure, double smoothingFactor) {
+        inflight.decrementAndGet();
+        completed.increment();
+        if (failure) {
+            failed.increment();
+        }
+        ewmaLatency.accumulateAndGet(latency,
+                (old, sample) -> old == 0 ? sample : old + (long) (smoothingFactor * (sample - old)));
+        failureRate.accumulateAndGet(failure ? 1 : 0, (old, sample) -> {
+            double rate = Double.longBitsToDouble(old);
+            rate += smoothingFactor * (sample - rate);
+            return Double.doubleToRawLongBits(rate < MIN_FAILURE_RATE ? 0 : rate);
+        });
+    }
+
+    /**
+     * Number of exchanges currently being processed by the processor
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * The exponentially weighted moving average of the latency (in nanos) of the processor, or 0 if no exchanges have
+     * completed yet
+     */
+    public long getEwmaLatency() {
+        return ewmaLatency.get();
+    }
+
+    /**
+     * The exponentially weighted moving average of the failures of the processor, between 0 (no recent failures) and 1
+     * (only failures)
+     */
+    public double getFailureRate() {
+        return Double.longBitsToDouble(failureRate.get());
+    }
+
+    /**
+     * Number of exchanges completed by the processor
+     */
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    /**
+     * Number of exchanges which failed in the processor
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "ProcessorLoadStatistics[inflight=" + getInflight() + ", ewmaLatency=" + getEwmaLatency()
+               + ", failureRate=" + getFailureRate() + ", completed=" + getCompleted() + ", failed=" + getFailed() + "]";
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.resequencer;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.camel.util.concurrent.ThreadHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A hashed timer wheel for scheduling many short timeouts at a low cost.
+ * <p>
+ * Scheduling a task is an O(1) operation which only adds the task to a queue. The timer thread moves the new tasks into
+ * the bucket of the wheel for their deadline, and on each tick runs the tasks of the current bucket which are due. The
+ * tasks are run by the timer thread, and should therefore be short.
+ */
+class HashedTimerWheel {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HashedTimerWheel.class);
+
+    private final long tickNanos;
+    private final Queue<Task>[] buckets;
+    private final int mask;
+    private final Queue<Task> pending = new ConcurrentLinkedQueue<>();
+    private final long startTime = System.nanoTime();
+    private volatile Thread thread;
+
+    /**
+     * Creates a new timer wheel.
+     *
+     * @param tickDuration the duration of a tick in milliseconds, which is the precision of the timeouts.
+     * @param wheelSize    the number of buckets of the wheel (rounded up to a power of two).
+     */
+    @SuppressWarnings("unchecked")
+    HashedTimerWheel(long tickDuration, int wheelSize) {
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickDuration));
+        int size = Integer.highestOneBit(Math.max(2, wheelSize) - 1) << 1;
+        this.buckets = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.mask = size - 1;
+    }
+
+    void start() {
+        Thread t = new Thread(
+                this::run, ThreadHelper.resolveThreadName("Camel Thread ${counter} - ${name}", "Stream Resequencer Timer"));
+        t.setDaemon(true);
+        thread = t;
+        t.start();
+    }
+
+    void stop() {
+        Thread t = thread;
+        thread = null;
+        if (t != null) {
+            LockSupport.unpark(t);
+        }
+    }
+
+    /**
+     * Schedules the task to run after the given delay.
+     *
+     * @param task  the task to run.
+     * @param delay the delay in milliseconds.
+     */
+    void schedule(Runnable task, long delay) {
+        long deadline = System.nanoTime() - startTime + TimeUnit.MILLISECONDS.toNanos(delay);
+        pending.add(new Task(task, deadline));
+    }
+
+    private void run() {
+        long tick = 0;
+        while (thread == Thread.currentThread()) {
+            long deadline = tickNanos * (tick + 1);
+            long sleep = deadline - (System.nanoTime() - startTime);
+            if (sleep > 0) {
+                LockSupport.parkNanos(this, sleep);
+                continue;
+            }
+
+            // move the new tasks into the buckets; a task which is already due goes into the current bucket
+            Task task;
+            while ((task = pending.poll()) != null) {
+                long ticks = Math.max(task.deadline / tickNanos, tick);
+                buckets[(int) (ticks & mask)].add(task);
+            }
+
+            for (Iterator<Task> it = buckets[(int) (tick & mask)].iterator(); it.hasNext();) {
+                task = it.next();
+                if (task.deadline <= deadline) {
+                    it.remove();
+                    try {
+                        task.runnable.run();
+                    } catch (Exception e) {
+                        LOG.warn("Error running timer task. This exception is ignored.", e);
+                    }
+                }
+            }
+            tick++;
+        }
+    }
+
+    private record Task(Runnable runnable, long deadline) {
+    }
+}
@@ -151,6 +151,17 @@ public class ResequencerEngine<E> {
         latch.await();
     }
 
+    /**
+     * Waits until this resequencer maintains less elements than the given capacity. Do not call this method while
+     * holding a lock on the resequencer engine, as it will deadlock.
+     *
+     * @param  capacity             the capacity
+     * @throws InterruptedException if the thread is interrupted
+     */
+    public void waitForCapacity(int capacity) throws InterruptedException {
+        waitUntil(s -> s.size() < capacity);
+    }
+
     private void evaluateConditions() {
         lock.lock();
         try {
@@ -0,0 +1,382 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.resequencer;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A {@link ResequencerEngine} for numeric sequences, which keeps the elements in a ring buffer indexed by their
+ * sequence number, and uses a {@link HashedTimerWheel} for the timeouts.
+ * <p>
+ * Inserting an element stores it in its slot of the ring buffer without locking, and delivering an in-sequence element
+ * takes it from the slot of the next expected sequence number, so both are O(1) operations. When the next expected
+ * element is missing, the first waiting element is delivered once its timeout has elapsed, skipping the gap, in the
+ * same way as the {@link ResequencerEngine}. The timer wheel only triggers a delivery attempt when the timeout of an
+ * out-of-sequence element elapses, so there are no timer tasks to cancel.
+ * <p>
+ * Elements with a sequence number beyond the window of the ring buffer (and all the elements until the first one is
+ * delivered) are kept in a sorted overflow map until the window has moved forward. Delivery is done by one thread at a
+ * time.
+ * <p>
+ * Elements older than the last delivered element (when not rejected) are delivered as soon as possible, whereas the
+ * {@link ResequencerEngine} holds them back until their timeout has elapsed.
+ */
+public class TimerWheelResequencerEngine<E> extends ResequencerEngine<E> {
+
+    private static final long UNSET = Long.MIN_VALUE;
+
+    private final Function<E, Long> sequenceNumber;
+    private final AtomicReferenceArray<Slot<E>> slots;
+    private final int mask;
+    private final ConcurrentSkipListMap<Long, Slot<E>> overflow = new ConcurrentSkipListMap<>();
+    private final Queue<Slot<E>> late = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final AtomicInteger deliveryRequests = new AtomicInteger();
+    private final AtomicLong next = new AtomicLong(UNSET);
+    private final AtomicLong highest = new AtomicLong(UNSET);
+    private final Lock capacityLock = new ReentrantLock();
+    private final Condition notFull = capacityLock.newCondition();
+    private volatile long lastDelivered = UNSET;
+    private volatile E lastDeliveredElement;
+    private HashedTimerWheel timerWheel;
+    private Runnable timeoutHandler;
+
+    /**
+     * Creates a new resequencer instance with a default timeout of 2000 milliseconds.
+     *
+     * @param comparator     a sequence element comparator.
+     * @param sequenceNumber a function returning the sequence number of an element, or <code>null</code> if the element
+     *                       is invalid.
+     * @param windowSize     the number of sequence numbers in the window of the ring buffer (rounded up to a power of
+     *                       two).
+     */
+    public TimerWheelResequencerEngine(SequenceElementComparator<E> comparator, Function<E, Long> sequenceNumber,
+                                       int windowSize) {
+        super(comparator);
+        this.sequenceNumber = sequenceNumber;
+        int ringSize = Integer.highestOneBit(Math.max(2, windowSize) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(ringSize);
+        this.mask = ringSize - 1;
+    }
+
+    /**
+     * Sets a handler which is called (from the timer thread) when the timeout of an element has elapsed, to trigger a
+     * delivery attempt. If not set, {@link #deliver()} is called from the timer thread.
+     */
+    public void setTimeoutHandler(Runnable timeoutHandler) {
+        this.timeoutHandler = timeoutHandler;
+    }
+
+    @Override
+    public void start() {
+        long timeout = getTimeout();
+        timerWheel = new HashedTimerWheel(Math.min(100, Math.max(1, timeout / 10)), 512);
+        timerWheel.start();
+    }
+
+    @Override
+    public void stop() {
+        if (timerWheel != null) {
+            timerWheel.stop();
+        }
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public void waitForCapacity(int capacity) throws InterruptedException {
+        if (size.get() < capacity) {
+            return;
+        }
+        waiters.incrementAndGet();
+        capacityLock.lockInterruptibly();
+        try {
+            while (size.get() >= capacity) {
+                notFull.await();
+            }
+        } finally {
+            capacityLock.unlock();
+            waiters.decrementAndGet();
+        }
+    }
+
+    @Override
+    E getLastDelivered() {
+        return lastDeliveredElement;
+    }
+
+    @Override
+    void setLastDelivered(E o) {
+        long seq = sequenceNumber.apply(o);
+        lastDeliveredElement = o;
+        lastDelivered = seq;
+        next.set(seq + 1);
+    }
+
+    @Override
+    public void insert(E o) {
+        Long seq = sequenceNumber.apply(o);
+        if (seq == null) {
+            throw new IllegalArgumentException("Element cannot be used in comparator: " + this);
+        }
+
+        long last = lastDelivered;
+        if (Boolean.TRUE.equals(getRejectOld()) && last != UNSET && seq < last) {
+            throw new MessageRejectedException(
+                    "rejecting message [" + o + "], it should have been sent before the last delivered message ["
+                                               + lastDeliveredElement + "]");
+        }
+
+        highest.accumulateAndGet(seq, Math::max);
+
+        long expected = next.get();
+        Slot<E> slot = new Slot<>(o, seq);
+        if (expected == UNSET || seq != expected) {
+            // out of sequence (or nothing delivered yet) so it must wait until timeout unless its predecessor arrives
+            slot.waiting = true;
+            slot.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(getTimeout());
+        }
+
+        size.incrementAndGet();
+        if (expected == UNSET) {
+            // the window starts at the first delivered element, so until then the elements are kept sorted
+            if (overflow.putIfAbsent(seq, slot) != null) {
+                size.decrementAndGet();
+                return;
+            }
+        } else if (seq < expected) {
+            late.add(slot);
+        } else if (seq - expected >= slots.length()) {
+            if (overflow.putIfAbsent(seq, slot) != null) {
+                size.decrementAndGet();
+                return;
+            }
+        } else if (!store(slot)) {
+            size.decrementAndGet();
+            return;
+        }
+
+        if (slot.waiting) {
+            timerWheel.schedule(timeoutHandler != null ? timeoutHandler : this::deliverOnTimeout, getTimeout());
+        }
+    }
+
+    @Override
+    public void deliver() throws Exception {
+        // only one thread delivers at a time, and it keeps delivering while other threads have requested a delivery
+        if (deliveryRequests.getAndIncrement() != 0) {
+            return;
+        }
+        int requests = 1;
+        try {
+            do {
+                while (doDeliverNext()) {
+                    // do nothing here
+                }
+                requests = deliveryRequests.addAndGet(-requests);
+            } while (requests != 0);
+        } catch (Exception e) {
+            deliveryRequests.set(0);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean deliverNext() throws Exception {
+        if (!deliveryRequests.compareAndSet(0, 1)) {
+            return false;
+        }
+        try {
+            return doDeliverNext();
+        } finally {
+            deliveryRequests.decrementAndGet();
+        }
+    }
+
+    private void deliverOnTimeout() {
+        try {
+            deliver();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean doDeliverNext() throws Exception {
+        Slot<E> slot = late.poll();
+        if (slot != null) {
+            send(slot);
+            return true;
+        }
+
+        if (size.get() == 0) {
+            return false;
+        }
+
+        long n = next.get();
+        Slot<E> first = null;
+        if (n != UNSET) {
+            moveOverflow(n);
+
+            int index = index(n);
+            slot = slots.get(index);
+            if (slot != null && slot.sequence == n) {
+                next.set(n + 1);
+                slots.compareAndSet(index, slot, null);
+                send(slot);
+                return true;
+            }
+
+            // the next element is missing, so look for the first waiting element
+            long limit = Math.min(highest.get(), n + slots.length() - 1);
+            for (long s = n; s <= limit && first == null; s++) {
+                Slot<E> candidate = slots.get(index(s));
+                if (candidate != null && candidate.sequence == s) {
+                    first = candidate;
+                }
+            }
+        }
+        if (first == null) {
+            Map.Entry<Long, Slot<E>> entry = overflow.firstEntry();
+            first = entry != null ? entry.getValue() : null;
+        }
+        if (first == null || first.waiting && System.nanoTime() - first.deadline < 0) {
+            return false;
+        }
+
+        // timed out so skip the gap
+        next.set(first.sequence + 1);
+        if (overflow.remove(first.sequence) == null) {
+            slots.compareAndSet(index(first.sequence), first, null);
+        }
+        if (n != UNSET) {
+            // elements inserted into the gap while it was skipped are late now
+            for (long s = n, end = Math.min(first.sequence, n + slots.length()); s < end; s++) {
+                Slot<E> stray = slots.get(index(s));
+                if (stray != null && stray.sequence < first.sequence && slots.compareAndSet(index(s), stray, null)) {
+                    late.add(stray);
+                }
+            }
+        }
+        send(first);
+        return true;
+    }
+
+    private void moveOverflow(long n) {
+        if (overflow.isEmpty()) {
+            return;
+        }
+        Map.Entry<Long, Slot<E>> entry;
+        while ((entry = overflow.firstEntry()) != null && entry.getKey() - n < slots.length()) {
+            Slot<E> slot = entry.getValue();
+            overflow.remove(entry.getKey());
+            if (slot.sequence < n) {
+                late.add(slot);
+            } else if (!store(slot)) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Stores the element in its slot of the ring buffer, or adds it to the late elements when the window has moved past
+     * it.
+     *
+     * @return <code>false</code> if the element is a duplicate of an element which has not been delivered yet, which is
+     *         dropped like by the {@link ResequencerEngine}
+     */
+    private boolean store(Slot<E> slot) {
+        int index = index(slot.sequence);
+        while (!slots.compareAndSet(index, null, slot)) {
+            Slot<E> current = slots.get(index);
+            if (current == null) {
+                continue;
+            }
+            if (current.sequence == slot.sequence) {
+                return false;
+            }
+            if (current.sequence > slot.sequence) {
+                // the slot is already used by an element of a later window (after a gap was skipped)
+                late.add(slot);
+                return true;
+            }
+            // the slot still holds an element the window has moved past, which is late as well
+            if (slots.compareAndSet(index, current, null)) {
+                late.add(current);
+            }
+        }
+        if (slot.sequence < next.get() && slots.compareAndSet(index, slot, null)) {
+            // the window has moved past the element in the meantime
+            late.add(slot);
+        }
+        return true;
+    }
+
+    private void send(Slot<E> slot) throws Exception {
+        lastDelivered = slot.sequence;
+        lastDeliveredElement = slot.object;
+        size.decrementAndGet();
+        if (waiters.get() > 0) {
+            capacityLock.lock();
+            try {
+                notFull.signalAll();
+            } finally {
+                capacityLock.unlock();
+            }
+        }
+        getSequenceSender().sendElement(slot.object);
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence & mask);
+    }
+
+    @Override
+    public String toString() {
+        return "TimerWheelResequencerEngine[window=" + slots.length() + "]";
+    }
+
+    /**
+     * An element and its sequence number
+     */
+    private static final class Slot<E> {
+        private final E object;
+        private final long sequence;
+        // whether the element is out of sequence and must wait until the deadline (in nanos) before delivery
+        private boolean waiting;
+        private long deadline;
+
+        Slot(E object, long sequence) {
+            this.object = object;
+            this.sequence = sequence;
+        }
+    }
+}
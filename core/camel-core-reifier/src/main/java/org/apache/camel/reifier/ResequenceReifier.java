@@ -141,6 +141,7 @@ public class ResequenceReifier extends ProcessorReifier<ResequenceDefinition> {
             resequencer.setCapacity(num);
         }
         resequencer.setRejectOld(parseBoolean(config.getRejectOld(), false));
+        resequencer.setTimerWheel(parseBoolean(config.getTimerWheel(), false));
         if (config.getIgnoreInvalidExchanges() != null) {
             resequencer.setIgnoreInvalidExchanges(parseBoolean(config.getIgnoreInvalidExchanges(), false));
         }
@@ -46,6 +46,7 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
         boolean isParallelProcessing = parseBoolean(definition.getParallelProcessing(), false);
         boolean isSynchronous = parseBoolean(definition.getSynchronous(), false);
         boolean isStreaming = parseBoolean(definition.getStreaming(), false);
+        int maxInflight = parseInt(definition.getMaxInflight(), 0);
         boolean isShareUnitOfWork = parseBoolean(definition.getShareUnitOfWork(), false);
         boolean isParallelAggregate = parseBoolean(definition.getParallelAggregate(), false);
         boolean isStopOnException = parseBoolean(definition.getStopOnException(), false);
@@ -77,6 +78,7 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
                     isShareUnitOfWork, isParallelAggregate);
         }
         answer.setSynchronous(isSynchronous);
+        answer.setMaxInflight(maxInflight);
 
         return answer;
     }
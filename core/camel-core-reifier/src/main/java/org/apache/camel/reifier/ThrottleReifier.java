@@ -52,16 +52,22 @@ public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
             throw new IllegalArgumentException("MaxRequestsPerPeriod expression must be provided on " + this);
         }
 
+        String adaptiveAlgorithm = parseString(definition.getAdaptiveAlgorithm());
         if (ThrottlingMode.toMode(parseString(definition.getMode())) == ThrottlingMode.ConcurrentRequests) {
             ConcurrentRequestsThrottler answer = new ConcurrentRequestsThrottler(
                     camelContext, maxRequestsExpression, threadPool, shutdownThreadPool, reject, correlation);
 
+            answer.setAdaptiveAlgorithm(adaptiveAlgorithm);
             answer.setAsyncDelayed(async);
             // should be true by default
             answer.setCallerRunsWhenRejected(parseBoolean(definition.getCallerRunsWhenRejected(), true));
 
             return answer;
         } else {
+            if (adaptiveAlgorithm != null) {
+                throw new IllegalArgumentException(
+                        "AdaptiveAlgorithm can only be used with ConcurrentRequests mode on " + this);
+            }
             long period = parseDuration(definition.getTimePeriodMillis(), 1000L);
 
             TotalRequestsThrottler answer = new TotalRequestsThrottler(
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit test for incremental scanning of the directory
+ */
+public class FileConsumeIncrementalScanTest extends ContextTestSupport {
+
+    private static final String FILE_QUERY = "?initialDelay=0&delay=10&maxMessagesPerPoll=2&incrementalScan=true";
+
+    private volatile String failingEntry;
+    private volatile String deletingEntry;
+    private volatile String deletedEntry;
+
+    @Test
+    public void testIncrementalScan() throws Exception {
+        for (int i = 0; i < 7; i++) {
+            template.sendBodyAndHeader(fileUri(), "Hello " + i, Exchange.FILE_NAME, "hello" + i + ".txt");
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        // all the files are consumed once over several polls
+        mock.expectedMessageCount(7);
+        mock.message(0).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(2);
+        mock.expectsNoDuplicates(body());
+
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testIncrementalScanResumesAfterLastEntry() throws Exception {
+        for (int i = 0; i < 6; i++) {
+            template.sendBodyAndHeader(fileUri("wrap"), "Hello " + i, Exchange.FILE_NAME, "hello" + i + ".txt");
+        }
+        List<String> order = scanOrder("wrap");
+        // the first entry fails, so it is left in the directory
+        failingEntry = order.get(0);
+
+        MockEndpoint mock = getMockEndpoint("mock:wrap");
+        mock.expectedMinimumMessageCount(7);
+
+        context.getRouteController().startRoute("wrap");
+
+        assertMockEndpointsSatisfied();
+
+        // each poll continues after the entry where the previous poll stopped, so the failed entry is only polled
+        // again once the scan has wrapped around to the beginning of the directory
+        List<String> expected = new ArrayList<>(order);
+        expected.add(failingEntry);
+        assertEquals(expected, receivedNames(mock).subList(0, 7));
+    }
+
+    @Test
+    public void testIncrementalScanCursorEntryDeleted() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            template.sendBodyAndHeader(fileUri("cursor"), "Hello " + i, Exchange.FILE_NAME, "hello" + i + ".txt");
+        }
+        List<String> order = scanOrder("cursor");
+        // the first poll stops at the third entry, which is deleted while the second entry is processed
+        deletingEntry = order.get(1);
+        deletedEntry = order.get(2);
+
+        MockEndpoint mock = getMockEndpoint("mock:cursor");
+        mock.expectedMessageCount(4);
+        mock.setAssertPeriod(200);
+
+        context.getRouteController().startRoute("cursor");
+
+        assertMockEndpointsSatisfied();
+
+        // the next poll scans the directory from the beginning, as the entry where it should continue is gone
+        assertEquals(List.of(order.get(0), order.get(1), order.get(3), order.get(4)), receivedNames(mock));
+    }
+
+    @Test
+    public void testIncrementalScanDoneFile() throws Exception {
+        template.sendBodyAndHeader(fileUri("done"), "Hello World", Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(fileUri("done"), "Bye World", Exchange.FILE_NAME, "bye.txt");
+        template.sendBodyAndHeader(fileUri("done"), "", Exchange.FILE_NAME, "hello.txt.done");
+
+        // only the file with a done file is consumed
+        getMockEndpoint("mock:done").expectedBodiesReceived("Hello World");
+
+        context.getRouteController().startRoute("bar");
+
+        assertMockEndpointsSatisfied();
+        assertFileExists(testFile("done/bye.txt"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from(fileUri(FILE_QUERY + "&delete=true")).routeId("foo").autoStartup(false)
+                        .convertBodyTo(String.class).to("mock:result");
+
+                from(fileUri("wrap" + FILE_QUERY + "&delete=true")).routeId("wrap").autoStartup(false)
+                        .to("mock:wrap")
+                        .process(e -> {
+                            if (failingEntry.equals(e.getMessage().getHeader(Exchange.FILE_NAME_ONLY))) {
+                                throw new IllegalArgumentException("Forced");
+                            }
+                        });
+
+                from(fileUri("cursor" + FILE_QUERY + "&delete=true")).routeId("cursor").autoStartup(false)
+                        .process(e -> {
+                            if (deletingEntry.equals(e.getMessage().getHeader(Exchange.FILE_NAME_ONLY))) {
+                                Files.delete(testFile("cursor/" + deletedEntry));
+                            }
+                        })
+                        .to("mock:cursor");
+
+                from(fileUri("done" + FILE_QUERY + "&doneFileName=${file:name}.done")).routeId("bar").autoStartup(false)
+                        .convertBodyTo(String.class).to("mock:done");
+            }
+        };
+    }
+
+    private List<String> scanOrder(String directory) throws IOException {
+        List<String> names = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(testDirectory(directory))) {
+            for (Path path : stream) {
+                names.add(path.getFileName().toString());
+            }
+        }
+        return names;
+    }
+
+    private static List<String> receivedNames(MockEndpoint mock) {
+        return mock.getReceivedExchanges().stream()
+                .map(e -> e.getMessage().getHeader(Exchange.FILE_NAME_ONLY, String.class))
+                .toList();
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test for processing the files of a poll concurrently
+ */
+public class FileConsumeMaxConcurrentFilesTest extends ContextTestSupport {
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+
+    @Test
+    public void testMaxConcurrentFiles() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            template.sendBodyAndHeader(fileUri(), "Hello " + i, Exchange.FILE_NAME, "hello" + i + ".txt");
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+        mock.expectsNoDuplicates(body());
+        mock.allMessages().exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(10);
+
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+
+        assertTrue(maxActive.get() > 1, "Files should be processed concurrently");
+        assertTrue(maxActive.get() <= 4, "At most 4 files should be processed concurrently, was: " + maxActive.get());
+
+        // the files are committed
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            for (int i = 0; i < 10; i++) {
+                assertFileExists(testFile(".camel/hello" + i + ".txt"));
+            }
+        });
+    }
+
+    @Test
+    public void testRestartWhileProcessing() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            template.sendBodyAndHeader(fileUri(), "Hello " + i, Exchange.FILE_NAME, "hello" + i + ".txt");
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+        mock.expectsNoDuplicates(body());
+
+        context.getRouteController().startRoute("foo");
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> active.get() > 0);
+
+        // the files being processed are done before the consumer is stopped
+        context.getRouteController().stopRoute("foo");
+        assertEquals(0, active.get());
+
+        // the remaining files are processed after restarting, while the slots of the stopped batch are not reused
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+        assertTrue(maxActive.get() <= 4, "At most 4 files should be processed concurrently, was: " + maxActive.get());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from(fileUri("?initialDelay=0&delay=10&maxConcurrentFiles=4")).routeId("foo").autoStartup(false)
+                        .process(e -> maxActive.accumulateAndGet(active.incrementAndGet(), Math::max))
+                        .delay(100)
+                        .process(e -> active.decrementAndGet())
+                        .convertBodyTo(String.class).to("mock:result");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.List;
+
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SedaBatchConsumerTest extends ContextTestSupport {
+
+    @Test
+    public void testBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:batch");
+        mock.expectedMessageCount(25);
+        for (int i = 0; i < 25; i++) {
+            mock.message(i).body().isEqualTo("Message " + i);
+        }
+
+        // send the messages before the consumer is started so they are taken from the queue in batches
+        for (int i = 0; i < 25; i++) {
+            template.sendBody("seda:batch", "Message " + i);
+        }
+        context.getRouteController().startRoute("batch");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testGrouped() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:group");
+        mock.expectedMessageCount(3);
+
+        for (int i = 0; i < 25; i++) {
+            template.sendBody("seda:group", "Message " + i);
+        }
+        context.getRouteController().startRoute("group");
+
+        assertMockEndpointsSatisfied();
+
+        int[] sizes = { 10, 10, 5 };
+        int index = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            Exchange group = mock.getReceivedExchanges().get(i);
+            assertEquals(sizes[i], group.getProperty(Exchange.BATCH_SIZE, Integer.class));
+            List<?> list = group.getMessage().getBody(List.class);
+            assertEquals(sizes[i], list.size());
+            for (Object exchange : list) {
+                assertEquals("Message " + index++, assertInstanceOf(Exchange.class, exchange).getMessage().getBody());
+            }
+        }
+    }
+
+    @Test
+    public void testGroupedBatchTimeout() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:timeout");
+        mock.expectedMessageCount(1);
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("seda:timeout", "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        List<?> list = mock.getReceivedExchanges().get(0).getMessage().getBody(List.class);
+        assertEquals(5, list.size());
+    }
+
+    @Test
+    public void testGroupedWaitForTaskToComplete() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:request");
+        mock.expectedMessageCount(1);
+
+        // the exchanges in the group are completed when the grouped exchange is done
+        template.sendBody("seda:request?waitForTaskToComplete=Always", "Hello World");
+        assertMockEndpointsSatisfied();
+
+        CamelExecutionException e = assertThrows(CamelExecutionException.class,
+                () -> template.sendBody("seda:fail?waitForTaskToComplete=Always", "Hello World"));
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+        assertEquals("Forced", e.getCause().getMessage());
+    }
+
+    @Test
+    public void testGroupedRejectsInOut() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:request");
+        mock.expectedMessageCount(0);
+
+        // the grouped exchange has no reply for each of the exchanges in the group
+        CamelExecutionException e = assertThrows(CamelExecutionException.class,
+                () -> template.requestBody("seda:request", "Hello World"));
+        assertInstanceOf(CamelExchangeException.class, e.getCause());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("seda:batch?batchSize=10").routeId("batch").autoStartup(false).to("mock:batch");
+
+                from("seda:group?batchSize=10&groupExchanges=true").routeId("group").autoStartup(false).to("mock:group");
+
+                from("seda:timeout?batchSize=5&batchTimeout=5000&groupExchanges=true").to("mock:timeout");
+
+                from("seda:request?batchSize=5&groupExchanges=true").to("mock:request");
+
+                from("seda:fail?batchSize=5&groupExchanges=true").throwException(new IllegalArgumentException("Forced"));
+            }
+        };
+    }
+}
@@ -29,6 +29,7 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.io.Writer;
 import java.net.URL;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -38,6 +39,7 @@ import java.util.UUID;
 
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.Exchange;
+import org.apache.camel.converter.stream.FileRegion;
 import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
@@ -46,6 +48,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -69,6 +72,29 @@ public class IOConverterTest extends ContextTestSupport {
         assertTrue(s.contains("Hello World"), "Should contain Hello World!");
     }
 
+    @Test
+    public void testToFileRegion() throws Exception {
+        template.sendBodyAndHeader(fileUri(), "Hello World", Exchange.FILE_NAME, TEST_FILE_NAME);
+        File file = testFile(TEST_FILE_NAME).toFile();
+
+        FileRegion region = context.getTypeConverter().convertTo(FileRegion.class, file);
+        assertNotNull(region);
+        assertEquals(0, region.getPosition());
+        assertEquals(11, region.getCount());
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        assertEquals(11, region.transferTo(Channels.newChannel(bos)));
+        assertEquals("Hello World", bos.toString());
+
+        region = FileRegion.of(file, 6);
+        try (InputStream is = context.getTypeConverter().convertTo(InputStream.class, region)) {
+            assertEquals("World", IOConverter.toString(is, null));
+        }
+
+        // not a file
+        assertNull(context.getTypeConverter().tryConvertTo(FileRegion.class, testDirectory().toFile()));
+    }
+
     @Test
     public void testCopy() throws Exception {
         ByteArrayInputStream bis = new ByteArrayInputStream(TESTDATA);
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CachedOutputStreamDirectBufferTest extends ContextTestSupport {
+
+    private static final String TEST_STRING = "This is a test string and it has enough"
+                                              + " aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa ";
+
+    private Exchange exchange;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory(testDirectory().toFile());
+        context.getStreamCachingStrategy().setSpoolEnabled(true);
+        context.getStreamCachingStrategy().setSpoolThreshold(16);
+        context.getStreamCachingStrategy().setSpoolDirectBufferEnabled(true);
+        context.getStreamCachingStrategy().setSpoolDirectBufferPoolSize(128 * 1024);
+        context.getStreamCachingStrategy().setSpoolMemoryMappedThreshold(1024);
+        return context;
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        exchange = new DefaultExchange(context);
+        UnitOfWork uow = new DefaultUnitOfWork(exchange);
+        exchange.getExchangeExtension().setUnitOfWork(uow);
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    private static String read(StreamCache cache) throws Exception {
+        return new String(((InputStream) cache).readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testSpoolToDirectBuffers() throws Exception {
+        context.start();
+        StreamCachingStrategy.DirectBufferPool pool = context.getStreamCachingStrategy().getDirectBufferPool();
+        assertNotNull(pool);
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+
+        // spooled into direct buffers and not to a temp file
+        String[] files = testDirectory().toFile().list();
+        assertNotNull(files);
+        assertEquals(0, files.length);
+        assertEquals(pool.getBufferSize(), pool.getBytesInUse());
+
+        StreamCache cache = cos.newStreamCache();
+        ByteBufferInputStreamCache bbc = assertInstanceOf(ByteBufferInputStreamCache.class, cache);
+        assertTrue(bbc.inMemory());
+        assertEquals(TEST_STRING.length(), bbc.length());
+        assertEquals(TEST_STRING, read(cache));
+        assertEquals(TEST_STRING.length(), bbc.position());
+
+        // read again
+        cache.reset();
+        assertEquals(TEST_STRING, read(cache));
+
+        // and copy
+        StreamCache copy = cache.copy(exchange);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        copy.writeTo(bos);
+        assertEquals(TEST_STRING, bos.toString(StandardCharsets.UTF_8));
+
+        exchange.getUnitOfWork().done(exchange);
+
+        // the buffers are released back to the pool
+        assertEquals(0, pool.getBytesInUse());
+        assertEquals(pool.getBufferSize(), pool.getBytesIdle());
+        assertEquals(0, pool.getSpillCounter());
+    }
+
+    @Test
+    public void testReadAfterReleaseFails() throws Exception {
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        StreamCache cache = cos.newStreamCache();
+
+        exchange.getUnitOfWork().done(exchange);
+
+        // the released buffer is reused by another exchange
+        Exchange other = new DefaultExchange(context);
+        other.getExchangeExtension().setUnitOfWork(new DefaultUnitOfWork(other));
+        CachedOutputStream otherCos = new CachedOutputStream(other);
+        otherCos.write("Bye World from the other exchange with some more text".getBytes(StandardCharsets.UTF_8));
+
+        // so the released stream cache must not read the content of the other exchange
+        assertThrows(IOException.class, () -> read(cache));
+        assertThrows(IOException.class, () -> cache.writeTo(new ByteArrayOutputStream()));
+
+        other.getUnitOfWork().done(other);
+    }
+
+    @Test
+    public void testSpillToMemoryMappedFile() throws Exception {
+        context.start();
+        StreamCachingStrategy.DirectBufferPool pool = context.getStreamCachingStrategy().getDirectBufferPool();
+
+        StringBuilder sb = new StringBuilder();
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        for (int i = 0; i < 20; i++) {
+            cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+            sb.append(TEST_STRING);
+        }
+
+        File dir = testDirectory().toFile();
+        String[] files = dir.list();
+        assertNotNull(files);
+        assertEquals(1, files.length, "we should have a temp file");
+        assertTrue(files[0].startsWith("cos"), "The file name should start with cos");
+        assertEquals(0, pool.getBytesInUse());
+        assertEquals(1, pool.getSpillCounter());
+
+        StreamCache cache = cos.newStreamCache();
+        assertInstanceOf(ByteBufferInputStreamCache.class, cache);
+        assertFalse(cache.inMemory());
+        assertEquals(sb.length(), cache.length());
+        assertEquals(sb.toString(), read(cache));
+        cache.reset();
+        assertEquals(sb.toString(), read(cache));
+
+        exchange.getUnitOfWork().done(exchange);
+
+        files = dir.list();
+        assertNotNull(files);
+        assertEquals(0, files.length, "the temp file should be deleted");
+
+        // the file is unmapped
+        cache.reset();
+        assertThrows(IOException.class, () -> read(cache));
+    }
+
+    @Test
+    public void testSpillWhenPoolExhausted() throws Exception {
+        context.getStreamCachingStrategy().setSpoolMemoryMappedThreshold(-1);
+        context.start();
+        StreamCachingStrategy.DirectBufferPool pool = context.getStreamCachingStrategy().getDirectBufferPool();
+
+        byte[] data = new byte[200 * 1024];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(data);
+
+        assertEquals(1, pool.getSpillCounter());
+        assertEquals(0, pool.getBytesInUse());
+
+        StreamCache cache = cos.newStreamCache();
+        assertFalse(cache.inMemory());
+        byte[] read = ((InputStream) cache).readAllBytes();
+        assertEquals(data.length, read.length);
+        for (int i = 0; i < data.length; i++) {
+            assertEquals(data[i], read[i]);
+        }
+
+        exchange.getUnitOfWork().done(exchange);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.converter;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.NoTypeConversionAvailableException;
+import org.apache.camel.TypeConversionException;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.support.TypeConverterSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TypeConverterHandleTest extends ContextTestSupport {
+
+    @Test
+    public void testLookupHandle() throws Exception {
+        TypeConverter.Handle<Integer> handle = context.getTypeConverter().lookupHandle(String.class, Integer.class);
+        assertSame(String.class, handle.getFromType());
+        assertSame(Integer.class, handle.getToType());
+        // the handles are cached
+        assertSame(handle, context.getTypeConverter().lookupHandle(String.class, Integer.class));
+
+        assertEquals(123, handle.convertTo(null, "123"));
+        assertEquals(456, handle.mandatoryConvertTo(null, "456"));
+        assertEquals(789, handle.tryConvertTo(null, "789"));
+        assertNull(handle.convertTo(null, null));
+
+        // other types of values are converted as well
+        assertEquals(123, handle.convertTo(null, 123L));
+        assertEquals(123, handle.convertTo(null, 123));
+
+        assertThrows(TypeConversionException.class, () -> handle.convertTo(null, "abc"));
+        assertNull(handle.tryConvertTo(null, "abc"));
+    }
+
+    @Test
+    public void testLookupHandleNoConverter() {
+        TypeConverter.Handle<Country> handle = context.getTypeConverter().lookupHandle(StringBuilder.class, Country.class);
+        assertNull(handle.convertTo(null, new StringBuilder("en")));
+        assertNull(handle.tryConvertTo(null, new StringBuilder("en")));
+        assertThrows(NoTypeConversionAvailableException.class,
+                () -> handle.mandatoryConvertTo(null, new StringBuilder("en")));
+    }
+
+    @Test
+    public void testLookupHandleConverterAdded() throws Exception {
+        TypeConverter.Handle<Country> handle = context.getTypeConverter().lookupHandle(String.class, Country.class);
+        assertNull(handle.convertTo(null, "en"));
+
+        context.getTypeConverterRegistry().addTypeConverters(new MyConverters());
+        assertEquals("England", handle.convertTo(null, "en").getName());
+
+        // replace the type converter
+        context.getTypeConverterRegistry().removeTypeConverter(Country.class, String.class);
+        context.getTypeConverterRegistry().addTypeConverter(Country.class, String.class, new TypeConverterSupport() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+                Country answer = new Country();
+                answer.setIso(value.toString());
+                answer.setName("Denmark");
+                return (T) answer;
+            }
+        });
+        assertEquals("Denmark", handle.mandatoryConvertTo(null, "dk").getName());
+    }
+
+    @Test
+    public void testLookupHandleOptimizedConversions() throws Exception {
+        assertEquals(Boolean.TRUE,
+                context.getTypeConverter().lookupHandle(String.class, boolean.class).convertTo(null, "true"));
+        assertEquals(Boolean.TRUE,
+                context.getTypeConverter().lookupHandle(String.class, Boolean.class).convertTo(null, "true"));
+        assertEquals("123", context.getTypeConverter().lookupHandle(Integer.class, String.class).convertTo(null, 123));
+        assertEquals(5, context.getTypeConverter().lookupHandle(String.class, int.class).mandatoryConvertTo(null, "5"));
+        assertSame(Thread.State.NEW,
+                context.getTypeConverter().lookupHandle(String.class, Thread.State.class).convertTo(null, "NEW"));
+        StringBuilder sb = new StringBuilder();
+        assertSame(sb, context.getTypeConverter().lookupHandle(StringBuilder.class, CharSequence.class).convertTo(null, sb));
+    }
+}
@@ -0,0 +1,612 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.util.CaseInsensitiveMap;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CaseInsensitiveHashMapTest {
+
+    @Test
+    public void testLookupCaseAgnostic() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+        assertEquals("cheese", map.get("FOO"));
+    }
+
+    @Test
+    public void testLookupCaseAgnosticAddHeader() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+        assertEquals("cheese", map.get("FOO"));
+        assertNull(map.get("unknown"));
+
+        map.put("bar", "beer");
+
+        assertEquals("beer", map.get("bar"));
+        assertEquals("beer", map.get("Bar"));
+        assertEquals("beer", map.get("BAR"));
+        assertNull(map.get("unknown"));
+    }
+
+    @Test
+    public void testLookupCaseAgnosticAddHeader2() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+
+        assertEquals("cheese", map.get("FOO"));
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+        assertNull(map.get("unknown"));
+
+        map.put("bar", "beer");
+
+        assertEquals("beer", map.get("BAR"));
+        assertEquals("beer", map.get("bar"));
+        assertEquals("beer", map.get("Bar"));
+        assertNull(map.get("unknown"));
+    }
+
+    @Test
+    public void testLookupCaseAgnosticAddHeaderRemoveHeader() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+        assertEquals("cheese", map.get("FOO"));
+        assertNull(map.get("unknown"));
+
+        map.put("bar", "beer");
+
+        assertEquals("beer", map.get("bar"));
+        assertEquals("beer", map.get("Bar"));
+        assertEquals("beer", map.get("BAR"));
+        assertNull(map.get("unknown"));
+
+        map.remove("bar");
+        assertNull(map.get("bar"));
+        assertNull(map.get("unknown"));
+    }
+
+    @Test
+    public void testSetWithDifferentCase() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+        map.put("Foo", "bar");
+
+        assertEquals("bar", map.get("FOO"));
+        assertEquals("bar", map.get("foo"));
+        assertEquals("bar", map.get("Foo"));
+    }
+
+    @Test
+    public void testRemoveWithDifferentCase() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+        map.put("Foo", "bar");
+
+        assertEquals("bar", map.get("FOO"));
+        assertEquals("bar", map.get("foo"));
+        assertEquals("bar", map.get("Foo"));
+
+        map.remove("FOO");
+
+        assertNull(map.get("foo"));
+        assertNull(map.get("Foo"));
+        assertNull(map.get("FOO"));
+
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testPutAll() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        assertNull(map.get("foo"));
+
+        Map<String, Object> other = new CaseInsensitiveHashMap();
+        other.put("Foo", "cheese");
+        other.put("bar", 123);
+
+        map.putAll(other);
+
+        assertEquals("cheese", map.get("FOO"));
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+
+        assertEquals(123, map.get("BAR"));
+        assertEquals(123, map.get("bar"));
+        assertEquals(123, map.get("BaR"));
+
+        // key case should be preserved
+        Map<String, Object> keys = new HashMap<>(map);
+
+        assertEquals("cheese", keys.get("Foo"));
+        assertNull(keys.get("foo"));
+        assertNull(keys.get("FOO"));
+
+        assertEquals(123, keys.get("bar"));
+        assertNull(keys.get("Bar"));
+        assertNull(keys.get("BAR"));
+    }
+
+    @Test
+    public void testPutAllOther() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        assertNull(map.get("foo"));
+
+        Map<String, Object> other = new HashMap<>();
+        other.put("Foo", "cheese");
+        other.put("bar", 123);
+
+        map.putAll(other);
+
+        assertEquals("cheese", map.get("FOO"));
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+
+        assertEquals(123, map.get("BAR"));
+        assertEquals(123, map.get("bar"));
+        assertEquals(123, map.get("BaR"));
+    }
+
+    @Test
+    public void testPutAllEmpty() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("foo", "cheese");
+
+        map.putAll(new HashMap<>());
+
+        assertEquals("cheese", map.get("FOO"));
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testConstructFromOther() {
+        Map<String, Object> other = new HashMap<>();
+        other.put("Foo", "cheese");
+        other.put("bar", 123);
+
+        Map<String, Object> map = new CaseInsensitiveHashMap(other);
+
+        assertEquals("cheese", map.get("FOO"));
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+
+        assertEquals(123, map.get("BAR"));
+        assertEquals(123, map.get("bar"));
+        assertEquals(123, map.get("BaR"));
+    }
+
+    @Test
+    public void testKeySet() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("Foo", "cheese");
+        map.put("BAR", 123);
+        map.put("baZ", "beer");
+
+        Set<String> keys = map.keySet();
+
+        // we should be able to lookup no matter what case
+        assertTrue(keys.contains("Foo"));
+        assertTrue(keys.contains("foo"));
+        assertTrue(keys.contains("FOO"));
+
+        assertTrue(keys.contains("BAR"));
+        assertTrue(keys.contains("bar"));
+        assertTrue(keys.contains("Bar"));
+
+        assertTrue(keys.contains("baZ"));
+        assertTrue(keys.contains("baz"));
+        assertTrue(keys.contains("Baz"));
+        assertTrue(keys.contains("BAZ"));
+    }
+
+    @Test
+    public void testRetainKeysCopyToAnotherMap() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("Foo", "cheese");
+        map.put("BAR", 123);
+        map.put("baZ", "beer");
+
+        Map<String, Object> other = new HashMap<>(map);
+
+        // we should retain the cases of the original keys
+        // when its copied to another map
+        assertTrue(other.containsKey("Foo"));
+        assertFalse(other.containsKey("foo"));
+        assertFalse(other.containsKey("FOO"));
+
+        assertTrue(other.containsKey("BAR"));
+        assertFalse(other.containsKey("bar"));
+        assertFalse(other.containsKey("Bar"));
+
+        assertTrue(other.containsKey("baZ"));
+        assertFalse(other.containsKey("baz"));
+        assertFalse(other.containsKey("Baz"));
+        assertFalse(other.containsKey("BAZ"));
+    }
+
+    @Test
+    public void testValues() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("Foo", "cheese");
+        map.put("BAR", "123");
+        map.put("baZ", "Beer");
+
+        Iterator<Object> it = map.values().iterator();
+
+        // should be String values
+        assertEquals("String", it.next().getClass().getSimpleName());
+        assertEquals("String", it.next().getClass().getSimpleName());
+        assertEquals("String", it.next().getClass().getSimpleName());
+
+        Collection<Object> values = map.values();
+        assertEquals(3, values.size());
+        assertTrue(values.contains("cheese"));
+        assertTrue(values.contains("123"));
+        assertTrue(values.contains("Beer"));
+    }
+
+    @Test
+    public void testRomeks() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("foo", "cheese");
+
+        assertEquals(1, map.size());
+        assertEquals("cheese", map.get("fOo"));
+        assertTrue(map.containsKey("foo"));
+        assertTrue(map.containsKey("FOO"));
+
+        assertTrue(map.containsKey("FOO"));
+        assertTrue(map.containsKey("FoO"));
+        assertTrue(map.containsKey("Foo"));
+        assertTrue(map.containsKey("foo"));
+        assertTrue(map.containsKey("fOO"));
+
+        map.put("FOO", "cake");
+        assertEquals(1, map.size());
+        assertTrue(map.containsKey("foo"));
+        assertTrue(map.containsKey("FOO"));
+
+        assertEquals("cake", map.get("fOo"));
+    }
+
+    @Test
+    public void testRomeksUsingRegularHashMap() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("foo", "cheese");
+
+        assertEquals(1, map.size());
+        assertNull(map.get("fOo"));
+        assertTrue(map.containsKey("foo"));
+        assertFalse(map.containsKey("FOO"));
+
+        assertFalse(map.containsKey("FOO"));
+
+        map.put("FOO", "cake");
+        assertEquals(2, map.size());
+        assertTrue(map.containsKey("foo"));
+        assertTrue(map.containsKey("FOO"));
+
+        assertNull(map.get("fOo"));
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cake", map.get("FOO"));
+    }
+
+    @Test
+    public void testRomeksTransferredToHashMapAfterwards() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("Foo", "cheese");
+        map.put("FOO", "cake");
+        assertEquals(1, map.size());
+        assertTrue(map.containsKey("foo"));
+        assertTrue(map.containsKey("FOO"));
+
+        Map<String, Object> other = new HashMap<>(map);
+        assertFalse(other.containsKey("foo"));
+        assertFalse(other.containsKey("FOO"));
+        // CaseInsensitiveHashMap preserves the original keys, which would be the
+        // 1st key we put
+        assertTrue(other.containsKey("Foo"));
+        assertEquals(1, other.size());
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        CaseInsensitiveHashMap testMap = new CaseInsensitiveHashMap();
+        testMap.put("key", "value");
+        // force entry set to be created which could cause the map to be non
+        // serializable
+        testMap.entrySet();
+
+        ByteArrayOutputStream bStream = new ByteArrayOutputStream();
+        ObjectOutputStream objStream = new ObjectOutputStream(bStream);
+        objStream.writeObject(testMap);
+
+        ObjectInputStream inStream = new ObjectInputStream(new ByteArrayInputStream(bStream.toByteArray()));
+        CaseInsensitiveHashMap testMapCopy = (CaseInsensitiveHashMap) inStream.readObject();
+
+        assertTrue(testMapCopy.containsKey("key"));
+    }
+
+    @Test
+    public void testCopyToAnotherMapPreserveKeyCaseEntrySet() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("Foo", "cheese");
+        map.put("BAR", "cake");
+        assertEquals(2, map.size());
+        assertTrue(map.containsKey("foo"));
+        assertTrue(map.containsKey("bar"));
+
+        Map<String, Object> other = new HashMap<>();
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            String key = entry.getKey();
+            Object value = entry.getValue();
+            other.put(key, value);
+        }
+
+        assertFalse(other.containsKey("foo"));
+        assertTrue(other.containsKey("Foo"));
+        assertFalse(other.containsKey("bar"));
+        assertTrue(other.containsKey("BAR"));
+        assertEquals(2, other.size());
+    }
+
+    @Test
+    public void testCopyToAnotherMapPreserveKeyCasePutAll() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("Foo", "cheese");
+        map.put("BAR", "cake");
+        assertEquals(2, map.size());
+        assertTrue(map.containsKey("foo"));
+        assertTrue(map.containsKey("bar"));
+
+        Map<String, Object> other = new HashMap<>(map);
+
+        assertFalse(other.containsKey("foo"));
+        assertTrue(other.containsKey("Foo"));
+        assertFalse(other.containsKey("bar"));
+        assertTrue(other.containsKey("BAR"));
+        assertEquals(2, other.size());
+    }
+
+    @Test
+    public void testCopyToAnotherMapPreserveKeyCaseCtr() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("Foo", "cheese");
+        map.put("BAR", "cake");
+        assertEquals(2, map.size());
+        assertTrue(map.containsKey("foo"));
+        assertTrue(map.containsKey("bar"));
+
+        Map<String, Object> other = new HashMap<>(map);
+
+        assertFalse(other.containsKey("foo"));
+        assertTrue(other.containsKey("Foo"));
+        assertFalse(other.containsKey("bar"));
+        assertTrue(other.containsKey("BAR"));
+        assertEquals(2, other.size());
+    }
+
+    @Test
+    public void testCopyToAnotherMapPreserveKeyKeySet() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("Foo", "cheese");
+        map.put("BAR", "cake");
+        assertEquals(2, map.size());
+        assertTrue(map.containsKey("foo"));
+        assertTrue(map.containsKey("bar"));
+
+        Map<String, Object> other = new HashMap<>(map);
+
+        // the original case of the keys should be preserved
+        assertFalse(other.containsKey("foo"));
+        assertTrue(other.containsKey("Foo"));
+        assertFalse(other.containsKey("bar"));
+        assertTrue(other.containsKey("BAR"));
+        assertEquals(2, other.size());
+    }
+
+    @Test
+    public void testConcurrent() throws Exception {
+        ExecutorService service = Executors.newFixedThreadPool(5);
+
+        final CountDownLatch latch = new CountDownLatch(1000);
+        final Map<String, Object> map = new CaseInsensitiveHashMap();
+
+        // do some stuff concurrently
+        for (int i = 0; i < 1000; i++) {
+            final int count = i;
+            service.submit(new Runnable() {
+                public void run() {
+                    Map<String, Object> foo = new CaseInsensitiveHashMap();
+                    foo.put("counter" + count, count);
+                    foo.put("foo", 123);
+                    foo.put("bar", 456);
+                    foo.put("cake", "cheese");
+
+                    // copy foo to map as map is a shared resource
+                    synchronized (map) {
+                        map.putAll(foo);
+                    }
+
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+        assertEquals(1003, map.size());
+        assertTrue(map.containsKey("counter0"));
+        assertTrue(map.containsKey("counter500"));
+        assertTrue(map.containsKey("counter999"));
+
+        assertEquals(123, map.get("FOO"));
+        assertEquals(456, map.get("Bar"));
+        assertEquals("cheese", map.get("cAKe"));
+        service.shutdownNow();
+    }
+
+    @Test
+    public void testCopyOnWrite() {
+        CaseInsensitiveHashMap map = new CaseInsensitiveHashMap();
+        map.put(Exchange.FILE_NAME, "hello.txt");
+        map.put("foo", 123);
+
+        Map<String, Object> copy = new CaseInsensitiveHashMap(map);
+        Map<String, Object> copy2 = new CaseInsensitiveHashMap(map);
+        assertEquals("hello.txt", copy.get("camelfilename"));
+        assertEquals(123, copy.get("FOO"));
+
+        copy.put("foo", 456);
+        copy.put("bar", "yes");
+        copy2.remove("CamelFileName");
+        map.put("baz", true);
+
+        assertEquals(3, map.size());
+        assertEquals(123, map.get("foo"));
+        assertEquals("hello.txt", map.get(Exchange.FILE_NAME));
+        assertFalse(map.containsKey("bar"));
+
+        assertEquals(3, copy.size());
+        assertEquals(456, copy.get("foo"));
+        assertEquals("yes", copy.get("bar"));
+        assertFalse(copy.containsKey("baz"));
+
+        assertEquals(1, copy2.size());
+        assertEquals(123, copy2.get("foo"));
+        assertFalse(copy2.containsKey(Exchange.FILE_NAME));
+    }
+
+    @Test
+    public void testCopyOnWriteEntrySetValue() {
+        CaseInsensitiveHashMap map = new CaseInsensitiveHashMap();
+        map.put("foo", 123);
+
+        Map<String, Object> copy = new CaseInsensitiveHashMap();
+        copy.putAll(map);
+        copy.entrySet().iterator().next().setValue(456);
+
+        assertEquals(123, map.get("foo"));
+        assertEquals(456, copy.get("foo"));
+    }
+
+    @Test
+    public void testInsertionOrder() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("c", 1);
+        map.put("A", 2);
+        map.put("b", 3);
+        map.put("C", 4);
+        map.remove("a");
+        map.put("d", 5);
+
+        assertEquals(List.of("c", "b", "d"), new ArrayList<>(map.keySet()));
+        assertEquals(List.of(4, 3, 5), new ArrayList<>(map.values()));
+    }
+
+    @Test
+    public void testWellKnownKeys() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put(new String("CamelHttpUri"), "/foo");
+        map.put("content-type", "text/plain");
+
+        assertEquals("/foo", map.get(Exchange.HTTP_URI));
+        assertEquals("/foo", map.get("camelhttpuri"));
+        assertEquals("text/plain", map.get(Exchange.CONTENT_TYPE));
+        // the original case of the key is preserved
+        assertTrue(map.keySet().contains("content-type"));
+        // the well-known key is interned
+        assertSame(Exchange.HTTP_URI, map.keySet().iterator().next());
+    }
+
+    @Test
+    public void testManyPutAndRemove() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        Map<String, Object> expected = new CaseInsensitiveMap();
+        for (int i = 0; i < 5000; i++) {
+            String key = (i % 2 == 0 ? "Key" : "KEY") + (i % 300);
+            if (i % 3 == 0) {
+                assertEquals(expected.remove(key), map.remove(key.toLowerCase()));
+            } else {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+        for (String key : expected.keySet()) {
+            assertEquals(expected.get(key), map.get(key.toUpperCase()));
+        }
+    }
+
+    @Test
+    public void testFoldedHash() {
+        assertEquals(CaseInsensitiveHashMap.foldedHash("foo"), CaseInsensitiveHashMap.foldedHash("FOO"));
+        assertEquals(CaseInsensitiveHashMap.foldedHash("stra\u00dfe"), CaseInsensitiveHashMap.foldedHash("STRA\u00dfE"));
+        assertEquals(CaseInsensitiveHashMap.foldedHash("\u00c5ngstr\u00f6m"),
+                CaseInsensitiveHashMap.foldedHash("\u00e5NGSTR\u00d6M"));
+        // kelvin sign and dotless i
+        assertEquals(CaseInsensitiveHashMap.foldedHash("k"), CaseInsensitiveHashMap.foldedHash("\u212a"));
+        assertEquals(CaseInsensitiveHashMap.foldedHash("i"), CaseInsensitiveHashMap.foldedHash("\u0131"));
+        assertTrue("\u212a".equalsIgnoreCase("k"));
+    }
+
+}
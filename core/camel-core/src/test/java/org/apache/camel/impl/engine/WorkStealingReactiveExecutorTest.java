@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.AsyncProcessorSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkStealingReactiveExecutorTest extends ContextTestSupport {
+
+    private final WorkStealingReactiveExecutor executor = new WorkStealingReactiveExecutor();
+    private final ExecutorService ioThreads = Executors.newFixedThreadPool(2, r -> new Thread(r, "MyIoThread"));
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        executor.setLanes(4);
+        context.getCamelContextExtension().setReactiveExecutor(executor);
+        return context;
+    }
+
+    @AfterEach
+    public void shutdownIoThreads() {
+        ioThreads.shutdownNow();
+    }
+
+    @Test
+    public void testAsyncContinuationRunsOnLane() throws Exception {
+        assertSame(executor, context.getCamelContextExtension().getReactiveExecutor());
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(100);
+
+        for (int i = 0; i < 100; i++) {
+            template.sendBody("direct:start", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        // the routing continued on the lanes and not on the threads that completed the asynchronous work
+        assertFalse(threads.isEmpty());
+        for (String name : threads) {
+            assertTrue(name.contains("ReactiveLane"), "Should run on a lane: " + name);
+        }
+        assertEquals(4, executor.getLaneTasksRun().length);
+        assertTrue(executor.getTasksRun() >= 100, "Should run tasks on the lanes");
+        assertEquals(0, executor.getLanePendingTasks());
+    }
+
+    @Test
+    public void testSyncRouteRunsOnCurrentThread() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:sync");
+        mock.expectedBodiesReceived("Hello World");
+
+        template.sendBody("direct:sync", "Hello World");
+
+        assertMockEndpointsSatisfied();
+        assertEquals(Thread.currentThread().getName(),
+                mock.getReceivedExchanges().get(0).getMessage().getHeader("thread"));
+        assertEquals(0, executor.getTasksRun());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .process(new AsyncProcessorSupport() {
+                            @Override
+                            public boolean process(Exchange exchange, AsyncCallback callback) {
+                                // complete the asynchronous work from another thread such as an IO thread
+                                ioThreads.submit(() -> callback.done(false));
+                                return false;
+                            }
+                        })
+                        .process(e -> threads.add(Thread.currentThread().getName()))
+                        .to("mock:result");
+
+                from("direct:sync")
+                        .process(e -> e.getMessage().setHeader("thread", Thread.currentThread().getName()))
+                        .to("mock:sync");
+            }
+        };
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.util.StringJoiner;
+
+import org.apache.camel.ExchangeTestSupport;
+import org.apache.camel.Predicate;
+import org.apache.camel.language.simple.types.SimpleIllegalSyntaxException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SimpleCompiledPredicateTest extends ExchangeTestSupport {
+
+    private static final String[] PREDICATES = {
+            "true", "false", "${header.foo}", "${header.unknown}", "${body} == 'Hello World'",
+            "${body} != 'Hello World'", "${body} =~ 'hello world'", "${body} !=~ 'hello world'",
+            "${header.bar} > 100", "${header.bar} >= 123", "${header.bar} < 100", "${header.bar} <= 123",
+            "${header.unknown} == null", "${header.unknown} != null", "${header.unknown} > 100", "${header.unknown} < 100",
+            "${body} contains 'World'", "${body} !contains 'World'", "${body} ~~ 'world'", "${body} !~~ 'world'",
+            "${body} startsWith 'Hello'", "${body} endsWith 'World'", "${body} regex '^Hello.*'",
+            "${header.bar} in '100,123'", "${header.bar} !in '100,123'", "${header.bar} range '100..200'",
+            "${body} is 'String'", "${header.foo} == 'abc' && ${header.bar} == 123",
+            "${header.foo} == 'abc' && ${header.bar} == 444", "${header.foo} == 'def' || ${header.bar} == 123",
+            "${header.foo} == 'def' || ${header.bar} == 444",
+            "${header.foo} == 'abc' && ${header.bar} > 100 || ${body} == 'Bye World'",
+            "${header.foo} == 'def' || ${header.bar} > 100 && ${body} == 'Bye World'",
+            "${header.foo} == 'abc' && ${body} regex '^Hello.*' && ${header.bar} in '100,123'",
+            "${in.header.foo} == ${in.header.foo}", "${header.bar} == ${header.bar}" };
+
+    @Test
+    public void testCompiled() {
+        Predicate predicate = compile("${header.foo} == 'abc' && ${header.bar} > 100");
+        assertInstanceOf(CompiledSimplePredicate.class, predicate);
+        assertEquals("${header.foo} == 'abc' && ${header.bar} > 100", predicate.toString());
+        predicate.init(context);
+
+        exchange.getIn().setHeader("foo", "abc");
+        exchange.getIn().setHeader("bar", 123);
+        assertTrue(predicate.matches(exchange));
+
+        exchange.getIn().setHeader("bar", 99);
+        assertFalse(predicate.matches(exchange));
+    }
+
+    @Test
+    public void testSameAsInterpreted() {
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("foo", "abc");
+        exchange.getIn().setHeader("bar", 123);
+
+        for (String text : PREDICATES) {
+            Predicate interpreted = new SimplePredicateParser(context, text, true, null).parsePredicate();
+            Predicate compiled = compile(text);
+            interpreted.init(context);
+            compiled.init(context);
+            assertEquals(interpreted.matches(exchange), compiled.matches(exchange), text);
+        }
+    }
+
+    @Test
+    public void testManyOperands() {
+        exchange.getIn().setHeader("foo", "abc");
+
+        // enough operands to use wide field indexes and branch offsets
+        StringJoiner or = new StringJoiner(" || ");
+        StringJoiner and = new StringJoiner(" && ");
+        for (int i = 0; i < 200; i++) {
+            or.add("${header.foo} == 'x" + i + "'");
+            and.add("${header.foo} != 'x" + i + "'");
+        }
+        Predicate predicate = compile(or + " || ${header.foo} == 'abc'");
+        assertInstanceOf(CompiledSimplePredicate.class, predicate);
+        assertTrue(predicate.matches(exchange));
+
+        predicate = compile(or.toString());
+        assertFalse(predicate.matches(exchange));
+
+        predicate = compile(and.toString());
+        assertTrue(predicate.matches(exchange));
+
+        predicate = compile(and + " && ${header.foo} != 'abc'");
+        assertFalse(predicate.matches(exchange));
+    }
+
+    @Test
+    public void testInvalid() {
+        assertThrows(SimpleIllegalSyntaxException.class, () -> compile("${header.foo} == "));
+        assertThrows(SimpleIllegalSyntaxException.class, () -> compile("${header.foo} == 'abc' && "));
+    }
+
+    @Test
+    public void testSimpleLanguage() {
+        SimpleLanguage language = (SimpleLanguage) context.resolveLanguage("simple");
+        language.setCompiled(true);
+
+        exchange.getIn().setBody("Hello World");
+        Predicate predicate = language.createPredicate("${body} contains 'World'");
+        assertInstanceOf(CompiledSimplePredicate.class, predicate);
+        assertTrue(predicate.matches(exchange));
+        // cached
+        assertSame(predicate, language.createPredicate("${body} contains 'World'"));
+    }
+
+    private Predicate compile(String text) {
+        return new SimplePredicateParser(context, text, true, null).parseCompiledPredicate();
+    }
+}
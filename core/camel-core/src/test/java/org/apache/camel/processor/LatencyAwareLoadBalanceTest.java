@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.loadbalancer.EwmaLoadBalancer;
+import org.apache.camel.processor.loadbalancer.LeastOutstandingRequestsLoadBalancer;
+import org.apache.camel.processor.loadbalancer.PowerOfTwoChoicesLoadBalancer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyAwareLoadBalanceTest extends ContextTestSupport {
+
+    private final EwmaLoadBalancer ewma = new EwmaLoadBalancer();
+    private final EwmaLoadBalancer ewmaFailing = new EwmaLoadBalancer();
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:ewma").loadBalance(ewma).to("direct:slow", "direct:fast");
+                from("direct:least").loadBalance(new LeastOutstandingRequestsLoadBalancer())
+                        .to("mock:x", "mock:y", "mock:z");
+                from("direct:p2c").loadBalance(new PowerOfTwoChoicesLoadBalancer())
+                        .to("mock:x", "mock:y", "mock:z");
+
+                from("direct:ewmaFailing").loadBalance(ewmaFailing).to("direct:ok", "direct:failing");
+
+                from("direct:slow").delay(50).to("mock:slow");
+                from("direct:ok").delay(5).to("mock:ok");
+                from("direct:failing").to("mock:failing").throwException(new IllegalStateException("Forced"));
+                from("direct:fast").to("mock:fast");
+            }
+        };
+    }
+
+    @Test
+    public void testEwmaPrefersFastProcessor() throws Exception {
+        MockEndpoint slow = getMockEndpoint("mock:slow");
+        MockEndpoint fast = getMockEndpoint("mock:fast");
+
+        for (int i = 0; i < 20; i++) {
+            template.sendBody("direct:ewma", "Hello World");
+        }
+
+        // each processor is tried once as they have no latency yet, and then the fast is preferred
+        assertTrue(slow.getReceivedCounter() <= 2, "Slow processor got " + slow.getReceivedCounter() + " messages");
+        assertEquals(20, slow.getReceivedCounter() + fast.getReceivedCounter());
+
+        long completed = ewma.getProcessors().stream().mapToLong(p -> ewma.getStatistics(p).getCompleted()).sum();
+        assertEquals(20, completed);
+        assertTrue(ewma.getProcessors().stream().allMatch(p -> ewma.getStatistics(p).getInflight() == 0));
+    }
+
+    @Test
+    public void testEwmaAvoidsFastFailingProcessor() throws Exception {
+        MockEndpoint ok = getMockEndpoint("mock:ok");
+        MockEndpoint failing = getMockEndpoint("mock:failing");
+
+        for (int i = 0; i < 20; i++) {
+            try {
+                template.sendBody("direct:ewmaFailing", "Hello World");
+            } catch (Exception e) {
+                // expected for the failing processor
+            }
+        }
+
+        // the failing processor fails faster than the other processor, but is only tried once
+        assertEquals(1, failing.getReceivedCounter());
+        assertEquals(19, ok.getReceivedCounter());
+    }
+
+    @Test
+    public void testLeastOutstandingRequests() throws Exception {
+        // nothing is in flight so all the processors are chosen evenly
+        getMockEndpoint("mock:x").expectedMinimumMessageCount(5);
+        getMockEndpoint("mock:y").expectedMinimumMessageCount(5);
+        getMockEndpoint("mock:z").expectedMinimumMessageCount(5);
+
+        for (int i = 0; i < 100; i++) {
+            template.sendBody("direct:least", "Hello World");
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testPowerOfTwoChoices() throws Exception {
+        getMockEndpoint("mock:x").expectedMinimumMessageCount(5);
+        getMockEndpoint("mock:y").expectedMinimumMessageCount(5);
+        getMockEndpoint("mock:z").expectedMinimumMessageCount(5);
+
+        for (int i = 0; i < 100; i++) {
+            template.sendBody("direct:p2c", "Hello World");
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+}
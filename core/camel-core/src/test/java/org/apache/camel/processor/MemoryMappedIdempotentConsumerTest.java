@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.io.File;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.processor.idempotent.MemoryMappedIdempotentRepository;
+import org.apache.camel.support.service.ServiceHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MemoryMappedIdempotentConsumerTest extends ContextTestSupport {
+
+    private MemoryMappedIdempotentRepository repo;
+    private File store;
+
+    @Test
+    public void testDuplicateMessagesAreFilteredOut() throws Exception {
+        MockEndpoint resultEndpoint = getMockEndpoint("mock:result");
+
+        assertFalse(repo.contains("1"));
+        assertFalse(repo.contains("2"));
+        assertFalse(repo.contains("3"));
+        assertTrue(repo.contains("4"));
+
+        resultEndpoint.expectedBodiesReceived("one", "two", "three");
+
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "four", "messageId", "4");
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "three", "messageId", "3");
+
+        resultEndpoint.assertIsSatisfied();
+
+        assertTrue(repo.contains("1"));
+        assertTrue(repo.contains("2"));
+        assertTrue(repo.contains("3"));
+        assertTrue(repo.contains("4"));
+        assertEquals(4, repo.getSize());
+    }
+
+    @Test
+    public void testKeysArePersisted() {
+        repo.add("1");
+        repo.add("2");
+        ServiceHelper.stopService(repo);
+
+        MemoryMappedIdempotentRepository other = new MemoryMappedIdempotentRepository(store, 100);
+        ServiceHelper.startService(other);
+        try {
+            assertTrue(other.contains("1"));
+            assertTrue(other.contains("2"));
+            assertTrue(other.contains("4"));
+            assertFalse(other.contains("3"));
+            assertEquals(3, other.getSize());
+        } finally {
+            ServiceHelper.stopService(other);
+        }
+    }
+
+    @Test
+    public void testRemove() {
+        for (int i = 0; i < 50; i++) {
+            assertTrue(repo.add("key" + i));
+        }
+        for (int i = 0; i < 50; i += 2) {
+            assertTrue(repo.remove("key" + i));
+        }
+        assertFalse(repo.remove("key0"));
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i % 2 == 1, repo.contains("key" + i), "key" + i);
+        }
+        assertEquals(26, repo.getSize());
+
+        repo.clear();
+        assertEquals(0, repo.getSize());
+        assertFalse(repo.contains("key1"));
+        assertFalse(repo.contains("4"));
+    }
+
+    @Test
+    public void testOldestKeysAreDroppedWhenCapacityHit() {
+        for (int i = 0; i < 250; i++) {
+            repo.add("key" + i);
+        }
+        assertEquals(100, repo.getSize());
+        for (int i = 0; i < 150; i++) {
+            assertFalse(repo.contains("key" + i), "key" + i);
+        }
+        for (int i = 150; i < 250; i++) {
+            assertTrue(repo.contains("key" + i), "key" + i);
+        }
+    }
+
+    @Test
+    public void testKeyAddedAgainAfterRemoveIsNotDroppedEarly() {
+        assertTrue(repo.add("a"));
+        assertTrue(repo.remove("a"));
+        for (int i = 0; i < 98; i++) {
+            repo.add("key" + i);
+        }
+        // add the removed key again, which is now the newest key
+        assertTrue(repo.add("a"));
+        assertEquals(99, repo.getSize());
+
+        // the removed entry of the key is the oldest in the insertion order, which must not drop the key added again
+        assertTrue(repo.add("b"));
+        assertTrue(repo.contains("a"));
+        assertTrue(repo.contains("b"));
+        assertFalse(repo.contains("4"));
+        assertEquals(100, repo.getSize());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        store = testFile("idempotentfilestore.dat").toFile();
+        return new RouteBuilder() {
+            public void configure() {
+                repo = new MemoryMappedIdempotentRepository(store, 100);
+                ServiceHelper.startService(repo);
+                // let's add 4 to start with
+                repo.add("4");
+                from("direct:start").idempotentConsumer(header("messageId"), repo).to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Iterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitterParallelStreamingMaxInflightTest extends ContextTestSupport {
+
+    private static final int COUNT = 200;
+    private static final int MAX_INFLIGHT = 5;
+
+    private final AtomicInteger split = new AtomicInteger();
+    private final AtomicInteger aggregated = new AtomicInteger();
+    private final AtomicInteger maxInflight = new AtomicInteger();
+
+    @Test
+    public void testMaxInflight() throws Exception {
+        String expected = IntStream.range(0, COUNT).mapToObj(Integer::toString).collect(Collectors.joining(","));
+        getMockEndpoint("mock:split").expectedMessageCount(COUNT);
+        getMockEndpoint("mock:result").expectedBodiesReceived(expected);
+
+        template.sendBody("direct:start", new CountingIterator());
+
+        assertMockEndpointsSatisfied();
+        assertTrue(maxInflight.get() <= MAX_INFLIGHT,
+                "The number of split messages in flight should be at most " + MAX_INFLIGHT + " but was " + maxInflight.get());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .split(body(), new ConcatAggregationStrategy()).streaming().parallelProcessing()
+                        .maxInflight(MAX_INFLIGHT)
+                        .process(e -> Thread.sleep(ThreadLocalRandom.current().nextInt(3)))
+                        .to("mock:split")
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+
+    private final class CountingIterator implements Iterator<Integer> {
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return index < COUNT;
+        }
+
+        @Override
+        public Integer next() {
+            int inflight = split.incrementAndGet() - aggregated.get();
+            maxInflight.accumulateAndGet(inflight, Math::max);
+            return index++;
+        }
+    }
+
+    private final class ConcatAggregationStrategy implements AggregationStrategy {
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            aggregated.incrementAndGet();
+            if (oldExchange == null) {
+                return newExchange;
+            }
+            String body = oldExchange.getIn().getBody(String.class) + "," + newExchange.getIn().getBody(String.class);
+            oldExchange.getIn().setBody(body);
+            return oldExchange;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Isolated("Creates lots of threads")
+public class AggregateLockStripesTest extends ContextTestSupport {
+
+    @Test
+    public void testAggregateLockStripes() throws Exception {
+        ExecutorService service = Executors.newFixedThreadPool(20);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        int size = 1000;
+        for (int i = 0; i < size; i++) {
+            final int id = i % 50;
+            final int count = i;
+            tasks.add(() -> {
+                template.sendBodyAndHeader("direct:start", Integer.toString(count), "id", id);
+                return null;
+            });
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(50);
+
+        // submit all tasks
+        service.invokeAll(tasks);
+
+        assertMockEndpointsSatisfied();
+        service.shutdownNow();
+
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            String body = exchange.getMessage().getBody(String.class);
+            assertEquals(20, body.split("\\+").length, "Each group should contain all its messages: " + body);
+        }
+    }
+
+    @Test
+    public void testAggregateLockStripesCompletionTimeout() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:timeout");
+        mock.expectedBodiesReceivedInAnyOrder("A+B", "C");
+
+        template.sendBodyAndHeader("direct:timeout", "A", "id", 1);
+        template.sendBodyAndHeader("direct:timeout", "B", "id", 1);
+        template.sendBodyAndHeader("direct:timeout", "C", "id", 2);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testAggregateLockStripesForceCompletion() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:timeout");
+        mock.expectedBodiesReceivedInAnyOrder("A+B", "C");
+
+        template.sendBodyAndHeader("direct:timeout", "A", "id", 1);
+        template.sendBodyAndHeader("direct:timeout", "B", "id", 1);
+        template.sendBodyAndHeader("direct:timeout", "C", "id", 2);
+        template.sendBodyAndHeader("direct:timeout", "ignored", Exchange.AGGREGATION_COMPLETE_ALL_GROUPS, true);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").aggregate(header("id"), new BodyInAggregatingStrategy()).completionSize(20)
+                        .lockStripes(16)
+                        .to("mock:result");
+
+                from("direct:timeout").aggregate(header("id"), new BodyInAggregatingStrategy()).completionTimeout(500)
+                        .completionTimeoutCheckerInterval(100)
+                        .lockStripes(4)
+                        .to("mock:timeout");
+            }
+        };
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.resequencer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.camel.TestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimerWheelResequencerEngineTest extends TestSupport {
+
+    private TimerWheelResequencerEngine<Integer> resequencer;
+    private SequenceBuffer<Integer> buffer;
+
+    @Override
+    @AfterEach
+    public void tearDown() {
+        if (resequencer != null) {
+            resequencer.stop();
+        }
+    }
+
+    @Test
+    void testTimeout1() throws Exception {
+        initResequencer(500, 16);
+        resequencer.insert(4);
+        assertNull(buffer.poll(250));
+        assertEquals(4, buffer.poll(5_000));
+        assertEquals(4, resequencer.getLastDelivered());
+    }
+
+    @Test
+    void testTimeout2() throws Exception {
+        initResequencer(500, 16);
+        resequencer.setLastDelivered(2);
+        resequencer.insert(4);
+        assertNull(buffer.poll(250));
+        assertEquals(4, buffer.poll(5_000));
+        assertEquals(4, resequencer.getLastDelivered());
+    }
+
+    @Test
+    void testInSequence() throws Exception {
+        initResequencer(500, 16);
+        resequencer.setLastDelivered(3);
+        resequencer.insert(4);
+        resequencer.deliver();
+        assertEquals(4, buffer.poll(0));
+        assertEquals(4, resequencer.getLastDelivered());
+    }
+
+    @Test
+    void testPredecessorArrives() throws Exception {
+        initResequencer(5_000, 16);
+        resequencer.setLastDelivered(2);
+        resequencer.insert(5);
+        resequencer.insert(4);
+        resequencer.deliver();
+        assertNull(buffer.poll(0));
+        resequencer.insert(3);
+        resequencer.deliver();
+        assertEquals(3, buffer.poll(0));
+        assertEquals(4, buffer.poll(0));
+        assertEquals(5, buffer.poll(0));
+        assertEquals(0, resequencer.size());
+    }
+
+    @Test
+    void testBeyondWindow() throws Exception {
+        initResequencer(200, 4);
+        resequencer.setLastDelivered(0);
+        resequencer.insert(10);
+        resequencer.insert(2);
+        resequencer.insert(1);
+        resequencer.deliver();
+        assertEquals(1, buffer.poll(0));
+        assertEquals(2, buffer.poll(0));
+
+        // 10 is delivered after its timeout
+        assertEquals(10, buffer.poll(5_000));
+        resequencer.insert(11);
+        resequencer.deliver();
+        assertEquals(11, buffer.poll(0));
+    }
+
+    @Test
+    void testRejectOld() throws Exception {
+        initResequencer(500, 16);
+        resequencer.setRejectOld(true);
+        resequencer.setLastDelivered(5);
+        assertThrows(MessageRejectedException.class, () -> resequencer.insert(3));
+    }
+
+    @Test
+    void testRandom() throws Exception {
+        int input = 1000;
+        initResequencer(500, input);
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < input; i++) {
+            list.add(i);
+        }
+        Collections.shuffle(list, new Random(42));
+        for (Integer i : list) {
+            resequencer.insert(i);
+        }
+        for (int i = 0; i < input; i++) {
+            assertEquals(i, buffer.poll(5_000));
+        }
+        assertEquals(0, resequencer.size());
+    }
+
+    @Test
+    void testNoElementLostWhenGapsAreSkipped() throws Exception {
+        int input = 2000;
+        int threads = 4;
+        initResequencer(1, 4);
+        resequencer.setLastDelivered(-1);
+
+        // every tenth element is missing, so the gaps are skipped while the other threads keep inserting
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < input; i++) {
+            if (i % 10 != 5) {
+                list.add(i);
+            }
+        }
+        Collections.shuffle(list, new Random(42));
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                List<Integer> part = list.subList(t * list.size() / threads, (t + 1) * list.size() / threads);
+                futures.add(executor.submit(() -> {
+                    for (Integer i : part) {
+                        resequencer.insert(i);
+                        resequencer.deliver();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // each element is delivered once (late elements included) and none is dropped as a duplicate
+        Set<Integer> delivered = new HashSet<>();
+        for (int i = 0; i < list.size(); i++) {
+            Integer element = buffer.poll(5_000);
+            assertNotNull(element, "Element lost after " + i + " deliveries");
+            assertTrue(delivered.add(element), "Element delivered twice: " + element);
+        }
+        assertEquals(new HashSet<>(list), delivered);
+        assertEquals(0, resequencer.size());
+    }
+
+    private void initResequencer(long timeout, int windowSize) {
+        buffer = new SequenceBuffer<>();
+        resequencer = new TimerWheelResequencerEngine<>(new IntegerComparator(), Integer::longValue, windowSize);
+        resequencer.setSequenceSender(buffer);
+        resequencer.setTimeout(timeout);
+        resequencer.start();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.throttle.concurrent;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.AdaptiveConcurrencyLimit;
+import org.apache.camel.processor.ConcurrentRequestsThrottler;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentRequestsThrottlerAdaptiveTest extends ContextTestSupport {
+
+    @Test
+    public void testAimdIncreasesWhileInUse() {
+        AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.newLimit("Aimd");
+        limit.setMaximumLimit(25);
+        assertEquals(20, limit.getLimit());
+
+        for (int i = 0; i < 10; i++) {
+            limit.onSample(TimeUnit.MILLISECONDS.toNanos(10), limit.getLimit(), false);
+        }
+        // never above the maximum
+        assertEquals(25, limit.getLimit());
+    }
+
+    @Test
+    public void testAimdDecreasesOnFailureAndLatency() throws Exception {
+        AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.newLimit("aimd");
+        limit.onSample(TimeUnit.MILLISECONDS.toNanos(10), 1, false);
+        assertEquals(20, limit.getLimit());
+
+        assertEquals(18, limit.onSample(TimeUnit.MILLISECONDS.toNanos(10), 1, true));
+        // the exchanges which were in flight when the limit was decreased do not decrease it again
+        assertEquals(18, limit.onSample(TimeUnit.MILLISECONDS.toNanos(50), 1, false));
+        assertEquals(18, limit.onSample(TimeUnit.MILLISECONDS.toNanos(1), 1, true));
+
+        Thread.sleep(100);
+        assertEquals(16, limit.onSample(TimeUnit.MILLISECONDS.toNanos(25), 1, false));
+        // failed exchanges do not lower the lowest latency
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(10), limit.getMinLatency());
+    }
+
+    @Test
+    public void testMinLatencyIsMeasuredAgain() {
+        AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.newLimit("Aimd");
+        limit.onSample(TimeUnit.MILLISECONDS.toNanos(10), 1, false);
+
+        // the downstream system gets slower, but not enough to decrease the limit
+        for (int i = 0; i < 30 * AdaptiveConcurrencyLimit.INITIAL_LIMIT; i++) {
+            limit.onSample(TimeUnit.MILLISECONDS.toNanos(15), 1, false);
+        }
+        assertEquals(20, limit.getLimit());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(15), limit.getMinLatency());
+    }
+
+    @Test
+    public void testVegasFollowsLatency() {
+        AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.newLimit("Vegas");
+        limit.setMaximumLimit(100);
+
+        // no queueing in the downstream system so the limit grows
+        for (int i = 0; i < 5; i++) {
+            limit.onSample(TimeUnit.MILLISECONDS.toNanos(10), limit.getLimit(), false);
+        }
+        int grown = limit.getLimit();
+        assertTrue(grown > 20, "Limit should grow: " + grown);
+
+        // the latency is four times the lowest so most exchanges are queued downstream
+        limit.onSample(TimeUnit.MILLISECONDS.toNanos(40), limit.getLimit(), false);
+        assertTrue(limit.getLimit() < grown, "Limit should shrink: " + limit.getLimit());
+    }
+
+    @Test
+    public void testUnknownAlgorithm() {
+        assertThrows(IllegalArgumentException.class, () -> AdaptiveConcurrencyLimit.newLimit("Gradient"));
+    }
+
+    @Test
+    public void testAdaptiveRoute() throws Exception {
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedMessageCount(10);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("seda:start", "Message " + i);
+        }
+        assertMockEndpointsSatisfied();
+
+        ConcurrentRequestsThrottler throttler = context.getProcessor("throttle", ConcurrentRequestsThrottler.class);
+        assertEquals("Aimd", throttler.getAdaptiveAlgorithm());
+        assertTrue(throttler.getCurrentMaximumRequests() <= 5);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("seda:start?concurrentConsumers=5")
+                        .throttle(5).concurrentRequestsMode().adaptiveAlgorithm("Aimd").id("throttle")
+                        .delay(10)
+                        .to("mock:result");
+            }
+        };
+    }
+}
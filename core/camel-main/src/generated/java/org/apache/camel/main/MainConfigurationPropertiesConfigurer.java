@@ -67,6 +67,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("ExtraShutdownTimeout", int.class);
         map.put("FileConfigurations", java.lang.String.class);
         map.put("GlobalOptions", java.util.Map.class);
+        map.put("HeadersMapFactory", java.lang.String.class);
         map.put("InflightRepositoryBrowseEnabled", boolean.class);
         map.put("JavaRoutesExcludePattern", java.lang.String.class);
         map.put("JavaRoutesIncludePattern", java.lang.String.class);
@@ -93,6 +94,9 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("Name", java.lang.String.class);
         map.put("ProducerTemplateCacheSize", int.class);
         map.put("Profile", java.lang.String.class);
+        map.put("ReactiveExecutor", java.lang.String.class);
+        map.put("ReactiveExecutorLaneCapacity", int.class);
+        map.put("ReactiveExecutorLanes", int.class);
         map.put("RouteFilterExcludePattern", java.lang.String.class);
         map.put("RouteFilterIncludePattern", java.lang.String.class);
         map.put("RoutesBuilderClasses", java.lang.String.class);
@@ -127,8 +131,11 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("StreamCachingEnabled", boolean.class);
         map.put("StreamCachingRemoveSpoolDirectoryWhenStopping", boolean.class);
         map.put("StreamCachingSpoolCipher", java.lang.String.class);
+        map.put("StreamCachingSpoolDirectBufferEnabled", boolean.class);
+        map.put("StreamCachingSpoolDirectBufferPoolSize", long.class);
         map.put("StreamCachingSpoolDirectory", java.lang.String.class);
         map.put("StreamCachingSpoolEnabled", boolean.class);
+        map.put("StreamCachingSpoolMemoryMappedThreshold", long.class);
         map.put("StreamCachingSpoolThreshold", long.class);
         map.put("StreamCachingSpoolUsedHeapMemoryLimit", java.lang.String.class);
         map.put("StreamCachingSpoolUsedHeapMemoryThreshold", int.class);
@@ -239,6 +246,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "fileConfigurations": target.setFileConfigurations(property(camelContext, java.lang.String.class, value)); return true;
         case "globaloptions":
         case "globalOptions": target.setGlobalOptions(property(camelContext, java.util.Map.class, value)); return true;
+        case "headersmapfactory":
+        case "headersMapFactory": target.setHeadersMapFactory(property(camelContext, java.lang.String.class, value)); return true;
         case "inflightrepositorybrowseenabled":
         case "inflightRepositoryBrowseEnabled": target.setInflightRepositoryBrowseEnabled(property(camelContext, boolean.class, value)); return true;
         case "javaroutesexcludepattern":
@@ -288,6 +297,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": target.setProducerTemplateCacheSize(property(camelContext, int.class, value)); return true;
         case "profile": target.setProfile(property(camelContext, java.lang.String.class, value)); return true;
+        case "reactiveexecutor":
+        case "reactiveExecutor": target.setReactiveExecutor(property(camelContext, java.lang.String.class, value)); return true;
+        case "reactiveexecutorlanecapacity":
+        case "reactiveExecutorLaneCapacity": target.setReactiveExecutorLaneCapacity(property(camelContext, int.class, value)); return true;
+        case "reactiveexecutorlanes":
+        case "reactiveExecutorLanes": target.setReactiveExecutorLanes(property(camelContext, int.class, value)); return true;
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": target.setRouteFilterExcludePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "routefilterincludepattern":
@@ -356,10 +371,16 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingRemoveSpoolDirectoryWhenStopping": target.setStreamCachingRemoveSpoolDirectoryWhenStopping(property(camelContext, boolean.class, value)); return true;
         case "streamcachingspoolcipher":
         case "streamCachingSpoolCipher": target.setStreamCachingSpoolCipher(property(camelContext, java.lang.String.class, value)); return true;
+        case "streamcachingspooldirectbufferenabled":
+        case "streamCachingSpoolDirectBufferEnabled": target.setStreamCachingSpoolDirectBufferEnabled(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingspooldirectbufferpoolsize":
+        case "streamCachingSpoolDirectBufferPoolSize": target.setStreamCachingSpoolDirectBufferPoolSize(property(camelContext, long.class, value)); return true;
         case "streamcachingspooldirectory":
         case "streamCachingSpoolDirectory": target.setStreamCachingSpoolDirectory(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachingspoolenabled":
         case "streamCachingSpoolEnabled": target.setStreamCachingSpoolEnabled(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingspoolmemorymappedthreshold":
+        case "streamCachingSpoolMemoryMappedThreshold": target.setStreamCachingSpoolMemoryMappedThreshold(property(camelContext, long.class, value)); return true;
         case "streamcachingspoolthreshold":
         case "streamCachingSpoolThreshold": target.setStreamCachingSpoolThreshold(property(camelContext, long.class, value)); return true;
         case "streamcachingspoolusedheapmemorylimit":
@@ -489,6 +510,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "fileConfigurations": return java.lang.String.class;
         case "globaloptions":
         case "globalOptions": return java.util.Map.class;
+        case "headersmapfactory":
+        case "headersMapFactory": return java.lang.String.class;
         case "inflightrepositorybrowseenabled":
         case "inflightRepositoryBrowseEnabled": return boolean.class;
         case "javaroutesexcludepattern":
@@ -538,6 +561,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": return int.class;
         case "profile": return java.lang.String.class;
+        case "reactiveexecutor":
+        case "reactiveExecutor": return java.lang.String.class;
+        case "reactiveexecutorlanecapacity":
+        case "reactiveExecutorLaneCapacity": return int.class;
+        case "reactiveexecutorlanes":
+        case "reactiveExecutorLanes": return int.class;
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": return java.lang.String.class;
         case "routefilterincludepattern":
@@ -606,10 +635,16 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingRemoveSpoolDirectoryWhenStopping": return boolean.class;
         case "streamcachingspoolcipher":
         case "streamCachingSpoolCipher": return java.lang.String.class;
+        case "streamcachingspooldirectbufferenabled":
+        case "streamCachingSpoolDirectBufferEnabled": return boolean.class;
+        case "streamcachingspooldirectbufferpoolsize":
+        case "streamCachingSpoolDirectBufferPoolSize": return long.class;
         case "streamcachingspooldirectory":
         case "streamCachingSpoolDirectory": return java.lang.String.class;
         case "streamcachingspoolenabled":
         case "streamCachingSpoolEnabled": return boolean.class;
+        case "streamcachingspoolmemorymappedthreshold":
+        case "streamCachingSpoolMemoryMappedThreshold": return long.class;
         case "streamcachingspoolthreshold":
         case "streamCachingSpoolThreshold": return long.class;
         case "streamcachingspoolusedheapmemorylimit":
@@ -735,6 +770,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "fileConfigurations": return target.getFileConfigurations();
         case "globaloptions":
         case "globalOptions": return target.getGlobalOptions();
+        case "headersmapfactory":
+        case "headersMapFactory": return target.getHeadersMapFactory();
         case "inflightrepositorybrowseenabled":
         case "inflightRepositoryBrowseEnabled": return target.isInflightRepositoryBrowseEnabled();
         case "javaroutesexcludepattern":
@@ -784,6 +821,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": return target.getProducerTemplateCacheSize();
         case "profile": return target.getProfile();
+        case "reactiveexecutor":
+        case "reactiveExecutor": return target.getReactiveExecutor();
+        case "reactiveexecutorlanecapacity":
+        case "reactiveExecutorLaneCapacity": return target.getReactiveExecutorLaneCapacity();
+        case "reactiveexecutorlanes":
+        case "reactiveExecutorLanes": return target.getReactiveExecutorLanes();
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": return target.getRouteFilterExcludePattern();
         case "routefilterincludepattern":
@@ -852,10 +895,16 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingRemoveSpoolDirectoryWhenStopping": return target.isStreamCachingRemoveSpoolDirectoryWhenStopping();
         case "streamcachingspoolcipher":
         case "streamCachingSpoolCipher": return target.getStreamCachingSpoolCipher();
+        case "streamcachingspooldirectbufferenabled":
+        case "streamCachingSpoolDirectBufferEnabled": return target.isStreamCachingSpoolDirectBufferEnabled();
+        case "streamcachingspooldirectbufferpoolsize":
+        case "streamCachingSpoolDirectBufferPoolSize": return target.getStreamCachingSpoolDirectBufferPoolSize();
         case "streamcachingspooldirectory":
         case "streamCachingSpoolDirectory": return target.getStreamCachingSpoolDirectory();
         case "streamcachingspoolenabled":
         case "streamCachingSpoolEnabled": return target.isStreamCachingSpoolEnabled();
+        case "streamcachingspoolmemorymappedthreshold":
+        case "streamCachingSpoolMemoryMappedThreshold": return target.getStreamCachingSpoolMemoryMappedThreshold();
         case "streamcachingspoolthreshold":
         case "streamCachingSpoolThreshold": return target.getStreamCachingSpoolThreshold();
         case "streamcachingspoolusedheapmemorylimit":
@@ -36,11 +36,13 @@ import org.apache.camel.console.DevConsoleRegistry;
 import org.apache.camel.health.HealthCheckRegistry;
 import org.apache.camel.health.HealthCheckRepository;
 import org.apache.camel.impl.debugger.BacklogTracer;
+import org.apache.camel.impl.engine.CaseInsensitiveHashMapHeadersMapFactory;
 import org.apache.camel.impl.engine.DefaultCompileStrategy;
 import org.apache.camel.impl.engine.PooledExchangeFactory;
 import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
 import org.apache.camel.impl.engine.PrototypeExchangeFactory;
 import org.apache.camel.impl.engine.PrototypeProcessorExchangeFactory;
+import org.apache.camel.impl.engine.WorkStealingReactiveExecutor;
 import org.apache.camel.model.Model;
 import org.apache.camel.model.ModelCamelContext;
 import org.apache.camel.model.ModelLifecycleStrategy;
@@ -207,6 +209,11 @@ public final class DefaultConfigurationConfigurer {
         camelContext.getStreamCachingStrategy()
                 .setRemoveSpoolDirectoryWhenStopping(config.isStreamCachingRemoveSpoolDirectoryWhenStopping());
         camelContext.getStreamCachingStrategy().setSpoolCipher(config.getStreamCachingSpoolCipher());
+        camelContext.getStreamCachingStrategy().setSpoolDirectBufferEnabled(config.isStreamCachingSpoolDirectBufferEnabled());
+        camelContext.getStreamCachingStrategy()
+                .setSpoolDirectBufferPoolSize(config.getStreamCachingSpoolDirectBufferPoolSize());
+        camelContext.getStreamCachingStrategy()
+                .setSpoolMemoryMappedThreshold(config.getStreamCachingSpoolMemoryMappedThreshold());
         if (config.getStreamCachingSpoolDirectory() != null) {
             camelContext.getStreamCachingStrategy().setSpoolDirectory(config.getStreamCachingSpoolDirectory());
         }
@@ -244,6 +251,13 @@ public final class DefaultConfigurationConfigurer {
             LOG.warn("Using OffUuidGenerator (Only intended for development purposes)");
         }
 
+        if ("work-stealing".equals(config.getReactiveExecutor())) {
+            WorkStealingReactiveExecutor re = new WorkStealingReactiveExecutor();
+            re.setLanes(config.getReactiveExecutorLanes());
+            re.setLaneCapacity(config.getReactiveExecutorLaneCapacity());
+            camelContext.getCamelContextExtension().setReactiveExecutor(re);
+        }
+
         if (config.getLogName() != null) {
             camelContext.getGlobalOptions().put(Exchange.LOG_EIP_NAME, config.getLogName());
         }
@@ -256,6 +270,17 @@ public final class DefaultConfigurationConfigurer {
         camelContext.setAutoStartupExcludePattern(config.getAutoStartupExcludePattern());
         camelContext.setAllowUseOriginalMessage(config.isAllowUseOriginalMessage());
         camelContext.setCaseInsensitiveHeaders(config.isCaseInsensitiveHeaders());
+        if ("hash-map".equals(config.getHeadersMapFactory())) {
+            // the headers map factory is only used for case insensitive headers
+            if (!config.isCaseInsensitiveHeaders()) {
+                throw new IllegalArgumentException(
+                        "Invalid option headersMapFactory=hash-map, which requires caseInsensitiveHeaders to be enabled");
+            }
+            camelContext.getCamelContextExtension().setHeadersMapFactory(new CaseInsensitiveHashMapHeadersMapFactory());
+        } else if (config.getHeadersMapFactory() != null && !"default".equals(config.getHeadersMapFactory())) {
+            throw new IllegalArgumentException(
+                    "Invalid option headersMapFactory=" + config.getHeadersMapFactory() + " must either be default or hash-map");
+        }
         camelContext.setAutowiredEnabled(config.isAutowiredEnabled());
         camelContext.setUseBreadcrumb(config.isUseBreadcrumb());
         camelContext.setUseDataType(config.isUseDataType());
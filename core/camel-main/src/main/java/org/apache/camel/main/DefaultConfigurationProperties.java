@@ -51,6 +51,10 @@ public abstract class DefaultConfigurationProperties<T> {
     private boolean jmxEnabled = true;
     @Metadata(enums = "classic,default,short,simple,off", defaultValue = "default")
     private String uuidGenerator = "default";
+    @Metadata(enums = "default,work-stealing", defaultValue = "default")
+    private String reactiveExecutor = "default";
+    private int reactiveExecutorLanes;
+    private int reactiveExecutorLaneCapacity = 1024;
     private int producerTemplateCacheSize = 1000;
     private int consumerTemplateCacheSize = 1000;
     private boolean loadTypeConverters;
@@ -70,6 +74,11 @@ public abstract class DefaultConfigurationProperties<T> {
     private boolean streamCachingAnySpoolRules;
     private int streamCachingBufferSize;
     private boolean streamCachingRemoveSpoolDirectoryWhenStopping = true;
+    private boolean streamCachingSpoolDirectBufferEnabled;
+    @Metadata(defaultValue = "67108864")
+    private long streamCachingSpoolDirectBufferPoolSize = 64 * 1024 * 1024;
+    @Metadata(defaultValue = "8388608")
+    private long streamCachingSpoolMemoryMappedThreshold = 8 * 1024 * 1024;
     private boolean streamCachingStatisticsEnabled;
     private boolean typeConverterStatisticsEnabled;
     private boolean tracing;
@@ -88,6 +97,8 @@ public abstract class DefaultConfigurationProperties<T> {
     private String autoStartupExcludePattern;
     private boolean allowUseOriginalMessage;
     private boolean caseInsensitiveHeaders = true;
+    @Metadata(enums = "default,hash-map", defaultValue = "default")
+    private String headersMapFactory = "default";
     private boolean autowiredEnabled = true;
     private boolean endpointRuntimeStatisticsEnabled;
     private boolean loadStatisticsEnabled;
@@ -355,6 +366,45 @@ public abstract class DefaultConfigurationProperties<T> {
         this.uuidGenerator = uuidGenerator;
     }
 
+    public String getReactiveExecutor() {
+        return reactiveExecutor;
+    }
+
+    /**
+     * The reactive executor to use for the Camel routing engine.
+     *
+     * default (the current thread continues routing, also when asynchronous work is completed by another thread),
+     * work-stealing (asynchronous continuations are run on lanes with one thread per CPU core, with work stealing
+     * between the lanes, which can give better CPU utilization for fully asynchronous routes such as netty, vertx or
+     * kafka)
+     */
+    public void setReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+    }
+
+    public int getReactiveExecutorLanes() {
+        return reactiveExecutorLanes;
+    }
+
+    /**
+     * Number of lanes (threads) when using the work-stealing reactive executor. Is default the number of CPU cores.
+     */
+    public void setReactiveExecutorLanes(int reactiveExecutorLanes) {
+        this.reactiveExecutorLanes = reactiveExecutorLanes;
+    }
+
+    public int getReactiveExecutorLaneCapacity() {
+        return reactiveExecutorLaneCapacity;
+    }
+
+    /**
+     * Maximum number of pending tasks per lane when using the work-stealing reactive executor. When the lanes are full,
+     * then the tasks are run by the thread scheduling the task.
+     */
+    public void setReactiveExecutorLaneCapacity(int reactiveExecutorLaneCapacity) {
+        this.reactiveExecutorLaneCapacity = reactiveExecutorLaneCapacity;
+    }
+
     public int getProducerTemplateCacheSize() {
         return producerTemplateCacheSize;
     }
@@ -602,6 +652,46 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingRemoveSpoolDirectoryWhenStopping = streamCachingRemoveSpoolDirectoryWhenStopping;
     }
 
+    public boolean isStreamCachingSpoolDirectBufferEnabled() {
+        return streamCachingSpoolDirectBufferEnabled;
+    }
+
+    /**
+     * To spool stream caches into pooled direct (off-heap) byte buffers instead of temporary files, when stream caching
+     * spooling is enabled. Streams bigger than streamCachingSpoolMemoryMappedThreshold, or when the pool is exhausted,
+     * are spilled to memory mapped files in the spool directory. Reading the stream cache again (such as with
+     * multicast, splitter or redelivery) does not copy the content.
+     *
+     * Default is false.
+     */
+    public void setStreamCachingSpoolDirectBufferEnabled(boolean streamCachingSpoolDirectBufferEnabled) {
+        this.streamCachingSpoolDirectBufferEnabled = streamCachingSpoolDirectBufferEnabled;
+    }
+
+    public long getStreamCachingSpoolDirectBufferPoolSize() {
+        return streamCachingSpoolDirectBufferPoolSize;
+    }
+
+    /**
+     * Maximum number of bytes of direct buffers in the pool used when spooling stream caches to direct buffers. The
+     * default size is 64mb.
+     */
+    public void setStreamCachingSpoolDirectBufferPoolSize(long streamCachingSpoolDirectBufferPoolSize) {
+        this.streamCachingSpoolDirectBufferPoolSize = streamCachingSpoolDirectBufferPoolSize;
+    }
+
+    public long getStreamCachingSpoolMemoryMappedThreshold() {
+        return streamCachingSpoolMemoryMappedThreshold;
+    }
+
+    /**
+     * Stream caching threshold in bytes when a stream spooled to direct buffers is spilled to a memory mapped file. The
+     * default threshold is 8mb. Use -1 to only spill when the pool of direct buffers is exhausted.
+     */
+    public void setStreamCachingSpoolMemoryMappedThreshold(long streamCachingSpoolMemoryMappedThreshold) {
+        this.streamCachingSpoolMemoryMappedThreshold = streamCachingSpoolMemoryMappedThreshold;
+    }
+
     public boolean isStreamCachingStatisticsEnabled() {
         return streamCachingStatisticsEnabled;
     }
@@ -850,6 +940,22 @@ public abstract class DefaultConfigurationProperties<T> {
         this.caseInsensitiveHeaders = caseInsensitiveHeaders;
     }
 
+    public String getHeadersMapFactory() {
+        return headersMapFactory;
+    }
+
+    /**
+     * The map implementation to use for case insensitive message headers. The hash-map can only be used when
+     * caseInsensitiveHeaders is enabled (which is the default), and Camel fails on startup otherwise.
+     *
+     * default (uses a sorted map, or the faster map from camel-headersmap if on the classpath), hash-map (uses an open
+     * addressing hash map, where copying the headers of an exchange, such as with multicast or wire tap, is
+     * copy-on-write)
+     */
+    public void setHeadersMapFactory(String headersMapFactory) {
+        this.headersMapFactory = headersMapFactory;
+    }
+
     public boolean isAutowiredEnabled() {
         return autowiredEnabled;
     }
@@ -1770,6 +1876,36 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * The reactive executor to use for the Camel routing engine.
+     *
+     * default (the current thread continues routing, also when asynchronous work is completed by another thread),
+     * work-stealing (asynchronous continuations are run on lanes with one thread per CPU core, with work stealing
+     * between the lanes, which can give better CPU utilization for fully asynchronous routes such as netty, vertx or
+     * kafka)
+     */
+    public T withReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+        return (T) this;
+    }
+
+    /**
+     * Number of lanes (threads) when using the work-stealing reactive executor. Is default the number of CPU cores.
+     */
+    public T withReactiveExecutorLanes(int reactiveExecutorLanes) {
+        this.reactiveExecutorLanes = reactiveExecutorLanes;
+        return (T) this;
+    }
+
+    /**
+     * Maximum number of pending tasks per lane when using the work-stealing reactive executor. When the lanes are full,
+     * then the tasks are run by the thread scheduling the task.
+     */
+    public T withReactiveExecutorLaneCapacity(int reactiveExecutorLaneCapacity) {
+        this.reactiveExecutorLaneCapacity = reactiveExecutorLaneCapacity;
+        return (T) this;
+    }
+
     /**
      * Producer template endpoints cache size.
      */
@@ -1957,6 +2093,37 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * To spool stream caches into pooled direct (off-heap) byte buffers instead of temporary files, when stream caching
+     * spooling is enabled. Streams bigger than streamCachingSpoolMemoryMappedThreshold, or when the pool is exhausted,
+     * are spilled to memory mapped files in the spool directory. Reading the stream cache again (such as with
+     * multicast, splitter or redelivery) does not copy the content.
+     *
+     * Default is false.
+     */
+    public T withStreamCachingSpoolDirectBufferEnabled(boolean streamCachingSpoolDirectBufferEnabled) {
+        this.streamCachingSpoolDirectBufferEnabled = streamCachingSpoolDirectBufferEnabled;
+        return (T) this;
+    }
+
+    /**
+     * Maximum number of bytes of direct buffers in the pool used when spooling stream caches to direct buffers. The
+     * default size is 64mb.
+     */
+    public T withStreamCachingSpoolDirectBufferPoolSize(long streamCachingSpoolDirectBufferPoolSize) {
+        this.streamCachingSpoolDirectBufferPoolSize = streamCachingSpoolDirectBufferPoolSize;
+        return (T) this;
+    }
+
+    /**
+     * Stream caching threshold in bytes when a stream spooled to direct buffers is spilled to a memory mapped file. The
+     * default threshold is 8mb. Use -1 to only spill when the pool of direct buffers is exhausted.
+     */
+    public T withStreamCachingSpoolMemoryMappedThreshold(long streamCachingSpoolMemoryMappedThreshold) {
+        this.streamCachingSpoolMemoryMappedThreshold = streamCachingSpoolMemoryMappedThreshold;
+        return (T) this;
+    }
+
     /**
      * Sets whether stream caching statistics is enabled.
      */
@@ -2137,6 +2304,19 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * The map implementation to use for case insensitive message headers. The hash-map can only be used when
+     * caseInsensitiveHeaders is enabled (which is the default), and Camel fails on startup otherwise.
+     *
+     * default (uses a sorted map, or the faster map from camel-headersmap if on the classpath), hash-map (uses an open
+     * addressing hash map, where copying the headers of an exchange, such as with multicast or wire tap, is
+     * copy-on-write)
+     */
+    public T withHeadersMapFactory(String headersMapFactory) {
+        this.headersMapFactory = headersMapFactory;
+        return (T) this;
+    }
+
     /**
      * Sets whether endpoint runtime statistics is enabled (gathers runtime usage of each incoming and outgoing
      * endpoints).
@@ -32,6 +32,7 @@ public class ThreadPoolProfileConfigurationProperties {
     private Integer maxQueueSize;
     private Boolean allowCoreThreadTimeOut;
     private ThreadPoolRejectedPolicy rejectedPolicy;
+    private Boolean virtualThreads;
 
     public String getId() {
         return id;
@@ -123,4 +124,16 @@ public class ThreadPoolProfileConfigurationProperties {
         this.rejectedPolicy = rejectedPolicy;
     }
 
+    public Boolean getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Sets whether to run the tasks on virtual threads (requires JDK 21 or newer). The maximum pool size is then the
+     * maximum number of concurrent tasks.
+     */
+    public void setVirtualThreads(Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
 }
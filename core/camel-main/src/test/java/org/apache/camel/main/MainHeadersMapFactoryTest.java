@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.engine.CaseInsensitiveHashMap;
+import org.apache.camel.impl.engine.CaseInsensitiveHashMapHeadersMapFactory;
+import org.apache.camel.impl.engine.DefaultHeadersMapFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MainHeadersMapFactoryTest {
+
+    @Test
+    public void testDefaultHeadersMapFactory() {
+        Main main = new Main();
+        main.configure().addRoutesBuilder(new MyRouteBuilder());
+        main.start();
+
+        CamelContext camelContext = main.getCamelContext();
+        assertNotNull(camelContext);
+        assertInstanceOf(DefaultHeadersMapFactory.class, camelContext.getCamelContextExtension().getHeadersMapFactory());
+
+        main.stop();
+    }
+
+    @Test
+    public void testHashMapHeadersMapFactory() throws Exception {
+        Main main = new Main();
+        main.configure().addRoutesBuilder(new MyRouteBuilder());
+        main.addProperty("camel.main.headers-map-factory", "hash-map");
+        main.start();
+
+        CamelContext camelContext = main.getCamelContext();
+        assertNotNull(camelContext);
+        assertInstanceOf(CaseInsensitiveHashMapHeadersMapFactory.class,
+                camelContext.getCamelContextExtension().getHeadersMapFactory());
+
+        MockEndpoint mock = camelContext.getEndpoint("mock:result", MockEndpoint.class);
+        mock.expectedHeaderReceived("foo", 123);
+        main.getCamelTemplate().sendBodyAndHeader("direct:start", "Hello World", "FOO", 123);
+        mock.assertIsSatisfied();
+        assertInstanceOf(CaseInsensitiveHashMap.class, mock.getReceivedExchanges().get(0).getMessage().getHeaders());
+        assertEquals(123, mock.getReceivedExchanges().get(0).getMessage().getHeader("Foo"));
+
+        main.stop();
+    }
+
+    @Test
+    public void testHashMapHeadersMapFactoryRequiresCaseInsensitiveHeaders() {
+        Main main = new Main();
+        main.configure().addRoutesBuilder(new MyRouteBuilder());
+        main.addProperty("camel.main.headers-map-factory", "hash-map");
+        main.addProperty("camel.main.case-insensitive-headers", "false");
+        try {
+            Exception e = assertThrows(Exception.class, main::start);
+            assertTrue(e.getMessage().contains("requires caseInsensitiveHeaders to be enabled"), e.getMessage());
+        } finally {
+            main.stop();
+        }
+    }
+
+    public static class MyRouteBuilder extends RouteBuilder {
+        @Override
+        public void configure() {
+            from("direct:start").to("mock:result");
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.DefaultReactiveExecutor;
+import org.apache.camel.impl.engine.WorkStealingReactiveExecutor;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public class MainReactiveExecutorTest {
+
+    @Test
+    public void testDefaultReactiveExecutor() {
+        Main main = new Main();
+        main.configure().addRoutesBuilder(new MyRouteBuilder());
+        main.start();
+
+        CamelContext camelContext = main.getCamelContext();
+        assertNotNull(camelContext);
+        assertInstanceOf(DefaultReactiveExecutor.class, camelContext.getCamelContextExtension().getReactiveExecutor());
+
+        main.stop();
+    }
+
+    @Test
+    public void testWorkStealingReactiveExecutor() {
+        Main main = new Main();
+        main.configure().addRoutesBuilder(new MyRouteBuilder());
+        main.addProperty("camel.main.reactive-executor", "work-stealing");
+        main.addProperty("camel.main.reactive-executor-lanes", "3");
+        main.addProperty("camel.main.reactive-executor-lane-capacity", "50");
+        main.start();
+
+        CamelContext camelContext = main.getCamelContext();
+        assertNotNull(camelContext);
+
+        ReactiveExecutor re = camelContext.getCamelContextExtension().getReactiveExecutor();
+        WorkStealingReactiveExecutor ws = assertInstanceOf(WorkStealingReactiveExecutor.class, re);
+        assertEquals(3, ws.getLanes());
+        assertEquals(50, ws.getLaneCapacity());
+        assertEquals(3, ws.getLaneQueueSizes().length);
+
+        main.stop();
+    }
+
+    public static class MyRouteBuilder extends RouteBuilder {
+        @Override
+        public void configure() {
+            from("direct:start").to("mock:result");
+        }
+    }
+}
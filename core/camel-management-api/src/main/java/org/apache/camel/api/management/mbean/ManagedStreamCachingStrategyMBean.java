@@ -83,6 +83,27 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Whether any or all spool rules determines whether to spool")
     boolean isAnySpoolRules();
 
+    @ManagedAttribute(description = "Whether spooling to pooled direct buffers is enabled")
+    boolean isSpoolDirectBufferEnabled();
+
+    @ManagedAttribute(description = "Maximum number of bytes of direct buffers in the pool used for spooling")
+    long getSpoolDirectBufferPoolSize();
+
+    @ManagedAttribute(description = "Threshold in bytes when a stream spooled to direct buffers is spilled to a memory mapped file")
+    long getSpoolMemoryMappedThreshold();
+
+    @ManagedAttribute(description = "Number of bytes of the direct buffers in use by spooled StreamCache")
+    long getDirectBufferBytesInUse();
+
+    @ManagedAttribute(description = "Number of bytes of the idle direct buffers kept in the pool")
+    long getDirectBufferBytesIdle();
+
+    @ManagedAttribute(description = "Number of spooled StreamCache spilled from direct buffers to a memory mapped file")
+    long getDirectBufferSpillCounter();
+
+    @ManagedAttribute(description = "Total accumulated number of bytes spilled from direct buffers to memory mapped files")
+    long getDirectBufferSpillSize();
+
     @ManagedAttribute(description = "Number of in-memory StreamCache created")
     long getCacheMemoryCounter();
 
@@ -44,4 +44,10 @@ public interface ManagedThrottlerMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "Whether or not throttler throws the ThrottlerRejectedExecutionException when the exchange exceeds the request limit")
     Boolean isRejectExecution();
 
+    @ManagedAttribute(description = "The algorithm which adjusts the maximum concurrent requests from the latency of the exchanges (only in adaptive mode)")
+    String getAdaptiveAlgorithm();
+
+    @ManagedAttribute(description = "The lowest latency in millis observed by the adaptive algorithm (only in adaptive mode)")
+    long getAdaptiveMinLatency();
+
 }
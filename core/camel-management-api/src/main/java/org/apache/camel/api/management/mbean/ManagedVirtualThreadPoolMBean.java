@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.api.management.mbean;
+
+import org.apache.camel.api.management.ManagedAttribute;
+
+public interface ManagedVirtualThreadPoolMBean extends ManagedThreadPoolMBean {
+
+    @ManagedAttribute(description = "Number of tasks rejected because the maximum concurrent tasks and the task queue were full")
+    long getRejectedTaskCount();
+
+    @ManagedAttribute(description = "Whether pinned virtual threads are monitored (JVM wide)")
+    boolean isPinnedMonitorEnabled();
+
+    @ManagedAttribute(description = "Number of times a virtual thread blocked while pinned to its carrier thread (JVM wide)")
+    long getPinnedCount();
+
+    @ManagedAttribute(description = "Total time in millis virtual threads blocked while pinned to their carrier thread (JVM wide)")
+    long getPinnedTime();
+
+    @ManagedAttribute(description = "Number of carrier threads used to run virtual threads (JVM wide)")
+    int getCarrierParallelism();
+
+    @ManagedAttribute(description = "Maximum number of carrier threads used to compensate for pinned virtual threads (JVM wide)")
+    int getCarrierMaxPoolSize();
+
+}
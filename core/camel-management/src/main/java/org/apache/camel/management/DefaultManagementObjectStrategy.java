@@ -109,6 +109,7 @@ import org.apache.camel.management.mbean.ManagedTopicLoadBalancer;
 import org.apache.camel.management.mbean.ManagedTransformer;
 import org.apache.camel.management.mbean.ManagedUnmarshal;
 import org.apache.camel.management.mbean.ManagedValidate;
+import org.apache.camel.management.mbean.ManagedVirtualThreadPool;
 import org.apache.camel.management.mbean.ManagedWeightedLoadBalancer;
 import org.apache.camel.management.mbean.ManagedWireTapProcessor;
 import org.apache.camel.model.ExpressionNode;
@@ -188,6 +189,7 @@ import org.apache.camel.support.processor.MarshalProcessor;
 import org.apache.camel.support.processor.PredicateValidatingProcessor;
 import org.apache.camel.support.processor.ThroughputLogger;
 import org.apache.camel.support.processor.UnmarshalProcessor;
+import org.apache.camel.util.concurrent.VirtualThreadPoolExecutor;
 
 /**
  * Default {@link org.apache.camel.spi.ManagementObjectStrategy}.
@@ -268,7 +270,12 @@ public class DefaultManagementObjectStrategy implements ManagementObjectStrategy
     public Object getManagedObjectForThreadPool(
             CamelContext context, ThreadPoolExecutor threadPool,
             String id, String sourceId, String routeId, String threadPoolProfileId) {
-        ManagedThreadPool mtp = new ManagedThreadPool(context, threadPool, id, sourceId, routeId, threadPoolProfileId);
+        ManagedThreadPool mtp;
+        if (threadPool instanceof VirtualThreadPoolExecutor virtualThreadPool) {
+            mtp = new ManagedVirtualThreadPool(context, virtualThreadPool, id, sourceId, routeId, threadPoolProfileId);
+        } else {
+            mtp = new ManagedThreadPool(context, threadPool, id, sourceId, routeId, threadPoolProfileId);
+        }
         mtp.init(context.getManagementStrategy());
         return mtp;
     }
@@ -168,6 +168,45 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.isAnySpoolRules();
     }
 
+    @Override
+    public boolean isSpoolDirectBufferEnabled() {
+        return streamCachingStrategy.isSpoolDirectBufferEnabled();
+    }
+
+    @Override
+    public long getSpoolDirectBufferPoolSize() {
+        return streamCachingStrategy.getSpoolDirectBufferPoolSize();
+    }
+
+    @Override
+    public long getSpoolMemoryMappedThreshold() {
+        return streamCachingStrategy.getSpoolMemoryMappedThreshold();
+    }
+
+    @Override
+    public long getDirectBufferBytesInUse() {
+        StreamCachingStrategy.DirectBufferPool pool = streamCachingStrategy.getDirectBufferPool();
+        return pool != null ? pool.getBytesInUse() : 0;
+    }
+
+    @Override
+    public long getDirectBufferBytesIdle() {
+        StreamCachingStrategy.DirectBufferPool pool = streamCachingStrategy.getDirectBufferPool();
+        return pool != null ? pool.getBytesIdle() : 0;
+    }
+
+    @Override
+    public long getDirectBufferSpillCounter() {
+        StreamCachingStrategy.DirectBufferPool pool = streamCachingStrategy.getDirectBufferPool();
+        return pool != null ? pool.getSpillCounter() : 0;
+    }
+
+    @Override
+    public long getDirectBufferSpillSize() {
+        StreamCachingStrategy.DirectBufferPool pool = streamCachingStrategy.getDirectBufferPool();
+        return pool != null ? pool.getSpillSize() : 0;
+    }
+
     @Override
     public long getCacheMemoryCounter() {
         return streamCachingStrategy.getStatistics().getCacheMemoryCounter();
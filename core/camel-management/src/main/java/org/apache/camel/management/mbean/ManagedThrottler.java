@@ -20,6 +20,7 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedThrottlerMBean;
 import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.processor.ConcurrentRequestsThrottler;
 import org.apache.camel.processor.Throttler;
 import org.apache.camel.processor.TotalRequestsThrottler;
 
@@ -84,4 +85,22 @@ public class ManagedThrottler extends ManagedProcessor implements ManagedThrottl
     public Boolean isRejectExecution() {
         return throttler.isRejectExecution();
     }
+
+    @Override
+    public String getAdaptiveAlgorithm() {
+        if (throttler instanceof ConcurrentRequestsThrottler t) {
+            return t.getAdaptiveAlgorithm();
+        }
+
+        return null;
+    }
+
+    @Override
+    public long getAdaptiveMinLatency() {
+        if (throttler instanceof ConcurrentRequestsThrottler t) {
+            return t.getAdaptiveMinLatency();
+        }
+
+        return 0;
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.api.management.mbean.ManagedVirtualThreadPoolMBean;
+import org.apache.camel.util.concurrent.VirtualThreadPinnedMonitor;
+import org.apache.camel.util.concurrent.VirtualThreadPoolExecutor;
+
+@ManagedResource(description = "Managed Virtual ThreadPool")
+public class ManagedVirtualThreadPool extends ManagedThreadPool implements ManagedVirtualThreadPoolMBean {
+
+    private final VirtualThreadPoolExecutor threadPool;
+
+    public ManagedVirtualThreadPool(CamelContext camelContext, VirtualThreadPoolExecutor threadPool, String id,
+                                    String sourceId, String routeId, String threadPoolProfileId) {
+        super(camelContext, threadPool, id, sourceId, routeId, threadPoolProfileId);
+        this.threadPool = threadPool;
+    }
+
+    @Override
+    public long getRejectedTaskCount() {
+        return threadPool.getRejectedTaskCount();
+    }
+
+    @Override
+    public boolean isPinnedMonitorEnabled() {
+        return VirtualThreadPinnedMonitor.isEnabled();
+    }
+
+    @Override
+    public long getPinnedCount() {
+        return threadPool.getPinnedCount();
+    }
+
+    @Override
+    public long getPinnedTime() {
+        return threadPool.getPinnedTime();
+    }
+
+    @Override
+    public int getCarrierParallelism() {
+        return threadPool.getCarrierParallelism();
+    }
+
+    @Override
+    public int getCarrierMaxPoolSize() {
+        return threadPool.getCarrierMaxPoolSize();
+    }
+
+}
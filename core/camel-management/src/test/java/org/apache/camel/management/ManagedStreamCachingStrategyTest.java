@@ -96,6 +96,15 @@ public class ManagedStreamCachingStrategyTest extends ManagementTestSupport {
 
         Boolean remove = (Boolean) mbeanServer.getAttribute(name, "RemoveSpoolDirectoryWhenStopping");
         assertEquals(Boolean.TRUE, remove);
+
+        enabled = (Boolean) mbeanServer.getAttribute(name, "SpoolDirectBufferEnabled");
+        assertEquals(Boolean.FALSE, enabled);
+
+        Long bytes = (Long) mbeanServer.getAttribute(name, "DirectBufferBytesInUse");
+        assertEquals(0, bytes.longValue());
+
+        counter = (Long) mbeanServer.getAttribute(name, "DirectBufferSpillCounter");
+        assertEquals(0, counter.longValue());
     }
 
     @Override
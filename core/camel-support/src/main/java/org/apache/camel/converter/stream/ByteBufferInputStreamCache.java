@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
+
+/**
+ * A {@link StreamCache} for content spooled into {@link ByteBuffer}s, such as pooled direct buffers or a memory mapped
+ * file.
+ * <p/>
+ * Each stream cache reads from its own views of the same buffers, so the content is not copied when the stream cache is
+ * reset or copied (such as with multicast, splitter or redelivery). The buffers are released when the exchanges using
+ * the stream cache are done, and reading the stream cache afterwards fails with an {@link IOException}.
+ * <p/>
+ * <b>Important:</b> All the classes from the Camel release that implements {@link StreamCache} is NOT intended for end
+ * users to create as instances, but they are part of Camels
+ * <a href="https://camel.apache.org/manual/stream-caching.html">stream-caching</a> functionality.
+ */
+public final class ByteBufferInputStreamCache extends InputStream implements StreamCache {
+
+    private final Lock lock = new ReentrantLock();
+    private final TempFileManager tempFileManager;
+    private final DirectBufferOutputStream source;
+    private final ByteBuffer[] buffers;
+    private final boolean inMemory;
+    private final long length;
+    private int index;
+    private long position;
+
+    ByteBufferInputStreamCache(TempFileManager tempFileManager, DirectBufferOutputStream source, ByteBuffer[] buffers,
+                               boolean inMemory) {
+        this.tempFileManager = tempFileManager;
+        this.source = source;
+        this.inMemory = inMemory;
+        this.buffers = new ByteBuffer[buffers.length];
+        long total = 0;
+        for (int i = 0; i < buffers.length; i++) {
+            this.buffers[i] = buffers[i].duplicate().rewind();
+            total += this.buffers[i].remaining();
+        }
+        this.length = total;
+    }
+
+    @Override
+    public void reset() {
+        lock.lock();
+        try {
+            for (ByteBuffer buffer : buffers) {
+                buffer.rewind();
+            }
+            index = 0;
+            position = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        // use a channel so the content of direct and mapped buffers can be written without copying into the heap first
+        WritableByteChannel channel = Channels.newChannel(os);
+        source.beginRead();
+        try {
+            for (; index < buffers.length; index++) {
+                ByteBuffer buffer = buffers[index];
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer);
+                }
+            }
+        } finally {
+            source.endRead();
+        }
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        tempFileManager.addExchange(exchange);
+        return new ByteBufferInputStreamCache(tempFileManager, source, buffers, inMemory);
+    }
+
+    @Override
+    public boolean inMemory() {
+        return inMemory;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public long position() {
+        return position;
+    }
+
+    @Override
+    public int available() {
+        return (int) Math.min(Integer.MAX_VALUE, length - position);
+    }
+
+    @Override
+    public int read() throws IOException {
+        ByteBuffer buffer = nextBuffer();
+        if (buffer == null) {
+            return -1;
+        }
+        source.beginRead();
+        try {
+            position++;
+            return buffer.get() & 0xFF;
+        } finally {
+            source.endRead();
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        int answer = 0;
+        source.beginRead();
+        try {
+            ByteBuffer buffer;
+            while (len > 0 && (buffer = nextBuffer()) != null) {
+                int n = Math.min(len, buffer.remaining());
+                buffer.get(b, off, n);
+                off += n;
+                len -= n;
+                answer += n;
+            }
+        } finally {
+            source.endRead();
+        }
+        position += answer;
+        return answer == 0 ? -1 : answer;
+    }
+
+    @Override
+    public long skip(long n) {
+        // only moves the position, so the buffers are not read
+        long answer = 0;
+        ByteBuffer buffer;
+        while (answer < n && (buffer = nextBuffer()) != null) {
+            int skip = (int) Math.min(n - answer, buffer.remaining());
+            buffer.position(buffer.position() + skip);
+            answer += skip;
+        }
+        position += answer;
+        return answer;
+    }
+
+    private ByteBuffer nextBuffer() {
+        while (index < buffers.length) {
+            if (buffers[index].hasRemaining()) {
+                return buffers[index];
+            }
+            index++;
+        }
+        return null;
+    }
+}
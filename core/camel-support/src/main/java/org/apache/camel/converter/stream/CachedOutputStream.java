@@ -39,6 +39,10 @@ import org.apache.camel.util.IOHelper;
  * You can get a cached input stream of this stream. The temp file which is created with this output stream will be
  * deleted when you close this output stream or the cached fileInputStream(s) is/are closed after all the exchanges
  * using the temp file are completed.
+ * <p/>
+ * If the {@link StreamCachingStrategy} has a pool of direct buffers, then the stream is spooled into the direct buffers
+ * instead of the temp file, and only spilled to a memory mapped temp file when the stream is too big or the pool is
+ * exhausted. The buffers are released back to the pool when all the exchanges are completed.
  */
 public class CachedOutputStream extends OutputStream {
 
@@ -158,8 +162,13 @@ public class CachedOutputStream extends OutputStream {
         flush();
         ByteArrayOutputStream bout = (ByteArrayOutputStream) currentStream;
         try {
-            // creates a tmp file and a file output stream
-            currentStream = tempFileManager.createOutputStream(strategy);
+            if (strategy.getDirectBufferPool() != null) {
+                // spools into direct buffers (and a memory mapped tmp file when needed)
+                currentStream = tempFileManager.createDirectBufferOutputStream(strategy);
+            } else {
+                // creates a tmp file and a file output stream
+                currentStream = tempFileManager.createOutputStream(strategy);
+            }
             bout.writeTo(currentStream);
         } finally {
             // ensure flag is flipped to file based
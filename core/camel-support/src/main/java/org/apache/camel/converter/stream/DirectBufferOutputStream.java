@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Output stream which spools into pooled direct buffers, and spills to a memory mapped temporary file when the content
+ * is bigger than the memory mapped threshold, or when the pool is exhausted.
+ * <p/>
+ * The buffers are released back to the pool by the {@link TempFileManager} when the exchanges using the stream caches
+ * are done. The stream caches read the buffers between {@link #beginRead()} and {@link #endRead()}, so the buffers are
+ * never released (and reused by other exchanges) or unmapped while they are read, and reading a released buffer fails.
+ *
+ * @see CachedOutputStream
+ */
+final class DirectBufferOutputStream extends OutputStream {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DirectBufferOutputStream.class);
+    private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+    private final TempFileManager tempFileManager;
+    private final StreamCachingStrategy strategy;
+    private final StreamCachingStrategy.DirectBufferPool pool;
+    private final long mappedThreshold;
+    private final List<ByteBuffer> buffers = new ArrayList<>();
+    private final List<ByteBuffer> mappings = new ArrayList<>();
+    private final ReadWriteLock releaseLock = new ReentrantReadWriteLock();
+    private ByteBuffer current;
+    private FileChannel channel;
+    private long length;
+    private ByteBuffer[] mapped;
+    private long mappedLength;
+    private volatile boolean released;
+
+    DirectBufferOutputStream(TempFileManager tempFileManager, StreamCachingStrategy strategy) {
+        this.tempFileManager = tempFileManager;
+        this.strategy = strategy;
+        this.pool = strategy.getDirectBufferPool();
+        this.mappedThreshold = strategy.getSpoolMemoryMappedThreshold();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (channel == null && current != null && current.hasRemaining()
+                && (mappedThreshold <= 0 || length < mappedThreshold)) {
+            // fast path
+            current.put((byte) b);
+            length++;
+        } else {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (released) {
+            throw new IOException("Stream cache has been released");
+        }
+        if (channel == null && mappedThreshold > 0 && length + len > mappedThreshold) {
+            spill();
+        }
+        while (len > 0 && channel == null) {
+            if (current == null || !current.hasRemaining()) {
+                current = pool.acquire();
+                if (current == null) {
+                    // the pool is exhausted
+                    spill();
+                    break;
+                }
+                buffers.add(current);
+            }
+            int n = Math.min(len, current.remaining());
+            current.put(b, off, n);
+            off += n;
+            len -= n;
+            length += n;
+        }
+        if (len > 0) {
+            writeFully(ByteBuffer.wrap(b, off, len));
+            length += len;
+        }
+    }
+
+    /**
+     * Whether the content is kept in the direct buffers (not spilled to a memory mapped file)
+     */
+    boolean inMemory() {
+        return channel == null;
+    }
+
+    /**
+     * Gets read-only views of the buffers with the content
+     */
+    ByteBuffer[] getBuffers() throws IOException {
+        if (released) {
+            throw new IOException("Stream cache has been released");
+        }
+        if (channel != null) {
+            // map the file once (unless more content has been written since)
+            if (mapped == null || mappedLength != length) {
+                mapped = map();
+                mappedLength = length;
+            }
+            return mapped;
+        }
+        ByteBuffer[] answer = new ByteBuffer[buffers.size()];
+        for (int i = 0; i < answer.length; i++) {
+            answer[i] = buffers.get(i).asReadOnlyBuffer().flip();
+        }
+        return answer;
+    }
+
+    /**
+     * Must be called before reading the buffers, which are then not released until {@link #endRead()} is called.
+     *
+     * @throws IOException if the buffers have been released, as the exchanges using the stream cache are done
+     */
+    void beginRead() throws IOException {
+        Lock lock = releaseLock.readLock();
+        lock.lock();
+        if (released) {
+            lock.unlock();
+            throw new IOException("Stream cache has been released, as the exchanges using the stream cache are done");
+        }
+    }
+
+    /**
+     * Must be called after reading the buffers.
+     */
+    void endRead() {
+        releaseLock.readLock().unlock();
+    }
+
+    /**
+     * Releases the buffers back to the pool, and unmaps and closes the memory mapped file.
+     * <p/>
+     * This waits for ongoing reads of the buffers, and any later read fails, so the content of other exchanges reusing
+     * the buffers is never read.
+     */
+    void release() {
+        Lock lock = releaseLock.writeLock();
+        lock.lock();
+        try {
+            if (!released) {
+                released = true;
+                releaseBuffers();
+                // unmap the file before its deleted (some operating systems cannot delete a file which is mapped)
+                for (ByteBuffer mapping : mappings) {
+                    unmap(mapping);
+                }
+                mappings.clear();
+                mapped = null;
+                IOHelper.close(channel);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void spill() throws IOException {
+        File file = tempFileManager.createTempFile(strategy);
+        LOG.trace("Spilling {} bytes from direct buffers to memory mapped file: {}", length, file);
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        for (ByteBuffer buffer : buffers) {
+            writeFully(buffer.duplicate().flip());
+        }
+        releaseBuffers();
+        pool.onSpill(length);
+    }
+
+    private void releaseBuffers() {
+        for (ByteBuffer buffer : buffers) {
+            pool.release(buffer);
+        }
+        buffers.clear();
+        current = null;
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private ByteBuffer[] map() throws IOException {
+        List<ByteBuffer> answer = new ArrayList<>();
+        long pos = 0;
+        while (pos < length) {
+            // a mapped buffer can at most be 2gb
+            long size = Math.min(Integer.MAX_VALUE, length - pos);
+            answer.add(channel.map(FileChannel.MapMode.READ_ONLY, pos, size));
+            pos += size;
+        }
+        mappings.addAll(answer);
+        return answer.toArray(new ByteBuffer[0]);
+    }
+
+    private static void unmap(ByteBuffer buffer) {
+        if (INVOKE_CLEANER != null) {
+            try {
+                INVOKE_CLEANER.invokeExact(buffer);
+            } catch (Throwable e) {
+                LOG.debug("Error unmapping memory mapped file. This exception will be ignored.", e);
+            }
+        }
+    }
+
+    private static MethodHandle findInvokeCleaner() {
+        // the JDK has no public API to unmap a memory mapped file, other than waiting for the garbage collector
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(field.get(null));
+        } catch (Exception e) {
+            LOG.debug("Cannot unmap memory mapped files explicitly. The files are unmapped by the garbage collector.", e);
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DirectBufferOutputStream[size: " + length + ", mapped: " + (channel != null) + "]";
+    }
+}
@@ -220,6 +220,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         private final AtomicInteger exchangeCounter = new AtomicInteger();
         private File tempFile;
         private OutputStream outputStream; // file output stream
+        private DirectBufferOutputStream directBufferOutputStream;
         private CipherPair ciphers;
 
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
@@ -303,11 +304,10 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             }
         }
 
-        OutputStream createOutputStream(StreamCachingStrategy strategy) throws IOException {
-            // should only be called once
-            if (tempFile != null) {
-                throw new IllegalStateException("The method 'createOutputStream' can only be called once!");
-            }
+        /**
+         * Creates the temporary file in the spool directory, which is deleted when the exchanges are done.
+         */
+        File createTempFile(StreamCachingStrategy strategy) throws IOException {
             if (closedOnCompletion && exchangeCounter.get() == 0) {
                 // exchange was already stopped -> in this case the tempFile would never be deleted.
                 // This can happen when in the splitter or Multi-cast case with parallel processing, the CachedOutputStream is created when the main unit of work
@@ -321,6 +321,34 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                 throw new IOException(error);
             }
             tempFile = FileUtil.createTempFile("cos", ".tmp", strategy.getSpoolDirectory());
+            return tempFile;
+        }
+
+        /**
+         * Creates the output stream which spools into the direct buffers of the pool from the strategy, and spills to a
+         * memory mapped temporary file when needed.
+         */
+        OutputStream createDirectBufferOutputStream(StreamCachingStrategy strategy) throws IOException {
+            // should only be called once
+            if (outputStream != null) {
+                throw new IllegalStateException("The method 'createDirectBufferOutputStream' can only be called once!");
+            }
+            if (closedOnCompletion && exchangeCounter.get() == 0) {
+                // exchange was already stopped -> in this case the buffers would never be released to the pool
+                throw new IOException(
+                        "Cannot spool to direct buffers for Stream Caching, because the buffers would never be released as the exchange is already done.");
+            }
+            directBufferOutputStream = new DirectBufferOutputStream(this, strategy);
+            outputStream = directBufferOutputStream;
+            return outputStream;
+        }
+
+        OutputStream createOutputStream(StreamCachingStrategy strategy) throws IOException {
+            // should only be called once
+            if (tempFile != null) {
+                throw new IllegalStateException("The method 'createOutputStream' can only be called once!");
+            }
+            createTempFile(strategy);
 
             LOG.trace("Creating temporary stream cache file: {}", tempFile);
             OutputStream out = new BufferedOutputStream(
@@ -350,7 +378,12 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             return out;
         }
 
-        FileInputStreamCache newStreamCache() {
+        StreamCache newStreamCache() throws IOException {
+            if (directBufferOutputStream != null) {
+                return new ByteBufferInputStreamCache(
+                        this, directBufferOutputStream, directBufferOutputStream.getBuffers(),
+                        directBufferOutputStream.inMemory());
+            }
             return new FileInputStreamCache(this);
         }
 
@@ -364,6 +397,10 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         }
 
         void cleanUpTempFile() {
+            // release the direct buffers back to the pool, and unmap and close the memory mapped file before its deleted
+            if (directBufferOutputStream != null) {
+                directBufferOutputStream.release();
+            }
             // cleanup temporary file
             try {
                 if (tempFile != null) {
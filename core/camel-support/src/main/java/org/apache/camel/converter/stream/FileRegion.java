@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A region (position and count) of a file on the local file system.
+ * <p/>
+ * A message body such as a file from the file consumer can be converted to a file region, which allows producers that
+ * support NIO to transfer the content of the file directly from the file system to the network (zero-copy), such as by
+ * using {@link FileChannel#transferTo(long, long, WritableByteChannel)}, instead of reading the content into the heap
+ * first.
+ */
+public final class FileRegion {
+
+    private final File file;
+    private final long position;
+    private final long count;
+
+    public FileRegion(File file, long position, long count) {
+        if (position < 0) {
+            throw new IllegalArgumentException("Position must be positive, was: " + position);
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must be positive, was: " + count);
+        }
+        this.file = file;
+        this.position = position;
+        this.count = count;
+    }
+
+    /**
+     * Creates a file region for the entire file
+     *
+     * @param  file the file
+     * @return      the file region, or <tt>null</tt> if the file does not exist or is not a regular file
+     */
+    public static FileRegion of(File file) {
+        return of(file, 0);
+    }
+
+    /**
+     * Creates a file region for the content of the file from the given position
+     *
+     * @param  file     the file
+     * @param  position the position to start from
+     * @return          the file region, or <tt>null</tt> if the file does not exist or is not a regular file
+     */
+    public static FileRegion of(File file, long position) {
+        if (file == null || !file.isFile()) {
+            return null;
+        }
+        long length = file.length();
+        return new FileRegion(file, Math.min(position, length), Math.max(0, length - position));
+    }
+
+    /**
+     * The file
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * The position in the file where the region starts
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * The number of bytes in the region
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Opens a read-only file channel which is positioned at the start of the region.
+     */
+    public FileChannel openChannel() throws IOException {
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        channel.position(position);
+        return channel;
+    }
+
+    /**
+     * Transfers the content of the region to the target channel, which allows the operating system to transfer the
+     * bytes directly from the file system to the target (zero-copy).
+     *
+     * @param  target the target channel
+     * @return        the number of bytes transferred
+     */
+    public long transferTo(WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long done = 0;
+            while (done < count) {
+                long n = channel.transferTo(position + done, count - done, target);
+                if (n <= 0) {
+                    // end of file (the file may have been truncated meanwhile)
+                    break;
+                }
+                done += n;
+            }
+            return done;
+        }
+    }
+
+    /**
+     * Creates an input stream which reads the content of the region using a file channel.
+     */
+    public InputStream newInputStream() throws IOException {
+        return new RegionInputStream(openChannel(), count);
+    }
+
+    @Override
+    public String toString() {
+        return "FileRegion[" + file + ", position=" + position + ", count=" + count + "]";
+    }
+
+    /**
+     * Input stream reading up to a number of bytes from a file channel.
+     */
+    private static final class RegionInputStream extends InputStream {
+
+        private final FileChannel channel;
+        private long remaining;
+
+        private RegionInputStream(FileChannel channel, long count) {
+            this.channel = channel;
+            this.remaining = count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            int n = read(b, 0, 1);
+            return n == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, remaining)));
+            if (n > 0) {
+                remaining -= n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skip = Math.min(Math.max(n, 0), remaining);
+            channel.position(channel.position() + skip);
+            remaining -= skip;
+            return skip;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, remaining);
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
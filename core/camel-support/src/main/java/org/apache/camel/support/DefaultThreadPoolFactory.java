@@ -37,12 +37,16 @@ import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.concurrent.RejectableScheduledThreadPoolExecutor;
 import org.apache.camel.util.concurrent.RejectableThreadPoolExecutor;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Factory for thread pools that uses the JDK {@link Executors} for creating the thread pools.
  */
 public class DefaultThreadPoolFactory extends ServiceSupport implements CamelContextAware, ThreadPoolFactory, StaticService {
 
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultThreadPoolFactory.class);
+
     private CamelContext camelContext;
 
     @Override
@@ -62,6 +66,10 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
 
     @Override
     public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
+        if (profile.getVirtualThreads() != null && profile.getVirtualThreads()) {
+            LOG.warn("Virtual threads require JDK 21 or newer. Using platform threads for thread pool profile: {}",
+                    profile.getId());
+        }
         // allow core thread timeout is default true if not configured
         boolean allow = profile.getAllowCoreThreadTimeOut() != null ? profile.getAllowCoreThreadTimeOut() : true;
         return newThreadPool(profile.getPoolSize(),
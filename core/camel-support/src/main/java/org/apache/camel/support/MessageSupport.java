@@ -98,7 +98,13 @@ public abstract class MessageSupport implements Message, CamelContextAware, Data
             // lets first try converting the body itself first
             // as for some types like InputStream v Reader its more efficient to do the transformation
             // from the body itself as its got efficient implementations of them, before trying the message
-            T answer = typeConverter.convertTo(type, e, body);
+            T answer;
+            if (body != null) {
+                // use a handle which avoids looking up the type converter
+                answer = typeConverter.lookupHandle(body.getClass(), type).convertTo(e, body);
+            } else {
+                answer = typeConverter.convertTo(type, e, body);
+            }
             if (answer != null) {
                 return answer;
             }
@@ -125,7 +131,12 @@ public abstract class MessageSupport implements Message, CamelContextAware, Data
         Exchange e = getExchange();
         if (e != null) {
             try {
-                return typeConverter.mandatoryConvertTo(type, e, getBody());
+                Object value = getBody();
+                if (value != null) {
+                    // use a handle which avoids looking up the type converter
+                    return typeConverter.lookupHandle(value.getClass(), type).mandatoryConvertTo(e, value);
+                }
+                return typeConverter.mandatoryConvertTo(type, e, value);
             } catch (Exception cause) {
                 throw new InvalidPayloadException(e, type, this, cause);
             }
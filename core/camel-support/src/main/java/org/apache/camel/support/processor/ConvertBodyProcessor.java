@@ -22,7 +22,9 @@ import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.Message;
+import org.apache.camel.TypeConverter;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.support.AsyncCallbackToCompletableFutureAdapter;
@@ -43,6 +45,8 @@ public class ConvertBodyProcessor extends ServiceSupport implements AsyncProcess
     private final Class<?> type;
     private final String charset;
     private final boolean mandatory;
+    // the type converter handle for the type of the last converted body
+    private volatile TypeConverter.Handle<?> handle;
 
     public ConvertBodyProcessor(Class<?> type) {
         ObjectHelper.notNull(type, "type", this);
@@ -115,7 +119,7 @@ public class ConvertBodyProcessor extends ServiceSupport implements AsyncProcess
         // use mandatory conversion
         Object value;
         if (mandatory) {
-            value = old.getMandatoryBody(type);
+            value = mandatoryConvertBody(exchange, old);
         } else {
             value = old.getBody(type);
         }
@@ -146,6 +150,24 @@ public class ConvertBodyProcessor extends ServiceSupport implements AsyncProcess
         }
     }
 
+    private Object mandatoryConvertBody(Exchange exchange, Message message) throws InvalidPayloadException {
+        Object body = message.getBody();
+        if (type.isInstance(body)) {
+            return body;
+        }
+        // the body is often of the same type, so keep the type converter handle for the type of the body
+        TypeConverter.Handle<?> h = handle;
+        if (h == null || h.getFromType() != body.getClass()) {
+            h = exchange.getContext().getTypeConverter().lookupHandle(body.getClass(), type);
+            handle = h;
+        }
+        try {
+            return h.mandatoryConvertTo(exchange, body);
+        } catch (Exception cause) {
+            throw new InvalidPayloadException(exchange, type, message, cause);
+        }
+    }
+
     @Override
     public CompletableFuture<Exchange> processAsync(Exchange exchange) {
         AsyncCallbackToCompletableFutureAdapter<Exchange> callback = new AsyncCallbackToCompletableFutureAdapter<>(exchange);
@@ -0,0 +1,484 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A memory mapped file based implementation of {@link org.apache.camel.spi.IdempotentRepository}.
+ * <p/>
+ * This implementation stores a 64-bit fingerprint (hash) of each key in a fixed size open-addressing hash table, which
+ * is kept off-heap in a memory mapped file. This allows storing many millions of keys with O(1) add, contains and
+ * remove, without any garbage collection overhead, and on restart the existing file is mapped again without having to
+ * load the keys. As only the fingerprint of the keys are stored, then there is a very small probability that two
+ * different keys are regarded as the same (false positive).
+ * <p/>
+ * The repository is bounded by the {@link #getCapacity()}. When the capacity is hit, then the oldest key is dropped to
+ * make room for the new key.
+ * <p/>
+ * Each key is written to the hash table with a single 8-byte write, so the file is consistent if the JVM crashes. The
+ * operating system flushes the memory mapped file to disk, unless {@link #isSync()} is enabled to force the changes to
+ * disk on each write.
+ */
+@Metadata(label = "bean",
+          description = "A memory mapped file based idempotent repository, which stores fingerprints of the keys off-heap in a fixed size hash table.",
+          annotations = { "interfaceName=org.apache.camel.spi.IdempotentRepository" })
+@Configurer(metadataOnly = true)
+@ManagedResource(description = "Memory mapped file based idempotent repository")
+public class MemoryMappedIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MemoryMappedIdempotentRepository.class);
+
+    private static final int DEFAULT_CAPACITY = 1_000_000;
+    // the hash table must fit in a single mapped buffer, and is sized with a load factor of at most 0.5
+    private static final int MAX_CAPACITY = 1 << 26;
+
+    // file header
+    private static final int MAGIC = 0x43494452; // CIDR
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 64;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int SLOTS_OFFSET = 12;
+    private static final int SIZE_OFFSET = 16;
+    private static final int HEAD_OFFSET = 24;
+    private static final int TAIL_OFFSET = 32;
+    private static final int STATE_OFFSET = 40;
+    private static final int STATE_CLOSED = 0;
+    private static final int STATE_OPEN = 1;
+
+    private final Lock cacheAndStoreLock = new ReentrantLock();
+
+    @Metadata(description = "File name of the repository (incl directory)", required = true)
+    private File fileStore;
+    @Metadata(description = "The maximum number of keys to store. When the capacity is hit, then the oldest key is dropped."
+                            + " The capacity of an existing file store is kept.",
+              defaultValue = "" + DEFAULT_CAPACITY)
+    private int capacity = DEFAULT_CAPACITY;
+    @Metadata(description = "Whether to force the changes to disk on each write. By default the operating system flushes the memory mapped file.")
+    private boolean sync;
+
+    private RandomAccessFile file;
+    private FileChannel channel;
+    private MappedByteBuffer header;
+    private MappedByteBuffer table;
+    private MappedByteBuffer positions;
+    private MappedByteBuffer ring;
+    private int slots;
+    private int mask;
+    private int storeCapacity;
+    private long size;
+    private long head;
+    private long tail;
+
+    public MemoryMappedIdempotentRepository() {
+    }
+
+    public MemoryMappedIdempotentRepository(File fileStore, int capacity) {
+        this.fileStore = fileStore;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Creates a new memory mapped file based repository with a default capacity of 1000000 keys.
+     *
+     * @param fileStore the file store
+     */
+    public static IdempotentRepository memoryMappedIdempotentRepository(File fileStore) {
+        return memoryMappedIdempotentRepository(fileStore, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new memory mapped file based repository.
+     *
+     * @param fileStore the file store
+     * @param capacity  the maximum number of keys to store
+     */
+    public static IdempotentRepository memoryMappedIdempotentRepository(File fileStore, int capacity) {
+        return new MemoryMappedIdempotentRepository(fileStore, capacity);
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        long fingerprint = fingerprint(key);
+        cacheAndStoreLock.lock();
+        try {
+            if (indexOf(fingerprint) >= 0) {
+                return false;
+            }
+            evictOldest();
+            // find the free slot and write the fingerprint with a single write
+            int index = slot(fingerprint);
+            while (table.getLong(index << 3) != 0) {
+                index = (index + 1) & mask;
+            }
+            // the position in the insertion order ring is written before the key becomes visible in the hash table
+            positions.putLong(index << 3, tail);
+            table.putLong(index << 3, fingerprint);
+            // remember the insertion order so the oldest key can be dropped when the capacity is hit
+            ring.putLong((int) (tail % storeCapacity) << 3, fingerprint);
+            tail++;
+            size++;
+            header.putLong(TAIL_OFFSET, tail);
+            header.putLong(SIZE_OFFSET, size);
+            if (sync) {
+                force();
+            }
+            return true;
+        } finally {
+            cacheAndStoreLock.unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        long fingerprint = fingerprint(key);
+        cacheAndStoreLock.lock();
+        try {
+            return indexOf(fingerprint) >= 0;
+        } finally {
+            cacheAndStoreLock.unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        long fingerprint = fingerprint(key);
+        cacheAndStoreLock.lock();
+        try {
+            int index = indexOf(fingerprint);
+            if (index < 0) {
+                return false;
+            }
+            // the key is left in the insertion order ring, and is skipped when it becomes the oldest, as the
+            // position of the key no longer matches (also if the key has been added again since)
+            delete(index);
+            size--;
+            header.putLong(SIZE_OFFSET, size);
+            if (sync) {
+                force();
+            }
+            return true;
+        } finally {
+            cacheAndStoreLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public void clear() {
+        cacheAndStoreLock.lock();
+        try {
+            for (int i = 0; i < slots; i++) {
+                table.putLong(i << 3, 0);
+            }
+            size = 0;
+            head = 0;
+            tail = 0;
+            header.putLong(SIZE_OFFSET, size);
+            header.putLong(HEAD_OFFSET, head);
+            header.putLong(TAIL_OFFSET, tail);
+            if (sync) {
+                force();
+            }
+        } finally {
+            cacheAndStoreLock.unlock();
+        }
+    }
+
+    public File getFileStore() {
+        return fileStore;
+    }
+
+    public void setFileStore(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    @ManagedAttribute(description = "The file path for the store")
+    public String getFilePath() {
+        return fileStore.getPath();
+    }
+
+    @ManagedAttribute(description = "The maximum number of keys to store")
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Sets the maximum number of keys to store. When the capacity is hit, then the oldest key is dropped to make room
+     * for the new key.
+     * <p/>
+     * The capacity is used when the file store is created, an existing file store keeps its capacity.
+     * <p/>
+     * The default is 1000000.
+     */
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @ManagedAttribute(description = "Whether to force the changes to disk on each write")
+    public boolean isSync() {
+        return sync;
+    }
+
+    /**
+     * Whether to force the changes to disk on each write. By default the operating system flushes the memory mapped
+     * file, which survives a crash of the JVM but not of the operating system.
+     */
+    public void setSync(boolean sync) {
+        this.sync = sync;
+    }
+
+    @ManagedAttribute(description = "The current number of keys in the store")
+    public long getSize() {
+        cacheAndStoreLock.lock();
+        try {
+            return size;
+        } finally {
+            cacheAndStoreLock.unlock();
+        }
+    }
+
+    /**
+     * Finds the slot in the hash table which contains the given fingerprint
+     *
+     * @return the index of the slot, or <tt>-1</tt> if not found
+     */
+    private int indexOf(long fingerprint) {
+        int index = slot(fingerprint);
+        long current;
+        while ((current = table.getLong(index << 3)) != 0) {
+            if (current == fingerprint) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Deletes the slot at the given index, by shifting back the following keys of the probe sequence (as the hash table
+     * uses linear probing there are no tombstones).
+     */
+    private void delete(int index) {
+        int free = index;
+        int next = index;
+        while (true) {
+            next = (next + 1) & mask;
+            long fingerprint = table.getLong(next << 3);
+            if (fingerprint == 0) {
+                break;
+            }
+            int home = slot(fingerprint);
+            // the key can be moved to the free slot if its home slot is not cyclically between the free and next slot
+            boolean between = free <= next ? free < home && home <= next : free < home || home <= next;
+            if (!between) {
+                // write the key to its new slot before the old slot is freed, so the key is never lost
+                positions.putLong(free << 3, positions.getLong(next << 3));
+                table.putLong(free << 3, fingerprint);
+                free = next;
+            }
+        }
+        table.putLong(free << 3, 0);
+    }
+
+    /**
+     * Drops the oldest keys until there is room for a new key in both the hash table and the insertion order ring.
+     */
+    private void evictOldest() {
+        boolean evicted = false;
+        while (head < tail && (size >= storeCapacity || tail - head >= storeCapacity)) {
+            long fingerprint = ring.getLong((int) (head % storeCapacity) << 3);
+            // keys that have been removed are still in the ring, so those are skipped, and so are keys
+            // that have been removed and added again, as those are at a later position in the ring
+            int index = indexOf(fingerprint);
+            if (index >= 0 && positions.getLong(index << 3) == head) {
+                delete(index);
+                size--;
+            }
+            head++;
+            evicted = true;
+        }
+        if (evicted) {
+            LOG.debug("Maximum capacity of {} keys hit. Dropped oldest key from idempotent filestore: {}",
+                    storeCapacity, fileStore);
+            header.putLong(HEAD_OFFSET, head);
+            header.putLong(SIZE_OFFSET, size);
+        }
+    }
+
+    private int slot(long fingerprint) {
+        return (int) (fingerprint ^ (fingerprint >>> 32)) & mask;
+    }
+
+    /**
+     * Computes the 64-bit fingerprint of the key (FNV-1a with a final mix), where <tt>0</tt> is reserved to mark free
+     * slots.
+     */
+    static long fingerprint(String key) {
+        byte[] data = key.getBytes(StandardCharsets.UTF_8);
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : data) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash != 0 ? hash : 1;
+    }
+
+    /**
+     * Forces the changes to disk (only the modified pages are written)
+     */
+    private void force() {
+        table.force();
+        positions.force();
+        ring.force();
+        header.force();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(fileStore, "fileStore", this);
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY + ", was: " + capacity);
+        }
+
+        File parent = fileStore.getParentFile();
+        if (parent != null && !parent.exists()) {
+            LOG.debug("Creating filestore directory: {}", parent);
+            if (!parent.mkdirs()) {
+                LOG.warn("Cannot create the filestore directory at: {}", parent);
+            }
+        }
+
+        boolean exists = fileStore.exists() && fileStore.length() >= HEADER_SIZE;
+        file = new RandomAccessFile(fileStore, "rw");
+        channel = file.getChannel();
+        header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+
+        boolean clean = true;
+        if (exists) {
+            if (header.getInt(MAGIC_OFFSET) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION) {
+                throw new IOException("File store: " + fileStore + " is not a memory mapped idempotent repository");
+            }
+            storeCapacity = header.getInt(CAPACITY_OFFSET);
+            slots = header.getInt(SLOTS_OFFSET);
+            size = header.getLong(SIZE_OFFSET);
+            head = header.getLong(HEAD_OFFSET);
+            tail = header.getLong(TAIL_OFFSET);
+            clean = header.getInt(STATE_OFFSET) == STATE_CLOSED;
+            if (storeCapacity != capacity) {
+                LOG.warn("Existing idempotent filestore: {} has capacity: {} which is used instead of capacity: {}",
+                        fileStore, storeCapacity, capacity);
+            }
+        } else {
+            storeCapacity = capacity;
+            slots = Integer.highestOneBit(capacity - 1 | 1) << 2;
+            size = 0;
+            head = 0;
+            tail = 0;
+            header.putInt(MAGIC_OFFSET, MAGIC);
+            header.putInt(VERSION_OFFSET, VERSION);
+            header.putInt(CAPACITY_OFFSET, storeCapacity);
+            header.putInt(SLOTS_OFFSET, slots);
+            header.putLong(SIZE_OFFSET, size);
+            header.putLong(HEAD_OFFSET, head);
+            header.putLong(TAIL_OFFSET, tail);
+        }
+        mask = slots - 1;
+
+        long tableSize = (long) slots << 3;
+        table = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE, tableSize);
+        positions = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + tableSize, tableSize);
+        ring = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + 2 * tableSize, (long) storeCapacity << 3);
+
+        if (!clean) {
+            // the repository was not stopped gracefully, so the size in the header may not be up-to-date
+            LOG.info("Idempotent filestore: {} was not closed gracefully. Counting the stored keys.", fileStore);
+            size = 0;
+            for (int i = 0; i < slots; i++) {
+                if (table.getLong(i << 3) != 0) {
+                    size++;
+                }
+            }
+            header.putLong(SIZE_OFFSET, size);
+        }
+        header.putInt(STATE_OFFSET, STATE_OPEN);
+        header.force();
+
+        LOG.debug("Mapped idempotent filestore: {} with {} keys and capacity: {}", fileStore, size, storeCapacity);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        cacheAndStoreLock.lock();
+        try {
+            if (header != null) {
+                // the keys must be on disk before the file store is marked as closed gracefully
+                force();
+                header.putInt(STATE_OFFSET, STATE_CLOSED);
+                header.force();
+            }
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            header = null;
+            table = null;
+            positions = null;
+            ring = null;
+            IOHelper.close(channel, "Closing memory mapped idempotent repository", LOG);
+            IOHelper.close(file, "Closing memory mapped idempotent repository", LOG);
+            channel = null;
+            file = null;
+            cacheAndStoreLock.unlock();
+        }
+    }
+}
@@ -39,6 +39,7 @@ import org.apache.camel.util.concurrent.RejectableThreadPoolExecutor;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
 import org.apache.camel.util.concurrent.ThreadType;
 import org.apache.camel.util.concurrent.ThreadFactoryTypeAware;
+import org.apache.camel.util.concurrent.VirtualThreadPoolExecutor;
 
 /**
  * Factory for thread pools that uses the JDK {@link Executors} for creating the thread pools.
@@ -64,6 +65,9 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
 
     @Override
     public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
+        if (profile.getVirtualThreads() != null && profile.getVirtualThreads()) {
+            return newVirtualThreadPool(profile, factory);
+        }
         // allow core thread timeout is default true if not configured
         boolean allow = profile.getAllowCoreThreadTimeOut() != null ? profile.getAllowCoreThreadTimeOut() : true;
         return newThreadPool(profile.getPoolSize(),
@@ -96,6 +100,22 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
                 rejectedExecutionHandler, threadFactory);
     }
 
+    /**
+     * Creates a thread pool which runs each task on a new virtual thread, where the max pool size limits the number of
+     * tasks that run concurrently.
+     */
+    private ExecutorService newVirtualThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
+        int maxPoolSize = profile.getMaxPoolSize();
+        if (maxPoolSize <= 0) {
+            throw new IllegalArgumentException("MaxPoolSize must be > 0, was " + maxPoolSize);
+        }
+        RejectedExecutionHandler rejectedExecutionHandler = profile.getRejectedExecutionHandler();
+        if (rejectedExecutionHandler == null) {
+            rejectedExecutionHandler = new ThreadPoolExecutor.CallerRunsPolicy();
+        }
+        return new VirtualThreadPoolExecutor(maxPoolSize, profile.getMaxQueueSize(), threadFactory, rejectedExecutionHandler);
+    }
+
     @Override
     public ScheduledExecutorService newScheduledThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
         return ThreadPoolFactoryType.from(threadFactory, profile).newScheduledThreadPool(profile, threadFactory);
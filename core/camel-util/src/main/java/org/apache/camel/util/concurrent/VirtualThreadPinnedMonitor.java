@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Counts the virtual threads that blocked while pinned to their carrier thread, by streaming the
+ * {@code jdk.VirtualThreadPinned} JFR event.
+ * <p/>
+ * A pinned virtual thread blocks its carrier thread, which reduces the number of virtual threads that can run. The JFR
+ * events are delivered asynchronously, after the virtual thread may have terminated, so the counters are for the whole
+ * JVM and not for a specific thread pool.
+ * <p/>
+ * The monitor is disabled by default as it starts a JFR recording. It is enabled by setting the system property
+ * {@code camel.threads.virtual.pinned.monitor.enabled} to {@code true}, and then runs while at least one thread pool
+ * uses it.
+ */
+public final class VirtualThreadPinnedMonitor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadPinnedMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final Duration PINNED_THRESHOLD = Duration.ofMillis(20);
+    private static final boolean ENABLED = Boolean.getBoolean("camel.threads.virtual.pinned.monitor.enabled");
+    private static final VirtualThreadPinnedMonitor INSTANCE = new VirtualThreadPinnedMonitor();
+
+    private final LongAdder pinnedCount = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+    private int users;
+    private AutoCloseable stream;
+
+    private VirtualThreadPinnedMonitor() {
+    }
+
+    /**
+     * Gets the monitor for this JVM.
+     */
+    public static VirtualThreadPinnedMonitor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Whether the monitor is enabled.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Registers a user of the monitor, which starts the monitor if this is the first user.
+     */
+    public synchronized void acquire() {
+        if (!ENABLED) {
+            return;
+        }
+        if (users++ == 0) {
+            try {
+                stream = startRecording();
+                LOG.debug("Started monitoring pinned virtual threads");
+            } catch (Exception | LinkageError e) {
+                // JFR is not available in this JVM
+                LOG.debug("Cannot monitor pinned virtual threads due to {}. This exception is ignored.", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Unregisters a user of the monitor, which stops the monitor if this was the last user.
+     */
+    public synchronized void release() {
+        if (!ENABLED || users == 0) {
+            return;
+        }
+        if (--users == 0 && stream != null) {
+            try {
+                stream.close();
+            } catch (Exception e) {
+                LOG.debug("Error stopping monitoring of pinned virtual threads. This exception is ignored.", e);
+            }
+            stream = null;
+            LOG.debug("Stopped monitoring pinned virtual threads");
+        }
+    }
+
+    /**
+     * Whether the monitor is currently recording pinned virtual threads.
+     */
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    /**
+     * Number of times a virtual thread blocked while pinned to its carrier thread.
+     */
+    public long getPinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    /**
+     * Total time in millis the virtual threads blocked while pinned to their carrier thread.
+     */
+    public long getPinnedTime() {
+        return Duration.ofNanos(pinnedNanos.sum()).toMillis();
+    }
+
+    private AutoCloseable startRecording() {
+        RecordingStream rs = new RecordingStream();
+        rs.enable(PINNED_EVENT).withThreshold(PINNED_THRESHOLD);
+        rs.onEvent(PINNED_EVENT, event -> {
+            pinnedCount.increment();
+            pinnedNanos.add(event.getDuration().toNanos());
+        });
+        rs.startAsync();
+        return rs;
+    }
+
+}
@@ -0,0 +1,370 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread pool executor which runs each task on a new thread from the thread factory, which is meant to create virtual
+ * threads.
+ * <p/>
+ * Virtual threads are cheap to create and should not be pooled, so instead of a pool of worker threads a semaphore
+ * limits the number of tasks that run concurrently to the maximum pool size. Tasks that cannot run yet wait in the task
+ * queue, and when the queue is full the task is handed to the {@link RejectedExecutionHandler}, just as with a
+ * {@link java.util.concurrent.ThreadPoolExecutor}.
+ * <p/>
+ * The executor extends {@link java.util.concurrent.ThreadPoolExecutor} so it can be managed like any other thread pool.
+ * The pool size and active count are the number of running tasks, and the maximum pool size can be changed at runtime.
+ * There are no core threads, so the core pool size and core thread timeout do not apply.
+ */
+public class VirtualThreadPoolExecutor extends RejectableThreadPoolExecutor {
+
+    private final ResizableSemaphore permits;
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger largest = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final Lock lock = new ReentrantLock();
+    private final Condition termination = lock.newCondition();
+    private final AtomicBoolean terminated = new AtomicBoolean();
+
+    /**
+     * Creates a new executor.
+     *
+     * @param maxConcurrency  the maximum number of tasks that run concurrently
+     * @param maxQueueSize    the maximum number of tasks that wait to run, use 0 or less to not let tasks wait, and
+     *                        <tt>Integer.MAX_VALUE</tt> for an unbounded queue
+     * @param threadFactory   the factory for the threads that run the tasks
+     * @param rejectedHandler the handler for tasks that cannot run or wait
+     */
+    public VirtualThreadPoolExecutor(int maxConcurrency, int maxQueueSize, ThreadFactory threadFactory,
+                                     RejectedExecutionHandler rejectedHandler) {
+        super(0, maxConcurrency, 0L, TimeUnit.SECONDS, createQueue(maxQueueSize), threadFactory, rejectedHandler);
+        this.permits = new ResizableSemaphore(maxConcurrency);
+        VirtualThreadPinnedMonitor.getInstance().acquire();
+    }
+
+    private static BlockingQueue<Runnable> createQueue(int maxQueueSize) {
+        if (maxQueueSize <= 0) {
+            // direct-handover (no tasks stored on the queue)
+            return new SynchronousQueue<>();
+        } else if (maxQueueSize == Integer.MAX_VALUE) {
+            return new LinkedBlockingQueue<>();
+        } else {
+            return new LinkedBlockingQueue<>(maxQueueSize);
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (command == null) {
+            throw new NullPointerException();
+        }
+        if (isShutdown()) {
+            reject(command);
+        } else if (permits.tryAcquire()) {
+            start(command);
+        } else if (getQueue().offer(command)) {
+            // a running task may have completed before the command was queued
+            startQueued();
+        } else {
+            reject(command);
+        }
+    }
+
+    private void reject(Runnable command) {
+        rejected.increment();
+        getRejectedExecutionHandler().rejectedExecution(command, this);
+    }
+
+    private void start(Runnable task) {
+        largest.accumulateAndGet(active.incrementAndGet(), Math::max);
+        try {
+            Thread thread = getThreadFactory().newThread(() -> run(task));
+            if (thread == null) {
+                throw new IllegalStateException("ThreadFactory " + getThreadFactory() + " did not create a thread");
+            }
+            thread.start();
+        } catch (RuntimeException | Error e) {
+            active.decrementAndGet();
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void run(Runnable task) {
+        Thread thread = Thread.currentThread();
+        threads.add(thread);
+        try {
+            beforeExecute(thread, task);
+            Throwable failure = null;
+            try {
+                task.run();
+            } catch (RuntimeException | Error e) {
+                failure = e;
+                throw e;
+            } finally {
+                afterExecute(task, failure);
+            }
+        } finally {
+            threads.remove(thread);
+            completed.increment();
+            done();
+        }
+    }
+
+    private void done() {
+        active.decrementAndGet();
+        permits.release();
+        startQueued();
+    }
+
+    private void startQueued() {
+        BlockingQueue<Runnable> queue = getQueue();
+        while (!queue.isEmpty() && permits.tryAcquire()) {
+            Runnable next = queue.poll();
+            if (next != null) {
+                start(next);
+            } else {
+                // another thread took the task
+                permits.release();
+            }
+        }
+        if (isTerminated()) {
+            onTerminated();
+        }
+    }
+
+    private void onTerminated() {
+        lock.lock();
+        try {
+            termination.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (terminated.compareAndSet(false, true)) {
+            VirtualThreadPinnedMonitor.getInstance().release();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        if (isTerminated()) {
+            onTerminated();
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> answer = super.shutdownNow();
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+        if (isTerminated()) {
+            onTerminated();
+        }
+        return answer;
+    }
+
+    @Override
+    public boolean isTerminating() {
+        return isShutdown() && !isTerminated();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return isShutdown() && active.get() == 0 && getQueue().isEmpty();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (!isTerminated()) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = termination.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void setMaximumPoolSize(int maximumPoolSize) {
+        super.setMaximumPoolSize(maximumPoolSize);
+        permits.resize(maximumPoolSize);
+        startQueued();
+    }
+
+    @Override
+    public void setCorePoolSize(int corePoolSize) {
+        // virtual threads are not pooled so there are no core threads
+    }
+
+    @Override
+    public void allowCoreThreadTimeOut(boolean value) {
+        // virtual threads are not pooled so there are no core threads
+    }
+
+    @Override
+    public boolean prestartCoreThread() {
+        return false;
+    }
+
+    @Override
+    public int prestartAllCoreThreads() {
+        return 0;
+    }
+
+    @Override
+    public int getPoolSize() {
+        return active.get();
+    }
+
+    @Override
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    @Override
+    public int getLargestPoolSize() {
+        return largest.get();
+    }
+
+    @Override
+    public long getTaskCount() {
+        return completed.sum() + active.get() + getQueue().size();
+    }
+
+    @Override
+    public long getCompletedTaskCount() {
+        return completed.sum();
+    }
+
+    /**
+     * Number of tasks which could neither run nor wait, and were handed to the rejected execution handler.
+     */
+    public long getRejectedTaskCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Number of times a virtual thread in this JVM blocked while pinned to its carrier thread.
+     *
+     * @see VirtualThreadPinnedMonitor
+     */
+    public long getPinnedCount() {
+        return VirtualThreadPinnedMonitor.getInstance().getPinnedCount();
+    }
+
+    /**
+     * Total time in millis the virtual threads in this JVM blocked while pinned to their carrier thread.
+     *
+     * @see VirtualThreadPinnedMonitor
+     */
+    public long getPinnedTime() {
+        return VirtualThreadPinnedMonitor.getInstance().getPinnedTime();
+    }
+
+    /**
+     * The number of carrier threads the JVM uses to run virtual threads.
+     */
+    public int getCarrierParallelism() {
+        return carrierParallelism();
+    }
+
+    /**
+     * The maximum number of carrier threads the JVM may use to compensate for pinned virtual threads.
+     */
+    public int getCarrierMaxPoolSize() {
+        return intProperty("jdk.virtualThreadScheduler.maxPoolSize", Math.max(carrierParallelism(), 256));
+    }
+
+    private static int carrierParallelism() {
+        return intProperty("jdk.virtualThreadScheduler.parallelism", Runtime.getRuntime().availableProcessors());
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        String value = System.getProperty(name);
+        if (value != null) {
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                // ignore and use the default value as the JVM does
+            }
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public String toString() {
+        String answer = getClass().getName() + "@" + Integer.toHexString(hashCode())
+                        + "[" + (isTerminated() ? "Terminated" : isShutdown() ? "Shutting down" : "Running")
+                        + ", max concurrency = " + getMaximumPoolSize() + ", active tasks = " + getActiveCount()
+                        + ", queued tasks = " + getQueue().size() + ", completed tasks = " + getCompletedTaskCount() + "]";
+        // the thread factory often have more precise details what the thread pool is used for
+        if (getThreadFactory() instanceof CamelThreadFactory camelThreadFactory) {
+            answer += "[" + camelThreadFactory.getName() + "]";
+        }
+        return answer;
+    }
+
+    /**
+     * Semaphore whose number of permits can be changed.
+     */
+    private static final class ResizableSemaphore extends Semaphore {
+
+        private int size;
+
+        ResizableSemaphore(int size) {
+            super(size);
+            this.size = size;
+        }
+
+        synchronized void resize(int newSize) {
+            int delta = newSize - size;
+            if (delta > 0) {
+                release(delta);
+            } else if (delta < 0) {
+                reducePermits(-delta);
+            }
+            size = newSize;
+        }
+    }
+
+}
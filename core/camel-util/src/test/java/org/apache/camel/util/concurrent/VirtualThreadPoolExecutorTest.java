@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VirtualThreadPoolExecutorTest {
+
+    private final CamelThreadFactory threadFactory = new CamelThreadFactory("#name#", "test", true, true);
+
+    @Test
+    public void testMaxConcurrency() throws Exception {
+        VirtualThreadPoolExecutor executor
+                = new VirtualThreadPoolExecutor(2, 100, threadFactory, new ThreadPoolExecutor.AbortPolicy());
+
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(10);
+        for (int i = 0; i < 10; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertEquals(2, executor.getActiveCount());
+        assertEquals(8, executor.getQueue().size());
+        assertEquals(10, executor.getTaskCount());
+
+        release.countDown();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(2, maxRunning.get());
+        assertEquals(2, executor.getLargestPoolSize());
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(10, executor.getCompletedTaskCount());
+        assertEquals(0, executor.getRejectedTaskCount());
+    }
+
+    @Test
+    public void testRejectWhenQueueFull() throws Exception {
+        VirtualThreadPoolExecutor executor = new VirtualThreadPoolExecutor(
+                1, 1, threadFactory, ThreadPoolRejectedPolicy.Abort.asRejectedExecutionHandler());
+
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable task = () -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        executor.execute(task);
+        executor.execute(task);
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(task));
+        assertEquals(1, executor.getRejectedTaskCount());
+
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(2, executor.getCompletedTaskCount());
+    }
+
+    @Test
+    public void testCallerRunsWhenRejected() throws Exception {
+        VirtualThreadPoolExecutor executor = new VirtualThreadPoolExecutor(
+                1, 0, threadFactory, ThreadPoolRejectedPolicy.CallerRuns.asRejectedExecutionHandler());
+
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        Thread caller = Thread.currentThread();
+        AtomicInteger callerRuns = new AtomicInteger();
+        executor.execute(() -> {
+            if (Thread.currentThread() == caller) {
+                callerRuns.incrementAndGet();
+            }
+        });
+        assertEquals(1, callerRuns.get());
+
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testIncreaseMaximumPoolSize() throws Exception {
+        VirtualThreadPoolExecutor executor
+                = new VirtualThreadPoolExecutor(1, 100, threadFactory, new ThreadPoolExecutor.AbortPolicy());
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(3);
+        for (int i = 0; i < 3; i++) {
+            executor.execute(() -> {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        assertEquals(1, executor.getActiveCount());
+
+        executor.setMaximumPoolSize(3);
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        assertEquals(3, executor.getMaximumPoolSize());
+
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testShutdownNow() throws Exception {
+        VirtualThreadPoolExecutor executor
+                = new VirtualThreadPoolExecutor(1, 100, threadFactory, new ThreadPoolExecutor.AbortPolicy());
+
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicInteger interrupted = new AtomicInteger();
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(10000);
+            } catch (InterruptedException e) {
+                interrupted.incrementAndGet();
+            }
+        });
+        executor.execute(() -> {
+            // noop
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        assertEquals(1, executor.shutdownNow().size());
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertTrue(executor.isTerminated());
+        assertFalse(executor.isTerminating());
+        assertEquals(1, interrupted.get());
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+        }));
+    }
+}
@@ -91,6 +91,7 @@ public class ModelParser extends BaseParser {
                 case "executorService": def.setExecutorService(val); yield true;
                 case "forceCompletionOnStop": def.setForceCompletionOnStop(val); yield true;
                 case "ignoreInvalidCorrelationKeys": def.setIgnoreInvalidCorrelationKeys(val); yield true;
+                case "lockStripes": def.setLockStripes(val); yield true;
                 case "optimisticLocking": def.setOptimisticLocking(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
                 case "timeoutCheckerExecutorService": def.setTimeoutCheckerExecutorService(val); yield true;
@@ -1134,6 +1135,7 @@ public class ModelParser extends BaseParser {
                 case "aggregationStrategyMethodName": def.setAggregationStrategyMethodName(val); yield true;
                 case "delimiter": def.setDelimiter(val); yield true;
                 case "executorService": def.setExecutorService(val); yield true;
+                case "maxInflight": def.setMaxInflight(val); yield true;
                 case "onPrepare": def.setOnPrepare(val); yield true;
                 case "parallelAggregate": def.setParallelAggregate(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
@@ -1227,6 +1229,7 @@ public class ModelParser extends BaseParser {
     }
     protected ThrottleDefinition doParseThrottleDefinition() throws IOException, XmlPullParserException {
         return doParse(new ThrottleDefinition(), (def, key, val) -> switch (key) {
+                case "adaptiveAlgorithm": def.setAdaptiveAlgorithm(val); yield true;
                 case "asyncDelayed": def.setAsyncDelayed(val); yield true;
                 case "callerRunsWhenRejected": def.setCallerRunsWhenRejected(val); yield true;
                 case "executorService": def.setExecutorService(val); yield true;
@@ -1706,6 +1709,7 @@ public class ModelParser extends BaseParser {
                 case "ignoreInvalidExchanges": def.setIgnoreInvalidExchanges(val); yield true;
                 case "rejectOld": def.setRejectOld(val); yield true;
                 case "timeout": def.setTimeout(val); yield true;
+                case "timerWheel": def.setTimerWheel(val); yield true;
                 default: yield false;
             }, noElementHandler(), noValueHandler());
     }
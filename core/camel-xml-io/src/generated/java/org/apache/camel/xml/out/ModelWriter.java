@@ -834,6 +834,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("completionFromBatchConsumer", def.getCompletionFromBatchConsumer(), null);
         doWriteAttribute("completeAllOnStop", def.getCompleteAllOnStop(), null);
         doWriteAttribute("completionSize", def.getCompletionSize(), null);
+        doWriteAttribute("lockStripes", def.getLockStripes(), null);
         doWriteAttribute("aggregationStrategyMethodName", def.getAggregationStrategyMethodName(), null);
         doWriteAttribute("aggregateController", def.getAggregateController(), null);
         doWriteAttribute("completionTimeout", def.getCompletionTimeout(), null);
@@ -1793,6 +1794,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("aggregationStrategy", def.getAggregationStrategy(), null);
         doWriteAttribute("onPrepare", def.getOnPrepare(), null);
         doWriteAttribute("executorService", def.getExecutorService(), null);
+        doWriteAttribute("maxInflight", def.getMaxInflight(), null);
         doWriteAttribute("synchronous", def.getSynchronous(), null);
         doWriteAttribute("aggregationStrategyMethodName", def.getAggregationStrategyMethodName(), null);
         doWriteAttribute("timeout", def.getTimeout(), "0");
@@ -1875,6 +1877,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("callerRunsWhenRejected", def.getCallerRunsWhenRejected(), "true");
         doWriteAttribute("executorService", def.getExecutorService(), null);
         doWriteAttribute("asyncDelayed", def.getAsyncDelayed(), null);
+        doWriteAttribute("adaptiveAlgorithm", def.getAdaptiveAlgorithm(), null);
         doWriteExpressionNodeElements(def);
         doWriteElement("correlationExpression", def.getCorrelationExpression(), this::doWriteExpressionSubElementDefinition);
         endElement(name);
@@ -2370,6 +2373,7 @@ public class ModelWriter extends BaseWriter {
     protected void doWriteStreamResequencerConfig(String name, StreamResequencerConfig def) throws IOException {
         startElement(name);
         doWriteAttribute("comparator", def.getComparator(), null);
+        doWriteAttribute("timerWheel", def.getTimerWheel(), null);
         doWriteAttribute("timeout", def.getTimeout(), "1000");
         doWriteAttribute("rejectOld", def.getRejectOld(), null);
         doWriteAttribute("ignoreInvalidExchanges", def.getIgnoreInvalidExchanges(), null);
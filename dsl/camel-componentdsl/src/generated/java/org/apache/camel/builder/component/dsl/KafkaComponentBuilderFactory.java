@@ -995,6 +995,54 @@ public interface KafkaComponentBuilderFactory {
             return this;
         }
     
+        
+        /**
+         * The maximum number of partitions that can be processed concurrently
+         * by the consumer when parallelPartitionProcessing is enabled. The pool
+         * is shared by all the consumer threads (see consumersCount).
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 10
+         * Group: consumer (advanced)
+         * 
+         * @param parallelPartitionPoolSize the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder parallelPartitionPoolSize(int parallelPartitionPoolSize) {
+            doSetProperty("parallelPartitionPoolSize", parallelPartitionPoolSize);
+            return this;
+        }
+    
+        
+        /**
+         * Whether to process the records of each assigned partition in parallel
+         * (streaming mode only). When enabled, the records returned by a poll
+         * are grouped per topic partition, and each partition is processed by
+         * its own worker from a thread pool (sized by
+         * parallelPartitionPoolSize). Records within the same partition are
+         * still processed in order, one after another, while different
+         * partitions are processed concurrently. The offsets are committed per
+         * partition only for the records that have completed, after all the
+         * partitions of the poll have been processed. This allows a single
+         * consumer to increase throughput when the route is slow, without
+         * having to increase the number of partitions of the topic. Virtual
+         * threads are used for the workers when Camel has been configured to
+         * use virtual threads.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param parallelPartitionProcessing the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder parallelPartitionProcessing(boolean parallelPartitionProcessing) {
+            doSetProperty("parallelPartitionProcessing", parallelPartitionProcessing);
+            return this;
+        }
+    
         /**
          * To use a custom strategy with the consumer to control how to handle
          * exceptions thrown from the Kafka broker while pooling messages.
@@ -2486,6 +2534,8 @@ public interface KafkaComponentBuilderFactory {
             case "createConsumerBackoffMaxAttempts": ((KafkaComponent) component).setCreateConsumerBackoffMaxAttempts((int) value); return true;
             case "isolationLevel": getOrCreateConfiguration((KafkaComponent) component).setIsolationLevel((java.lang.String) value); return true;
             case "kafkaManualCommitFactory": ((KafkaComponent) component).setKafkaManualCommitFactory((org.apache.camel.component.kafka.consumer.KafkaManualCommitFactory) value); return true;
+            case "parallelPartitionPoolSize": getOrCreateConfiguration((KafkaComponent) component).setParallelPartitionPoolSize((int) value); return true;
+            case "parallelPartitionProcessing": getOrCreateConfiguration((KafkaComponent) component).setParallelPartitionProcessing((boolean) value); return true;
             case "pollExceptionStrategy": ((KafkaComponent) component).setPollExceptionStrategy((org.apache.camel.component.kafka.PollExceptionStrategy) value); return true;
             case "subscribeConsumerBackoffInterval": ((KafkaComponent) component).setSubscribeConsumerBackoffInterval((long) value); return true;
             case "subscribeConsumerBackoffMaxAttempts": ((KafkaComponent) component).setSubscribeConsumerBackoffMaxAttempts((int) value); return true;
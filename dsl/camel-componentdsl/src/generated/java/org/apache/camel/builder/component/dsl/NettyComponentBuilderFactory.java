@@ -879,6 +879,29 @@ public interface NettyComponentBuilderFactory {
         }
     
         
+        /**
+         * Whether to send file bodies (such as from the file consumer) as a
+         * file region, which allows the operating system to transfer the
+         * content of the file directly to the network (zero-copy), instead of
+         * reading the file into memory. This is only in use for TCP and HTTP
+         * responses, and not when using SSL, compression, textline,
+         * transferExchange or useByteBuf. The payload is written as-is, so the
+         * encoders must not need to modify the payload.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param fileRegion the value to set
+         * @return the dsl builder
+         */
+        default NettyComponentBuilder fileRegion(boolean fileRegion) {
+            doSetProperty("fileRegion", fileRegion);
+            return this;
+        }
+    
+        
         /**
          * Whether to use native transport instead of NIO. Native transport
          * takes advantage of the host operating system and is only supported on
@@ -1549,6 +1572,7 @@ public interface NettyComponentBuilderFactory {
             case "allowSerializedHeaders": getOrCreateConfiguration((NettyComponent) component).setAllowSerializedHeaders((boolean) value); return true;
             case "autowiredEnabled": ((NettyComponent) component).setAutowiredEnabled((boolean) value); return true;
             case "channelGroup": getOrCreateConfiguration((NettyComponent) component).setChannelGroup((io.netty.channel.group.ChannelGroup) value); return true;
+            case "fileRegion": getOrCreateConfiguration((NettyComponent) component).setFileRegion((boolean) value); return true;
             case "nativeTransport": getOrCreateConfiguration((NettyComponent) component).setNativeTransport((boolean) value); return true;
             case "options": getOrCreateConfiguration((NettyComponent) component).setOptions((java.util.Map) value); return true;
             case "receiveBufferSize": getOrCreateConfiguration((NettyComponent) component).setReceiveBufferSize((int) value); return true;
@@ -896,6 +896,29 @@ public interface NettyHttpComponentBuilderFactory {
             return this;
         }
     
+        
+        /**
+         * Whether to send file bodies (such as from the file consumer) as a
+         * file region, which allows the operating system to transfer the
+         * content of the file directly to the network (zero-copy), instead of
+         * reading the file into memory. This is only in use for TCP and HTTP
+         * responses, and not when using SSL, compression, textline,
+         * transferExchange or useByteBuf. The payload is written as-is, so the
+         * encoders must not need to modify the payload.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param fileRegion the value to set
+         * @return the dsl builder
+         */
+        default NettyHttpComponentBuilder fileRegion(boolean fileRegion) {
+            doSetProperty("fileRegion", fileRegion);
+            return this;
+        }
+    
         /**
          * To use a custom org.apache.camel.spi.HeaderFilterStrategy to filter
          * headers.
@@ -1622,6 +1645,7 @@ public interface NettyHttpComponentBuilderFactory {
             case "allowSerializedHeaders": getOrCreateConfiguration((NettyHttpComponent) component).setAllowSerializedHeaders((boolean) value); return true;
             case "autowiredEnabled": ((NettyHttpComponent) component).setAutowiredEnabled((boolean) value); return true;
             case "channelGroup": getOrCreateConfiguration((NettyHttpComponent) component).setChannelGroup((io.netty.channel.group.ChannelGroup) value); return true;
+            case "fileRegion": getOrCreateConfiguration((NettyHttpComponent) component).setFileRegion((boolean) value); return true;
             case "headerFilterStrategy": ((NettyHttpComponent) component).setHeaderFilterStrategy((org.apache.camel.spi.HeaderFilterStrategy) value); return true;
             case "nativeTransport": getOrCreateConfiguration((NettyHttpComponent) component).setNativeTransport((boolean) value); return true;
             case "nettyHttpBinding": ((NettyHttpComponent) component).setNettyHttpBinding((org.apache.camel.component.netty.http.NettyHttpBinding) value); return true;
@@ -2206,6 +2206,46 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("includeHiddenFiles", includeHiddenFiles);
             return this;
         }
+        /**
+         * Whether to scan the directories incrementally, which is faster for
+         * directories with many files when using maxMessagesPerPoll. The
+         * directory entries are streamed, and the scan stops as soon as enough
+         * files are found. The next poll then continues the scan from where the
+         * previous poll stopped. As the files are not listed up front, this
+         * option cannot be used together with preSort.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param incrementalScan the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder incrementalScan(boolean incrementalScan) {
+            doSetProperty("incrementalScan", incrementalScan);
+            return this;
+        }
+        /**
+         * Whether to scan the directories incrementally, which is faster for
+         * directories with many files when using maxMessagesPerPoll. The
+         * directory entries are streamed, and the scan stops as soon as enough
+         * files are found. The next poll then continues the scan from where the
+         * previous poll stopped. As the files are not listed up front, this
+         * option cannot be used together with preSort.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param incrementalScan the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder incrementalScan(String incrementalScan) {
+            doSetProperty("incrementalScan", incrementalScan);
+            return this;
+        }
         /**
          * A pluggable in-progress repository
          * org.apache.camel.spi.IdempotentRepository. The in-progress repository
@@ -2259,6 +2299,50 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("localWorkDirectory", localWorkDirectory);
             return this;
         }
+        /**
+         * The maximum number of files of a poll which are processed
+         * concurrently. By default the files are processed one at a time by the
+         * consumer thread. When set to more than 1, then the consumer thread
+         * still picks up the files one at a time (acquires the read lock, and
+         * retrieves remote files), and the files are then routed concurrently by
+         * a thread pool of this size. The poll is complete when all its files
+         * are done, so the exchanges of a batch can complete in another order
+         * than their batch index.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param maxConcurrentFiles the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder maxConcurrentFiles(int maxConcurrentFiles) {
+            doSetProperty("maxConcurrentFiles", maxConcurrentFiles);
+            return this;
+        }
+        /**
+         * The maximum number of files of a poll which are processed
+         * concurrently. By default the files are processed one at a time by the
+         * consumer thread. When set to more than 1, then the consumer thread
+         * still picks up the files one at a time (acquires the read lock, and
+         * retrieves remote files), and the files are then routed concurrently by
+         * a thread pool of this size. The poll is complete when all its files
+         * are done, so the exchanges of a batch can complete in another order
+         * than their batch index.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param maxConcurrentFiles the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder maxConcurrentFiles(String maxConcurrentFiles) {
+            doSetProperty("maxConcurrentFiles", maxConcurrentFiles);
+            return this;
+        }
         /**
          * To use a custom org.apache.camel.spi.ExceptionHandler to handle any
          * thrown exceptions that happens during the file on completion process
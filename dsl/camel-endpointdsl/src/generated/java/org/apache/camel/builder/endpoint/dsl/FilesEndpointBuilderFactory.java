@@ -2335,6 +2335,50 @@ public interface FilesEndpointBuilderFactory {
             doSetProperty("localWorkDirectory", localWorkDirectory);
             return this;
         }
+        /**
+         * The maximum number of files of a poll which are processed
+         * concurrently. By default the files are processed one at a time by the
+         * consumer thread. When set to more than 1, then the consumer thread
+         * still picks up the files one at a time (acquires the read lock, and
+         * retrieves remote files), and the files are then routed concurrently by
+         * a thread pool of this size. The poll is complete when all its files
+         * are done, so the exchanges of a batch can complete in another order
+         * than their batch index.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param maxConcurrentFiles the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFilesEndpointConsumerBuilder maxConcurrentFiles(int maxConcurrentFiles) {
+            doSetProperty("maxConcurrentFiles", maxConcurrentFiles);
+            return this;
+        }
+        /**
+         * The maximum number of files of a poll which are processed
+         * concurrently. By default the files are processed one at a time by the
+         * consumer thread. When set to more than 1, then the consumer thread
+         * still picks up the files one at a time (acquires the read lock, and
+         * retrieves remote files), and the files are then routed concurrently by
+         * a thread pool of this size. The poll is complete when all its files
+         * are done, so the exchanges of a batch can complete in another order
+         * than their batch index.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param maxConcurrentFiles the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFilesEndpointConsumerBuilder maxConcurrentFiles(String maxConcurrentFiles) {
+            doSetProperty("maxConcurrentFiles", maxConcurrentFiles);
+            return this;
+        }
         /**
          * To use a custom org.apache.camel.spi.ExceptionHandler to handle any
          * thrown exceptions that happens during the file on completion process
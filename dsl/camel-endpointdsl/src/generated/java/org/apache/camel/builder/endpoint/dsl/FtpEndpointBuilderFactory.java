@@ -2502,6 +2502,50 @@ public interface FtpEndpointBuilderFactory {
             doSetProperty("localWorkDirectory", localWorkDirectory);
             return this;
         }
+        /**
+         * The maximum number of files of a poll which are processed
+         * concurrently. By default the files are processed one at a time by the
+         * consumer thread. When set to more than 1, then the consumer thread
+         * still picks up the files one at a time (acquires the read lock, and
+         * retrieves remote files), and the files are then routed concurrently by
+         * a thread pool of this size. The poll is complete when all its files
+         * are done, so the exchanges of a batch can complete in another order
+         * than their batch index.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param maxConcurrentFiles the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFtpEndpointConsumerBuilder maxConcurrentFiles(int maxConcurrentFiles) {
+            doSetProperty("maxConcurrentFiles", maxConcurrentFiles);
+            return this;
+        }
+        /**
+         * The maximum number of files of a poll which are processed
+         * concurrently. By default the files are processed one at a time by the
+         * consumer thread. When set to more than 1, then the consumer thread
+         * still picks up the files one at a time (acquires the read lock, and
+         * retrieves remote files), and the files are then routed concurrently by
+         * a thread pool of this size. The poll is complete when all its files
+         * are done, so the exchanges of a batch can complete in another order
+         * than their batch index.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param maxConcurrentFiles the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFtpEndpointConsumerBuilder maxConcurrentFiles(String maxConcurrentFiles) {
+            doSetProperty("maxConcurrentFiles", maxConcurrentFiles);
+            return this;
+        }
         /**
          * To use a custom org.apache.camel.spi.ExceptionHandler to handle any
          * thrown exceptions that happens during the file on completion process
@@ -2614,6 +2658,78 @@ public interface FtpEndpointBuilderFactory {
             doSetProperty("processStrategy", processStrategy);
             return this;
         }
+        /**
+         * The time in millis a pooled session (see sessionPoolSize) can be idle
+         * before it is disconnected.
+         * 
+         * The option is a: <code>long</code> type.
+         * 
+         * Default: 60000
+         * Group: consumer (advanced)
+         * 
+         * @param sessionPoolIdleTimeout the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFtpEndpointConsumerBuilder sessionPoolIdleTimeout(long sessionPoolIdleTimeout) {
+            doSetProperty("sessionPoolIdleTimeout", sessionPoolIdleTimeout);
+            return this;
+        }
+        /**
+         * The time in millis a pooled session (see sessionPoolSize) can be idle
+         * before it is disconnected.
+         * 
+         * The option will be converted to a <code>long</code> type.
+         * 
+         * Default: 60000
+         * Group: consumer (advanced)
+         * 
+         * @param sessionPoolIdleTimeout the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFtpEndpointConsumerBuilder sessionPoolIdleTimeout(String sessionPoolIdleTimeout) {
+            doSetProperty("sessionPoolIdleTimeout", sessionPoolIdleTimeout);
+            return this;
+        }
+        /**
+         * The number of additional sessions (connections) to the remote server
+         * which the consumer uses to download files concurrently, when
+         * maxConcurrentFiles is greater than 1. The sessions are created on
+         * demand, and are health checked before being reused. The consumer still
+         * uses its own session to list the files and to commit or rollback the
+         * processed files. By default (0) the files are downloaded one at a time
+         * using the session of the consumer.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param sessionPoolSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFtpEndpointConsumerBuilder sessionPoolSize(int sessionPoolSize) {
+            doSetProperty("sessionPoolSize", sessionPoolSize);
+            return this;
+        }
+        /**
+         * The number of additional sessions (connections) to the remote server
+         * which the consumer uses to download files concurrently, when
+         * maxConcurrentFiles is greater than 1. The sessions are created on
+         * demand, and are health checked before being reused. The consumer still
+         * uses its own session to list the files and to commit or rollback the
+         * processed files. By default (0) the files are downloaded one at a time
+         * using the session of the consumer.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param sessionPoolSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFtpEndpointConsumerBuilder sessionPoolSize(String sessionPoolSize) {
+            doSetProperty("sessionPoolSize", sessionPoolSize);
+            return this;
+        }
         /**
          * Should an exception be thrown if connection failed (exhausted)By
          * default exception is not thrown and a WARN is logged. You can use
@@ -427,6 +427,50 @@ public interface HttpEndpointBuilderFactory {
             doSetProperty("throwExceptionOnFailure", throwExceptionOnFailure);
             return this;
         }
+        /**
+         * Whether to use the non-blocking Apache HttpClient 5 async client
+         * (CloseableHttpAsyncClient) instead of the classic blocking client. The
+         * producer then does not block the calling thread while waiting for the
+         * response, which allows many concurrent requests to slow HTTP services
+         * without a large thread pool, and supports HTTP/2 multiplexing when
+         * negotiated over TLS. The request and response bodies are buffered in
+         * memory, and the routing continues on the I/O reactor thread of the
+         * client when the response is received.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer
+         * 
+         * @param useAsyncClient the value to set
+         * @return the dsl builder
+         */
+        default HttpEndpointBuilder useAsyncClient(boolean useAsyncClient) {
+            doSetProperty("useAsyncClient", useAsyncClient);
+            return this;
+        }
+        /**
+         * Whether to use the non-blocking Apache HttpClient 5 async client
+         * (CloseableHttpAsyncClient) instead of the classic blocking client. The
+         * producer then does not block the calling thread while waiting for the
+         * response, which allows many concurrent requests to slow HTTP services
+         * without a large thread pool, and supports HTTP/2 multiplexing when
+         * negotiated over TLS. The request and response bodies are buffered in
+         * memory, and the routing continues on the I/O reactor thread of the
+         * client when the response is received.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer
+         * 
+         * @param useAsyncClient the value to set
+         * @return the dsl builder
+         */
+        default HttpEndpointBuilder useAsyncClient(String useAsyncClient) {
+            doSetProperty("useAsyncClient", useAsyncClient);
+            return this;
+        }
         /**
          * Proxy authentication domain to use with NTLM.
          * 
@@ -1298,6 +1342,40 @@ public interface HttpEndpointBuilderFactory {
             doSetProperty("httpActivityListener", httpActivityListener);
             return this;
         }
+        /**
+         * Sets a custom HttpAsyncClient to be used by the producer when
+         * useAsyncClient is enabled. The client is started by the producer, but
+         * its lifecycle is otherwise managed by the user.
+         * 
+         * The option is a:
+         * <code>org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient</code> type.
+         * 
+         * Group: advanced
+         * 
+         * @param httpAsyncClient the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder httpAsyncClient(org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient httpAsyncClient) {
+            doSetProperty("httpAsyncClient", httpAsyncClient);
+            return this;
+        }
+        /**
+         * Sets a custom HttpAsyncClient to be used by the producer when
+         * useAsyncClient is enabled. The client is started by the producer, but
+         * its lifecycle is otherwise managed by the user.
+         * 
+         * The option will be converted to a
+         * <code>org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient</code> type.
+         * 
+         * Group: advanced
+         * 
+         * @param httpAsyncClient the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder httpAsyncClient(String httpAsyncClient) {
+            doSetProperty("httpAsyncClient", httpAsyncClient);
+            return this;
+        }
         /**
          * If this option is true, The http producer won't read response body
          * and cache the input stream.
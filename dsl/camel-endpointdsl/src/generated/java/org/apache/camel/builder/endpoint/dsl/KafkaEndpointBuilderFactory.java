@@ -2111,6 +2111,94 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("kafkaManualCommitFactory", kafkaManualCommitFactory);
             return this;
         }
+        /**
+         * The maximum number of partitions that can be processed concurrently
+         * by the consumer when parallelPartitionProcessing is enabled. The pool
+         * is shared by all the consumer threads (see consumersCount).
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 10
+         * Group: consumer (advanced)
+         * 
+         * @param parallelPartitionPoolSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedKafkaEndpointConsumerBuilder parallelPartitionPoolSize(int parallelPartitionPoolSize) {
+            doSetProperty("parallelPartitionPoolSize", parallelPartitionPoolSize);
+            return this;
+        }
+        /**
+         * The maximum number of partitions that can be processed concurrently
+         * by the consumer when parallelPartitionProcessing is enabled. The pool
+         * is shared by all the consumer threads (see consumersCount).
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Default: 10
+         * Group: consumer (advanced)
+         * 
+         * @param parallelPartitionPoolSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedKafkaEndpointConsumerBuilder parallelPartitionPoolSize(String parallelPartitionPoolSize) {
+            doSetProperty("parallelPartitionPoolSize", parallelPartitionPoolSize);
+            return this;
+        }
+        /**
+         * Whether to process the records of each assigned partition in parallel
+         * (streaming mode only). When enabled, the records returned by a poll
+         * are grouped per topic partition, and each partition is processed by
+         * its own worker from a thread pool (sized by
+         * parallelPartitionPoolSize). Records within the same partition are
+         * still processed in order, one after another, while different
+         * partitions are processed concurrently. The offsets are committed per
+         * partition only for the records that have completed, after all the
+         * partitions of the poll have been processed. This allows a single
+         * consumer to increase throughput when the route is slow, without
+         * having to increase the number of partitions of the topic. Virtual
+         * threads are used for the workers when Camel has been configured to
+         * use virtual threads.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param parallelPartitionProcessing the value to set
+         * @return the dsl builder
+         */
+        default AdvancedKafkaEndpointConsumerBuilder parallelPartitionProcessing(boolean parallelPartitionProcessing) {
+            doSetProperty("parallelPartitionProcessing", parallelPartitionProcessing);
+            return this;
+        }
+        /**
+         * Whether to process the records of each assigned partition in parallel
+         * (streaming mode only). When enabled, the records returned by a poll
+         * are grouped per topic partition, and each partition is processed by
+         * its own worker from a thread pool (sized by
+         * parallelPartitionPoolSize). Records within the same partition are
+         * still processed in order, one after another, while different
+         * partitions are processed concurrently. The offsets are committed per
+         * partition only for the records that have completed, after all the
+         * partitions of the poll have been processed. This allows a single
+         * consumer to increase throughput when the route is slow, without
+         * having to increase the number of partitions of the topic. Virtual
+         * threads are used for the workers when Camel has been configured to
+         * use virtual threads.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param parallelPartitionProcessing the value to set
+         * @return the dsl builder
+         */
+        default AdvancedKafkaEndpointConsumerBuilder parallelPartitionProcessing(String parallelPartitionProcessing) {
+            doSetProperty("parallelPartitionProcessing", parallelPartitionProcessing);
+            return this;
+        }
         /**
          * Factory to use for creating
          * org.apache.kafka.clients.consumer.KafkaConsumer and
@@ -1472,6 +1472,48 @@ public interface NettyEndpointBuilderFactory {
             doSetProperty("channelGroup", channelGroup);
             return this;
         }
+        /**
+         * Whether to send file bodies (such as from the file consumer) as a
+         * file region, which allows the operating system to transfer the
+         * content of the file directly to the network (zero-copy), instead of
+         * reading the file into memory. This is only in use for TCP and HTTP
+         * responses, and not when using SSL, compression, textline,
+         * transferExchange or useByteBuf. The payload is written as-is, so the
+         * encoders must not need to modify the payload.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param fileRegion the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyEndpointConsumerBuilder fileRegion(boolean fileRegion) {
+            doSetProperty("fileRegion", fileRegion);
+            return this;
+        }
+        /**
+         * Whether to send file bodies (such as from the file consumer) as a
+         * file region, which allows the operating system to transfer the
+         * content of the file directly to the network (zero-copy), instead of
+         * reading the file into memory. This is only in use for TCP and HTTP
+         * responses, and not when using SSL, compression, textline,
+         * transferExchange or useByteBuf. The payload is written as-is, so the
+         * encoders must not need to modify the payload.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param fileRegion the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyEndpointConsumerBuilder fileRegion(String fileRegion) {
+            doSetProperty("fileRegion", fileRegion);
+            return this;
+        }
         /**
          * Whether to use native transport instead of NIO. Native transport
          * takes advantage of the host operating system and is only supported on
@@ -3237,6 +3279,48 @@ public interface NettyEndpointBuilderFactory {
             doSetProperty("channelGroup", channelGroup);
             return this;
         }
+        /**
+         * Whether to send file bodies (such as from the file consumer) as a
+         * file region, which allows the operating system to transfer the
+         * content of the file directly to the network (zero-copy), instead of
+         * reading the file into memory. This is only in use for TCP and HTTP
+         * responses, and not when using SSL, compression, textline,
+         * transferExchange or useByteBuf. The payload is written as-is, so the
+         * encoders must not need to modify the payload.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param fileRegion the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyEndpointProducerBuilder fileRegion(boolean fileRegion) {
+            doSetProperty("fileRegion", fileRegion);
+            return this;
+        }
+        /**
+         * Whether to send file bodies (such as from the file consumer) as a
+         * file region, which allows the operating system to transfer the
+         * content of the file directly to the network (zero-copy), instead of
+         * reading the file into memory. This is only in use for TCP and HTTP
+         * responses, and not when using SSL, compression, textline,
+         * transferExchange or useByteBuf. The payload is written as-is, so the
+         * encoders must not need to modify the payload.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param fileRegion the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyEndpointProducerBuilder fileRegion(String fileRegion) {
+            doSetProperty("fileRegion", fileRegion);
+            return this;
+        }
         /**
          * Whether to use native transport instead of NIO. Native transport
          * takes advantage of the host operating system and is only supported on
@@ -4452,6 +4536,48 @@ public interface NettyEndpointBuilderFactory {
             doSetProperty("channelGroup", channelGroup);
             return this;
         }
+        /**
+         * Whether to send file bodies (such as from the file consumer) as a
+         * file region, which allows the operating system to transfer the
+         * content of the file directly to the network (zero-copy), instead of
+         * reading the file into memory. This is only in use for TCP and HTTP
+         * responses, and not when using SSL, compression, textline,
+         * transferExchange or useByteBuf. The payload is written as-is, so the
+         * encoders must not need to modify the payload.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param fileRegion the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyEndpointBuilder fileRegion(boolean fileRegion) {
+            doSetProperty("fileRegion", fileRegion);
+            return this;
+        }
+        /**
+         * Whether to send file bodies (such as from the file consumer) as a
+         * file region, which allows the operating system to transfer the
+         * content of the file directly to the network (zero-copy), instead of
+         * reading the file into memory. This is only in use for TCP and HTTP
+         * responses, and not when using SSL, compression, textline,
+         * transferExchange or useByteBuf. The payload is written as-is, so the
+         * encoders must not need to modify the payload.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param fileRegion the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyEndpointBuilder fileRegion(String fileRegion) {
+            doSetProperty("fileRegion", fileRegion);
+            return this;
+        }
         /**
          * Whether to use native transport instead of NIO. Native transport
          * takes advantage of the host operating system and is only supported on
@@ -1822,6 +1822,48 @@ public interface NettyHttpEndpointBuilderFactory {
             doSetProperty("disableStreamCache", disableStreamCache);
             return this;
         }
+        /**
+         * Whether to send file bodies (such as from the file consumer) as a
+         * file region, which allows the operating system to transfer the
+         * content of the file directly to the network (zero-copy), instead of
+         * reading the file into memory. This is only in use for TCP and HTTP
+         * responses, and not when using SSL, compression, textline,
+         * transferExchange or useByteBuf. The payload is written as-is, so the
+         * encoders must not need to modify the payload.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param fileRegion the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyHttpEndpointConsumerBuilder fileRegion(boolean fileRegion) {
+            doSetProperty("fileRegion", fileRegion);
+            return this;
+        }
+        /**
+         * Whether to send file bodies (such as from the file consumer) as a
+         * file region, which allows the operating system to transfer the
+         * content of the file directly to the network (zero-copy), instead of
+         * reading the file into memory. This is only in use for TCP and HTTP
+         * responses, and not when using SSL, compression, textline,
+         * transferExchange or useByteBuf. The payload is written as-is, so the
+         * encoders must not need to modify the payload.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param fileRegion the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyHttpEndpointConsumerBuilder fileRegion(String fileRegion) {
+            doSetProperty("fileRegion", fileRegion);
+            return this;
+        }
         /**
          * To use a custom org.apache.camel.spi.HeaderFilterStrategy to filter
          * headers.
@@ -3612,6 +3654,48 @@ public interface NettyHttpEndpointBuilderFactory {
             doSetProperty("disableStreamCache", disableStreamCache);
             return this;
         }
+        /**
+         * Whether to send file bodies (such as from the file consumer) as a
+         * file region, which allows the operating system to transfer the
+         * content of the file directly to the network (zero-copy), instead of
+         * reading the file into memory. This is only in use for TCP and HTTP
+         * responses, and not when using SSL, compression, textline,
+         * transferExchange or useByteBuf. The payload is written as-is, so the
+         * encoders must not need to modify the payload.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param fileRegion the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyHttpEndpointProducerBuilder fileRegion(boolean fileRegion) {
+            doSetProperty("fileRegion", fileRegion);
+            return this;
+        }
+        /**
+         * Whether to send file bodies (such as from the file consumer) as a
+         * file region, which allows the operating system to transfer the
+         * content of the file directly to the network (zero-copy), instead of
+         * reading the file into memory. This is only in use for TCP and HTTP
+         * responses, and not when using SSL, compression, textline,
+         * transferExchange or useByteBuf. The payload is written as-is, so the
+         * encoders must not need to modify the payload.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param fileRegion the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyHttpEndpointProducerBuilder fileRegion(String fileRegion) {
+            doSetProperty("fileRegion", fileRegion);
+            return this;
+        }
         /**
          * To use a custom org.apache.camel.spi.HeaderFilterStrategy to filter
          * headers.
@@ -4860,6 +4944,48 @@ public interface NettyHttpEndpointBuilderFactory {
             doSetProperty("disableStreamCache", disableStreamCache);
             return this;
         }
+        /**
+         * Whether to send file bodies (such as from the file consumer) as a
+         * file region, which allows the operating system to transfer the
+         * content of the file directly to the network (zero-copy), instead of
+         * reading the file into memory. This is only in use for TCP and HTTP
+         * responses, and not when using SSL, compression, textline,
+         * transferExchange or useByteBuf. The payload is written as-is, so the
+         * encoders must not need to modify the payload.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param fileRegion the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyHttpEndpointBuilder fileRegion(boolean fileRegion) {
+            doSetProperty("fileRegion", fileRegion);
+            return this;
+        }
+        /**
+         * Whether to send file bodies (such as from the file consumer) as a
+         * file region, which allows the operating system to transfer the
+         * content of the file directly to the network (zero-copy), instead of
+         * reading the file into memory. This is only in use for TCP and HTTP
+         * responses, and not when using SSL, compression, textline,
+         * transferExchange or useByteBuf. The payload is written as-is, so the
+         * encoders must not need to modify the payload.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param fileRegion the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyHttpEndpointBuilder fileRegion(String fileRegion) {
+            doSetProperty("fileRegion", fileRegion);
+            return this;
+        }
         /**
          * To use a custom org.apache.camel.spi.HeaderFilterStrategy to filter
          * headers.
@@ -118,6 +118,80 @@ public interface SedaEndpointBuilderFactory {
         default SedaEndpointConsumerBuilder basic() {
             return (SedaEndpointConsumerBuilder) this;
         }
+        /**
+         * The maximum number of messages each consumer thread takes from the
+         * queue at once. When a message is polled then the consumer drains the
+         * messages which are available on the queue up to the batch size, and
+         * processes them without polling the queue for each message. This
+         * reduces the contention on the queue when there are many concurrent
+         * producers.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchSize(int batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * The maximum number of messages each consumer thread takes from the
+         * queue at once. When a message is polled then the consumer drains the
+         * messages which are available on the queue up to the batch size, and
+         * processes them without polling the queue for each message. This
+         * reduces the contention on the queue when there are many concurrent
+         * producers.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchSize(String batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * The time (in milliseconds) to wait for more messages to fill up the
+         * batch, when the queue has fewer messages available than the batch
+         * size. By default, the consumer does not wait, and processes the
+         * messages which are available.
+         * 
+         * The option is a: <code>long</code> type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param batchTimeout the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchTimeout(long batchTimeout) {
+            doSetProperty("batchTimeout", batchTimeout);
+            return this;
+        }
+        /**
+         * The time (in milliseconds) to wait for more messages to fill up the
+         * batch, when the queue has fewer messages available than the batch
+         * size. By default, the consumer does not wait, and processes the
+         * messages which are available.
+         * 
+         * The option will be converted to a <code>long</code> type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param batchTimeout the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchTimeout(String batchTimeout) {
+            doSetProperty("batchTimeout", batchTimeout);
+            return this;
+        }
         /**
          * Allows for bridging the consumer to the Camel routing Error Handler,
          * which mean any exceptions (if possible) occurred while the Camel
@@ -235,6 +309,48 @@ public interface SedaEndpointBuilderFactory {
             doSetProperty("exchangePattern", exchangePattern);
             return this;
         }
+        /**
+         * Whether to group the messages taken from the queue as a single
+         * exchange (when batch size is larger than 1). The grouped exchange has
+         * the exchanges as a java.util.List as the message body (the same as
+         * the output of GroupedExchangeAggregationStrategy), which is useful
+         * for sending messages in bulk. Each exchange in the group is completed
+         * (or failed) when the grouped exchange is done. Exchanges that expect
+         * a reply (InOut) cannot be grouped, and are failed.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param groupExchanges the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder groupExchanges(boolean groupExchanges) {
+            doSetProperty("groupExchanges", groupExchanges);
+            return this;
+        }
+        /**
+         * Whether to group the messages taken from the queue as a single
+         * exchange (when batch size is larger than 1). The grouped exchange has
+         * the exchanges as a java.util.List as the message body (the same as
+         * the output of GroupedExchangeAggregationStrategy), which is useful
+         * for sending messages in bulk. Each exchange in the group is completed
+         * (or failed) when the grouped exchange is done. Exchanges that expect
+         * a reply (InOut) cannot be grouped, and are failed.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param groupExchanges the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder groupExchanges(String groupExchanges) {
+            doSetProperty("groupExchanges", groupExchanges);
+            return this;
+        }
         /**
          * Whether to limit the number of concurrentConsumers to the maximum of
          * 500. By default, an exception will be thrown if an endpoint is
@@ -1681,6 +1681,80 @@ public interface SqlEndpointBuilderFactory {
             doSetProperty("batchAutoCommitDisabled", batchAutoCommitDisabled);
             return this;
         }
+        /**
+         * Whether to commit after each chunk of batchSize rows has been
+         * executed, instead of after the entire batch operation is complete.
+         * This only applies when batchAutoCommitDisabled is enabled and the
+         * exchange is not transacted. This keeps the transaction small, but when
+         * a chunk fails then only that chunk is rolled back.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer
+         * 
+         * @param batchCommitPerChunk the value to set
+         * @return the dsl builder
+         */
+        default SqlEndpointProducerBuilder batchCommitPerChunk(boolean batchCommitPerChunk) {
+            doSetProperty("batchCommitPerChunk", batchCommitPerChunk);
+            return this;
+        }
+        /**
+         * Whether to commit after each chunk of batchSize rows has been
+         * executed, instead of after the entire batch operation is complete.
+         * This only applies when batchAutoCommitDisabled is enabled and the
+         * exchange is not transacted. This keeps the transaction small, but when
+         * a chunk fails then only that chunk is rolled back.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer
+         * 
+         * @param batchCommitPerChunk the value to set
+         * @return the dsl builder
+         */
+        default SqlEndpointProducerBuilder batchCommitPerChunk(String batchCommitPerChunk) {
+            doSetProperty("batchCommitPerChunk", batchCommitPerChunk);
+            return this;
+        }
+        /**
+         * The number of rows to add to the JDBC batch before the batch is
+         * executed, when batch is enabled. This allows to stream a large message
+         * body, such as an iterator or a stream list from another query, to the
+         * database without holding all the rows in memory. By default (0) all
+         * the rows are executed as a single JDBC batch.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Group: producer
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default SqlEndpointProducerBuilder batchSize(int batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * The number of rows to add to the JDBC batch before the batch is
+         * executed, when batch is enabled. This allows to stream a large message
+         * body, such as an iterator or a stream list from another query, to the
+         * database without holding all the rows in memory. By default (0) all
+         * the rows are executed as a single JDBC batch.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Group: producer
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default SqlEndpointProducerBuilder batchSize(String batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
         /**
          * If set, will ignore the results of the SQL query and use the existing
          * IN message as the OUT message for the continuation of processing.
@@ -2730,6 +2804,19 @@ public interface SqlEndpointBuilderFactory {
         public String sqlParameters() {
             return "CamelSqlParameters";
         }
+        /**
+         * The number of chunks the batch was executed in, when using the
+         * option batchSize.
+         * 
+         * The option is a: {@code Integer} type.
+         * 
+         * Group: producer
+         * 
+         * @return the name of the header {@code SqlBatchChunkCount}.
+         */
+        public String sqlBatchChunkCount() {
+            return "CamelSqlBatchChunkCount";
+        }
     }
     static SqlEndpointBuilder endpointBuilder(String componentName, String path) {
         class SqlEndpointBuilderImpl extends AbstractEndpointBuilder implements SqlEndpointBuilder, AdvancedSqlEndpointBuilder {
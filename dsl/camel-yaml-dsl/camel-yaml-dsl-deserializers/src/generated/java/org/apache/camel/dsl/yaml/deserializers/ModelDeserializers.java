@@ -362,6 +362,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "forceCompletionOnStop", type = "boolean", description = "Indicates to complete all current aggregated exchanges when the context is stopped", displayName = "Force Completion On Stop"),
                     @YamlProperty(name = "id", type = "string", description = "Sets the id of this node", displayName = "Id"),
                     @YamlProperty(name = "ignoreInvalidCorrelationKeys", type = "boolean", description = "If a correlation key cannot be successfully evaluated it will be ignored by logging a DEBUG and then just ignore the incoming Exchange.", displayName = "Ignore Invalid Correlation Keys"),
+                    @YamlProperty(name = "lockStripes", type = "number", description = "Turns on lock striping, where the aggregator uses the given number of locks (stripes), and an incoming exchange only locks the stripe of its correlation key. This allows exchanges with different correlation keys to be aggregated in parallel, while exchanges with the same correlation key are still aggregated one at a time. By default a single lock is used for all the correlation keys. Lock striping cannot be used together with optimistic locking or completionFromBatchConsumer.", displayName = "Lock Stripes"),
                     @YamlProperty(name = "optimisticLockRetryPolicy", type = "object:org.apache.camel.model.OptimisticLockRetryPolicyDefinition", description = "Allows to configure retry settings when using optimistic locking.", displayName = "Optimistic Lock Retry Policy"),
                     @YamlProperty(name = "optimisticLocking", type = "boolean", description = "Turns on using optimistic locking, which requires the aggregationRepository being used, is supporting this by implementing org.apache.camel.spi.OptimisticLockingAggregationRepository .", displayName = "Optimistic Locking"),
                     @YamlProperty(name = "parallelProcessing", type = "boolean", description = "When aggregated are completed they are being send out of the aggregator. This option indicates whether or not Camel should use a thread pool with multiple threads for concurrency. If no custom thread pool has been specified then Camel creates a default pool with 10 concurrent threads.", displayName = "Parallel Processing"),
@@ -504,6 +505,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setIgnoreInvalidCorrelationKeys(val);
                     break;
                 }
+                case "lockStripes": {
+                    String val = asText(node);
+                    target.setLockStripes(val);
+                    break;
+                }
                 case "optimisticLockRetryPolicy": {
                     org.apache.camel.model.OptimisticLockRetryPolicyDefinition val = asType(node, org.apache.camel.model.OptimisticLockRetryPolicyDefinition.class);
                     target.setOptimisticLockRetryPolicyDefinition(val);
@@ -4683,6 +4689,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
             deprecated = false,
             properties = {
                     @YamlProperty(name = "__extends", type = "object:org.apache.camel.model.language.ExpressionDefinition", oneOf = "expression"),
+                    @YamlProperty(name = "adaptiveAlgorithm", type = "enum:Aimd,Vegas", description = "Adjusts the maximum concurrent requests automatically from the latency of the exchanges, when using concurrent requests mode. The algorithm is either Aimd (additive increase, multiplicative decrease) or Vegas (TCP Vegas style gradient). The maximum requests is then the upper bound of the limit.", displayName = "Adaptive Algorithm"),
                     @YamlProperty(name = "asyncDelayed", type = "boolean", description = "Enables asynchronous delay which means the thread will not block while delaying.", displayName = "Async Delayed"),
                     @YamlProperty(name = "callerRunsWhenRejected", type = "boolean", description = "Whether or not the caller should run the task when it was rejected by the thread pool. Is by default true", displayName = "Caller Runs When Rejected"),
                     @YamlProperty(name = "description", type = "string", description = "Sets the description of this node", displayName = "Description"),
@@ -17317,6 +17324,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "executorService", type = "string", description = "To use a custom Thread Pool to be used for parallel processing. Notice if you set this option, then parallel processing is automatically implied, and you do not have to enable that option as well.", displayName = "Executor Service"),
                     @YamlProperty(name = "expression", type = "object:org.apache.camel.model.language.ExpressionDefinition", description = "Expression of how to split the message body, such as as-is, using a tokenizer, or using a xpath.", displayName = "Expression", oneOf = "expression"),
                     @YamlProperty(name = "id", type = "string", description = "Sets the id of this node", displayName = "Id"),
+                    @YamlProperty(name = "maxInflight", type = "number", description = "Sets the maximum number of split messages in flight, when using parallel processing. A split message is in flight from when it is split until its reply has been aggregated. When the limit is reached, the splitter waits for a reply to be aggregated before splitting the next message, which in streaming mode applies backpressure to the source, so a large message can be split with a bounded amount of memory. When this option is set, the replies are aggregated in the same order as the messages were split, also in streaming mode, as the replies which are waiting for their predecessors are bounded by this limit.", displayName = "Max Inflight"),
                     @YamlProperty(name = "onPrepare", type = "string", description = "Uses the Processor when preparing the org.apache.camel.Exchange to be sent. This can be used to deep-clone messages that should be sent, or any custom logic needed before the exchange is sent.", displayName = "On Prepare"),
                     @YamlProperty(name = "parallelAggregate", type = "boolean", deprecated = true, description = "If enabled then the aggregate method on AggregationStrategy can be called concurrently. Notice that this would require the implementation of AggregationStrategy to be implemented as thread-safe. By default this is false meaning that Camel synchronizes the call to the aggregate method. Though in some use-cases this can be used to archive higher performance when the AggregationStrategy is implemented as thread-safe.", displayName = "Parallel Aggregate"),
                     @YamlProperty(name = "parallelProcessing", type = "boolean", description = "If enabled then processing each split messages occurs concurrently. Note the caller thread will still wait until all messages has been fully processed, before it continues. It's only processing the sub messages from the splitter which happens concurrently. When parallel processing is enabled, then the Camel routing engin will continue processing using last used thread from the parallel thread pool. However, if you want to use the original thread that called the splitter, then make sure to enable the synchronous option as well. In parallel processing mode, you may want to also synchronous = true to force this EIP to process the sub-tasks using the upper bounds of the thread-pool. If using synchronous = false then Camel will allow its reactive routing engine to use as many threads as possible, which may be available due to sub-tasks using other thread-pools such as CompletableFuture.runAsync or others.", displayName = "Parallel Processing"),
@@ -17378,6 +17386,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setExpression(val);
                     break;
                 }
+                case "maxInflight": {
+                    String val = asText(node);
+                    target.setMaxInflight(val);
+                    break;
+                }
                 case "onPrepare": {
                     String val = asText(node);
                     target.setOnPrepare(val);
@@ -17787,7 +17800,8 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "deliveryAttemptInterval", type = "string", defaultValue = "1000", description = "Sets the interval in milliseconds the stream resequencer will at most wait while waiting for condition of being able to deliver.", displayName = "Delivery Attempt Interval"),
                     @YamlProperty(name = "ignoreInvalidExchanges", type = "boolean", description = "Whether to ignore invalid exchanges", displayName = "Ignore Invalid Exchanges"),
                     @YamlProperty(name = "rejectOld", type = "boolean", description = "If true, throws an exception when messages older than the last delivered message are processed", displayName = "Reject Old"),
-                    @YamlProperty(name = "timeout", type = "string", defaultValue = "1000", description = "Sets minimum time (milliseconds) to wait for missing elements (messages).", displayName = "Timeout")
+                    @YamlProperty(name = "timeout", type = "string", defaultValue = "1000", description = "Sets minimum time (milliseconds) to wait for missing elements (messages).", displayName = "Timeout"),
+                    @YamlProperty(name = "timerWheel", type = "boolean", description = "Whether to use a resequencer engine which keeps the messages in a ring buffer indexed by their sequence number, and uses a hashed timer wheel for the timeouts. This reduces the contention and the number of timer tasks when many messages arrive out of order. This requires numeric sequence numbers, and cannot be used with a custom comparator.", displayName = "Timer Wheel")
             }
     )
     public static class StreamResequencerConfigDeserializer extends YamlDeserializerBase<StreamResequencerConfig> {
@@ -17835,6 +17849,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setTimeout(val);
                     break;
                 }
+                case "timerWheel": {
+                    String val = asText(node);
+                    target.setTimerWheel(val);
+                    break;
+                }
                 default: {
                     return false;
                 }
@@ -18406,6 +18425,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                 String propertyName, Node node) {
             propertyKey = org.apache.camel.util.StringHelper.dashToCamelCase(propertyKey);
             switch(propertyKey) {
+                case "adaptiveAlgorithm": {
+                    String val = asText(node);
+                    target.setAdaptiveAlgorithm(val);
+                    break;
+                }
                 case "asyncDelayed": {
                     String val = asText(node);
                     target.setAsyncDelayed(val);
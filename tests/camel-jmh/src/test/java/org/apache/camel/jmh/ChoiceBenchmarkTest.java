@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.language.simple.SimpleLanguage;
+import org.apache.camel.spi.Language;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Measures the content based router (choice) with simple language predicates, and the simple language when evaluated
+ * directly as a predicate and as an expression.
+ * <p/>
+ * The compiled parameter is whether the simple language compiles the predicates to bytecode.
+ */
+public class ChoiceBenchmarkTest {
+
+    private static final String[] TYPES = { "gold", "silver", "bronze", "none" };
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+                // Specify which benchmarks to run.
+                // You can be more specific if you'd like to run only one benchmark per test.
+                .include(this.getClass().getName() + ".*")
+                // Set the following options as needed
+                .mode(Mode.Throughput)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .warmupTime(TimeValue.seconds(1))
+                .warmupIterations(2)
+                .measurementTime(TimeValue.seconds(5))
+                .measurementIterations(3)
+                .threads(1)
+                .forks(1)
+                // report the allocation rate per operation
+                .addProfiler(GCProfiler.class)
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "false", "true" })
+        boolean compiled;
+
+        CamelContext camel;
+        ProducerTemplate producer;
+        Predicate predicate;
+        Expression expression;
+        Exchange exchange;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            ((SimpleLanguage) camel.resolveLanguage("simple")).setCompiled(compiled);
+            camel.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:start")
+                            .choice()
+                                .when(simple("${header.type} == 'gold' && ${header.amount} > 1000"))
+                                    .setHeader("discount", constant(20))
+                                .when(simple("${header.type} == 'silver'"))
+                                    .setHeader("discount", constant(10))
+                                .when(simple("${header.type} in 'bronze,copper'"))
+                                    .setHeader("discount", constant(5))
+                                .otherwise()
+                                    .setHeader("discount", constant(0))
+                            .end();
+                }
+            });
+            camel.start();
+            producer = camel.createProducerTemplate();
+
+            Language simple = camel.resolveLanguage("simple");
+            predicate = simple.createPredicate("${header.type} == 'gold' && ${header.amount} > 1000");
+            predicate.init(camel);
+            expression = simple.createExpression("Hello ${header.type} the amount is ${header.amount}");
+            expression.init(camel);
+            exchange = new DefaultExchange(camel);
+            exchange.getMessage().setHeader("type", "gold");
+            exchange.getMessage().setHeader("amount", 1500);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    public void choice(BenchmarkState state, Blackhole bh) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String type = TYPES[random.nextInt(TYPES.length)];
+        int amount = random.nextInt(2000);
+        state.producer.sendBodyAndHeaders("direct:start", "Hello World", Map.of("type", type, "amount", amount));
+        bh.consume(type);
+    }
+
+    @Benchmark
+    public void simplePredicate(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.predicate.matches(state.exchange));
+    }
+
+    @Benchmark
+    public void simpleExpression(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.expression.evaluate(state.exchange, String.class));
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.engine.CaseInsensitiveHashMapHeadersMapFactory;
+import org.apache.camel.impl.engine.DefaultHeadersMapFactory;
+import org.apache.camel.impl.engine.HashMapHeadersMapFactory;
+import org.apache.camel.spi.HeadersMapFactory;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Compares the headers map factories when populating, looking up and copying (such as multicast and wire tap does)
+ * message headers.
+ * <p/>
+ * The hash-map factory is case sensitive and only included as a baseline.
+ */
+public class HeadersMapFactoryBenchmarkTest {
+
+    private static final String[] KEYS = {
+            Exchange.FILE_NAME, Exchange.FILE_NAME_ONLY, Exchange.FILE_LENGTH, Exchange.FILE_LAST_MODIFIED,
+            Exchange.HTTP_METHOD, Exchange.HTTP_URI, Exchange.HTTP_QUERY, Exchange.CONTENT_TYPE,
+            Exchange.BREADCRUMB_ID, "orderId", "customerId", "X-Request-Id" };
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+                // Specify which benchmarks to run.
+                // You can be more specific if you'd like to run only one benchmark per test.
+                .include(this.getClass().getName() + ".*")
+                // Set the following options as needed
+                .mode(Mode.AverageTime)
+                .timeUnit(TimeUnit.NANOSECONDS)
+                .warmupTime(TimeValue.seconds(1))
+                .warmupIterations(2)
+                .measurementTime(TimeValue.seconds(2))
+                .measurementIterations(3)
+                .threads(1)
+                .forks(1)
+                // report the allocation rate per operation
+                .addProfiler(GCProfiler.class)
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+
+        @Param({ "default", "hash-map", "case-insensitive-hash-map" })
+        String factory;
+
+        HeadersMapFactory headersMapFactory;
+        Map<String, Object> headers;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            headersMapFactory = switch (factory) {
+                case "default" -> new DefaultHeadersMapFactory();
+                case "hash-map" -> new HashMapHeadersMapFactory();
+                default -> new CaseInsensitiveHashMapHeadersMapFactory();
+            };
+            headers = populate(headersMapFactory);
+        }
+    }
+
+    private static Map<String, Object> populate(HeadersMapFactory factory) {
+        Map<String, Object> map = factory.newMap();
+        for (int i = 0; i < KEYS.length; i++) {
+            map.put(KEYS[i], i);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public void put(BenchmarkState state, Blackhole bh) {
+        bh.consume(populate(state.headersMapFactory));
+    }
+
+    @Benchmark
+    public void get(BenchmarkState state, Blackhole bh) {
+        Map<String, Object> headers = state.headers;
+        for (String key : KEYS) {
+            bh.consume(headers.get(key));
+        }
+    }
+
+    @Benchmark
+    public void copy(BenchmarkState state, Blackhole bh) {
+        // copy the headers (such as multicast) and change a single header
+        Map<String, Object> copy = state.headersMapFactory.newMap(state.headers);
+        copy.put(Exchange.FILE_NAME, "copy.txt");
+        bh.consume(copy);
+    }
+
+    @Benchmark
+    public void copyReadOnly(BenchmarkState state, Blackhole bh) {
+        // copy the headers (such as wire tap) and only read the headers
+        Map<String, Object> copy = state.headersMapFactory.newMap(state.headers);
+        bh.consume(copy.get(Exchange.HTTP_URI));
+    }
+}
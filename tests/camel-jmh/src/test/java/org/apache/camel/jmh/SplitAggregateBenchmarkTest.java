@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Measures the splitter when splitting a message into a number of parts, which are aggregated back into a single
+ * message, and the aggregator when aggregating the parts by a correlation key.
+ */
+public class SplitAggregateBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+                // Specify which benchmarks to run.
+                // You can be more specific if you'd like to run only one benchmark per test.
+                .include(this.getClass().getName() + ".*")
+                // Set the following options as needed
+                .mode(Mode.Throughput)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .warmupTime(TimeValue.seconds(1))
+                .warmupIterations(2)
+                .measurementTime(TimeValue.seconds(5))
+                .measurementIterations(3)
+                .threads(1)
+                .forks(1)
+                // report the allocation rate per operation
+                .addProfiler(GCProfiler.class)
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "10", "100" })
+        int parts;
+
+        CamelContext camel;
+        ProducerTemplate producer;
+        String body;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            StringJoiner sj = new StringJoiner(",");
+            for (int i = 0; i < parts; i++) {
+                sj.add("Part " + i);
+            }
+            body = sj.toString();
+
+            camel = new DefaultCamelContext();
+            camel.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:split")
+                            .split(body().tokenize(","), new CountingAggregationStrategy())
+                                .setHeader("part", simple("${exchangeProperty.CamelSplitIndex}"))
+                            .end();
+
+                    from("direct:aggregate")
+                            .aggregate(header("id"), new CountingAggregationStrategy())
+                            .completionSize(parts)
+                            .to("log:result?level=OFF");
+                }
+            });
+            camel.start();
+            producer = camel.createProducerTemplate();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    public void split(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.producer.requestBody("direct:split", state.body));
+    }
+
+    @Benchmark
+    public void aggregate(BenchmarkState state, Blackhole bh) {
+        for (int i = 0; i < state.parts; i++) {
+            state.producer.sendBodyAndHeader("direct:aggregate", "Part " + i, "id", "A");
+        }
+        bh.consume(state.parts);
+    }
+
+    private static class CountingAggregationStrategy implements AggregationStrategy {
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            if (oldExchange == null) {
+                newExchange.getMessage().setBody(1);
+                return newExchange;
+            }
+            oldExchange.getMessage().setBody(oldExchange.getMessage().getBody(Integer.class) + 1);
+            return oldExchange;
+        }
+    }
+}
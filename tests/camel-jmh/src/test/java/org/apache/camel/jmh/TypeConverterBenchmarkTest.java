@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Measures the type converter registry when converting between common types, and when converting the message body.
+ * <p/>
+ * The handle benchmarks convert using type converter handles, which callers can keep to avoid looking up the type
+ * converter for every conversion.
+ */
+public class TypeConverterBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+                // Specify which benchmarks to run.
+                // You can be more specific if you'd like to run only one benchmark per test.
+                .include(this.getClass().getName() + ".*")
+                // Set the following options as needed
+                .mode(Mode.AverageTime)
+                .timeUnit(TimeUnit.NANOSECONDS)
+                .warmupTime(TimeValue.seconds(1))
+                .warmupIterations(2)
+                .measurementTime(TimeValue.seconds(2))
+                .measurementIterations(3)
+                .threads(1)
+                .forks(1)
+                // report the allocation rate per operation
+                .addProfiler(GCProfiler.class)
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        CamelContext camel;
+        TypeConverter typeConverter;
+        Exchange exchange;
+        byte[] bytes;
+        TypeConverter.Handle<Integer> stringToIntegerHandle;
+        TypeConverter.Handle<String> bytesToStringHandle;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            camel = new DefaultCamelContext();
+            camel.start();
+            typeConverter = camel.getTypeConverter();
+            exchange = new DefaultExchange(camel);
+            exchange.getMessage().setBody("12345");
+            bytes = "Hello World".getBytes(StandardCharsets.UTF_8);
+            stringToIntegerHandle = typeConverter.lookupHandle(String.class, Integer.class);
+            bytesToStringHandle = typeConverter.lookupHandle(byte[].class, String.class);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    public void stringToInteger(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.typeConverter.convertTo(Integer.class, "12345"));
+    }
+
+    @Benchmark
+    public void integerToString(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.typeConverter.convertTo(String.class, 12345));
+    }
+
+    @Benchmark
+    public void bytesToString(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.typeConverter.convertTo(String.class, state.exchange, state.bytes));
+    }
+
+    @Benchmark
+    public void sameType(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.typeConverter.convertTo(String.class, "Hello World"));
+    }
+
+    @Benchmark
+    public void messageBody(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.exchange.getMessage().getBody(Long.class));
+    }
+
+    @Benchmark
+    public void stringToIntegerHandle(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.stringToIntegerHandle.convertTo(null, "12345"));
+    }
+
+    @Benchmark
+    public void bytesToStringHandle(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.bytesToStringHandle.convertTo(state.exchange, state.bytes));
+    }
+
+    @Benchmark
+    public void lookupHandle(BenchmarkState state, Blackhole bh) {
+        // look up the handle for every conversion (such as when converting the message body)
+        bh.consume(state.typeConverter.lookupHandle(String.class, Integer.class).convertTo(null, "12345"));
+    }
+}